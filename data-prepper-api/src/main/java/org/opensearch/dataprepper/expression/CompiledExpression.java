@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+/**
+ * @since 2.13
+ * An expression statement which has been parsed once by {@link ExpressionEvaluator#compile(String)} and can then be
+ * evaluated against any number of events. Implementations must be safe to evaluate from multiple threads.
+ */
+public interface CompiledExpression {
+
+    /**
+     * @since 2.13
+     * Gets the statement this expression was compiled from.
+     *
+     * @return the original statement
+     */
+    String getStatement();
+
+    /**
+     * @since 2.13
+     * Evaluates the compiled statement, resolving external references with the provided context. Return type is
+     * ambiguous until statement evaluation is complete.
+     *
+     * @param context event used to resolve external references in the statement
+     * @return result of statement evaluation
+     * @throws ExpressionEvaluationException if unable to evaluate the statement
+     */
+    Object evaluate(final Event context);
+
+    /**
+     * @since 2.13
+     * Evaluates the compiled statement as a conditional. This has the same semantics as
+     * {@link ExpressionEvaluator#evaluateConditional(String, Event)}.
+     *
+     * @param context event used to resolve external references in the statement
+     * @return result of statement evaluation, or false if the statement could not be evaluated
+     */
+    default Boolean evaluateConditional(final Event context) {
+        Object result;
+        try {
+            result = evaluate(context);
+            if (result instanceof Boolean) {
+                return (Boolean) result;
+            }
+            throw new ClassCastException("Unexpected expression return value of " + result);
+        } catch (ExpressionParsingException e) {
+            throw e;
+        } catch (ExpressionEvaluationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @since 2.13
+     * Evaluates the compiled statement as a conditional against each event in a batch.
+     *
+     * @param events events used to resolve external references in the statement
+     * @return a bitmap where bit i is set when the i-th event, in iteration order, matches the statement
+     * @throws ClassCastException if the statement does not evaluate to a Boolean for some event
+     */
+    default BitSet evaluateConditional(final Collection<Event> events) {
+        final BitSet matches = new BitSet(events.size());
+        int index = 0;
+        for (final Event event : events) {
+            if (evaluateConditional(event)) {
+                matches.set(index);
+            }
+            index++;
+        }
+        return matches;
+    }
+}
@@ -7,6 +7,9 @@ package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -41,6 +44,38 @@ public interface ExpressionEvaluator {
         }
     }
 
+    /**
+     * @since 2.13
+     * Parses the statement once so that it can be evaluated against many events. Callers which evaluate the same
+     * statement for every event, such as routes and conditional processors, should hold on to the result.
+     *
+     * @param statement string to be parsed
+     * @return an expression which evaluates the statement
+     * @throws ExpressionParsingException if the implementation parses eagerly and the statement is not valid
+     */
+    default CompiledExpression compile(final String statement) {
+        return new StatementExpression(this, statement);
+    }
+
+    /**
+     * @since 2.13
+     * Evaluates several compiled statements as conditionals against a batch of events. Implementations may share work
+     * across the statements, such as resolving each JSON Pointer once per event rather than once per statement.
+     *
+     * @param expressions statements obtained from {@link #compile(String)}
+     * @param events events used to resolve external references in the statements
+     * @return one bitmap per expression, in the same order as the expressions. Bit i is set when the i-th event,
+     * in iteration order, matches the expression.
+     * @throws ClassCastException if a statement does not evaluate to a Boolean for some event
+     */
+    default List<BitSet> evaluateConditionals(final List<CompiledExpression> expressions, final Collection<Event> events) {
+        final List<BitSet> results = new ArrayList<>(expressions.size());
+        for (final CompiledExpression expression : expressions) {
+            results.add(expression.evaluateConditional(events));
+        }
+        return results;
+    }
+
     Boolean isValidExpressionStatement(final String statement);
 
     Boolean isValidFormatExpression(final String format);
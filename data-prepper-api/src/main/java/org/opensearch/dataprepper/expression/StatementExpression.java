@@ -0,0 +1,40 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.Objects;
+
+/**
+ * @since 2.13
+ * A {@link CompiledExpression} which passes the statement to an {@link ExpressionEvaluator} on every evaluation.
+ * This is the default for evaluators which do not provide their own compilation.
+ */
+class StatementExpression implements CompiledExpression {
+    private final ExpressionEvaluator expressionEvaluator;
+    private final String statement;
+
+    StatementExpression(final ExpressionEvaluator expressionEvaluator, final String statement) {
+        this.expressionEvaluator = Objects.requireNonNull(expressionEvaluator);
+        this.statement = Objects.requireNonNull(statement);
+    }
+
+    @Override
+    public String getStatement() {
+        return statement;
+    }
+
+    @Override
+    public Object evaluate(final Event context) {
+        return expressionEvaluator.evaluate(statement, context);
+    }
+
+    @Override
+    public Boolean evaluateConditional(final Event context) {
+        return expressionEvaluator.evaluateConditional(statement, context);
+    }
+}
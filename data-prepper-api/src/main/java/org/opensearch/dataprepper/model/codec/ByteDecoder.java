@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.model.codec;
 
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
@@ -24,5 +25,18 @@ public interface ByteDecoder extends Serializable {
      * @throws IOException throws IOException when invalid input is received or incorrect codec name is provided
      */
     void parse(InputStream inputStream, Instant timeReceived, Consumer<Record<Event>> eventConsumer) throws IOException;
-    
+
+    /**
+     * Parses bytes which are already held in memory. Implementors may override this to avoid
+     * copying the bytes. By default, the bytes are parsed as an {@link InputStream}.
+     *
+     * @param bytes         The bytes to process
+     * @param timeReceived  The time received value to be populated in the Record
+     * @param eventConsumer The consumer which handles each event from the bytes
+     * @throws IOException throws IOException when invalid input is received
+     */
+    default void parse(byte[] bytes, Instant timeReceived, Consumer<Record<Event>> eventConsumer) throws IOException {
+        parse(new ByteArrayInputStream(bytes), timeReceived, eventConsumer);
+    }
+
 }
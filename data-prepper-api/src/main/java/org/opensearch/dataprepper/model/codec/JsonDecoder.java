@@ -18,23 +18,31 @@ import org.opensearch.dataprepper.model.record.Record;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
 
+/**
+ * Decodes the records of a JSON array into events. Input streams are parsed as they are read. When the JSON is
+ * already held in memory, records which are JSON objects are handed to the events as their own UTF-8 bytes, so
+ * their values are only parsed when they are read from the event.
+ */
 public class JsonDecoder implements ByteDecoder {
     private final ObjectMapper objectMapper = new ObjectMapper();
     private final JsonFactory jsonFactory = new JsonFactory();
     private String keyName;
     private Collection<String> includeKeys;
     private Collection<String> includeKeysMetadata;
+    private boolean checkStringLengths;
 
     public JsonDecoder(String keyName, Collection<String> includeKeys, Collection<String> includeKeysMetadata, Integer maxEventLength) {
         this.keyName = keyName;
         this.includeKeys = includeKeys;
         this.includeKeysMetadata = includeKeysMetadata;
+        this.checkStringLengths = maxEventLength != null;
         if (maxEventLength != null) {
         jsonFactory.setStreamReadConstraints(StreamReadConstraints.builder()
                 .maxStringLength(maxEventLength)
@@ -52,8 +60,24 @@ public class JsonDecoder implements ByteDecoder {
         Objects.requireNonNull(inputStream);
         Objects.requireNonNull(eventConsumer);
 
-        final JsonParser jsonParser = jsonFactory.createParser(inputStream);
+        parse(jsonFactory.createParser(inputStream), null, timeReceived, eventConsumer);
+    }
+
+    /**
+     * Parses JSON which is already held in memory. Records which are JSON objects keep their slice of the bytes.
+     */
+    @Override
+    public void parse(final byte[] content, final Instant timeReceived, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        Objects.requireNonNull(content);
+        Objects.requireNonNull(eventConsumer);
+
+        parse(jsonFactory.createParser(content), content, timeReceived, eventConsumer);
+    }
 
+    private void parse(final JsonParser jsonParser,
+                       final byte[] content,
+                       final Instant timeReceived,
+                       final Consumer<Record<Event>> eventConsumer) throws IOException {
         Map<String, Object> includeKeysMap = new HashMap<>();
         Map<String, Object> includeMetadataKeysMap = new HashMap<>();
         while (!jsonParser.isClosed() && jsonParser.nextToken() != JsonToken.END_OBJECT) {
@@ -75,21 +99,20 @@ public class JsonDecoder implements ByteDecoder {
                 if (keyName != null && !keyName.equals(nodeName)) {
                     continue;
                 }
-                parseRecordsArray(jsonParser, timeReceived, eventConsumer, includeKeysMap, includeMetadataKeysMap);
+                parseRecordsArray(jsonParser, content, timeReceived, eventConsumer, includeKeysMap, includeMetadataKeysMap);
             }
         }
     }
 
     private void parseRecordsArray(final JsonParser jsonParser,
+                                   final byte[] content,
                                    final Instant timeReceived,
                                    final Consumer<Record<Event>> eventConsumer,
                                    final Map<String, Object> includeKeysMap,
                                    final Map<String, Object> includeMetadataKeysMap
     ) throws IOException {
         while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-            final Map<String, Object> innerJson = objectMapper.readValue(jsonParser, Map.class);
-
-            final Record<Event> record = createRecord(innerJson, timeReceived);
+            final Record<Event> record = createRecord(readRecordData(jsonParser, content), timeReceived);
             for (final Map.Entry<String, Object> entry : includeKeysMap.entrySet()) {
                 record.getData().put(entry.getKey(), entry.getValue());
             }
@@ -102,7 +125,36 @@ public class JsonDecoder implements ByteDecoder {
         }
     }
 
-    private Record<Event> createRecord(final Map<String, Object> json, final Instant timeReceived) {
+    private Object readRecordData(final JsonParser jsonParser, final byte[] content) throws IOException {
+        final long start = content != null && jsonParser.currentToken() == JsonToken.START_OBJECT ?
+                jsonParser.currentTokenLocation().getByteOffset() : -1;
+        if (start < 0) {
+            return objectMapper.readValue(jsonParser, Map.class);
+        }
+        skipObject(jsonParser);
+        return Arrays.copyOfRange(content, (int) start, (int) jsonParser.currentLocation().getByteOffset());
+    }
+
+    private void skipObject(final JsonParser jsonParser) throws IOException {
+        if (!checkStringLengths) {
+            jsonParser.skipChildren();
+            return;
+        }
+        // Skipped strings are not read, so read their lengths to apply the maximum event length.
+        int depth = 1;
+        while (depth > 0) {
+            final JsonToken token = jsonParser.nextToken();
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            } else if (token == JsonToken.VALUE_STRING) {
+                jsonParser.getTextLength();
+            }
+        }
+    }
+
+    private Record<Event> createRecord(final Object json, final Instant timeReceived) {
         final JacksonLog.Builder logBuilder = JacksonLog.builder()
                 .withData(json)
                 .getThis();
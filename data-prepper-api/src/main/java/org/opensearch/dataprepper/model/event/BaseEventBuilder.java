@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
 import java.time.Instant;
 import java.util.Map;
 
@@ -46,7 +48,7 @@ public interface BaseEventBuilder<T extends Event> {
     BaseEventBuilder<T> withEventMetadata(final EventMetadata eventMetadata);
 
     /**
-     * Sets the data of the event.
+     * Sets the data of the event. A {@code byte[]} is read as a UTF-8 encoded JSON object.
      *
      * @param data the data
      * @return returns the base event builder
@@ -54,5 +56,17 @@ public interface BaseEventBuilder<T extends Event> {
      */
     BaseEventBuilder<T> withData(final Object data);
 
+    /**
+     * Sets the data of the event to a tree which the event takes over without copying it. The caller
+     * must not use the tree after building the event.
+     *
+     * @param data the tree
+     * @return returns the base event builder
+     * @since 2.13
+     */
+    default BaseEventBuilder<T> withAdoptedData(final ObjectNode data) {
+        return withData(data);
+    }
+
     T build();
 }
@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -360,5 +361,17 @@ public interface Event extends Serializable {
          * @since 2.3
          */
         public abstract String toJsonString();
+
+        /**
+         * Returns the same JSON as {@link #toJsonString()}, encoded as UTF-8. Implementations may return
+         * the bytes the event was created from without encoding a string, so the array must not be modified.
+         *
+         * @return json bytes
+         * @since 2.13
+         */
+        public byte[] toJsonBytes() {
+            final String jsonString = toJsonString();
+            return jsonString == null ? null : jsonString.getBytes(StandardCharsets.UTF_8);
+        }
     }
 }
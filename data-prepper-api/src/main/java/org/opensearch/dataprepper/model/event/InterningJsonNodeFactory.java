@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A {@link JsonNodeFactory} which shares field names, and optionally short text values, between the trees it creates.
+ * <p>
+ * Events from the same source usually repeat the same keys, but each parse or conversion creates new {@link String}
+ * instances for them. Objects created by this factory replace each field name with a canonical instance from a
+ * bounded table, so events waiting in buffers or aggregate state hold one copy of each key. Text values up to the
+ * configured length are shared as immutable {@link TextNode}s in the same way. Once a table is full, new names and
+ * values are kept as they are, so unbounded key sets cannot grow the tables without limit.
+ *
+ * @since 2.13
+ */
+public class InterningJsonNodeFactory extends JsonNodeFactory {
+    private static final long serialVersionUID = 1L;
+
+    private final int maximumInternedFieldNames;
+    private final int maximumInternedValueLength;
+    private final Map<String, String> fieldNames = new ConcurrentHashMap<>();
+    private final Map<String, TextNode> textValues = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new factory.
+     *
+     * @param maximumInternedFieldNames the maximum number of distinct field names, and of distinct text values, to share
+     * @param maximumInternedValueLength the maximum length of text values to share, or 0 to share no values
+     * @since 2.13
+     */
+    public InterningJsonNodeFactory(final int maximumInternedFieldNames, final int maximumInternedValueLength) {
+        if (maximumInternedFieldNames < 1) {
+            throw new IllegalArgumentException("The maximum number of interned field names must be at least 1.");
+        }
+        if (maximumInternedValueLength < 0) {
+            throw new IllegalArgumentException("The maximum interned value length must not be negative.");
+        }
+        this.maximumInternedFieldNames = maximumInternedFieldNames;
+        this.maximumInternedValueLength = maximumInternedValueLength;
+    }
+
+    @Override
+    public ObjectNode objectNode() {
+        return new ObjectNode(this, new FieldNameInterningMap());
+    }
+
+    @Override
+    public TextNode textNode(final String text) {
+        if (text == null || text.length() > maximumInternedValueLength) {
+            return super.textNode(text);
+        }
+        return intern(textValues, text, TextNode::new);
+    }
+
+    String internFieldName(final String fieldName) {
+        return intern(fieldNames, fieldName, Function.identity());
+    }
+
+    private <T> T intern(final Map<String, T> table, final String key, final Function<String, T> valueFunction) {
+        final T existing = table.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (table.size() >= maximumInternedFieldNames) {
+            return valueFunction.apply(key);
+        }
+        return table.computeIfAbsent(key, valueFunction);
+    }
+
+    /**
+     * The children of an {@link ObjectNode}, with each field name replaced by its canonical instance as it is added.
+     */
+    private class FieldNameInterningMap extends LinkedHashMap<String, JsonNode> {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public JsonNode put(final String key, final JsonNode value) {
+            return super.put(internFieldName(key), value);
+        }
+
+        @Override
+        public JsonNode putIfAbsent(final String key, final JsonNode value) {
+            return super.putIfAbsent(internFieldName(key), value);
+        }
+
+        @Override
+        public void putAll(final Map<? extends String, ? extends JsonNode> children) {
+            children.forEach(this::put);
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.model.event;
 
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.TreeNode;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +15,7 @@ import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -26,6 +28,8 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.opensearch.dataprepper.model.event.JacksonEventKey.trimTrailingSlashInKey;
@@ -75,11 +80,38 @@ public class JacksonEvent implements Event {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {
     };
 
+    /* Mappers which create trees with a node factory other than the default one, by node factory */
+    private static final Map<JsonNodeFactory, ObjectMapper> NODE_FACTORY_MAPPERS = new ConcurrentHashMap<>();
+
+    /* The number of keys read from the bytes of an event before its whole tree is built instead */
+    static final int MAX_LAZY_LOOKUPS = 8;
+
+    /* Whether a class serializes its events with JacksonEvent's own toJsonString */
+    private static final ClassValue<Boolean> USES_DEFAULT_JSON_STRING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            try {
+                return type.getMethod("toJsonString").getDeclaringClass() == JacksonEvent.class;
+            } catch (final NoSuchMethodException e) {
+                return false;
+            }
+        }
+    };
+
     private final EventMetadata eventMetadata;
 
     private transient EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    /* The tree of the event, which is null until it is first needed if the event was created from bytes */
+    private volatile JsonNode jsonNode;
+
+    /* The bytes the event was created from, which are kept until the event is first modified */
+    private transient LazyJsonDocument lazyJsonDocument;
+
+    private transient int lazyLookups;
+
+    /* Creates the nodes of this event's tree */
+    private transient ObjectMapper treeMapper;
 
     static final int MAX_KEY_LENGTH = 2048;
 
@@ -99,7 +131,15 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        this.treeMapper = getTreeMapper(builder.jsonNodeFactory);
+        if (builder.data instanceof byte[]) {
+            this.lazyJsonDocument = LazyJsonDocument.of((byte[]) builder.data, treeMapper);
+        }
+        if (lazyJsonDocument != null) {
+            this.jsonNode = null;
+        } else {
+            this.jsonNode = builder.adoptData ? (ObjectNode) builder.data : getInitialJsonNode(builder.data);
+        }
         if (builder.eventHandle != null) {
             this.eventHandle = builder.eventHandle;
         } else {
@@ -112,7 +152,16 @@ public class JacksonEvent implements Event {
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        this.treeMapper = otherEvent.treeMapper;
+        this.lazyJsonDocument = otherEvent.lazyJsonDocument;
+        final JsonNode otherJsonNode = otherEvent.jsonNode;
+        if (otherJsonNode == null) {
+            // The bytes are never modified, so both events can read from them.
+            this.jsonNode = null;
+        } else {
+            // A deep copy creates plain object nodes, so a custom node factory has to rebuild the tree itself.
+            this.jsonNode = treeMapper == mapper ? otherJsonNode.deepCopy() : treeMapper.valueToTree(otherJsonNode);
+        }
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
@@ -124,22 +173,73 @@ public class JacksonEvent implements Event {
                 .build();
     }
 
+    private static ObjectMapper getTreeMapper(final JsonNodeFactory jsonNodeFactory) {
+        // The shared mapper already uses the default factory, and events created with it copy their trees with deepCopy
+        if (jsonNodeFactory == null || jsonNodeFactory == JsonNodeFactory.instance) {
+            return mapper;
+        }
+        return NODE_FACTORY_MAPPERS.computeIfAbsent(jsonNodeFactory, factory -> mapper.copy().setNodeFactory(factory));
+    }
+
     private JsonNode getInitialJsonNode(final Object data) {
         if (data == null) {
-            return mapper.valueToTree(new HashMap<>());
+            return treeMapper.valueToTree(new HashMap<>());
         } else if (data instanceof String) {
             try {
-                return mapper.readTree((String) data);
+                return treeMapper.readTree((String) data);
             } catch (final JsonProcessingException e) {
                 throw new IllegalArgumentException("Unable to convert data into an event");
             }
+        } else if (data instanceof byte[]) {
+            final JsonNode node;
+            try {
+                node = treeMapper.readTree((byte[]) data);
+            } catch (final IOException e) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+            if (node.isMissingNode()) {
+                throw new IllegalArgumentException("Unable to convert data into an event");
+            }
+            return node;
+        }
+        return treeMapper.valueToTree(data);
+    }
+
+    /**
+     * Returns the tree of the event, building it from the bytes the event was created from if needed. The bytes
+     * are kept, as the tree is only read.
+     */
+    private JsonNode tree() {
+        JsonNode node = jsonNode;
+        if (node == null) {
+            synchronized (this) {
+                node = jsonNode;
+                if (node == null) {
+                    node = lazyJsonDocument.readTree();
+                    jsonNode = node;
+                }
+            }
         }
-        return mapper.valueToTree(data);
+        return node;
     }
 
+    /**
+     * Returns the tree of the event for a modification, after which the bytes the event was created from are
+     * no longer its content.
+     */
+    private JsonNode mutableTree() {
+        final JsonNode node = tree();
+        lazyJsonDocument = null;
+        return node;
+    }
+
+    /**
+     * Returns the tree of the event. As the caller may modify the tree, the event no longer writes out the bytes
+     * it was created from.
+     */
     @Override
     public JsonNode getJsonNode() {
-        return jsonNode;
+        return mutableTree();
     }
 
     void normalizeKeys(Map<String, Object> map) {
@@ -179,7 +279,7 @@ public class JacksonEvent implements Event {
 
         final Deque<String> keys = new LinkedList<>(jacksonEventKey.getKeyPathList());
 
-        JsonNode parentNode = jsonNode;
+        JsonNode parentNode = mutableTree();
 
         while (!keys.isEmpty()) {
             if (keys.size() == 1) {
@@ -223,7 +323,7 @@ public class JacksonEvent implements Event {
     }
 
     private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
-        final JsonNode valueNode = mapper.valueToTree(value);
+        final JsonNode valueNode = treeMapper.valueToTree(value);
         if (StringUtils.isNumeric(leafKey)) {
             ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
         } else {
@@ -234,7 +334,7 @@ public class JacksonEvent implements Event {
     private JsonNode getOrCreateNode(final JsonNode node, final String key) {
         JsonNode childNode = node.get(key);
         if (childNode == null) {
-            childNode = mapper.createObjectNode();
+            childNode = treeMapper.createObjectNode();
             if (node.isArray()) {
                 int index = Integer.parseInt(key);
                 ArrayNode arrayNode = (ArrayNode) node;
@@ -250,7 +350,7 @@ public class JacksonEvent implements Event {
 
                 JsonNode existing = arrayNode.get(index);
                 if (existing == null || !existing.isObject()) {
-                    childNode = mapper.createObjectNode();
+                    childNode = treeMapper.createObjectNode();
                     arrayNode.set(index, childNode);
                 } else {
                     childNode = existing;
@@ -267,7 +367,10 @@ public class JacksonEvent implements Event {
     public <T> T get(EventKey key, Class<T> clazz) {
         JacksonEventKey jacksonEventKey = asJacksonEventKey(key);
 
-        final JsonNode node = getNode(jacksonEventKey);
+        // Jackson returns tree nodes as they are, which lets the caller modify them.
+        final JsonNode node = TreeNode.class.isAssignableFrom(clazz)
+                ? mutableTree().at(jacksonEventKey.getJsonPointer())
+                : getNode(jacksonEventKey);
         if (node.isMissingNode()) {
             return null;
         }
@@ -304,12 +407,28 @@ public class JacksonEvent implements Event {
     }
 
     private JsonNode getNode(final String key) {
-        final JsonPointer jsonPointer = toJsonPointer(key);
-        return jsonNode.at(jsonPointer);
+        return getNode(toJsonPointer(key));
     }
 
     private JsonNode getNode(final JacksonEventKey key) {
-        return jsonNode.at(key.getJsonPointer());
+        return getNode(key.getJsonPointer());
+    }
+
+    /**
+     * Reads a value without modifying the event. While the tree of an event created from bytes is not built,
+     * the first few values are read straight from the bytes.
+     */
+    private JsonNode getNode(final JsonPointer jsonPointer) {
+        final JsonNode node = jsonNode;
+        if (node != null) {
+            return node.at(jsonPointer);
+        }
+        final LazyJsonDocument document = lazyJsonDocument;
+        if (document != null && !jsonPointer.matches() && lazyLookups < MAX_LAZY_LOOKUPS) {
+            lazyLookups++;
+            return document.at(jsonPointer);
+        }
+        return tree().at(jsonPointer);
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
@@ -379,12 +498,12 @@ public class JacksonEvent implements Event {
         final String trimmedKey = jacksonEventKey.getTrimmedKey();
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode = mutableTree();
         String leafKey = trimmedKey;
 
         if (index != -1) {
             final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
+            baseNode = baseNode.at(jsonPointer);
             leafKey = trimmedKey.substring(index + 1);
         }
 
@@ -408,7 +527,7 @@ public class JacksonEvent implements Event {
     public void clear() {
         // Delete all entries from the event
         Iterator iter = toMap().keySet().iterator();
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode = mutableTree();
         while (iter.hasNext()) {
             ((ObjectNode) baseNode).remove((String)iter.next());
         }
@@ -419,21 +538,38 @@ public class JacksonEvent implements Event {
         if(!(other instanceof JacksonEvent))
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent.");
         final JacksonEvent otherJacksonEvent = (JacksonEvent) other;
-        if(!(otherJacksonEvent.jsonNode instanceof ObjectNode)) {
+        final JsonNode otherJsonNode = otherJacksonEvent.tree();
+        if(!(otherJsonNode instanceof ObjectNode)) {
             throw new IllegalArgumentException("Unable to merge the Event. The input Event must be a JacksonEvent with object data.");
         }
-        final ObjectNode otherObjectNode = (ObjectNode) otherJacksonEvent.jsonNode;
+        final ObjectNode otherObjectNode = (ObjectNode) otherJsonNode;
 
-        if(!(jsonNode instanceof ObjectNode)) {
+        if(!(tree() instanceof ObjectNode)) {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
-        ((ObjectNode) jsonNode).setAll(otherObjectNode);
+        ((ObjectNode) mutableTree()).setAll(otherObjectNode);
     }
 
     @Override
     public String toJsonString() {
-        return jsonNode.toString();
+        final LazyJsonDocument document = lazyJsonDocument;
+        if (document != null && document.isSingleLine()) {
+            return document.toString();
+        }
+        return tree().toString();
+    }
+
+    /**
+     * Returns the bytes the event was created from, if the event is unmodified and they can be written out as
+     * they are in place of {@link #toJsonString()}.
+     */
+    private byte[] getUnmodifiedJsonBytes() {
+        final LazyJsonDocument document = lazyJsonDocument;
+        if (document != null && document.isSingleLine() && USES_DEFAULT_JSON_STRING.get(getClass())) {
+            return document.getBytes();
+        }
+        return null;
     }
 
     @Override
@@ -566,7 +702,7 @@ public class JacksonEvent implements Event {
 
     @Override
     public Map<String, Object> toMap() {
-        return mapper.convertValue(jsonNode, MAP_TYPE_REFERENCE);
+        return mapper.convertValue(tree(), MAP_TYPE_REFERENCE);
     }
 
 
@@ -623,6 +759,8 @@ public class JacksonEvent implements Event {
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
         protected transient EventHandle eventHandle;
+        private JsonNodeFactory jsonNodeFactory;
+        private boolean adoptData;
 
         public abstract T getThis();
 
@@ -687,7 +825,9 @@ public class JacksonEvent implements Event {
         }
 
         /**
-         * Sets the data of the event.
+         * Sets the data of the event. A {@code byte[]} is read as a UTF-8 encoded JSON object. Its values
+         * are read on demand, and the event writes out the bytes as they are until it is modified, so the
+         * caller should not modify them afterwards. Other data is copied into the event's tree.
          *
          * @param data the data
          * @return returns the builder
@@ -695,6 +835,35 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.adoptData = false;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to a tree which the event takes over without copying it. The caller
+         * must not use the tree after building the event.
+         *
+         * @param data the tree
+         * @return returns the builder
+         * @since 2.13
+         */
+        public Builder<T> withAdoptedData(final ObjectNode data) {
+            this.data = data;
+            this.adoptData = true;
+            return this;
+        }
+
+        /**
+         * Sets the factory which creates the nodes of the event's data, such as an {@link InterningJsonNodeFactory}.
+         * The factory is used for the initial data as well as for values which are put into the event later. By
+         * default, the standard Jackson node factory is used.
+         *
+         * @param jsonNodeFactory the node factory
+         * @return returns the builder
+         * @since 2.13
+         */
+        public Builder<T> withJsonNodeFactory(final JsonNodeFactory jsonNodeFactory) {
+            this.jsonNodeFactory = jsonNodeFactory;
             return this;
         }
 
@@ -723,14 +892,33 @@ public class JacksonEvent implements Event {
             this.event = event;
         }
 
+        private boolean hasRootNode() {
+            return getRootKey() != null && !getRootKey().isEmpty() && event.containsKey(getRootKey());
+        }
+
         private JsonNode getBaseNode() {
             // Get root node.
-            if (getRootKey() != null && !getRootKey().isEmpty() && event.containsKey(getRootKey())) {
+            if (hasRootNode()) {
                 return event.getNode(getRootKey());
             }
-            return event.getJsonNode();
+            return event.tree();
         }
 
+        private boolean hasFilterKeys() {
+            return (getIncludeKeys() != null && !getIncludeKeys().isEmpty())
+                    || (getExcludeKeys() != null && !getExcludeKeys().isEmpty());
+        }
+
+        @Override
+        public byte[] toJsonBytes() {
+            if (!hasFilterKeys() && getTagsKey() == null && !hasRootNode()) {
+                final byte[] jsonBytes = event.getUnmodifiedJsonBytes();
+                if (jsonBytes != null) {
+                    return jsonBytes;
+                }
+            }
+            return super.toJsonBytes();
+        }
 
         public String toJsonString() {
 
@@ -739,7 +927,7 @@ public class JacksonEvent implements Event {
                 jsonString = searchAndFilter(getBaseNode(), "", getIncludeKeys(), RETAIN_ALL);
             } else if (getExcludeKeys() != null && !getExcludeKeys().isEmpty()) {
                 jsonString = searchAndFilter(getBaseNode(), "", getExcludeKeys(), EXCLUDE_ALL);
-            } else if (getBaseNode() !=event.getJsonNode()) {
+            } else if (hasRootNode()) {
                 jsonString = event.getAsJsonString(getRootKey());
             } else {
                 // Some successors have its own implementation of toJsonString, such as JacksonSpan.
@@ -815,6 +1003,17 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Provides custom Java object serialization, which builds the tree of an event created from bytes first.
+     *
+     * @param objectOutputStream The {@link ObjectOutputStream} to serialize to
+     * @throws IOException if an I/O error occurs
+     */
+    private void writeObject(final ObjectOutputStream objectOutputStream) throws IOException {
+        tree();
+        objectOutputStream.defaultWriteObject();
+    }
+
     /**
      * Provides custom Java object deserialization.
      *
@@ -824,6 +1023,7 @@ public class JacksonEvent implements Event {
      */
     private void readObject(final ObjectInputStream objectInputStream) throws IOException, ClassNotFoundException {
         objectInputStream.defaultReadObject();
+        this.treeMapper = mapper;
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
 }
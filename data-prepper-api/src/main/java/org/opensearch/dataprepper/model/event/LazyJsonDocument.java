@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A JSON object held as the UTF-8 bytes it was received as. Single values are read from the bytes on demand by
+ * streaming to them and skipping everything else, so an event which is only inspected on a few keys and then
+ * written out unchanged never has its whole tree built.
+ * <p>
+ * Instances are immutable, and are only created for bytes which hold exactly one well-formed JSON object without
+ * duplicate keys. Without duplicates, the first match of a key while streaming is the value a tree would hold.
+ */
+final class LazyJsonDocument {
+    private static final byte[] UTF_8_BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final byte[] bytes;
+    private final int offset;
+    private final int length;
+    private final boolean singleLine;
+    private final ObjectMapper treeMapper;
+
+    private LazyJsonDocument(final byte[] bytes, final int offset, final int length, final ObjectMapper treeMapper) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.length = length;
+        this.treeMapper = treeMapper;
+        this.singleLine = !containsLineBreak(bytes, offset, length);
+    }
+
+    /**
+     * Validates the bytes in a single streaming pass without building any nodes.
+     *
+     * @param bytes the UTF-8 encoded JSON
+     * @param treeMapper the mapper which creates the trees of the event
+     * @return the document, or null if the bytes are not a single UTF-8 encoded JSON object without
+     * duplicate keys. These are left to a regular parse, which also reports malformed JSON.
+     */
+    static LazyJsonDocument of(final byte[] bytes, final ObjectMapper treeMapper) {
+        // Jackson detects UTF-16 and UTF-32 input, which always holds zero bytes in JSON, and skips a byte order mark.
+        if (startsWithByteOrderMark(bytes) || containsZeroByte(bytes)) {
+            return null;
+        }
+        try (final JsonParser parser = treeMapper.createParser(bytes)) {
+            parser.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            final long start = parser.currentTokenLocation().getByteOffset();
+            parser.skipChildren();
+            final long end = parser.currentLocation().getByteOffset();
+            if (parser.nextToken() != null || start < 0 || end < 0) {
+                return null;
+            }
+            return new LazyJsonDocument(bytes, (int) start, (int) (end - start), treeMapper);
+        } catch (final IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the value at the given pointer, with the same result as {@link JsonNode#at(JsonPointer)} on the tree.
+     *
+     * @param jsonPointer a pointer below the root of the document
+     * @return a new node for the value, or a {@link MissingNode}
+     */
+    JsonNode at(final JsonPointer jsonPointer) {
+        try (final JsonParser parser = createParser()) {
+            parser.nextToken();
+            JsonPointer remaining = jsonPointer;
+            while (!remaining.matches()) {
+                final JsonToken token = parser.currentToken();
+                final boolean found;
+                if (token == JsonToken.START_OBJECT) {
+                    found = seekProperty(parser, remaining.getMatchingProperty());
+                } else if (token == JsonToken.START_ARRAY) {
+                    found = seekIndex(parser, remaining.getMatchingIndex());
+                } else {
+                    found = false;
+                }
+                if (!found) {
+                    return MissingNode.getInstance();
+                }
+                remaining = remaining.tail();
+            }
+            return treeMapper.readTree(parser);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read the event data", e);
+        }
+    }
+
+    /**
+     * @return a full tree of the document
+     */
+    JsonNode readTree() {
+        try (final JsonParser parser = createParser()) {
+            return treeMapper.readTree(parser);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read the event data", e);
+        }
+    }
+
+    /**
+     * Whether the document can be written out as-is where one JSON document per line is expected,
+     * such as a bulk request body.
+     *
+     * @return true if the bytes of the document hold no line breaks
+     */
+    boolean isSingleLine() {
+        return singleLine;
+    }
+
+    /**
+     * @return the bytes of the document, which must not be modified
+     */
+    byte[] getBytes() {
+        if (offset == 0 && length == bytes.length) {
+            return bytes;
+        }
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+
+    private JsonParser createParser() throws IOException {
+        return treeMapper.createParser(bytes, offset, length);
+    }
+
+    private static boolean seekProperty(final JsonParser parser, final String propertyName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final boolean matches = propertyName.equals(parser.currentName());
+            parser.nextToken();
+            if (matches) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean seekIndex(final JsonParser parser, final int index) throws IOException {
+        if (index < 0) {
+            return false;
+        }
+        int currentIndex = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (currentIndex++ == index) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean startsWithByteOrderMark(final byte[] bytes) {
+        return bytes.length >= UTF_8_BYTE_ORDER_MARK.length
+                && Arrays.equals(bytes, 0, UTF_8_BYTE_ORDER_MARK.length, UTF_8_BYTE_ORDER_MARK, 0, UTF_8_BYTE_ORDER_MARK.length);
+    }
+
+    private static boolean containsZeroByte(final byte[] bytes) {
+        for (final byte b : bytes) {
+            if (b == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsLineBreak(final byte[] bytes, final int offset, final int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] == '\n' || bytes[i] == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -314,6 +314,18 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Sets the data of the event. The span collects its data before building the event, so the tree is copied.
+         *
+         * @param data the tree
+         * @return returns the builder
+         * @since 2.13
+         */
+        @Override
+        public Builder withAdoptedData(final ObjectNode data) {
+            return withData(data);
+        }
+
         /**
          * Sets the metadata.
          *
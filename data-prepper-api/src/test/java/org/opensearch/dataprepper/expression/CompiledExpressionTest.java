@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class CompiledExpressionTest {
+
+    private static CompiledExpression expressionReturning(final Object result) {
+        return new CompiledExpression() {
+            @Override
+            public String getStatement() {
+                return UUID.randomUUID().toString();
+            }
+
+            @Override
+            public Object evaluate(final Event context) {
+                return result;
+            }
+        };
+    }
+
+    private static CompiledExpression expressionThrowing(final RuntimeException exception) {
+        return new CompiledExpression() {
+            @Override
+            public String getStatement() {
+                return UUID.randomUUID().toString();
+            }
+
+            @Override
+            public Object evaluate(final Event context) {
+                throw exception;
+            }
+        };
+    }
+
+    @Test
+    void evaluateConditional_returns_Boolean_result() {
+        assertThat(expressionReturning(true).evaluateConditional(mock(Event.class)), equalTo(true));
+        assertThat(expressionReturning(false).evaluateConditional(mock(Event.class)), equalTo(false));
+    }
+
+    @Test
+    void evaluateConditional_throws_ClassCastException_for_non_Boolean_result() {
+        assertThrows(ClassCastException.class, () -> expressionReturning(200).evaluateConditional(mock(Event.class)));
+        assertThrows(ClassCastException.class, () -> expressionReturning(null).evaluateConditional(mock(Event.class)));
+    }
+
+    @Test
+    void evaluateConditional_returns_false_when_evaluation_fails() {
+        final CompiledExpression objectUnderTest = expressionThrowing(new ExpressionEvaluationException("failed", new RuntimeException()));
+        assertThat(objectUnderTest.evaluateConditional(mock(Event.class)), equalTo(false));
+    }
+
+    @Test
+    void evaluateConditional_rethrows_ExpressionParsingException() {
+        final CompiledExpression objectUnderTest = expressionThrowing(new ExpressionParsingException("failed", new RuntimeException()));
+        assertThrows(ExpressionParsingException.class, () -> objectUnderTest.evaluateConditional(mock(Event.class)));
+    }
+
+    @Test
+    void evaluateConditional_for_batch_sets_bits_of_matching_events() {
+        final Event matchingEvent = mock(Event.class);
+        final Event otherEvent = mock(Event.class);
+        final CompiledExpression objectUnderTest = new CompiledExpression() {
+            @Override
+            public String getStatement() {
+                return UUID.randomUUID().toString();
+            }
+
+            @Override
+            public Object evaluate(final Event context) {
+                return context == matchingEvent;
+            }
+        };
+
+        final BitSet matches = objectUnderTest.evaluateConditional(List.of(matchingEvent, otherEvent, matchingEvent));
+
+        assertThat(matches.get(0), equalTo(true));
+        assertThat(matches.get(1), equalTo(false));
+        assertThat(matches.get(2), equalTo(true));
+        assertThat(matches.cardinality(), equalTo(2));
+    }
+
+    @Test
+    void evaluateConditional_for_empty_batch_returns_empty_bitmap() {
+        assertThat(expressionReturning(true).evaluateConditional(List.of()).isEmpty(), equalTo(true));
+    }
+}
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 
@@ -102,6 +103,41 @@ public class ExpressionEvaluatorTest {
         assertThrows(ClassCastException.class, () -> expressionEvaluator.evaluateConditional("/status", event("{\"status\":200}")));
     }
 
+    @Test
+    public void testDefaultCompileEvaluatesStatement() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final CompiledExpression compiledExpression = expressionEvaluator.compile("/status");
+        assertThat(compiledExpression.getStatement(), equalTo("/status"));
+        assertThat(compiledExpression.evaluate(event("{\"status\":200}")), equalTo(200));
+        assertThat(compiledExpression.evaluateConditional(event("{\"status\":true}")), equalTo(true));
+    }
+
+    @Test
+    public void testDefaultCompileEvaluateConditionalHasSameSemantics() {
+        assertThat(new TestExpressionEvaluator(true, false, false).compile("/status")
+                .evaluateConditional(event("{\"nostatus\":true}")), equalTo(false));
+        assertThrows(ExpressionParsingException.class, () -> new TestExpressionEvaluator(false, true, false).compile("/status")
+                .evaluateConditional(event("{\"nostatus\":true}")));
+        assertThrows(ClassCastException.class, () -> new TestExpressionEvaluator().compile("/status")
+                .evaluateConditional(event("{\"status\":200}")));
+    }
+
+    @Test
+    public void testDefaultEvaluateConditionals() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<Event> events = List.of(
+                event("{\"status\":true,\"other\":false}"), event("{\"status\":false,\"other\":false}"));
+        final List<CompiledExpression> expressions = List.of(
+                expressionEvaluator.compile("/status"), expressionEvaluator.compile("/other"));
+
+        final List<BitSet> results = expressionEvaluator.evaluateConditionals(expressions, events);
+
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).get(0), equalTo(true));
+        assertThat(results.get(0).get(1), equalTo(false));
+        assertThat(results.get(1).isEmpty(), equalTo(true));
+    }
+
     private static Event event(final String data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
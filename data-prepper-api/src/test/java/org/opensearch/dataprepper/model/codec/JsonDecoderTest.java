@@ -10,6 +10,8 @@ import org.opensearch.dataprepper.model.record.Record;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -18,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -66,6 +69,50 @@ public class JsonDecoderTest {
         assertThat(map.get("key2"), equalTo(intValue));
     }
 
+    @Test
+    void test_basicJsonDecoder_events_from_bytes_write_out_the_original_records() throws IOException {
+        final String firstRecord = "{\"key1\": \"" + UUID.randomUUID() + "\", \"nested\": {\"key2\": [1, 2]}}";
+        final String secondRecord = "{\"key3\":true}";
+        final String inputString = "[" + firstRecord + ",\n " + secondRecord + "]";
+        final List<Record<Event>> records = new ArrayList<>();
+
+        jsonDecoder.parse(inputString.getBytes(StandardCharsets.UTF_8), null, records::add);
+
+        assertThat(records.size(), equalTo(2));
+        assertThat(records.get(0).getData().get("nested/key2/1", Integer.class), equalTo(2));
+        assertThat(records.get(0).getData().toJsonString(), equalTo(firstRecord));
+        assertThat(records.get(1).getData().toJsonString(), equalTo(secondRecord));
+    }
+
+    @Test
+    void test_basicJsonDecoder_parses_input_streams_as_they_are_read() throws IOException {
+        final List<Record<Event>> records = new ArrayList<>();
+        final AtomicInteger recordsBeforeSecondPart = new AtomicInteger(-1);
+        final InputStream secondPart = new InputStream() {
+            private final InputStream delegate = new ByteArrayInputStream("{\"key2\":2}]".getBytes(StandardCharsets.UTF_8));
+
+            @Override
+            public int read() throws IOException {
+                recordsBeforeSecondPart.compareAndSet(-1, records.size());
+                return delegate.read();
+            }
+
+            @Override
+            public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+                recordsBeforeSecondPart.compareAndSet(-1, records.size());
+                return delegate.read(bytes, offset, length);
+            }
+        };
+        final InputStream firstPart = new ByteArrayInputStream("[{\"key1\":1},".getBytes(StandardCharsets.UTF_8));
+
+        jsonDecoder.parse(new SequenceInputStream(firstPart, secondPart), null, records::add);
+
+        assertThat(recordsBeforeSecondPart.get(), equalTo(1));
+        assertThat(records.size(), equalTo(2));
+        assertThat(records.get(0).getData().get("key1", Integer.class), equalTo(1));
+        assertThat(records.get(1).getData().get("key2", Integer.class), equalTo(2));
+    }
+
     @Test
     void test_basicJsonDecoder_exceedingMaxEventLength_throwsException() {
         String largeString = "x".repeat(200);
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InterningJsonNodeFactoryTest {
+    private static final int MAXIMUM_INTERNED_FIELD_NAMES = 10;
+    private static final int MAXIMUM_INTERNED_VALUE_LENGTH = 8;
+
+    private InterningJsonNodeFactory createObjectUnderTest() {
+        return new InterningJsonNodeFactory(MAXIMUM_INTERNED_FIELD_NAMES, MAXIMUM_INTERNED_VALUE_LENGTH);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_invalid_maximum_interned_field_names(final int maximumInternedFieldNames) {
+        assertThrows(IllegalArgumentException.class, () -> new InterningJsonNodeFactory(maximumInternedFieldNames, 0));
+    }
+
+    @Test
+    void constructor_throws_for_negative_maximum_interned_value_length() {
+        assertThrows(IllegalArgumentException.class, () -> new InterningJsonNodeFactory(1, -1));
+    }
+
+    @Test
+    void objectNode_shares_field_names_between_objects() {
+        final InterningJsonNodeFactory objectUnderTest = createObjectUnderTest();
+        final String fieldName = UUID.randomUUID().toString();
+        final String equalFieldName = new String(fieldName);
+
+        final ObjectNode firstNode = objectUnderTest.objectNode();
+        firstNode.put(fieldName, 1);
+        final ObjectNode secondNode = objectUnderTest.objectNode();
+        secondNode.put(equalFieldName, 2);
+
+        assertThat(secondNode.fieldNames().next(), sameInstance(firstNode.fieldNames().next()));
+        assertThat(secondNode.get(fieldName).asInt(), equalTo(2));
+    }
+
+    @Test
+    void objectNode_shares_field_names_for_putIfAbsent_and_setAll() {
+        final InterningJsonNodeFactory objectUnderTest = createObjectUnderTest();
+        final String fieldName = UUID.randomUUID().toString();
+        final String otherFieldName = UUID.randomUUID().toString();
+        final String thirdFieldName = UUID.randomUUID().toString();
+        objectUnderTest.objectNode().put(fieldName, 1).put(otherFieldName, 1).put(thirdFieldName, 1);
+
+        final ObjectNode putIfAbsentNode = objectUnderTest.objectNode();
+        putIfAbsentNode.putIfAbsent(new String(fieldName), objectUnderTest.numberNode(3));
+        final Map<String, JsonNode> children = new LinkedHashMap<>();
+        children.put(new String(otherFieldName), objectUnderTest.numberNode(4));
+        final ObjectNode setAllFromMapNode = objectUnderTest.objectNode();
+        setAllFromMapNode.setAll(children);
+        final ObjectNode plainNode = JsonNodeFactory.instance.objectNode().put(new String(thirdFieldName), 5);
+        final ObjectNode setAllFromNodeNode = objectUnderTest.objectNode();
+        setAllFromNodeNode.setAll(plainNode);
+
+        assertThat(putIfAbsentNode.fieldNames().next(), sameInstance(objectUnderTest.internFieldName(fieldName)));
+        assertThat(setAllFromMapNode.fieldNames().next(), sameInstance(objectUnderTest.internFieldName(otherFieldName)));
+        assertThat(setAllFromMapNode.get(otherFieldName).asInt(), equalTo(4));
+        assertThat(setAllFromNodeNode.fieldNames().next(), sameInstance(objectUnderTest.internFieldName(thirdFieldName)));
+        assertThat(setAllFromNodeNode.get(thirdFieldName).asInt(), equalTo(5));
+    }
+
+    @Test
+    void internFieldName_stops_sharing_new_names_when_full() {
+        final InterningJsonNodeFactory objectUnderTest = createObjectUnderTest();
+        final List<String> fieldNames = new ArrayList<>();
+        for (int i = 0; i < MAXIMUM_INTERNED_FIELD_NAMES; i++) {
+            final String fieldName = UUID.randomUUID().toString();
+            fieldNames.add(fieldName);
+            assertThat(objectUnderTest.internFieldName(fieldName), sameInstance(fieldName));
+        }
+
+        final String overflowFieldName = UUID.randomUUID().toString();
+        assertThat(objectUnderTest.internFieldName(overflowFieldName), sameInstance(overflowFieldName));
+        final String equalOverflowFieldName = new String(overflowFieldName);
+        assertThat(objectUnderTest.internFieldName(equalOverflowFieldName), sameInstance(equalOverflowFieldName));
+
+        for (final String fieldName : fieldNames) {
+            assertThat(objectUnderTest.internFieldName(new String(fieldName)), sameInstance(fieldName));
+        }
+    }
+
+    @Test
+    void textNode_shares_short_values() {
+        final InterningJsonNodeFactory objectUnderTest = createObjectUnderTest();
+        final String value = "INFO";
+
+        final TextNode textNode = objectUnderTest.textNode(value);
+
+        assertThat(objectUnderTest.textNode(new String(value)), sameInstance(textNode));
+        assertThat(textNode.textValue(), equalTo(value));
+    }
+
+    @Test
+    void textNode_does_not_share_long_values() {
+        final InterningJsonNodeFactory objectUnderTest = createObjectUnderTest();
+        final String value = UUID.randomUUID().toString();
+
+        final TextNode textNode = objectUnderTest.textNode(value);
+
+        assertThat(objectUnderTest.textNode(value), not(sameInstance(textNode)));
+        assertThat(objectUnderTest.textNode(value), equalTo(textNode));
+    }
+
+    @Test
+    void textNode_does_not_share_values_when_maximum_interned_value_length_is_0() {
+        final InterningJsonNodeFactory objectUnderTest = new InterningJsonNodeFactory(MAXIMUM_INTERNED_FIELD_NAMES, 0);
+
+        assertThat(objectUnderTest.textNode("a"), not(sameInstance(objectUnderTest.textNode("a"))));
+    }
+
+    @Test
+    void textNode_with_null_returns_null() {
+        assertThat(createObjectUnderTest().textNode(null), nullValue());
+    }
+
+    @Test
+    void mapper_with_factory_reads_trees_with_shared_field_names_and_values() throws Exception {
+        final ObjectMapper objectMapper = new ObjectMapper().setNodeFactory(createObjectUnderTest());
+
+        final JsonNode firstNode = objectMapper.readTree("{\"level\":\"INFO\",\"nested\":{\"level\":\"WARN\"}}");
+        final JsonNode secondNode = objectMapper.valueToTree(Map.of("level", new String("INFO")));
+
+        assertThat(secondNode.fieldNames().next(), sameInstance(firstNode.fieldNames().next()));
+        assertThat(firstNode.get("nested").fieldNames().next(), sameInstance(firstNode.fieldNames().next()));
+        assertThat(secondNode.get("level"), sameInstance(firstNode.get("level")));
+    }
+}
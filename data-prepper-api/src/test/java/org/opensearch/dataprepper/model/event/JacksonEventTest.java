@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -889,6 +892,192 @@ public class JacksonEventTest {
         assertThat(event.get("foo", String.class), is(equalTo("bar")));
     }
 
+    @Test
+    public void testBuild_withObjectNodeData_copies_the_node() {
+        final String value = UUID.randomUUID().toString();
+        final ObjectNode objectNode = new ObjectMapper().createObjectNode();
+        objectNode.put("foo", value);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(objectNode)
+                .getThis()
+                .build();
+        objectNode.put("foo", UUID.randomUUID().toString());
+
+        assertThat(event.get("foo", String.class), is(equalTo(value)));
+        assertThat(event.getJsonNode(), not(sameInstance(objectNode)));
+    }
+
+    @Test
+    public void testBuild_withAdoptedData_uses_node_without_copying() {
+        final String value = UUID.randomUUID().toString();
+        final ObjectNode objectNode = new ObjectMapper().createObjectNode();
+        objectNode.put("foo", value);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withAdoptedData(objectNode)
+                .getThis()
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo(value)));
+        assertThat(event.getJsonNode(), sameInstance(objectNode));
+    }
+
+    @Test
+    public void testBuild_withData_after_withAdoptedData_copies_the_data() {
+        final ObjectNode objectNode = new ObjectMapper().createObjectNode();
+        objectNode.put("foo", UUID.randomUUID().toString());
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withAdoptedData(objectNode)
+                .withData(objectNode)
+                .getThis()
+                .build();
+
+        assertThat(event.getJsonNode(), not(sameInstance(objectNode)));
+    }
+
+    @Test
+    public void testBuild_withByteData_reads_values_from_the_bytes() {
+        final String value = UUID.randomUUID().toString();
+        final String json = "{\"foo\": \"" + value + "\", \"nested\": {\"list\": [1, {\"bar\": 2.50}], \"empty\": null}, \"skipped\": [[]]}";
+        final byte[] jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonBytes)
+                .build();
+
+        assertThat(event.get("foo", String.class), is(equalTo(value)));
+        assertThat(event.get("nested/list/1/bar", Double.class), is(equalTo(2.5)));
+        assertThat(event.getList("nested/list", Object.class), is(equalTo(Arrays.asList(1, Map.of("bar", 2.5)))));
+        assertThat(event.getAsJsonString("nested/list/1"), is(equalTo("{\"bar\":2.5}")));
+        assertThat(event.isValueAList("nested/list"), is(true));
+        assertThat(event.containsKey("nested/empty"), is(true));
+        assertThat(event.get("nested/empty", Object.class), is(nullValue()));
+        assertThat(event.containsKey("nested/missing"), is(false));
+        assertThat(event.containsKey("nested/list/2"), is(false));
+        assertThat(event.containsKey("foo/bar"), is(false));
+        assertThat(event.containsKey("skipped/0/0"), is(false));
+
+        assertThat(event.toJsonString(), is(equalTo(json)));
+        assertThat(event.jsonBuilder().toJsonBytes(), sameInstance(jsonBytes));
+    }
+
+    @Test
+    public void testBuild_withByteData_reads_values_after_building_the_tree() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"foo\":\"bar\"}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        for (int i = 0; i <= JacksonEvent.MAX_LAZY_LOOKUPS; i++) {
+            assertThat(event.get("foo", String.class), is(equalTo("bar")));
+        }
+        assertThat(event.toMap(), is(equalTo(Map.of("foo", "bar"))));
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"bar\"}")));
+    }
+
+    @Test
+    public void testBuild_withByteData_writes_the_tree_after_a_modification() {
+        final byte[] jsonBytes = "{\"foo\": \"bar\", \"number\": 1.0}".getBytes(StandardCharsets.UTF_8);
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonBytes)
+                .build();
+
+        event.put("new", "value");
+
+        assertThat(event.get("new", String.class), is(equalTo("value")));
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":\"bar\",\"number\":1.0,\"new\":\"value\"}")));
+        assertThat(event.jsonBuilder().toJsonBytes(), is(equalTo(event.toJsonString().getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testBuild_withByteData_writes_the_tree_after_a_node_is_modified() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"foo\": {\"bar\": 1}}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        event.get("foo", ObjectNode.class).put("baz", 2);
+
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":{\"bar\":1,\"baz\":2}}")));
+    }
+
+    @Test
+    public void testBuild_withByteData_filters_the_json_string() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"foo\": {\"bar\": 1}, \"baz\": 2}".getBytes(StandardCharsets.UTF_8))
+                .build();
+        event.getMetadata().addTags(List.of("tag"));
+
+        assertThat(event.jsonBuilder().rootKey("foo").toJsonString(), is(equalTo("{\"bar\":1}")));
+        assertThat(new String(event.jsonBuilder().rootKey("foo").toJsonBytes(), StandardCharsets.UTF_8), is(equalTo("{\"bar\":1}")));
+        assertThat(event.jsonBuilder().excludeKeys(List.of("foo")).toJsonString(), is(equalTo("{\"baz\":2}")));
+        assertThat(event.jsonBuilder().includeTags("tags").toJsonString(), is(equalTo("{\"foo\": {\"bar\": 1}, \"baz\": 2,\"tags\":[\"tag\"]}")));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"foo\": 1, \"foo\": 2}", "{\"foo\":\n2}", "{\"foo\":\r\n2}", "\ufeff{\"foo\": 2}"})
+    public void testBuild_withByteData_which_cannot_be_written_as_is(final String json) {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(json.getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        assertThat(event.get("foo", Integer.class), is(equalTo(2)));
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":2}")));
+        assertThat(event.jsonBuilder().toJsonBytes(), is(equalTo("{\"foo\":2}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", " ", "{", "{\"foo\": }", "{\"foo\": 1,}", "{\"foo\": \"bar}"})
+    public void testBuild_withInvalidByteData_throws(final String json) {
+        final JacksonEvent.Builder builder = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(json.getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+
+    @Test
+    public void testFromEvent_withByteData_copies_are_independent() {
+        final String json = "{\"foo\": \"bar\"}";
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(json.getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        final JacksonEvent copiedEvent = JacksonEvent.fromEvent(originalEvent);
+        copiedEvent.put("foo", "baz");
+
+        assertThat(originalEvent.get("foo", String.class), is(equalTo("bar")));
+        assertThat(originalEvent.toJsonString(), is(equalTo(json)));
+        assertThat(copiedEvent.toJsonString(), is(equalTo("{\"foo\":\"baz\"}")));
+    }
+
+    @Test
+    public void testMerge_withByteData() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"foo\": 1}".getBytes(StandardCharsets.UTF_8))
+                .build();
+        final Event otherEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"bar\": 2}".getBytes(StandardCharsets.UTF_8))
+                .build();
+
+        event.merge(otherEvent);
+
+        assertThat(event.toJsonString(), is(equalTo("{\"foo\":1,\"bar\":2}")));
+        assertThat(otherEvent.toJsonString(), is(equalTo("{\"bar\": 2}")));
+    }
+
     @ParameterizedTest
     @CsvSource({
             "test-string, test-string",
@@ -1234,6 +1423,75 @@ public class JacksonEventTest {
         return dataObject;
     }
 
+    @Test
+    void build_withJsonNodeFactory_and_map_data_shares_field_names_between_events() {
+        final InterningJsonNodeFactory jsonNodeFactory = new InterningJsonNodeFactory(100, 10);
+        final String key = UUID.randomUUID().toString();
+        final Map<String, Object> data = Map.of(key, "INFO");
+
+        final Event firstEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(data)
+                .withJsonNodeFactory(jsonNodeFactory)
+                .build();
+        final Event secondEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of(new String(key), new String("INFO")))
+                .withJsonNodeFactory(jsonNodeFactory)
+                .build();
+
+        assertThat(secondEvent.getJsonNode().fieldNames().next(), sameInstance(firstEvent.getJsonNode().fieldNames().next()));
+        assertThat(secondEvent.getJsonNode().get(key), sameInstance(firstEvent.getJsonNode().get(key)));
+        assertThat(secondEvent.toMap(), equalTo(data));
+    }
+
+    @Test
+    void build_withJsonNodeFactory_and_string_data_shares_field_names_with_put_values() {
+        final InterningJsonNodeFactory jsonNodeFactory = new InterningJsonNodeFactory(100, 10);
+        final String key = UUID.randomUUID().toString();
+        final String nestedKey = UUID.randomUUID().toString();
+
+        final Event firstEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData("{\"" + key + "\": {\"" + nestedKey + "\": 1}}")
+                .withJsonNodeFactory(jsonNodeFactory)
+                .build();
+        final Event secondEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonNodeFactory(jsonNodeFactory)
+                .build();
+        secondEvent.put(new String(key) + "/" + new String(nestedKey), 2);
+
+        final ObjectNode firstNode = (ObjectNode) firstEvent.getJsonNode();
+        final ObjectNode secondNode = (ObjectNode) secondEvent.getJsonNode();
+        assertThat(secondNode.fieldNames().next(), sameInstance(firstNode.fieldNames().next()));
+        assertThat(secondNode.get(key).fieldNames().next(), sameInstance(firstNode.get(key).fieldNames().next()));
+        assertThat(secondEvent.get(key + "/" + nestedKey, Integer.class), equalTo(2));
+    }
+
+    @Test
+    void fromEvent_keeps_jsonNodeFactory() {
+        final InterningJsonNodeFactory jsonNodeFactory = new InterningJsonNodeFactory(100, 10);
+        final String key = UUID.randomUUID().toString();
+        final Event originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of(key, "value"))
+                .withJsonNodeFactory(jsonNodeFactory)
+                .build();
+
+        final JacksonEvent copiedEvent = JacksonEvent.fromEvent(originalEvent);
+        final String newKey = UUID.randomUUID().toString();
+        copiedEvent.put(new String(newKey), "value");
+        originalEvent.put(newKey, "value");
+
+        final List<String> copiedFieldNames = new ArrayList<>();
+        copiedEvent.getJsonNode().fieldNames().forEachRemaining(copiedFieldNames::add);
+        final List<String> originalFieldNames = new ArrayList<>();
+        originalEvent.getJsonNode().fieldNames().forEachRemaining(originalFieldNames::add);
+        assertThat(copiedFieldNames.get(1), sameInstance(originalFieldNames.get(1)));
+        assertThat(copiedEvent.toMap(), equalTo(originalEvent.toMap()));
+    }
+
     @ParameterizedTest
     @MethodSource("getBigDecimalPutTestData")
     void testPutAndGet_withBigDecimal(final String value) {
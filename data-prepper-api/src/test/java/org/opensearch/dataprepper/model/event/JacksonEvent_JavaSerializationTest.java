@@ -78,6 +78,27 @@ class JacksonEvent_JavaSerializationTest {
         assertThat(deserializedEvent.getEventHandle().getInternalOriginationTime(), equalTo(objectUnderTest.getMetadata().getTimeReceived()));
     }
 
+    @Test
+    void serialize_with_jsonNodeFactory_includes_data_and_can_be_modified() throws IOException, ClassNotFoundException {
+        final JacksonEvent objectUnderTest = JacksonEvent.builder()
+                .withEventType("TEST")
+                .withData(Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()))
+                .withJsonNodeFactory(new InterningJsonNodeFactory(10, 10))
+                .build();
+
+        final Object deserializedObject = serializeAndDeserialize(objectUnderTest);
+
+        assertThat(deserializedObject, instanceOf(JacksonEvent.class));
+        final JacksonEvent deserializedEvent = (JacksonEvent) deserializedObject;
+
+        assertThat(deserializedEvent.toMap(), equalTo(objectUnderTest.toMap()));
+
+        final String key = UUID.randomUUID().toString();
+        final String value = UUID.randomUUID().toString();
+        deserializedEvent.put(key + "/nested", value);
+        assertThat(deserializedEvent.get(key + "/nested", String.class), equalTo(value));
+    }
+
     private Object serializeAndDeserialize(final JacksonEvent objectUnderTest) throws IOException, ClassNotFoundException {
         objectOutputStream.writeObject(objectUnderTest);
         final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()));
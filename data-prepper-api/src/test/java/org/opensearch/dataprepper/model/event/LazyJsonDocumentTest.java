@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LazyJsonDocumentTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final String JSON = "{\"a\": {\"b\": [1, {\"c\": \"d\"}, [true, null]], \"0\": \"zero\"}, " +
+            "\"e\": \"caf\\u00e9\", \"f\": {}, \"g\": [], \"\": \"empty\", \"h~/i\": 1.5}";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/a", "/a/b", "/a/b/0", "/a/b/1/c", "/a/b/2/1", "/a/b/3", "/a/b/-1", "/a/b/x", "/a/0",
+            "/a/missing", "/e", "/e/0", "/f", "/f/x", "/g/0", "/", "/h~0~1i", "/missing/a"})
+    void at_returns_the_same_value_as_the_tree(final String pointer) throws IOException {
+        final LazyJsonDocument objectUnderTest = createObjectUnderTest(JSON);
+        final JsonNode expectedNode = OBJECT_MAPPER.readTree(JSON).at(pointer);
+
+        assertThat(objectUnderTest.at(JsonPointer.compile(pointer)), equalTo(expectedNode));
+    }
+
+    @Test
+    void readTree_returns_the_whole_tree() throws IOException {
+        assertThat(createObjectUnderTest(JSON).readTree(), equalTo(OBJECT_MAPPER.readTree(JSON)));
+    }
+
+    @Test
+    void getBytes_and_toString_exclude_surrounding_whitespace() {
+        final byte[] bytes = " \t{\"a\": 1}\n ".getBytes(StandardCharsets.UTF_8);
+        final LazyJsonDocument objectUnderTest = LazyJsonDocument.of(bytes, OBJECT_MAPPER);
+
+        assertThat(objectUnderTest, notNullValue());
+        assertThat(objectUnderTest.toString(), equalTo("{\"a\": 1}"));
+        assertThat(objectUnderTest.getBytes(), equalTo("{\"a\": 1}".getBytes(StandardCharsets.UTF_8)));
+        assertThat(objectUnderTest.isSingleLine(), is(true));
+    }
+
+    @Test
+    void getBytes_returns_the_original_array() {
+        final byte[] bytes = "{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(LazyJsonDocument.of(bytes, OBJECT_MAPPER).getBytes(), sameInstance(bytes));
+    }
+
+    @Test
+    void isSingleLine_is_false_with_line_breaks() {
+        assertThat(createObjectUnderTest("{\"a\":\n1}").isSingleLine(), is(false));
+        assertThat(createObjectUnderTest("{\"a\":\r1}").isSingleLine(), is(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[]", "1", "\"a\"", "{\"a\": 1, \"a\": 2}", "{\"a\": {\"b\": 1, \"b\": 2}}", "{\"a\": 1} {}",
+            "{\"a\": 1", "{\"a\": }", "\ufeff{\"a\": 1}", ""})
+    void of_returns_null_for_bytes_which_need_a_regular_parse(final String json) {
+        assertThat(LazyJsonDocument.of(json.getBytes(StandardCharsets.UTF_8), OBJECT_MAPPER), nullValue());
+    }
+
+    @Test
+    void of_returns_null_for_UTF_16() {
+        assertThat(LazyJsonDocument.of("{\"a\": 1}".getBytes(StandardCharsets.UTF_16LE), OBJECT_MAPPER), nullValue());
+    }
+
+    private static LazyJsonDocument createObjectUnderTest(final String json) {
+        final LazyJsonDocument document = LazyJsonDocument.of(json.getBytes(StandardCharsets.UTF_8), OBJECT_MAPPER);
+        assertThat(document, notNullValue());
+        return document;
+    }
+}
@@ -10,109 +10,187 @@ import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The ring is held in sorted primitive arrays which are replaced as a whole when the peer list changes, so lookups
+ * do not need to lock. On a change only the virtual nodes of added hosts are hashed and only the virtual nodes of
+ * removed hosts are dropped; the ranges owned by the remaining hosts are left untouched.
  */
-@NotThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
-    private static final String MD5 = "MD5";
-    private static final String DELIMITER = ",";
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
+    private final PeerHashFunction hashFunction;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    /* Hosts currently on the ring */
+    private final Set<String> ringServers = new HashSet<>();
+
+    private volatile Ring ring = Ring.EMPTY;
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+        this(peerListProvider, numVirtualNodes, HashRingAlgorithm.MD5.getHashFunction());
+    }
+
+    public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes, final PeerHashFunction hashFunction) {
         Objects.requireNonNull(peerListProvider);
+        Objects.requireNonNull(hashFunction);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.hashFunction = hashFunction;
 
-        buildHashServerMap();
+        updateHashRing();
 
         peerListProvider.addListener(this);
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
+        final Ring currentRing = ring;
+        if (currentRing.isEmpty()) {
             return Optional.empty();
         }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
+        return Optional.of(currentRing.getServer(hashFunction.hashIdentificationKeys(identificationKeyValues)));
+    }
 
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
-        }
+    @Override
+    public void accept(final List<Endpoint> endpoints) {
+        updateHashRing();
+    }
+
+    private synchronized void updateHashRing() {
+        final List<String> endpoints = peerListProvider.getPeerList();
+        LOG.info("Building hash ring with endpoints: {}", endpoints);
 
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
+        final Set<String> servers = new LinkedHashSet<>(endpoints);
+        Ring newRing = ring;
 
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+        final Set<String> removedServers = ringServers.stream()
+                .filter(serverIp -> !servers.contains(serverIp))
+                .collect(Collectors.toSet());
+        if (!removedServers.isEmpty()) {
+            LOG.info("Removing endpoints from hash ring: {}", removedServers);
+            ringServers.removeAll(removedServers);
+            newRing = newRing.withoutServers(removedServers);
+        }
 
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
+        for (final String serverIp : servers) {
+            if (ringServers.add(serverIp)) {
+                newRing = newRing.withServer(serverIp, hashVirtualNodes(serverIp));
+            }
         }
+
+        this.ring = newRing;
     }
 
-    @Override
-    public void accept(final List<Endpoint> endpoints) {
-        buildHashServerMap();
+    private long[] hashVirtualNodes(final String serverIp) {
+        final long[] hashes = new long[numVirtualNodes];
+        for (int i = 0; i < numVirtualNodes; i++) {
+            hashes[i] = hashFunction.hashVirtualNode(serverIp, i);
+        }
+        Arrays.sort(hashes);
+        return hashes;
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
-        final List<String> endpoints = peerListProvider.getPeerList();
+    /**
+     * Immutable ring of virtual node hashes in ascending order along with the host owning each of them.
+     */
+    static class Ring {
+        static final Ring EMPTY = new Ring(new long[0], new String[0]);
 
-        LOG.info("Building hash ring with endpoints: {}", endpoints);
-        for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+        private final long[] hashes;
+        private final String[] servers;
+
+        private Ring(final long[] hashes, final String[] servers) {
+            this.hashes = hashes;
+            this.servers = servers;
         }
 
-        this.hashServerMap = newHashValueMap;
-    }
+        boolean isEmpty() {
+            return hashes.length == 0;
+        }
+
+        int size() {
+            return hashes.length;
+        }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+        /**
+         * Gets the host of the first virtual node with a hash greater than the given hash, wrapping around to the
+         * first virtual node when there is none.
+         */
+        String getServer(final long hash) {
+            int low = 0;
+            int high = hashes.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (hashes[middle] <= hash) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return servers[low == hashes.length ? 0 : low];
+        }
 
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+        /**
+         * Merges the sorted virtual node hashes of a host into the ring. Virtual nodes already on the ring keep their
+         * host when hashes collide.
+         */
+        Ring withServer(final String serverIp, final long[] serverHashes) {
+            final long[] mergedHashes = new long[hashes.length + serverHashes.length];
+            final String[] mergedServers = new String[mergedHashes.length];
+            int existing = 0;
+            int added = 0;
+            int size = 0;
+            while (existing < hashes.length || added < serverHashes.length) {
+                if (added == serverHashes.length
+                        || (existing < hashes.length && hashes[existing] <= serverHashes[added])) {
+                    if (added < serverHashes.length && hashes[existing] == serverHashes[added]) {
+                        added++;
+                    }
+                    mergedHashes[size] = hashes[existing];
+                    mergedServers[size] = servers[existing];
+                    existing++;
+                } else {
+                    if (size > 0 && mergedHashes[size - 1] == serverHashes[added]) {
+                        added++;
+                        continue;
+                    }
+                    mergedHashes[size] = serverHashes[added];
+                    mergedServers[size] = serverIp;
+                    added++;
+                }
+                size++;
+            }
+            return new Ring(Arrays.copyOf(mergedHashes, size), Arrays.copyOf(mergedServers, size));
         }
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+        Ring withoutServers(final Set<String> serverIps) {
+            final long[] remainingHashes = new long[hashes.length];
+            final String[] remainingServers = new String[hashes.length];
+            int size = 0;
+            for (int i = 0; i < hashes.length; i++) {
+                if (!serverIps.contains(servers[i])) {
+                    remainingHashes[size] = hashes[i];
+                    remainingServers[size] = servers[i];
+                    size++;
+                }
+            }
+            return new Ring(Arrays.copyOf(remainingHashes, size), Arrays.copyOf(remainingServers, size));
         }
     }
 }
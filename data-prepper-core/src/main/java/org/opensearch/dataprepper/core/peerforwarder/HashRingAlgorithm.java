@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The hashing algorithms available to the peer forwarder {@link HashRing}.
+ *
+ * @since 2.13
+ */
+public enum HashRingAlgorithm {
+    MD5("md5", new Md5PeerHashFunction()),
+    MURMUR3("murmur3", new Murmur3PeerHashFunction());
+
+    private static final Map<String, HashRingAlgorithm> STRING_NAME_TO_ENUM_MAP = new HashMap<>();
+
+    private final String name;
+    private final PeerHashFunction hashFunction;
+
+    static {
+        Arrays.stream(HashRingAlgorithm.values())
+                .forEach(enumValue -> STRING_NAME_TO_ENUM_MAP.put(enumValue.name, enumValue));
+    }
+
+    HashRingAlgorithm(final String name, final PeerHashFunction hashFunction) {
+        this.name = name;
+        this.hashFunction = hashFunction;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PeerHashFunction getHashFunction() {
+        return hashFunction;
+    }
+
+    static HashRingAlgorithm getByName(final String name) {
+        return Optional.ofNullable(STRING_NAME_TO_ENUM_MAP.get(name))
+                .orElseThrow(() -> new IllegalArgumentException("Unrecognized HashRingAlgorithm: " + name));
+    }
+}
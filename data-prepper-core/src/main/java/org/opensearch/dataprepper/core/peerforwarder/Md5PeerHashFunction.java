@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * MD5 based {@link PeerHashFunction}. Positions are the 64 most significant bits of the digest, so hosts and keys
+ * keep the same order on the ring as the original MD5 ring which used the full digest.
+ */
+class Md5PeerHashFunction implements PeerHashFunction {
+    private static final String MD5 = "MD5";
+    private static final String DELIMITER = ",";
+    private static final ThreadLocal<MessageDigest> MESSAGE_DIGEST = ThreadLocal.withInitial(Md5PeerHashFunction::createMessageDigest);
+
+    @Override
+    public long hashIdentificationKeys(final List<String> identificationKeyValues) {
+        final MessageDigest md = MESSAGE_DIGEST.get();
+        md.update(String.join(DELIMITER, identificationKeyValues).getBytes());
+        return mostSignificantBits(md.digest());
+    }
+
+    @Override
+    public long hashVirtualNode(final String serverIp, final int virtualNodeIndex) {
+        final MessageDigest md = MESSAGE_DIGEST.get();
+        md.update(serverIp.getBytes());
+        md.update(ByteBuffer.allocate(Integer.BYTES).putInt(virtualNodeIndex).array());
+        return mostSignificantBits(md.digest());
+    }
+
+    private static long mostSignificantBits(final byte[] digest) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (digest[i] & 0xff);
+        }
+        return value;
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(MD5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("unreachable", e);
+        }
+    }
+}
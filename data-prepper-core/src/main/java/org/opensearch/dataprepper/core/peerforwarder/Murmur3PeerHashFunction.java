@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.util.List;
+
+/**
+ * {@link PeerHashFunction} based on the 64-bit block mixing and finalization of MurmurHash3. It hashes the UTF-16
+ * characters of the values directly, four characters per block, so it does not allocate while hashing.
+ */
+class Murmur3PeerHashFunction implements PeerHashFunction {
+    private static final long SEED = 0x9747b28cL;
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final char DELIMITER = ',';
+    private static final String NULL_VALUE = "null";
+
+    @Override
+    public long hashIdentificationKeys(final List<String> identificationKeyValues) {
+        long hash = SEED;
+        long block = 0;
+        int length = 0;
+        boolean first = true;
+        for (final String identificationKeyValue : identificationKeyValues) {
+            if (first) {
+                first = false;
+            } else {
+                block |= (long) DELIMITER << ((length & 3) << 4);
+                if ((++length & 3) == 0) {
+                    hash = mixBlock(hash, block);
+                    block = 0;
+                }
+            }
+            final String value = identificationKeyValue == null ? NULL_VALUE : identificationKeyValue;
+            for (int i = 0; i < value.length(); i++) {
+                block |= (long) value.charAt(i) << ((length & 3) << 4);
+                if ((++length & 3) == 0) {
+                    hash = mixBlock(hash, block);
+                    block = 0;
+                }
+            }
+        }
+        return finish(hash, block, length);
+    }
+
+    @Override
+    public long hashVirtualNode(final String serverIp, final int virtualNodeIndex) {
+        long hash = SEED;
+        long block = 0;
+        int length = 0;
+        for (int i = 0; i < serverIp.length(); i++) {
+            block |= (long) serverIp.charAt(i) << ((length & 3) << 4);
+            if ((++length & 3) == 0) {
+                hash = mixBlock(hash, block);
+                block = 0;
+            }
+        }
+        hash = mixBlock(hash, block);
+        hash = mixBlock(hash, virtualNodeIndex);
+        return finish(hash, 0, length + Integer.BYTES);
+    }
+
+    private static long mixBlock(final long hash, final long block) {
+        long h = hash ^ mixKey(block);
+        h = Long.rotateLeft(h, 27);
+        return h * 5 + 0x52dce729;
+    }
+
+    private static long mixKey(final long key) {
+        long k = key * C1;
+        k = Long.rotateLeft(k, 31);
+        return k * C2;
+    }
+
+    private static long finish(final long hash, final long block, final int length) {
+        long h = hash ^ mixKey(block);
+        h ^= length;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb53fe1a85ec3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
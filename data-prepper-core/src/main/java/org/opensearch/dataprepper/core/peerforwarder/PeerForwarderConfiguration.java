@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -67,6 +68,9 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private ForwardingCodec forwardingCodec = ForwardingCodec.JAVA;
+    private CompressionOption forwardingCompression = CompressionOption.NONE;
+    private HashRingAlgorithm hashRingAlgorithm = HashRingAlgorithm.MD5;
     private List<Set<String>> excludeIdentificationKeys;
 
     public PeerForwarderConfiguration() {}
@@ -106,7 +110,10 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("hash_ring_algorithm") final String hashRingAlgorithm,
+            @JsonProperty("forwarding_codec") final String forwardingCodec,
+            @JsonProperty("forwarding_compression") final String forwardingCompression
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -141,6 +148,9 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setHashRingAlgorithm(hashRingAlgorithm);
+        setForwardingCodec(forwardingCodec);
+        setForwardingCompression(forwardingCompression);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
         this.excludeIdentificationKeys = excludeIdentificationKeys;
@@ -273,6 +283,18 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public HashRingAlgorithm getHashRingAlgorithm() {
+        return hashRingAlgorithm;
+    }
+
+    public ForwardingCodec getForwardingCodec() {
+        return forwardingCodec;
+    }
+
+    public CompressionOption getForwardingCompression() {
+        return forwardingCompression;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -566,4 +588,31 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setHashRingAlgorithm(final String hashRingAlgorithm) {
+        if (hashRingAlgorithm != null) {
+            this.hashRingAlgorithm = HashRingAlgorithm.getByName(hashRingAlgorithm);
+        }
+    }
+
+    private void setForwardingCodec(final String forwardingCodec) {
+        if (forwardingCodec != null) {
+            this.forwardingCodec = ForwardingCodec.getByName(forwardingCodec);
+        } else {
+            this.forwardingCodec = binaryCodec ? ForwardingCodec.JAVA : ForwardingCodec.JSON;
+        }
+    }
+
+    private void setForwardingCompression(final String forwardingCompression) {
+        if (forwardingCompression != null) {
+            final CompressionOption compressionOption = CompressionOption.fromOptionValue(forwardingCompression);
+            if (compressionOption == null || compressionOption == CompressionOption.AUTOMATIC) {
+                throw new IllegalArgumentException("Forwarding compression must be one of none, gzip, snappy or zstd.");
+            }
+            if (compressionOption != CompressionOption.NONE && forwardingCodec != ForwardingCodec.SMILE) {
+                throw new IllegalArgumentException("Forwarding compression is only supported by the smile forwarding codec.");
+            }
+            this.forwardingCompression = compressionOption;
+        }
+    }
 }
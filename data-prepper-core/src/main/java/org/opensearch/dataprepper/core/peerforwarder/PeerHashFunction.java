@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.util.List;
+
+/**
+ * Hashing strategy used by {@link HashRing} to place Data Prepper hosts and identification keys on the ring.
+ * Every Data Prepper host in a cluster must use the same strategy, otherwise they disagree on which host owns a key.
+ *
+ * @since 2.13
+ */
+public interface PeerHashFunction {
+    /**
+     * Hashes the identification key values of an event. The values are hashed as if they were joined with a comma.
+     *
+     * @param identificationKeyValues the identification key values, which may contain null values
+     * @return the position of the key values on the hash ring
+     */
+    long hashIdentificationKeys(List<String> identificationKeyValues);
+
+    /**
+     * Hashes one virtual node of a Data Prepper host.
+     *
+     * @param serverIp the address of the Data Prepper host
+     * @param virtualNodeIndex the index of the virtual node
+     * @return the position of the virtual node on the hash ring
+     */
+    long hashVirtualNode(String serverIp, int virtualNodeIndex);
+}
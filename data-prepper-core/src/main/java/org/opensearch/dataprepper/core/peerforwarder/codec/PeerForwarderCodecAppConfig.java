@@ -23,8 +23,14 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
-        return peerForwarderConfiguration.getBinaryCodec() ?
-                new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
+        switch (peerForwarderConfiguration.getForwardingCodec()) {
+            case SMILE:
+                return new SmilePeerForwarderCodec(peerForwarderConfiguration.getForwardingCompression());
+            case JSON:
+                return new JacksonPeerForwarderCodec(objectMapper);
+            default:
+                return new JavaPeerForwarderCodec(objectInputFilter);
+        }
     }
 
     @Bean(name = "peerForwarderObjectMapper")
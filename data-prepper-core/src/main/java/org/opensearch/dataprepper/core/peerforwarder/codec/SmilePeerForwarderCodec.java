@@ -0,0 +1,228 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A {@link PeerForwarderCodec} which writes events in the binary Smile format. Event data is written as a tree rather
+ * than as an embedded JSON string, so it is parsed once on the receiving host and adopted by the event as is.
+ * <p>
+ * The first byte of each request identifies the compression of the rest of the request. Receivers decompress with
+ * whatever the sender chose, so hosts can change their compression setting independently of each other.
+ *
+ * @since 2.13
+ */
+public class SmilePeerForwarderCodec implements PeerForwarderCodec {
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+
+    static final String DESTINATION_PLUGIN_ID = "destinationPluginId";
+    static final String DESTINATION_PIPELINE_NAME = "destinationPipelineName";
+    static final String EVENTS = "events";
+    static final String EVENT_TYPE = "eventType";
+    static final String TIME_RECEIVED = "timeReceived";
+    static final String EXTERNAL_ORIGINATION_TIME = "externalOriginationTime";
+    static final String ATTRIBUTES = "attributes";
+    static final String TAGS = "tags";
+    static final String DATA = "data";
+
+    /* The position of a compression option in this list is the value of the first byte of a request */
+    static final List<CompressionOption> FRAME_COMPRESSION_OPTIONS = List.of(
+            CompressionOption.NONE,
+            CompressionOption.GZIP,
+            CompressionOption.SNAPPY,
+            CompressionOption.ZSTD);
+
+    private final ObjectMapper objectMapper;
+    private final CompressionOption compressionOption;
+    private final int compressionFlag;
+
+    public SmilePeerForwarderCodec(final CompressionOption compressionOption) {
+        this.compressionOption = Objects.requireNonNull(compressionOption);
+        this.compressionFlag = FRAME_COMPRESSION_OPTIONS.indexOf(compressionOption);
+        if (compressionFlag < 0) {
+            throw new IllegalArgumentException("Unsupported forwarding compression: " + compressionOption);
+        }
+        this.objectMapper = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        byteArrayOutputStream.write(compressionFlag);
+        try (final OutputStream outputStream = compressionOption.getCompressionEngine().createOutputStream(byteArrayOutputStream);
+             final JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            writePeerForwardingEvents(generator, peerForwardingEvents);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        if (bytes.length == 0) {
+            throw new IOException("Unable to deserialize an empty peer forwarding request.");
+        }
+        final int flag = bytes[0];
+        if (flag < 0 || flag >= FRAME_COMPRESSION_OPTIONS.size()) {
+            throw new IOException("Unrecognized peer forwarding request compression: " + flag);
+        }
+
+        final JsonNode root;
+        try (final InputStream inputStream = FRAME_COMPRESSION_OPTIONS.get(flag).getDecompressionEngine()
+                .createInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            root = objectMapper.readTree(inputStream);
+        }
+        if (root == null || !root.isObject()) {
+            throw new IOException("Peer forwarding request is not an object.");
+        }
+        return readPeerForwardingEvents(root);
+    }
+
+    private void writePeerForwardingEvents(final JsonGenerator generator,
+                                           final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(DESTINATION_PLUGIN_ID, peerForwardingEvents.getDestinationPluginId());
+        generator.writeStringField(DESTINATION_PIPELINE_NAME, peerForwardingEvents.getDestinationPipelineName());
+        if (peerForwardingEvents.getEvents() != null) {
+            generator.writeArrayFieldStart(EVENTS);
+            for (final Event event : peerForwardingEvents.getEvents()) {
+                writeEvent(generator, event);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeEvent(final JsonGenerator generator, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        generator.writeStartObject();
+        generator.writeStringField(EVENT_TYPE, eventMetadata.getEventType());
+        writeInstant(generator, TIME_RECEIVED, eventMetadata.getTimeReceived());
+        writeInstant(generator, EXTERNAL_ORIGINATION_TIME, eventMetadata.getExternalOriginationTime());
+        if (eventMetadata.getAttributes() != null && !eventMetadata.getAttributes().isEmpty()) {
+            generator.writeFieldName(ATTRIBUTES);
+            generator.writeObject(eventMetadata.getAttributes());
+        }
+        if (eventMetadata.getTags() != null && !eventMetadata.getTags().isEmpty()) {
+            generator.writeArrayFieldStart(TAGS);
+            for (final String tag : eventMetadata.getTags()) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(DATA);
+        generator.writeTree(event.getJsonNode());
+        generator.writeEndObject();
+    }
+
+    private static void writeInstant(final JsonGenerator generator, final String fieldName, final Instant instant) throws IOException {
+        if (instant != null) {
+            generator.writeArrayFieldStart(fieldName);
+            generator.writeNumber(instant.getEpochSecond());
+            generator.writeNumber(instant.getNano());
+            generator.writeEndArray();
+        }
+    }
+
+    private PeerForwardingEvents readPeerForwardingEvents(final JsonNode root) throws IOException {
+        List<Event> eventList = null;
+        final JsonNode eventsNode = root.get(EVENTS);
+        if (eventsNode != null && !eventsNode.isNull()) {
+            if (!eventsNode.isArray()) {
+                throw new IOException("Peer forwarding request events are not an array.");
+            }
+            eventList = new ArrayList<>(eventsNode.size());
+            for (final JsonNode eventNode : eventsNode) {
+                eventList.add(readEvent(eventNode));
+            }
+        }
+        return new PeerForwardingEvents(eventList, getText(root, DESTINATION_PLUGIN_ID), getText(root, DESTINATION_PIPELINE_NAME));
+    }
+
+    private Event readEvent(final JsonNode eventNode) throws IOException {
+        final JsonNode dataNode = eventNode.get(DATA);
+        if (!(dataNode instanceof ObjectNode)) {
+            throw new IOException("Peer forwarded event does not contain an object for its data.");
+        }
+
+        final String eventType = getText(eventNode, EVENT_TYPE);
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(readInstant(eventNode.get(TIME_RECEIVED)))
+                .withExternalOriginationTime(readInstant(eventNode.get(EXTERNAL_ORIGINATION_TIME)))
+                .withAttributes(readAttributes(eventNode.get(ATTRIBUTES)))
+                .withTags(readTags(eventNode.get(TAGS)))
+                .build();
+
+        if (TRACE_EVENT_TYPE.equalsIgnoreCase(eventType)) {
+            return JacksonSpan.builder()
+                    .withData(dataNode)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withAdoptedData((ObjectNode) dataNode)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private Map<String, Object> readAttributes(final JsonNode attributesNode) {
+        if (attributesNode == null || attributesNode.isNull()) {
+            return null;
+        }
+        return objectMapper.convertValue(attributesNode, MAP_TYPE_REFERENCE);
+    }
+
+    private static Set<String> readTags(final JsonNode tagsNode) {
+        if (tagsNode == null || !tagsNode.isArray()) {
+            return null;
+        }
+        final Set<String> tags = new HashSet<>(tagsNode.size());
+        for (final JsonNode tagNode : tagsNode) {
+            tags.add(tagNode.asText());
+        }
+        return tags;
+    }
+
+    private static Instant readInstant(final JsonNode instantNode) {
+        if (instantNode == null || !instantNode.isArray() || instantNode.size() != 2) {
+            return null;
+        }
+        return Instant.ofEpochSecond(instantNode.get(0).asLong(), instantNode.get(1).asLong());
+    }
+
+    private static String getText(final JsonNode node, final String fieldName) {
+        final JsonNode valueNode = node.get(fieldName);
+        return valueNode == null || valueNode.isNull() ? null : valueNode.asText();
+    }
+}
@@ -66,6 +66,7 @@ public class Pipeline {
     private final SourceCoordinatorFactory sourceCoordinatorFactory;
     private final int processorThreads;
     private final int readBatchTimeoutInMillis;
+    private final int maxPendingSinkBatches;
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
@@ -113,6 +114,48 @@ public class Pipeline {
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
             final Duration peerForwarderDrainTimeout) {
+        this(name, source, buffer, processorSets, sinks, router, eventFactory, acknowledgementSetManager,
+                sourceCoordinatorFactory, processorThreads, readBatchTimeoutInMillis, 0,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} whose process workers may read and process up to maxPendingSinkBatches batches
+     * ahead of the batches still being published to the sinks.
+     *
+     * @param name                      name of the pipeline
+     * @param source                    source from where the pipeline reads the records
+     * @param buffer                    buffer for the source to queue records
+     * @param processorSets             processor sets that will be applied to records
+     * @param sinks                     sink to which the transformed records are posted
+     * @param router                    router object for routing in the pipeline
+     * @param eventFactory              event factory to create events
+     * @param acknowledgementSetManager acknowledgement set manager
+     * @param sourceCoordinatorFactory  source coordinator factory that enables coordination between different instances/threads of sources
+     * @param processorThreads          configured or default threads to parallelize processor work
+     * @param readBatchTimeoutInMillis  configured or default timeout for reading batch of records from buffer
+     * @param maxPendingSinkBatches     configured or default number of batches per process worker which may still be publishing to sinks
+     * @param processorShutdownTimeout  configured or default timeout before forcefully terminating the processor workers
+     * @param sinkShutdownTimeout       configured or default timeout before forcefully terminating the sink workers
+     * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            @Nonnull final EventFactory eventFactory,
+            @Nonnull final AcknowledgementSetManager acknowledgementSetManager,
+            final SourceCoordinatorFactory sourceCoordinatorFactory,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final int maxPendingSinkBatches,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout) {
+        Preconditions.checkArgument(maxPendingSinkBatches >= 0, "maxPendingSinkBatches must not be negative");
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
         this.name = name;
@@ -126,6 +169,7 @@ public class Pipeline {
         this.eventFactory = eventFactory;
         this.acknowledgementSetManager = acknowledgementSetManager;
         this.readBatchTimeoutInMillis = readBatchTimeoutInMillis;
+        this.maxPendingSinkBatches = maxPendingSinkBatches;
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
@@ -133,7 +177,8 @@ public class Pipeline {
                 new PipelineThreadFactory(format("%s-processor-worker", name)), this);
 
         // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+        // Each process worker can have up to maxPendingSinkBatches batches publishing at once.
+        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads * Math.max(1, maxPendingSinkBatches),
                 new PipelineThreadFactory(format("%s-sink-worker", name)), this);
 
         this.pipelineShutdown = new PipelineShutdown(name, buffer);
@@ -203,6 +248,10 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    public int getMaxPendingSinkBatches() {
+        return maxPendingSinkBatches;
+    }
+
     public boolean isReady() {
         for (final Sink sink : getSinks()) {
             if (!sink.isReady()) {
@@ -13,5 +13,10 @@ package org.opensearch.dataprepper.core.pipeline;
 public interface PipelineRunner {
     void runAllProcessorsAndPublishToSinks();
 
+    /**
+     * Waits for every batch which is still publishing to sinks and checkpoints it.
+     */
+    void awaitPendingSinkBatches();
+
     Pipeline getPipeline();
 }
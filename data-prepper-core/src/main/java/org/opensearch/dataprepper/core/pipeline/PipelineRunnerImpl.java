@@ -21,8 +21,10 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,11 +39,26 @@ public class PipelineRunnerImpl implements PipelineRunner {
     final Counter invalidEventHandlesCounter;
     private final Pipeline pipeline;
     private final PluginMetrics pluginMetrics;
+    private final int maxPendingSinkBatches;
+    private final Deque<PendingSinkBatch> pendingSinkBatches = new ArrayDeque<>();
 
     public PipelineRunnerImpl(final Pipeline pipeline) {
+        this(pipeline, 0);
+    }
+
+    /**
+     * Creates a runner which may keep reading and processing batches while earlier batches are still being
+     * published to the sinks.
+     *
+     * @param pipeline              the pipeline to run
+     * @param maxPendingSinkBatches the maximum number of batches which may still be publishing to sinks when the
+     *                              next batch is read. 0 waits for the sinks before every read.
+     */
+    public PipelineRunnerImpl(final Pipeline pipeline, final int maxPendingSinkBatches) {
         this.pipeline = pipeline;
         this.pluginMetrics = PluginMetrics.fromNames("PipelineRunner", pipeline.getName());
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
+        this.maxPendingSinkBatches = maxPendingSinkBatches;
     }
 
     @Override
@@ -51,9 +68,46 @@ public class PipelineRunnerImpl implements PipelineRunner {
         final CheckpointState checkpointState = recordsReadFromBuffer.getValue();
         List<Processor> currentProcessors = pipeline.getProcessorProvider().getProcessors();
         records = runProcessorsAndProcessAcknowledgements(currentProcessors, records);
-        postToSink(getPipeline(), records);
-        // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-        getBuffer().checkpoint(checkpointState);
+        if (maxPendingSinkBatches == 0) {
+            postToSink(getPipeline(), records);
+            // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
+            getBuffer().checkpoint(checkpointState);
+            return;
+        }
+
+        LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
+        pendingSinkBatches.addLast(new PendingSinkBatch(getPipeline().publishToSinks(records), checkpointState));
+        checkpointCompletedSinkBatches();
+    }
+
+    @Override
+    public void awaitPendingSinkBatches() {
+        while (!pendingSinkBatches.isEmpty()) {
+            checkpointOldestSinkBatch();
+        }
+    }
+
+    /**
+     * Checkpoints pending batches in the order they were read, for as long as the oldest has finished publishing
+     * to sinks. Waits for the oldest batches when more than {@link #maxPendingSinkBatches} are pending.
+     */
+    @VisibleForTesting
+    void checkpointCompletedSinkBatches() {
+        while (!pendingSinkBatches.isEmpty() &&
+                (pendingSinkBatches.size() > maxPendingSinkBatches || pendingSinkBatches.peekFirst().isDone())) {
+            checkpointOldestSinkBatch();
+        }
+    }
+
+    @VisibleForTesting
+    int getPendingSinkBatchCount() {
+        return pendingSinkBatches.size();
+    }
+
+    private void checkpointOldestSinkBatch() {
+        final PendingSinkBatch pendingSinkBatch = pendingSinkBatches.removeFirst();
+        FutureHelper.awaitFuturesIndefinitely(pendingSinkBatch.sinkFutures);
+        getBuffer().checkpoint(pendingSinkBatch.checkpointState);
     }
 
     @VisibleForTesting
@@ -141,4 +195,18 @@ public class PipelineRunnerImpl implements PipelineRunner {
     Buffer getBuffer() {
         return getPipeline().getBuffer();
     }
+
+    private static class PendingSinkBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private PendingSinkBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        private boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
+    }
 }
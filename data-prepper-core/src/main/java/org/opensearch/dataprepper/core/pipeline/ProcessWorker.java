@@ -28,7 +28,7 @@ public class ProcessWorker implements Runnable {
         this.readBuffer = readBuffer;
         this.processors = pipeline.getProcessorProvider().getProcessors();
         this.pipeline = pipeline;
-        this.pipelineRunner = new PipelineRunnerImpl(pipeline);
+        this.pipelineRunner = new PipelineRunnerImpl(pipeline, pipeline.getMaxPendingSinkBatches());
     }
 
     @Override
@@ -39,6 +39,7 @@ public class ProcessWorker implements Runnable {
                 doRun();
             }
             executeShutdownProcess();
+            pipelineRunner.awaitPendingSinkBatches();
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
         }
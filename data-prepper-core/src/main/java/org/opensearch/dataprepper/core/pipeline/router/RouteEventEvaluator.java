@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.core.pipeline.router;
 
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.event.Event;
@@ -12,12 +13,16 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 class RouteEventEvaluator {
 
@@ -25,14 +30,18 @@ class RouteEventEvaluator {
 
     private final ExpressionEvaluator evaluator;
     private final Collection<ConditionalRoute> routes;
+    private final Map<String, CompiledExpression> compiledConditions;
 
     RouteEventEvaluator(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
         this.evaluator = evaluator;
         this.routes = routes;
+        this.compiledConditions = new ConcurrentHashMap<>();
     }
 
     Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
         final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+        final List<Record> eventRecords = new ArrayList<>(records.size());
+        final List<Event> events = new ArrayList<>(records.size());
 
         int nonEventRecords = 0;
 
@@ -41,15 +50,19 @@ class RouteEventEvaluator {
             final Object data = record.getData();
 
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+                eventRecords.add(record);
+                events.add((Event) data);
+                recordsToRoutes.put(record, new HashSet<>());
             } else {
                 nonEventRecords++;
                 recordsToRoutes.put(record, Collections.emptySet());
             }
         }
 
+        if (!events.isEmpty() && !routes.isEmpty()) {
+            findMatchedRoutes(eventRecords, events, recordsToRoutes);
+        }
+
         if (nonEventRecords > 0) {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
@@ -57,12 +70,52 @@ class RouteEventEvaluator {
         return recordsToRoutes;
     }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
+    /**
+     * Evaluates all routes against the whole batch of events at once so that the evaluator can share work across
+     * routes. If any route fails for any event, the batch is evaluated again one route and event at a time so that
+     * only the failing route and event are excluded.
+     */
+    private void findMatchedRoutes(final List<Record> eventRecords,
+                                   final List<Event> events,
+                                   final Map<Record, Set<String>> recordsToRoutes) {
+        final List<ConditionalRoute> compiledRoutes = new ArrayList<>(routes.size());
+        final List<CompiledExpression> conditions = new ArrayList<>(routes.size());
         for (ConditionalRoute route : routes) {
             try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
+                conditions.add(getCompiledCondition(route));
+                compiledRoutes.add(route);
+            } catch (final Exception ex) {
+                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+            }
+        }
+
+        final List<BitSet> matchedEvents;
+        try {
+            matchedEvents = evaluator.evaluateConditionals(conditions, events);
+        } catch (final Exception ex) {
+            for (int i = 0; i < eventRecords.size(); i++) {
+                recordsToRoutes.get(eventRecords.get(i)).addAll(findMatchedRoutes(events.get(i), compiledRoutes, conditions));
+            }
+            return;
+        }
+
+        for (int routeIndex = 0; routeIndex < compiledRoutes.size(); routeIndex++) {
+            final String routeName = compiledRoutes.get(routeIndex).getName();
+            final BitSet matches = matchedEvents.get(routeIndex);
+            for (int eventIndex = matches.nextSetBit(0); eventIndex >= 0; eventIndex = matches.nextSetBit(eventIndex + 1)) {
+                recordsToRoutes.get(eventRecords.get(eventIndex)).add(routeName);
+            }
+        }
+    }
+
+    private Set<String> findMatchedRoutes(final Event event,
+                                          final List<ConditionalRoute> compiledRoutes,
+                                          final List<CompiledExpression> conditions) {
+        final Set<String> matchRoutes = new HashSet<>();
+        for (int i = 0; i < compiledRoutes.size(); i++) {
+            try {
+                if (conditions.get(i).evaluateConditional(event)) {
+                    matchRoutes.add(compiledRoutes.get(i).getName());
                 }
             } catch (final Exception ex) {
                 LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
@@ -70,4 +123,12 @@ class RouteEventEvaluator {
         }
         return matchRoutes;
     }
+
+    /**
+     * Compiles each route condition the first time it is needed. A condition which fails to compile is not cached,
+     * so it is attempted and reported again for each batch of events.
+     */
+    private CompiledExpression getCompiledCondition(final ConditionalRoute route) {
+        return compiledConditions.computeIfAbsent(route.getCondition(), evaluator::compile);
+    }
 }
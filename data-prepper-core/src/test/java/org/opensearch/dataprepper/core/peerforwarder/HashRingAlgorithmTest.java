@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class HashRingAlgorithmTest {
+
+    @ParameterizedTest
+    @ArgumentsSource(EnumToStringNameArgumentsProvider.class)
+    void getName_returns_expected_value(final HashRingAlgorithm enumValue, final String expectedName) {
+        assertThat(enumValue.getName(), equalTo(expectedName));
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void getByName_returns_correct_enum_from_expected_name(final HashRingAlgorithm enumValue) {
+        assertThat(HashRingAlgorithm.getByName(enumValue.getName()), equalTo(enumValue));
+    }
+
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void getHashFunction_returns_non_null_value(final HashRingAlgorithm enumValue) {
+        assertThat(enumValue.getHashFunction(), notNullValue());
+    }
+
+    @Test
+    void getHashFunction_returns_expected_implementations() {
+        assertThat(HashRingAlgorithm.MD5.getHashFunction(), instanceOf(Md5PeerHashFunction.class));
+        assertThat(HashRingAlgorithm.MURMUR3.getHashFunction(), instanceOf(Murmur3PeerHashFunction.class));
+    }
+
+    @Test
+    void getByName_throws_for_null() {
+        assertThrows(IllegalArgumentException.class, () -> HashRingAlgorithm.getByName(null));
+    }
+
+    @Test
+    void getByName_throws_for_unrecognized_non_empty_name() {
+        assertThrows(IllegalArgumentException.class, () -> HashRingAlgorithm.getByName(UUID.randomUUID().toString()));
+    }
+
+    private static class EnumToStringNameArgumentsProvider implements ArgumentsProvider {
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext context) {
+            return Stream.of(
+                    arguments(HashRingAlgorithm.MD5, "md5"),
+                    arguments(HashRingAlgorithm.MURMUR3, "murmur3")
+            );
+        }
+    }
+}
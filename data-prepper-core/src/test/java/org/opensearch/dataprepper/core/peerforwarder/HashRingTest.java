@@ -14,10 +14,16 @@ import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -133,4 +139,130 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetServerIpWithMurmur3SameIdentificationKeys() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MURMUR3.getHashFunction());
+
+        Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
+        Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
+
+        Assertions.assertTrue(result1.isPresent());
+        Assertions.assertTrue(SERVER_IPS.contains(result1.get()));
+        Assertions.assertEquals(result1, result2);
+    }
+
+    @Test
+    void testGetServerIpWithMurmur3UsesAllServers() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MURMUR3.getHashFunction());
+
+        final Map<String, Integer> keysPerServer = new HashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            keysPerServer.merge(hashRing.getServerIp(List.of("key" + i)).orElseThrow(), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(new HashSet<>(SERVER_IPS), keysPerServer.keySet());
+        keysPerServer.values().forEach(count -> Assertions.assertTrue(count > 500));
+    }
+
+    @Test
+    void testEndpointChangeOnlyHashesAddedServers() {
+        final PeerHashFunction hashFunction = spy(new Murmur3PeerHashFunction());
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, hashFunction);
+
+        when(peerListProvider.getPeerList()).thenReturn(List.of("10.10.0.1", "10.10.0.3", "10.10.0.4"));
+        hashRing.accept(Collections.emptyList());
+
+        verify(hashFunction, times(MULTIPLE_VIRTUAL_NODE_COUNT)).hashVirtualNode(eq("10.10.0.1"), anyInt());
+        verify(hashFunction, times(MULTIPLE_VIRTUAL_NODE_COUNT)).hashVirtualNode(eq("10.10.0.2"), anyInt());
+        verify(hashFunction, times(MULTIPLE_VIRTUAL_NODE_COUNT)).hashVirtualNode(eq("10.10.0.3"), anyInt());
+        verify(hashFunction, times(MULTIPLE_VIRTUAL_NODE_COUNT)).hashVirtualNode(eq("10.10.0.4"), anyInt());
+    }
+
+    @Test
+    void testAddingServerOnlyMovesKeysToAddedServer() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MURMUR3.getHashFunction());
+        final Map<String, String> serverPerKey = getServerPerKey();
+
+        when(peerListProvider.getPeerList()).thenReturn(List.of("10.10.0.1", "10.10.0.2", "10.10.0.3", "10.10.0.4"));
+        hashRing.accept(Collections.emptyList());
+
+        int movedKeys = 0;
+        for (final Map.Entry<String, String> entry : serverPerKey.entrySet()) {
+            final String server = hashRing.getServerIp(List.of(entry.getKey())).orElseThrow();
+            if (!server.equals(entry.getValue())) {
+                Assertions.assertEquals("10.10.0.4", server);
+                movedKeys++;
+            }
+        }
+        Assertions.assertTrue(movedKeys > 0);
+    }
+
+    @Test
+    void testRemovingServerOnlyMovesKeysOfRemovedServer() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        final Map<String, String> serverPerKey = getServerPerKey();
+
+        when(peerListProvider.getPeerList()).thenReturn(List.of("10.10.0.1", "10.10.0.3"));
+        hashRing.accept(Collections.emptyList());
+
+        for (final Map.Entry<String, String> entry : serverPerKey.entrySet()) {
+            final String server = hashRing.getServerIp(List.of(entry.getKey())).orElseThrow();
+            if (!entry.getValue().equals("10.10.0.2")) {
+                Assertions.assertEquals(entry.getValue(), server);
+            } else {
+                Assertions.assertNotEquals("10.10.0.2", server);
+            }
+        }
+    }
+
+    @Test
+    void testIncrementalRebuildMatchesNewHashRing() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MURMUR3.getHashFunction());
+
+        when(peerListProvider.getPeerList()).thenReturn(List.of("10.10.0.3", "10.10.0.4", "10.10.0.1"));
+        hashRing.accept(Collections.emptyList());
+
+        final HashRing newHashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, HashRingAlgorithm.MURMUR3.getHashFunction());
+        for (int i = 0; i < 1000; i++) {
+            final List<String> identificationKeyValues = List.of("key" + i);
+            Assertions.assertEquals(newHashRing.getServerIp(identificationKeyValues), hashRing.getServerIp(identificationKeyValues));
+        }
+    }
+
+    @Test
+    void testRingMergeKeepsExistingServerOnCollision() {
+        final HashRing.Ring ring = HashRing.Ring.EMPTY
+                .withServer("a", new long[] {5})
+                .withServer("b", new long[] {1, 5, 5, 9});
+
+        Assertions.assertEquals(3, ring.size());
+        Assertions.assertEquals("a", ring.getServer(4));
+        Assertions.assertEquals("b", ring.getServer(5));
+        Assertions.assertEquals("b", ring.getServer(0));
+        Assertions.assertEquals("b", ring.getServer(9));
+        Assertions.assertEquals("b", ring.getServer(Long.MIN_VALUE));
+    }
+
+    @Test
+    void testRingWithoutServers() {
+        final HashRing.Ring ring = HashRing.Ring.EMPTY
+                .withServer("a", new long[] {-3, 5})
+                .withServer("b", new long[] {1, 9})
+                .withoutServers(Collections.singleton("b"));
+
+        Assertions.assertEquals(2, ring.size());
+        Assertions.assertEquals("a", ring.getServer(1));
+        Assertions.assertEquals("a", ring.getServer(9));
+        Assertions.assertTrue(ring.withoutServers(Collections.singleton("a")).isEmpty());
+    }
+
+    private Map<String, String> getServerPerKey() {
+        final Map<String, String> serverPerKey = new HashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            final String key = "key" + i;
+            serverPerKey.put(key, hashRing.getServerIp(List.of(key)).orElseThrow());
+        }
+        return serverPerKey;
+    }
+}
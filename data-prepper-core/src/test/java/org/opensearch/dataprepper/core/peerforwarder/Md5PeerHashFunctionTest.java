@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Md5PeerHashFunctionTest {
+
+    private Md5PeerHashFunction createObjectUnderTest() {
+        return new Md5PeerHashFunction();
+    }
+
+    @Test
+    void hashIdentificationKeys_returns_most_significant_bits_of_md5_digest() throws NoSuchAlgorithmException {
+        final byte[] digest = MessageDigest.getInstance("MD5").digest("key1,key2".getBytes());
+
+        assertThat(createObjectUnderTest().hashIdentificationKeys(List.of("key1", "key2")),
+                equalTo(new BigInteger(digest).shiftRight(64).longValue()));
+    }
+
+    @Test
+    void hashVirtualNode_returns_most_significant_bits_of_md5_digest() throws NoSuchAlgorithmException {
+        final MessageDigest md = MessageDigest.getInstance("MD5");
+        md.update("10.10.0.1".getBytes());
+        md.update(ByteBuffer.allocate(4).putInt(7).array());
+        final byte[] digest = md.digest();
+
+        assertThat(createObjectUnderTest().hashVirtualNode("10.10.0.1", 7),
+                equalTo(new BigInteger(digest).shiftRight(64).longValue()));
+    }
+
+    @Test
+    void hashIdentificationKeys_hashes_null_values_as_null_string() {
+        final Md5PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hashIdentificationKeys(Arrays.asList("key1", null)),
+                equalTo(objectUnderTest.hashIdentificationKeys(List.of("key1", "null"))));
+    }
+
+    @Test
+    void hashIdentificationKeys_is_repeatable() {
+        final Md5PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of("key1")),
+                equalTo(objectUnderTest.hashIdentificationKeys(List.of("key1"))));
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of("key1")),
+                not(equalTo(objectUnderTest.hashIdentificationKeys(List.of("key_2")))));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Murmur3PeerHashFunctionTest {
+
+    private Murmur3PeerHashFunction createObjectUnderTest() {
+        return new Murmur3PeerHashFunction();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "a", "ab", "abc", "abcd", "abcde", "10.10.0.1", "a-much-longer-identification-key"})
+    void hashIdentificationKeys_is_repeatable(final String value) {
+        final Murmur3PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of(value)),
+                equalTo(createObjectUnderTest().hashIdentificationKeys(List.of(value))));
+    }
+
+    @Test
+    void hashIdentificationKeys_hashes_values_as_if_joined_with_comma() {
+        final Murmur3PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of("key1", "key2", "key3")),
+                equalTo(objectUnderTest.hashIdentificationKeys(List.of("key1,key2,key3"))));
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of("", "key1")),
+                equalTo(objectUnderTest.hashIdentificationKeys(List.of(",key1"))));
+    }
+
+    @Test
+    void hashIdentificationKeys_hashes_null_values_as_null_string() {
+        final Murmur3PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hashIdentificationKeys(Arrays.asList("key1", null)),
+                equalTo(objectUnderTest.hashIdentificationKeys(List.of("key1", "null"))));
+    }
+
+    @Test
+    void hashIdentificationKeys_distinguishes_values() {
+        final Murmur3PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of("key1")),
+                not(equalTo(objectUnderTest.hashIdentificationKeys(List.of("key_2")))));
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of("ab")),
+                not(equalTo(objectUnderTest.hashIdentificationKeys(List.of("ba")))));
+        assertThat(objectUnderTest.hashIdentificationKeys(List.of("a")),
+                not(equalTo(objectUnderTest.hashIdentificationKeys(List.of("a\u0000")))));
+        assertThat(objectUnderTest.hashIdentificationKeys(Collections.emptyList()),
+                not(equalTo(objectUnderTest.hashIdentificationKeys(List.of(",")))));
+    }
+
+    @Test
+    void hashIdentificationKeys_has_no_collisions_for_sequential_keys() {
+        final Murmur3PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        final Set<Long> hashes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            hashes.add(objectUnderTest.hashIdentificationKeys(List.of("trace-" + i)));
+        }
+
+        assertThat(hashes.size(), equalTo(10_000));
+    }
+
+    @Test
+    void hashVirtualNode_distinguishes_servers_and_indexes() {
+        final Murmur3PeerHashFunction objectUnderTest = createObjectUnderTest();
+
+        final Set<Long> hashes = new HashSet<>();
+        for (final String serverIp : List.of("10.10.0.1", "10.10.0.2", "10.10.0.3")) {
+            for (int i = 0; i < 128; i++) {
+                hashes.add(objectUnderTest.hashVirtualNode(serverIp, i));
+            }
+        }
+
+        assertThat(hashes.size(), equalTo(3 * 128));
+        assertThat(objectUnderTest.hashVirtualNode("10.10.0.1", 3), equalTo(createObjectUnderTest().hashVirtualNode("10.10.0.1", 3)));
+    }
+}
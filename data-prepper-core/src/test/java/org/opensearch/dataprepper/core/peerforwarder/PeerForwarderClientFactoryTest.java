@@ -22,6 +22,8 @@ import org.opensearch.dataprepper.plugins.certificate.CertificateProvider;
 import org.opensearch.dataprepper.plugins.certificate.model.Certificate;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -54,11 +56,24 @@ class PeerForwarderClientFactoryTest {
     void testCreateHashRing_with_endpoints_should_return() {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
         when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getHashRingAlgorithm()).thenReturn(HashRingAlgorithm.MD5);
 
         HashRing hashRing = createObjectUnderTest().createHashRing();
         assertThat(hashRing, new IsInstanceOf(HashRing.class));
     }
 
+    @ParameterizedTest
+    @EnumSource(HashRingAlgorithm.class)
+    void testCreateHashRing_uses_configured_hash_ring_algorithm(final HashRingAlgorithm hashRingAlgorithm) {
+        when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
+        when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getHashRingAlgorithm()).thenReturn(hashRingAlgorithm);
+
+        final HashRing hashRing = createObjectUnderTest().createHashRing();
+
+        assertThat(hashRing.getServerIp(List.of("key1")), equalTo(Optional.of("10.10.0.1")));
+    }
+
     @Test
     void testCreateHashRing_without_endpoints_should_throw() {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
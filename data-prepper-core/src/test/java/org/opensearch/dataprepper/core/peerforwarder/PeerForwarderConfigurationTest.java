@@ -16,6 +16,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.TestDataProvider;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 
 import java.io.File;
 import java.io.IOException;
@@ -67,6 +68,9 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getHashRingAlgorithm(), equalTo(HashRingAlgorithm.MD5));
+        assertThat(peerForwarderConfiguration.getForwardingCodec(), equalTo(ForwardingCodec.JAVA));
+        assertThat(peerForwarderConfiguration.getForwardingCompression(), equalTo(CompressionOption.NONE));
     }
 
     @Test
@@ -100,6 +104,18 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getHashRingAlgorithm(), equalTo(HashRingAlgorithm.MURMUR3));
+        assertThat(peerForwarderConfiguration.getForwardingCodec(), equalTo(ForwardingCodec.JSON));
+        assertThat(peerForwarderConfiguration.getForwardingCompression(), equalTo(CompressionOption.NONE));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_smile_codec() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_smile_codec.yml");
+
+        assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getForwardingCodec(), equalTo(ForwardingCodec.SMILE));
+        assertThat(peerForwarderConfiguration.getForwardingCompression(), equalTo(CompressionOption.ZSTD));
     }
 
     @Test
@@ -196,7 +212,11 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
-            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
+            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml",
+            "src/test/resources/invalid_peer_forwarder_config_with_hash_ring_algorithm.yml",
+            "src/test/resources/invalid_peer_forwarder_config_with_forwarding_codec.yml",
+            "src/test/resources/invalid_peer_forwarder_config_with_forwarding_compression.yml",
+            "src/test/resources/invalid_peer_forwarder_config_with_compression_without_smile_codec.yml"
     })
     void invalid_InvalidPeerForwarderConfig_test(final String filePath) {
         assertThrows(ValueInstantiationException.class, () -> makeConfig(filePath));
@@ -546,7 +546,10 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                binaryCodec,
+                null,
+                null,
+                null
         );
     }
 }
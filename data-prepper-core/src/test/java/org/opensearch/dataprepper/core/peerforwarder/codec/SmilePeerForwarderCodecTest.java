@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SmilePeerForwarderCodecTest {
+    private String pipelineName;
+    private String pluginId;
+
+    @BeforeEach
+    void setUp() {
+        pipelineName = UUID.randomUUID().toString();
+        pluginId = UUID.randomUUID().toString();
+    }
+
+    private SmilePeerForwarderCodec createObjectUnderTest(final CompressionOption compressionOption) {
+        return new SmilePeerForwarderCodec(compressionOption);
+    }
+
+    @Test
+    void constructor_with_null_compression_throws_exception() {
+        assertThrows(NullPointerException.class, () -> createObjectUnderTest(null));
+    }
+
+    @Test
+    void constructor_with_automatic_compression_throws_exception() {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(CompressionOption.AUTOMATIC));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CompressionOption.class, names = {"NONE", "GZIP", "SNAPPY", "ZSTD"})
+    void testCodec(final CompressionOption compressionOption) throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(3);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(compressionOption);
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(pipelineName));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+        assertThat(outputEvents.getEvents().size(), equalTo(3));
+        for (int i = 0; i < 3; i++) {
+            final Event inputEvent = inputEvents.getEvents().get(i);
+            final Event outputEvent = outputEvents.getEvents().get(i);
+            assertThat(outputEvent.toMap(), equalTo(inputEvent.toMap()));
+            assertThat(outputEvent.getMetadata().getEventType(), equalTo(inputEvent.getMetadata().getEventType()));
+            assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(inputEvent.getMetadata().getTimeReceived()));
+            assertThat(outputEvent.getMetadata().getExternalOriginationTime(), equalTo(inputEvent.getMetadata().getExternalOriginationTime()));
+            assertThat(outputEvent.getMetadata().getAttributes(), equalTo(inputEvent.getMetadata().getAttributes()));
+            assertThat(outputEvent.getMetadata().getTags(), equalTo(inputEvent.getMetadata().getTags()));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = CompressionOption.class, names = {"NONE", "GZIP", "SNAPPY", "ZSTD"})
+    void deserialize_uses_compression_of_the_request(final CompressionOption compressionOption) throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(2);
+        final byte[] bytes = createObjectUnderTest(compressionOption).serialize(inputEvents);
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest(CompressionOption.NONE).deserialize(bytes);
+
+        assertThat(outputEvents.getEvents().size(), equalTo(2));
+        assertThat(outputEvents.getEvents().get(0).toMap(), equalTo(inputEvents.getEvents().get(0).toMap()));
+    }
+
+    @Test
+    void testCodec_with_span() throws IOException {
+        final JacksonSpan span = JacksonSpan.builder()
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceGroup(UUID.randomUUID().toString())
+                .withSpanId(UUID.randomUUID().toString())
+                .withName(UUID.randomUUID().toString())
+                .withKind(UUID.randomUUID().toString())
+                .withStartTime(Instant.now().toString())
+                .withEndTime(Instant.now().toString())
+                .withDurationInNanos(100L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build();
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(List.of(span), pluginId, pipelineName);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        assertThat(outputEvents.getEvents().get(0), instanceOf(JacksonSpan.class));
+        assertThat(((JacksonSpan) outputEvents.getEvents().get(0)).getSpanId(), equalTo(span.getSpanId()));
+        assertThat(outputEvents.getEvents().get(0).toMap(), equalTo(span.toMap()));
+    }
+
+    @Test
+    void testCodec_with_null_events() throws IOException {
+        final PeerForwardingEvents inputEvents = new PeerForwardingEvents(null, pluginId, pipelineName);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(CompressionOption.NONE);
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+    }
+
+    @Test
+    void serialize_is_smaller_than_json_codec() throws Exception {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+
+        final byte[] smileBytes = createObjectUnderTest(CompressionOption.NONE).serialize(inputEvents);
+        final byte[] jsonBytes = new JacksonPeerForwarderCodec(new ObjectMapper().registerModule(new JavaTimeModule())).serialize(inputEvents);
+
+        assertThat(smileBytes.length, lessThan(jsonBytes.length));
+    }
+
+    @Test
+    void deserialize_empty_bytes_throws() {
+        assertThrows(IOException.class, () -> createObjectUnderTest(CompressionOption.NONE).deserialize(new byte[0]));
+    }
+
+    @Test
+    void deserialize_unknown_compression_throws() {
+        assertThrows(IOException.class, () -> createObjectUnderTest(CompressionOption.NONE).deserialize(new byte[] {9, 0}));
+        assertThrows(IOException.class, () -> createObjectUnderTest(CompressionOption.NONE).deserialize(new byte[] {-1, 0}));
+    }
+
+    @Test
+    void deserialize_non_smile_bytes_throws() {
+        assertThrows(IOException.class, () -> createObjectUnderTest(CompressionOption.NONE).deserialize(new byte[] {0, '{', '}'}));
+    }
+
+    @Test
+    void serialize_writes_compression_flag_first() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(1);
+
+        final byte[] bytes = createObjectUnderTest(CompressionOption.ZSTD).serialize(inputEvents);
+
+        assertThat(bytes[0], equalTo((byte) SmilePeerForwarderCodec.FRAME_COMPRESSION_OPTIONS.indexOf(CompressionOption.ZSTD)));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                    .withEventType("LOG")
+                    .withTimeReceived(Instant.now())
+                    .withExternalOriginationTime(i % 2 == 0 ? Instant.now().minusSeconds(5) : null)
+                    .withAttributes(Map.of("attribute", UUID.randomUUID().toString()))
+                    .withTags(i % 2 == 0 ? Set.of("tag1", "tag2") : null)
+                    .build();
+            final JacksonEvent event = JacksonEvent.builder()
+                    .withData(Map.of(
+                            "message", UUID.randomUUID().toString(),
+                            "count", i,
+                            "ratio", 0.5 + i,
+                            "nested", Map.of("flag", true, "values", List.of(1, 2, 3))))
+                    .withEventMetadata(eventMetadata)
+                    .build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, pluginId, pipelineName);
+    }
+}
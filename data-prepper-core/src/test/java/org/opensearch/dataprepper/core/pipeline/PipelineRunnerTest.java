@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -40,6 +41,8 @@ import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
@@ -50,10 +53,12 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -420,4 +425,99 @@ class PipelineRunnerTest {
             verify(buffer).checkpoint(checkpointState);
         }
     }
-}
\ No newline at end of file
+    @Nested
+    class PendingSinkBatchesTests {
+        private CompletableFuture<Void> firstSinkFuture;
+        private CompletableFuture<Void> secondSinkFuture;
+        private CheckpointState firstCheckpointState;
+        private CheckpointState secondCheckpointState;
+
+        @BeforeEach
+        void setup() {
+            setupPipeline(false);
+            firstSinkFuture = new CompletableFuture<>();
+            secondSinkFuture = new CompletableFuture<>();
+            firstCheckpointState = mock(CheckpointState.class);
+            secondCheckpointState = mock(CheckpointState.class);
+            final Collection recordsList = new ArrayList<>();
+            recordsList.add(record);
+
+            when(pipeline.getBuffer()).thenReturn(buffer);
+            when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(BUFFER_READ_TIMEOUT_MILLIS);
+            when(pipeline.getName()).thenReturn(MOCK_PIPELINE_NAME);
+            when(pipeline.getProcessorProvider()).thenReturn(processorProvider);
+            when(processorProvider.getProcessors()).thenReturn(processors);
+            when(processor.execute(recordsList)).thenReturn(recordsList);
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(
+                    new AbstractMap.SimpleEntry<>(recordsList, firstCheckpointState),
+                    new AbstractMap.SimpleEntry<>(recordsList, secondCheckpointState));
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(
+                    Collections.singletonList(firstSinkFuture),
+                    Collections.singletonList(secondSinkFuture));
+        }
+
+        @Test
+        void runAllProcessorsAndPublishToSinks_does_not_wait_for_sinks_within_limit() {
+            final PipelineRunnerImpl pipelineRunner = new PipelineRunnerImpl(pipeline, 2);
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(pipeline, times(2)).publishToSinks(anyCollection());
+            verify(buffer, never()).checkpoint(any());
+            assertThat(pipelineRunner.getPendingSinkBatchCount(), equalTo(2));
+        }
+
+        @Test
+        void completed_batches_are_checkpointed_in_read_order() {
+            final PipelineRunnerImpl pipelineRunner = new PipelineRunnerImpl(pipeline, 2);
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            secondSinkFuture.complete(null);
+            pipelineRunner.checkpointCompletedSinkBatches();
+            verify(buffer, never()).checkpoint(any());
+
+            firstSinkFuture.complete(null);
+            pipelineRunner.checkpointCompletedSinkBatches();
+
+            final InOrder inOrder = inOrder(buffer);
+            inOrder.verify(buffer).checkpoint(firstCheckpointState);
+            inOrder.verify(buffer).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getPendingSinkBatchCount(), equalTo(0));
+        }
+
+        @Test
+        void awaitPendingSinkBatches_checkpoints_all_pending_batches() {
+            final PipelineRunnerImpl pipelineRunner = new PipelineRunnerImpl(pipeline, 2);
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            firstSinkFuture.complete(null);
+            secondSinkFuture.complete(null);
+
+            pipelineRunner.awaitPendingSinkBatches();
+
+            final InOrder inOrder = inOrder(buffer);
+            inOrder.verify(buffer).checkpoint(firstCheckpointState);
+            inOrder.verify(buffer).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getPendingSinkBatchCount(), equalTo(0));
+        }
+
+        @Test
+        void runAllProcessorsAndPublishToSinks_checkpoints_oldest_batch_when_over_limit() {
+            final PipelineRunnerImpl pipelineRunner = new PipelineRunnerImpl(pipeline, 1);
+
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            verify(buffer, never()).checkpoint(any());
+
+            firstSinkFuture.complete(null);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(buffer).checkpoint(firstCheckpointState);
+            verify(buffer, never()).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getPendingSinkBatchCount(), equalTo(1));
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.opensearch.dataprepper.core.pipeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -15,6 +16,7 @@ import java.util.List;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -86,6 +88,23 @@ public class ProcessWorkerTest {
         verify(processor, atLeastOnce()).prepareForShutdown();
     }
 
+    @Test
+    void testProcessWorkerShutdownProcessAwaitsPendingSinkBatches() {
+        processors = List.of(processor);
+        when(pipeline.isStopRequested()).thenReturn(false, true);
+        when(pipeline.getPeerForwarderDrainTimeout()).thenReturn(Duration.ofMillis(1));
+        when(processor.isReadyForShutdown()).thenReturn(true);
+        when(processorProvider.getProcessors()).thenReturn(processors);
+
+        final ProcessWorker processWorker = createObjectUnderTest();
+
+        processWorker.run();
+
+        final InOrder inOrder = inOrder(pipelineRunner);
+        inOrder.verify(pipelineRunner, atLeastOnce()).runAllProcessorsAndPublishToSinks();
+        inOrder.verify(pipelineRunner).awaitPendingSinkBatches();
+    }
+
     @Test
     void testProcessWorkerShutdownProcessWaitsUntilBufferEmpty() {
         processors = List.of(processor);
@@ -36,7 +36,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -123,6 +128,9 @@ class RouteEventEvaluatorTest {
                     .stream()
                     .map(ConditionalRoute::getName)
                     .collect(Collectors.toSet());
+
+            when(evaluator.compile(anyString())).thenCallRealMethod();
+            when(evaluator.evaluateConditionals(anyList(), anyCollection())).thenCallRealMethod();
         }
 
         @Test
@@ -235,6 +243,55 @@ class RouteEventEvaluatorTest {
             }
         }
 
+        @Test
+        void evaluateEventRoutes_evaluates_all_routes_for_all_events_in_one_batch() {
+            final List<Record> records = createEventRecords();
+            final ConditionalRoute matchingRoute = routes.get(1);
+            final Event matchingEvent = (Event) records.get(0).getData();
+            when(evaluator.evaluateConditional(matchingRoute.getCondition(), matchingEvent)).thenReturn(true);
+
+            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+
+            verify(evaluator).evaluateConditionals(anyList(), eq(records.stream().map(record -> (Event) record.getData()).collect(Collectors.toList())));
+            assertThat(recordsToRoutes.get(records.get(0)), equalTo(Set.of(matchingRoute.getName())));
+            for (int i = 1; i < records.size(); i++) {
+                assertThat(recordsToRoutes.get(records.get(i)), is(empty()));
+            }
+        }
+
+        @Test
+        void evaluateEventRoutes_compiles_each_route_condition_once() {
+            final List<Record> records = createEventRecords();
+            final RouteEventEvaluator objectUnderTest = createObjectUnderTest();
+
+            objectUnderTest.evaluateEventRoutes(records);
+            objectUnderTest.evaluateEventRoutes(records);
+
+            for (ConditionalRoute route : routes) {
+                verify(evaluator).compile(route.getCondition());
+            }
+        }
+
+        @Test
+        void evaluateEventRoutes_excludes_routes_which_fail_to_compile() {
+            final List<Record> records = createEventRecords();
+            final ConditionalRoute failingRoute = routes.get(0);
+            when(evaluator.compile(failingRoute.getCondition())).thenThrow(RuntimeException.class);
+            for (ConditionalRoute route : routes) {
+                for (Record record : records) {
+                    when(evaluator.evaluateConditional(route.getCondition(), (Event) record.getData()))
+                            .thenReturn(true);
+                }
+            }
+
+            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+
+            for (Set<String> matchedRoutes : recordsToRoutes.values()) {
+                assertThat(matchedRoutes.size(), equalTo(routes.size() - 1));
+                assertThat(matchedRoutes.contains(failingRoute.getName()), is(false));
+            }
+        }
+
     }
 
     private List<Record> createEventRecords() {
@@ -5,11 +5,13 @@
 
 package org.opensearch.dataprepper.core.event;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opensearch.dataprepper.model.event.BaseEventBuilder;
 import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -18,6 +20,7 @@ import java.util.Map;
 abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuilder<T> {
     private EventMetadata eventMetadata;
     private Object data;
+    private boolean adoptData;
     private String eventType;
     private Instant timeReceived;
     private EventHandle eventHandle;
@@ -80,9 +83,25 @@ abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuil
 
     public BaseEventBuilder<T> withData(final Object data) {
         this.data = data;
+        this.adoptData = false;
         return this;
     }
 
+    @Override
+    public BaseEventBuilder<T> withAdoptedData(final ObjectNode data) {
+        this.data = data;
+        this.adoptData = true;
+        return this;
+    }
+
+    void applyData(final JacksonEvent.Builder<?> builder) {
+        if (adoptData) {
+            builder.withAdoptedData((ObjectNode) data);
+        } else {
+            builder.withData(data);
+        }
+    }
+
     public BaseEventBuilder<T> withEventHandle(final EventHandle eventHandle) {
         this.eventHandle = eventHandle;
         return this;
@@ -5,34 +5,60 @@
 
 package org.opensearch.dataprepper.core.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventBuilder;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.springframework.stereotype.Component;
 
+import javax.inject.Inject;
+import javax.inject.Named;
+
 @Component
 class DefaultEventBuilderFactory extends EventBuilderFactory {
     static final String EVENT_TYPE = "EVENT";
 
+    private final JsonNodeFactory jsonNodeFactory;
+
+    DefaultEventBuilderFactory() {
+        this(JsonNodeFactory.instance);
+    }
+
+    @Inject
+    DefaultEventBuilderFactory(@Named("eventJsonNodeFactory") final JsonNodeFactory jsonNodeFactory) {
+        this.jsonNodeFactory = jsonNodeFactory;
+    }
+
+    JsonNodeFactory getJsonNodeFactory() {
+        return jsonNodeFactory;
+    }
+
     Class<?> getEventClass() {
         return EventBuilder.class;
     }
 
     DefaultBaseEventBuilder createNew() {
-        return new DefaultEventBuilder();
+        return new DefaultEventBuilder(jsonNodeFactory);
     }
 
     public static class DefaultEventBuilder extends DefaultBaseEventBuilder<Event> implements EventBuilder {
+        private final JsonNodeFactory jsonNodeFactory;
+
+        DefaultEventBuilder(final JsonNodeFactory jsonNodeFactory) {
+            this.jsonNodeFactory = jsonNodeFactory;
+        }
+
         @Override
         String getDefaultEventType() {
             return EVENT_TYPE;
         }
 
         public Event build() {
-            return (Event) JacksonEvent.builder()
+            final JacksonEvent.Builder<?> builder = JacksonEvent.builder()
                     .withEventMetadata(getEventMetadata())
-                    .withData(getData())
-                    .build();
+                    .withJsonNodeFactory(jsonNodeFactory);
+            applyData(builder);
+            return (Event) builder.build();
         }
     }
 }
@@ -5,24 +5,43 @@
 
 package org.opensearch.dataprepper.core.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.opensearch.dataprepper.model.event.LogEventBuilder;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.log.Log;
 import org.springframework.stereotype.Component;
 
+import javax.inject.Inject;
+import javax.inject.Named;
+
 @Component
 class DefaultLogEventBuilderFactory extends DefaultEventBuilderFactory {
     static final String LOG_EVENT_TYPE = "LOG";
 
+    DefaultLogEventBuilderFactory() {
+        super();
+    }
+
+    @Inject
+    DefaultLogEventBuilderFactory(@Named("eventJsonNodeFactory") final JsonNodeFactory jsonNodeFactory) {
+        super(jsonNodeFactory);
+    }
+
     Class<?> getEventClass() {
         return LogEventBuilder.class;
     }
 
     DefaultBaseEventBuilder createNew() {
-        return new DefaultLogEventBuilder();
+        return new DefaultLogEventBuilder(getJsonNodeFactory());
     }
 
     public static class DefaultLogEventBuilder extends DefaultBaseEventBuilder<Log> implements LogEventBuilder {
+        private final JsonNodeFactory jsonNodeFactory;
+
+        DefaultLogEventBuilder(final JsonNodeFactory jsonNodeFactory) {
+            this.jsonNodeFactory = jsonNodeFactory;
+        }
+
         public String getEventType() {
             return LOG_EVENT_TYPE;
         }
@@ -33,10 +52,11 @@ class DefaultLogEventBuilderFactory extends DefaultEventBuilderFactory {
         }
 
         public Log build() {
-            return (Log) JacksonLog.builder()
-                    .withData(getData())
-                    .withEventType(getEventType())
-                    .build();
+            final JacksonLog.Builder builder = JacksonLog.builder();
+            builder.withEventType(getEventType())
+                    .withJsonNodeFactory(jsonNodeFactory);
+            applyData(builder);
+            return (Log) builder.build();
         }
     }
 }
@@ -14,6 +14,12 @@ public class EventConfiguration {
     @JsonProperty("maximum_cached_keys")
     private Integer maximumCachedKeys = 512;
 
+    @JsonProperty("maximum_interned_field_names")
+    private Integer maximumInternedFieldNames = 0;
+
+    @JsonProperty("maximum_interned_value_length")
+    private Integer maximumInternedValueLength = 0;
+
     public static EventConfiguration defaultConfiguration() {
         return new EventConfiguration();
     }
@@ -30,4 +36,31 @@ public class EventConfiguration {
     void setMaximumCachedKeys(final Integer maximumCachedKeys) {
         this.maximumCachedKeys = maximumCachedKeys;
     }
+
+    /**
+     * Gets the maximum number of distinct field names which events share. Events do not share field names when
+     * this is not positive.
+     *
+     * @return the maximum count of shared field names
+     */
+    Integer getMaximumInternedFieldNames() {
+        return maximumInternedFieldNames;
+    }
+
+    void setMaximumInternedFieldNames(final Integer maximumInternedFieldNames) {
+        this.maximumInternedFieldNames = maximumInternedFieldNames;
+    }
+
+    /**
+     * Gets the maximum length of text values which events share. This only applies when events share field names.
+     *
+     * @return the maximum length of shared text values
+     */
+    Integer getMaximumInternedValueLength() {
+        return maximumInternedValueLength;
+    }
+
+    void setMaximumInternedValueLength(final Integer maximumInternedValueLength) {
+        this.maximumInternedValueLength = maximumInternedValueLength;
+    }
 }
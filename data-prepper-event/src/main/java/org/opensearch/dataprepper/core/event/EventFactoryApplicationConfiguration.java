@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.core.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.opensearch.dataprepper.model.event.InterningJsonNodeFactory;
 import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -22,6 +24,15 @@ class EventFactoryApplicationConfiguration {
         return eventConfigurationContainer.getEventConfiguration();
     }
 
+    @Bean(name = "eventJsonNodeFactory")
+    JsonNodeFactory eventJsonNodeFactory(final EventConfiguration eventConfiguration) {
+        if(eventConfiguration.getMaximumInternedFieldNames() <= 0) {
+            return JsonNodeFactory.instance;
+        }
+        return new InterningJsonNodeFactory(eventConfiguration.getMaximumInternedFieldNames(),
+                Math.max(0, eventConfiguration.getMaximumInternedValueLength()));
+    }
+
     @Bean(name = "innerEventKeyFactory")
     EventKeyFactory innerEventKeyFactory() {
         return new DefaultEventKeyFactory();
@@ -5,18 +5,23 @@
 
 package org.opensearch.dataprepper.core.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.EventBuilder;
 import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.InterningJsonNodeFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
@@ -79,4 +84,64 @@ class DefaultEventBuilderFactoryTests {
         assertThat(eventMetadata.getAttributes(), equalTo(attributes));
         assertThat(event.toMap(), equalTo(data));
     }
+
+    @Test
+    void build_copies_ObjectNode_data() {
+        final ObjectNode data = JsonNodeFactory.instance.objectNode();
+        data.put(RandomStringUtils.randomAlphabetic(5), "a");
+
+        final JacksonEvent event = (JacksonEvent) ((EventBuilder) defaultEventBuilderFactory.createNew().withData(data)).build();
+
+        assertThat(event.getJsonNode(), not(sameInstance(data)));
+        assertThat(event.getJsonNode(), equalTo(data));
+    }
+
+    @Test
+    void build_uses_adopted_data_without_copying() {
+        final ObjectNode data = JsonNodeFactory.instance.objectNode();
+        data.put(RandomStringUtils.randomAlphabetic(5), "a");
+
+        final JacksonEvent event = (JacksonEvent) ((EventBuilder) defaultEventBuilderFactory.createNew().withAdoptedData(data)).build();
+
+        assertThat(event.getJsonNode(), sameInstance(data));
+    }
+
+    @Test
+    void getJsonNodeFactory_returns_default_JsonNodeFactory() {
+        assertThat(createObjectUnderTest().getJsonNodeFactory(), sameInstance(JsonNodeFactory.instance));
+    }
+
+    @Test
+    void build_uses_injected_JsonNodeFactory() {
+        final InterningJsonNodeFactory jsonNodeFactory = new InterningJsonNodeFactory(100, 0);
+        final DefaultEventBuilderFactory objectUnderTest = new DefaultEventBuilderFactory(jsonNodeFactory);
+        assertThat(objectUnderTest.getJsonNodeFactory(), sameInstance(jsonNodeFactory));
+
+        final String testKey = RandomStringUtils.randomAlphabetic(5);
+        final JacksonEvent firstEvent = (JacksonEvent) ((EventBuilder) objectUnderTest.createNew().withData(Map.of(testKey, "a"))).build();
+        final JacksonEvent secondEvent = (JacksonEvent) ((EventBuilder) objectUnderTest.createNew().withData(Map.of(new String(testKey), "b"))).build();
+
+        assertThat(secondEvent.getJsonNode().fieldNames().next(), sameInstance(firstEvent.getJsonNode().fieldNames().next()));
+        assertThat(secondEvent.toMap(), equalTo(Map.of(testKey, "b")));
+    }
+
+    @Test
+    void fromEvent_copies_default_events_with_deepCopy() {
+        final AtomicInteger deepCopies = new AtomicInteger();
+        final ObjectNode data = new ObjectNode(JsonNodeFactory.instance) {
+            @Override
+            public ObjectNode deepCopy() {
+                deepCopies.incrementAndGet();
+                return super.deepCopy();
+            }
+        };
+        final String testKey = RandomStringUtils.randomAlphabetic(5);
+        data.put(testKey, "a");
+        final JacksonEvent event = (JacksonEvent) ((EventBuilder) createObjectUnderTest().createNew().withAdoptedData(data)).build();
+
+        final JacksonEvent copiedEvent = JacksonEvent.fromEvent(event);
+
+        assertThat(deepCopies.get(), equalTo(1));
+        assertThat(copiedEvent.toMap(), equalTo(Map.of(testKey, "a")));
+    }
 }
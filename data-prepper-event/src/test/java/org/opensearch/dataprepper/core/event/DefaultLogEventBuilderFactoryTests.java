@@ -5,10 +5,13 @@
 
 package org.opensearch.dataprepper.core.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.InterningJsonNodeFactory;
 import org.opensearch.dataprepper.model.event.LogEventBuilder;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 
@@ -16,6 +19,7 @@ import java.util.Collections;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 
@@ -54,5 +58,34 @@ class DefaultLogEventBuilderFactoryTests {
         assertThat(eventMetadata.getAttributes(), equalTo(attributes));
         assertThat(log.toMap(), equalTo(data));
     }
-}
 
+    @Test
+    void build_uses_adopted_data_without_copying() {
+        final ObjectNode data = JsonNodeFactory.instance.objectNode();
+        data.put(RandomStringUtils.randomAlphabetic(5), "a");
+
+        final JacksonLog log = (JacksonLog) ((LogEventBuilder) defaultLogEventBuilderFactory.createNew().withAdoptedData(data)).build();
+
+        assertThat(log.getJsonNode(), sameInstance(data));
+        assertThat(log.getMetadata().getEventType(), equalTo(DefaultLogEventBuilderFactory.LOG_EVENT_TYPE));
+    }
+
+    @Test
+    void getJsonNodeFactory_returns_default_JsonNodeFactory() {
+        assertThat(createObjectUnderTest().getJsonNodeFactory(), sameInstance(JsonNodeFactory.instance));
+    }
+
+    @Test
+    void build_uses_injected_JsonNodeFactory() {
+        final InterningJsonNodeFactory jsonNodeFactory = new InterningJsonNodeFactory(100, 0);
+        final DefaultLogEventBuilderFactory objectUnderTest = new DefaultLogEventBuilderFactory(jsonNodeFactory);
+        assertThat(objectUnderTest.getJsonNodeFactory(), sameInstance(jsonNodeFactory));
+
+        final String testKey = RandomStringUtils.randomAlphabetic(5);
+        final JacksonLog firstEvent = (JacksonLog) ((LogEventBuilder) objectUnderTest.createNew().withData(Map.of(testKey, "a"))).build();
+        final JacksonLog secondEvent = (JacksonLog) ((LogEventBuilder) objectUnderTest.createNew().withData(Map.of(new String(testKey), "b"))).build();
+
+        assertThat(secondEvent.getJsonNode().fieldNames().next(), sameInstance(firstEvent.getJsonNode().fieldNames().next()));
+        assertThat(secondEvent.toMap(), equalTo(Map.of(testKey, "b")));
+    }
+}
@@ -5,9 +5,12 @@
 
 package org.opensearch.dataprepper.core.event;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.model.event.EventKeyFactory;
+import org.opensearch.dataprepper.model.event.InterningJsonNodeFactory;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.not;
@@ -45,4 +48,38 @@ class EventFactoryApplicationConfigurationTest {
         assertThat(actualEventKeyFactory, not(sameInstance(innerEventKeyFactory)));
         assertThat(actualEventKeyFactory, instanceOf(CachingEventKeyFactory.class));
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 0})
+    void eventJsonNodeFactory_returns_default_JsonNodeFactory_if_interning_is_disabled(final int maximumInternedFieldNames) {
+        final EventConfiguration eventConfiguration = mock(EventConfiguration.class);
+        when(eventConfiguration.getMaximumInternedFieldNames()).thenReturn(maximumInternedFieldNames);
+
+        final JsonNodeFactory actualJsonNodeFactory = createObjectUnderTest().eventJsonNodeFactory(eventConfiguration);
+
+        assertThat(actualJsonNodeFactory, sameInstance(JsonNodeFactory.instance));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 512, 10_000})
+    void eventJsonNodeFactory_returns_InterningJsonNodeFactory_if_interning_is_enabled(final int maximumInternedFieldNames) {
+        final EventConfiguration eventConfiguration = mock(EventConfiguration.class);
+        when(eventConfiguration.getMaximumInternedFieldNames()).thenReturn(maximumInternedFieldNames);
+        when(eventConfiguration.getMaximumInternedValueLength()).thenReturn(16);
+
+        final JsonNodeFactory actualJsonNodeFactory = createObjectUnderTest().eventJsonNodeFactory(eventConfiguration);
+
+        assertThat(actualJsonNodeFactory, instanceOf(InterningJsonNodeFactory.class));
+    }
+
+    @Test
+    void eventJsonNodeFactory_returns_InterningJsonNodeFactory_for_negative_value_length() {
+        final EventConfiguration eventConfiguration = mock(EventConfiguration.class);
+        when(eventConfiguration.getMaximumInternedFieldNames()).thenReturn(512);
+        when(eventConfiguration.getMaximumInternedValueLength()).thenReturn(-1);
+
+        final JsonNodeFactory actualJsonNodeFactory = createObjectUnderTest().eventJsonNodeFactory(eventConfiguration);
+
+        assertThat(actualJsonNodeFactory, instanceOf(InterningJsonNodeFactory.class));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * @since 2.13
+ * A {@link CompiledExpression} which evaluates an evaluation plan created by {@link ParseTreeCompiler}.
+ */
+class CompiledParseTree implements CompiledExpression {
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledParseTree.class);
+
+    private final String statement;
+    private final Function<EvaluationContext, Object> plan;
+
+    CompiledParseTree(final String statement, final Function<EvaluationContext, Object> plan) {
+        this.statement = Objects.requireNonNull(statement);
+        this.plan = Objects.requireNonNull(plan);
+    }
+
+    @Override
+    public String getStatement() {
+        return statement;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ExpressionEvaluationException if unable to evaluate the statement
+     */
+    @Override
+    public Object evaluate(final Event context) {
+        return evaluate(new EvaluationContext(context));
+    }
+
+    @Override
+    public Boolean evaluateConditional(final Event context) {
+        return evaluateConditional(new EvaluationContext(context));
+    }
+
+    Object evaluate(final EvaluationContext context) {
+        try {
+            return plan.apply(context);
+        } catch (final Exception exception) {
+            LOG.error(exception.getMessage());
+            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+        }
+    }
+
+    /**
+     * Evaluates the statement as a conditional using a context which may be shared with other statements. This has
+     * the same semantics as {@link CompiledExpression#evaluateConditional(Event)}.
+     */
+    Boolean evaluateConditional(final EvaluationContext context) {
+        final Object result;
+        try {
+            result = evaluate(context);
+        } catch (final ExpressionEvaluationException e) {
+            return false;
+        }
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        throw new ClassCastException("Unexpected expression return value of " + result);
+    }
+}
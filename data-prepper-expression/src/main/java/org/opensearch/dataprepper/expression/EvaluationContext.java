@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * @since 2.13
+ * The event a {@link CompiledParseTree} is evaluated against, along with the JSON Pointer values already resolved
+ * from it. Sharing one context across several compiled statements resolves each JSON Pointer once per event rather
+ * than once per statement. A context is not thread-safe and must not outlive the evaluation of its event.
+ */
+class EvaluationContext {
+    private final Event event;
+    private Map<String, Object> resolvedJsonPointers;
+
+    EvaluationContext(final Event event) {
+        this.event = event;
+    }
+
+    Event getEvent() {
+        return event;
+    }
+
+    Object resolveJsonPointerValue(final String jsonPointer, final ParseTreeCoercionService coercionService) {
+        if (resolvedJsonPointers == null) {
+            resolvedJsonPointers = new HashMap<>();
+        } else if (resolvedJsonPointers.containsKey(jsonPointer)) {
+            return resolvedJsonPointers.get(jsonPointer);
+        }
+        final Object value = coercionService.resolveJsonPointerValue(Objects.requireNonNull(jsonPointer), event);
+        resolvedJsonPointers.put(jsonPointer, value);
+        return value;
+    }
+}
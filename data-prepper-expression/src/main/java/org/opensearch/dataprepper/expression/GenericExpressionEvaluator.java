@@ -12,6 +12,8 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -22,11 +24,14 @@ import java.util.List;
 class GenericExpressionEvaluator implements ExpressionEvaluator {
     private final Parser<ParseTree> parser;
     private final Evaluator<ParseTree, Event> evaluator;
+    private final ParseTreeCompiler parseTreeCompiler;
 
     @Inject
-    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator) {
+    public GenericExpressionEvaluator(final Parser<ParseTree> parser, final Evaluator<ParseTree, Event> evaluator,
+                                      final ParseTreeCompiler parseTreeCompiler) {
         this.parser = parser;
         this.evaluator = evaluator;
+        this.parseTreeCompiler = parseTreeCompiler;
     }
 
     /**
@@ -49,6 +54,55 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @throws ExpressionParsingException if unable to parse the statement
+     */
+    @Override
+    public CompiledExpression compile(final String statement) {
+        final ParseTree parseTree;
+        try {
+            parseTree = parser.parse(statement);
+        } catch (final Exception exception) {
+            throw new ExpressionParsingException("Unable to parse statement \"" + statement + "\"", exception);
+        }
+        return parseTreeCompiler.compile(statement, parseTree);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Statements compiled by this evaluator share one {@link EvaluationContext} per event, so a JSON Pointer used by
+     * several statements is resolved once for each event.
+     */
+    @Override
+    public List<BitSet> evaluateConditionals(final List<CompiledExpression> expressions, final Collection<Event> events) {
+        final List<CompiledParseTree> compiledParseTrees = new ArrayList<>(expressions.size());
+        for (final CompiledExpression expression : expressions) {
+            if (!(expression instanceof CompiledParseTree)) {
+                return ExpressionEvaluator.super.evaluateConditionals(expressions, events);
+            }
+            compiledParseTrees.add((CompiledParseTree) expression);
+        }
+
+        final List<BitSet> results = new ArrayList<>(compiledParseTrees.size());
+        for (int i = 0; i < compiledParseTrees.size(); i++) {
+            results.add(new BitSet(events.size()));
+        }
+        int eventIndex = 0;
+        for (final Event event : events) {
+            final EvaluationContext evaluationContext = new EvaluationContext(event);
+            for (int i = 0; i < compiledParseTrees.size(); i++) {
+                if (compiledParseTrees.get(i).evaluateConditional(evaluationContext)) {
+                    results.get(i).set(eventIndex);
+                }
+            }
+            eventIndex++;
+        }
+        return results;
+    }
+
     @Override
     public Boolean isValidExpressionStatement(final String statement) {
         try {
@@ -113,7 +113,7 @@ class ParseTreeCoercionService {
                 "Unable to cast " + obj.getClass().getName() + " into " + clazz.getName());
     }
 
-    private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
+    Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
         final Object value = event.get(jsonPointer, Object.class);
         if (value == null) {
             return null;
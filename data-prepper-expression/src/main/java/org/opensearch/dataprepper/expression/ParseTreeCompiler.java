@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.opensearch.dataprepper.model.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.function.Function;
+
+/**
+ * @since 2.13
+ * Lowers a {@link ParseTree} into a {@link CompiledExpression} once so that evaluating it does not walk the parse tree
+ * for every event. Parse trees which cannot be lowered are still evaluated, by walking the parse tree with the
+ * {@link Evaluator}.
+ */
+@Named
+class ParseTreeCompiler {
+    private static final Logger LOG = LoggerFactory.getLogger(ParseTreeCompiler.class);
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeWalker walker;
+    private final ParseTreeCoercionService coercionService;
+    private final Evaluator<ParseTree, Event> evaluator;
+
+    @Inject
+    public ParseTreeCompiler(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
+                             final ParseTreeCoercionService coercionService, final Evaluator<ParseTree, Event> evaluator) {
+        this.operatorProvider = operatorProvider;
+        this.walker = walker;
+        this.coercionService = coercionService;
+        this.evaluator = evaluator;
+    }
+
+    public CompiledExpression compile(final String statement, final ParseTree parseTree) {
+        Function<EvaluationContext, Object> plan;
+        try {
+            final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+            walker.walk(listener, parseTree);
+            plan = listener.getResult();
+        } catch (final Exception e) {
+            LOG.debug("Unable to compile statement \"{}\". It will be evaluated by walking the parse tree.", statement, e);
+            plan = context -> evaluator.evaluate(parseTree, context.getEvent());
+        }
+        return new CompiledParseTree(statement, plan);
+    }
+}
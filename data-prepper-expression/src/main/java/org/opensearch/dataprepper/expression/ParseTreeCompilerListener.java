@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Stack;
+import java.util.function.Function;
+
+/**
+ * @since 2.13
+ * This listener lowers a {@link org.antlr.v4.runtime.tree.ParseTree} into a tree of functions which can be evaluated
+ * against many events without walking the parse tree again. It follows the same operator and operand ordering as
+ * {@link ParseTreeEvaluatorListener}, so both produce the same result for a statement. Literals are coerced once while
+ * compiling and JSON Pointers are extracted from their tokens once. JSON Pointer values are resolved through the
+ * {@link EvaluationContext} so that statements sharing a context resolve each pointer once.
+ *
+ * Use case:
+ * ParseTreeWalker walker = new ParseTreeWalker();
+ * ParseTreeCompilerListener listener = new ParseTreeCompilerListener(...);
+ * walker.walk(listener, ...);
+ * final Function&lt;EvaluationContext, Object&gt; plan = listener.getResult();
+ */
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+    private final Stack<Integer> operatorSymbolStack;
+    private final Stack<Function<EvaluationContext, Object>> operandStack;
+    private List<Function<EvaluationContext, Object>> setMembers;
+
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+        operatorSymbolStack = new Stack<>();
+        operandStack = new Stack<>();
+    }
+
+    public Function<EvaluationContext, Object> getResult() {
+        if (operandStack.size() != 1) {
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
+                    "a ParseTreeWalker.");
+        }
+        return operandStack.peek();
+    }
+
+    @Override
+    public void visitTerminal(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        if (nodeType == DataPrepperExpressionParser.EOF) {
+            return;
+        }
+        if (operatorProvider.containsOperator(nodeType) || nodeType == DataPrepperExpressionParser.LPAREN) {
+            operatorSymbolStack.push(nodeType);
+        } else if (nodeType == DataPrepperExpressionParser.LBRACE) {
+            setMembers = new ArrayList<>();
+        } else if (nodeType == DataPrepperExpressionParser.RBRACE) {
+            operandStack.push(compileSet(setMembers));
+            setMembers = null;
+        } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
+            // pop LPAREN at operatorSymbolStack top
+            operatorSymbolStack.pop();
+        } else if (setMembers != null) {
+            if (nodeType != DataPrepperExpressionParser.COMMA && nodeType != DataPrepperExpressionParser.SET_DELIMITER) {
+                setMembers.add(compileTerminal(node));
+            }
+        } else {
+            operandStack.push(compileTerminal(node));
+        }
+    }
+
+    @Override
+    public void visitErrorNode(final ErrorNode node) {
+        throw new RuntimeException("Hit error node in the parse tree: " + node.getText());
+    }
+
+    @Override
+    public void exitEveryRule(final ParserRuleContext ctx) {
+        if (!operatorSymbolStack.isEmpty()) {
+            final int operatorSymbol = operatorSymbolStack.peek();
+            if (operatorSymbol != DataPrepperExpressionParser.LPAREN) {
+                final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
+                if (op.shouldEvaluate(ctx)) {
+                    operatorSymbolStack.pop();
+                    operandStack.push(compileOperation(op, ctx));
+                }
+            }
+        }
+    }
+
+    private Function<EvaluationContext, Object> compileTerminal(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        final String nodeStringValue = node.getText();
+        switch (nodeType) {
+            case DataPrepperExpressionParser.EscapedJsonPointer:
+                final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
+                return context -> context.resolveJsonPointerValue(jsonPointerWithoutQuotes, coercionService);
+            case DataPrepperExpressionParser.JsonPointer:
+                return context -> context.resolveJsonPointerValue(nodeStringValue, coercionService);
+            case DataPrepperExpressionParser.String:
+            case DataPrepperExpressionParser.Integer:
+            case DataPrepperExpressionParser.Float:
+            case DataPrepperExpressionParser.Boolean:
+            case DataPrepperExpressionParser.Null:
+            case DataPrepperExpressionParser.DataTypes:
+            case DataPrepperExpressionParser.COMMA:
+            case DataPrepperExpressionParser.SET_DELIMITER:
+                final Object literal = coercionService.coercePrimaryTerminalNode(node, null);
+                return context -> literal;
+            default:
+                return context -> coercionService.coercePrimaryTerminalNode(node, context.getEvent());
+        }
+    }
+
+    private static Function<EvaluationContext, Object> compileSet(final List<Function<EvaluationContext, Object>> members) {
+        return context -> {
+            final Set<Object> setMembers = new HashSet<>();
+            for (final Function<EvaluationContext, Object> member : members) {
+                setMembers.add(member.apply(context));
+            }
+            ParseTreeEvaluatorListener.validateSetMembers(setMembers);
+            return setMembers;
+        };
+    }
+
+    private Function<EvaluationContext, Object> compileOperation(final Operator<?> operator, final ParserRuleContext ctx) {
+        final int numOfArgs = operator.getNumberOfOperands(ctx);
+        final List<Function<EvaluationContext, Object>> operands = new ArrayList<>(numOfArgs);
+        for (int i = 0; i < numOfArgs; i++) {
+            operands.add(0, operandStack.pop());
+        }
+        final String partialStatement = ParseTreeEvaluatorListener.getPartialStatementFromContext(ctx);
+        return context -> {
+            final Object[] args = new Object[numOfArgs];
+            for (int i = 0; i < numOfArgs; i++) {
+                args[i] = operands.get(i).apply(context);
+            }
+            try {
+                return operator.evaluate(args);
+            } catch (final Exception e) {
+                if (e instanceof IllegalArgumentException && operator.isBooleanOperator()) {
+                    return false;
+                }
+                throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
+                        + partialStatement, e);
+            }
+        };
+    }
+}
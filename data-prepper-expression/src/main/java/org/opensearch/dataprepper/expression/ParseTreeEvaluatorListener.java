@@ -59,7 +59,7 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
         return operandStack.peek();
     }
 
-    private void validateSetMembers(Set<Object> setMembers) {
+    static void validateSetMembers(final Set<Object> setMembers) {
         int numbers = 0;
         int strings = 0;
         int booleans = 0;
@@ -145,7 +145,7 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
         operandStack.push(result);
     }
 
-    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+    static String getPartialStatementFromContext(final ParserRuleContext ctx) {
         final Token startToken = ctx.getStart();
         final Token stopToken = ctx.getStop();
         final String fullStatement = startToken.getInputStream().toString();
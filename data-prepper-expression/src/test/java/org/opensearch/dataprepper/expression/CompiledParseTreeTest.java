@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class CompiledParseTreeTest {
+
+    @Test
+    void evaluate_returns_result_of_plan() {
+        final String statement = UUID.randomUUID().toString();
+        final Event event = mock(Event.class);
+        final Object result = UUID.randomUUID().toString();
+
+        final CompiledParseTree objectUnderTest = new CompiledParseTree(statement, context -> context.getEvent() == event ? result : null);
+
+        assertThat(objectUnderTest.getStatement(), equalTo(statement));
+        assertThat(objectUnderTest.evaluate(event), equalTo(result));
+    }
+
+    @Test
+    void evaluate_wraps_exceptions_from_plan() {
+        final RuntimeException cause = new RuntimeException(UUID.randomUUID().toString());
+        final CompiledParseTree objectUnderTest = new CompiledParseTree(UUID.randomUUID().toString(), context -> {
+            throw cause;
+        });
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> objectUnderTest.evaluate(mock(Event.class)));
+
+        assertThat(exception.getCause(), sameInstance(cause));
+    }
+
+    @Test
+    void evaluateConditional_returns_false_when_plan_throws() {
+        final CompiledParseTree objectUnderTest = new CompiledParseTree(UUID.randomUUID().toString(), context -> {
+            throw new IllegalArgumentException();
+        });
+
+        assertThat(objectUnderTest.evaluateConditional(mock(Event.class)), equalTo(false));
+    }
+
+    @Test
+    void evaluateConditional_with_context_returns_Boolean_result() {
+        final Event event = mock(Event.class);
+        final EvaluationContext evaluationContext = new EvaluationContext(event);
+        final CompiledParseTree objectUnderTest = new CompiledParseTree(UUID.randomUUID().toString(),
+                context -> context == evaluationContext);
+
+        assertThat(objectUnderTest.evaluateConditional(evaluationContext), equalTo(true));
+        assertThat(objectUnderTest.evaluateConditional(event), equalTo(false));
+    }
+
+    @Test
+    void evaluateConditional_with_context_throws_ClassCastException_for_non_Boolean_result() {
+        final CompiledParseTree objectUnderTest = new CompiledParseTree(UUID.randomUUID().toString(), context -> 200);
+
+        assertThrows(ClassCastException.class, () -> objectUnderTest.evaluateConditional(new EvaluationContext(mock(Event.class))));
+    }
+
+    @Test
+    void evaluateConditional_with_batch_sets_matching_events() {
+        final Event matchingEvent = mock(Event.class);
+        final Event otherEvent = mock(Event.class);
+        final CompiledParseTree objectUnderTest = new CompiledParseTree(UUID.randomUUID().toString(),
+                context -> context.getEvent() == matchingEvent);
+
+        final BitSet matches = objectUnderTest.evaluateConditional(List.of(otherEvent, matchingEvent, otherEvent, matchingEvent));
+
+        assertThat(matches, equalTo(BitSet.valueOf(new long[] {0b1010})));
+    }
+}
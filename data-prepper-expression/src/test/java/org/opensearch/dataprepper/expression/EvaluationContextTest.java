@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EvaluationContextTest {
+    @Mock
+    private Event event;
+
+    @Mock
+    private ParseTreeCoercionService coercionService;
+
+    @Test
+    void getEvent_returns_event() {
+        assertThat(new EvaluationContext(event).getEvent(), sameInstance(event));
+    }
+
+    @Test
+    void resolveJsonPointerValue_resolves_each_pointer_once() {
+        final String pointerA = "/" + UUID.randomUUID();
+        final String pointerB = "/" + UUID.randomUUID();
+        final String valueA = UUID.randomUUID().toString();
+        when(coercionService.resolveJsonPointerValue(pointerA, event)).thenReturn(valueA);
+        when(coercionService.resolveJsonPointerValue(pointerB, event)).thenReturn(null);
+
+        final EvaluationContext objectUnderTest = new EvaluationContext(event);
+
+        assertThat(objectUnderTest.resolveJsonPointerValue(pointerA, coercionService), equalTo(valueA));
+        assertThat(objectUnderTest.resolveJsonPointerValue(pointerB, coercionService), nullValue());
+        assertThat(objectUnderTest.resolveJsonPointerValue(pointerA, coercionService), equalTo(valueA));
+        assertThat(objectUnderTest.resolveJsonPointerValue(pointerB, coercionService), nullValue());
+
+        verify(coercionService, times(1)).resolveJsonPointerValue(pointerA, event);
+        verify(coercionService, times(1)).resolveJsonPointerValue(pointerB, event);
+    }
+}
@@ -20,6 +20,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -28,6 +30,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -47,6 +50,8 @@ class GenericExpressionEvaluatorTest {
     private Parser<ParseTree> parser;
     @Mock
     private Evaluator<ParseTree, Event> evaluator;
+    @Mock
+    private ParseTreeCompiler parseTreeCompiler;
     @InjectMocks
     private GenericExpressionEvaluator statementEvaluator;
 
@@ -106,6 +111,73 @@ class GenericExpressionEvaluatorTest {
         verify(evaluator).evaluate(eq(parseTree), eq(event));
     }
 
+    @Test
+    void compile_returns_expression_from_ParseTreeCompiler() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final CompiledExpression compiledExpression = mock(CompiledExpression.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(compiledExpression).when(parseTreeCompiler).compile(eq(statement), eq(parseTree));
+
+        assertThat(statementEvaluator.compile(statement), equalTo(compiledExpression));
+
+        verify(parser).parse(eq(statement));
+        verify(evaluator, times(0)).evaluate(any(), any());
+    }
+
+    @Test
+    void compile_throws_ExpressionParsingException_when_parse_throws() {
+        final String statement = UUID.randomUUID().toString();
+
+        doThrow(new RuntimeException()).when(parser).parse(eq(statement));
+
+        assertThrows(ExpressionParsingException.class, () -> statementEvaluator.compile(statement));
+
+        verify(parseTreeCompiler, times(0)).compile(any(), any());
+    }
+
+    @Test
+    void evaluateConditionals_shares_evaluation_context_across_compiled_parse_trees() {
+        final Event eventA = mock(Event.class);
+        final Event eventB = mock(Event.class);
+        final List<EvaluationContext> contexts = new ArrayList<>();
+        final CompiledParseTree matchesA = new CompiledParseTree(UUID.randomUUID().toString(), context -> {
+            contexts.add(context);
+            return context.getEvent() == eventA;
+        });
+        final CompiledParseTree matchesB = new CompiledParseTree(UUID.randomUUID().toString(), context -> {
+            contexts.add(context);
+            return context.getEvent() == eventB;
+        });
+
+        final List<BitSet> results = statementEvaluator.evaluateConditionals(List.of(matchesA, matchesB), List.of(eventA, eventB, eventA));
+
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0), equalTo(BitSet.valueOf(new long[] {0b101})));
+        assertThat(results.get(1), equalTo(BitSet.valueOf(new long[] {0b010})));
+        assertThat(contexts.size(), equalTo(6));
+        assertThat(contexts.get(0), sameInstance(contexts.get(1)));
+        assertThat(contexts.get(2), sameInstance(contexts.get(3)));
+        assertThat(contexts.get(4), sameInstance(contexts.get(5)));
+    }
+
+    @Test
+    void evaluateConditionals_evaluates_each_expression_when_not_all_are_compiled_parse_trees() {
+        final Event event = mock(Event.class);
+        final List<Event> events = List.of(event);
+        final CompiledParseTree compiledParseTree = new CompiledParseTree(UUID.randomUUID().toString(), context -> true);
+        final CompiledExpression otherExpression = mock(CompiledExpression.class);
+        final BitSet otherResult = new BitSet();
+        doReturn(otherResult).when(otherExpression).evaluateConditional(events);
+
+        final List<BitSet> results = statementEvaluator.evaluateConditionals(List.of(compiledParseTree, otherExpression), events);
+
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0), equalTo(BitSet.valueOf(new long[] {0b1})));
+        assertThat(results.get(1), sameInstance(otherResult));
+    }
+
     @Test
     void isValidExpressionStatement_returns_true_when_parse_does_not_throw() {
         final String statement = UUID.randomUUID().toString();
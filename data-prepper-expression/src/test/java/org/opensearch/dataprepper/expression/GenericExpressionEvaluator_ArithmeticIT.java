@@ -130,6 +130,32 @@ class GenericExpressionEvaluator_ArithmeticIT {
         assertThat(result, not(instanceOf(expectedClass)));
     }
 
+    @ParameterizedTest
+    @MethodSource("validExpressionArguments")
+    void testCompiledArithmeticExpression(final String expression, final Event event, final Number expected, final Class expectedClass) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+
+        final Number actual = (Number)evaluator.compile(expression).evaluate(event);
+
+        assertThat(actual, is(expected));
+        assertThat(actual, instanceOf(expectedClass));
+    }
+
+    @ParameterizedTest
+    @MethodSource("exceptionExpressionSyntaxArguments")
+    void testCompiledArithmeticExpressionInvalidSyntax(final String expression, final Event event) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+        assertThrows(ExpressionParsingException.class, () -> evaluator.compile(expression));
+    }
+
+    @ParameterizedTest
+    @MethodSource("exceptionExpressionArguments")
+    void testCompiledArithmeticExpressionInvalidInput(final String expression, final Event event) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+        final CompiledExpression compiledExpression = evaluator.compile(expression);
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(event));
+    }
+
     private static Stream<Arguments> validExpressionArguments() {
         Random random = new Random();
         int randomInt = random.nextInt(10000);
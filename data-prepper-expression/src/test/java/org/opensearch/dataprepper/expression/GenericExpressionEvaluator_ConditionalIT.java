@@ -16,6 +16,7 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -130,6 +131,74 @@ class GenericExpressionEvaluator_ConditionalIT {
         assertThat(evaluator.evaluateConditional(expression, event), equalTo(false));
     }
 
+    @ParameterizedTest
+    @MethodSource("validExpressionArguments")
+    void testCompiledConditionalExpression(final String expression, final Event event, final Boolean expected) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+
+        final CompiledExpression compiledExpression = evaluator.compile(expression);
+
+        assertThat(compiledExpression.getStatement(), equalTo(expression));
+        assertThat(compiledExpression.evaluateConditional(event), is(expected));
+    }
+
+    @ParameterizedTest
+    @MethodSource("validExpressionArguments")
+    void testCompiledConditionalExpressionWithMultipleThreads(final String expression, final Event event, final Boolean expected) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+        final CompiledExpression compiledExpression = evaluator.compile(expression);
+
+        final int numberOfThreads = 10;
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfThreads);
+
+        List<Boolean> evaluationResults = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < numberOfThreads; i++) {
+            executorService.execute(() -> evaluationResults.add(compiledExpression.evaluateConditional(event)));
+        }
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .until(() -> evaluationResults.size() == numberOfThreads);
+        executorService.shutdownNow();
+
+        assertThat(evaluationResults.size(), equalTo(numberOfThreads));
+        for (Boolean evaluationResult : evaluationResults) {
+            assertThat(evaluationResult, equalTo(expected));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("validExpressionArguments")
+    void testCompiledConditionalExpressionsForBatch(final String expression, final Event event, final Boolean expected) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+        final CompiledExpression compiledExpression = evaluator.compile(expression);
+        final CompiledExpression compiledNegation = evaluator.compile(expected ? "false" : "true");
+
+        final List<BitSet> results = evaluator.evaluateConditionals(
+                List.of(compiledExpression, compiledNegation, compiledExpression), List.of(event, event));
+
+        assertThat(results.size(), equalTo(3));
+        assertThat(results.get(0).cardinality(), equalTo(expected ? 2 : 0));
+        assertThat(results.get(1).cardinality(), equalTo(expected ? 0 : 2));
+        assertThat(results.get(2), equalTo(results.get(0)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidExpressionSyntaxArguments")
+    void testCompiledExpressionThrows(final String expression, final Event event) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+
+        assertThrows(RuntimeException.class, () -> evaluator.compile(expression).evaluateConditional(event));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidExpressionArguments")
+    void testCompiledExpressionWithInvalidData(final String expression, final Event event) {
+        final GenericExpressionEvaluator evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+
+        assertThat(evaluator.compile(expression).evaluateConditional(event), equalTo(false));
+    }
+
     private static Stream<Arguments> validExpressionArguments() {
         final String key = "status_code";
         final Long value = 200L;
@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ParseTreeCompilerListenerTest {
+    private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
+    private final ParseTreeWalker walker = new ParseTreeWalker();
+    private final ParseTreeParser parseTreeParser = constructParseTreeParser();
+    private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
+    private final LiteralTypeConversionsConfiguration literalTypeConversionsConfiguration = new LiteralTypeConversionsConfiguration();
+    private final ParseTreeCoercionService coercionService = new ParseTreeCoercionService(
+            literalTypeConversionsConfiguration.literalTypeConversions(), expressionFunctionProvider);
+    private final List<Operator<?>> operators = Arrays.asList(
+            new AndOperator(), new OrOperator(),
+            operatorConfiguration.inSetOperator(), operatorConfiguration.notInSetOperator(),
+            operatorConfiguration.equalOperator(), operatorConfiguration.notEqualOperator(operatorConfiguration.equalOperator()),
+            operatorConfiguration.greaterThanOperator(), operatorConfiguration.greaterThanOrEqualOperator(),
+            operatorConfiguration.lessThanOperator(), operatorConfiguration.lessThanOrEqualOperator(),
+            operatorConfiguration.regexEqualOperator(), operatorConfiguration.regexNotEqualOperator(),
+            operatorConfiguration.typeOfOperator(),
+            operatorConfiguration.concatOperator(),
+            operatorConfiguration.addOperator(),
+            operatorConfiguration.subtractOperator(),
+            operatorConfiguration.multiplyOperator(),
+            operatorConfiguration.divideOperator(),
+            operatorConfiguration.modOperator(),
+            new NotOperator()
+    );
+    private final OperatorProvider operatorProvider = new OperatorProvider(operators);
+    private ParseTreeCompilerListener objectUnderTest;
+
+    private ParseTreeParser constructParseTreeParser() {
+        final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
+        return new ParseTreeParser(expressionParser);
+    }
+
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
+    }
+
+    private static Event createTestEvent(final Object data) {
+        return JacksonEvent.builder().withEventType("event").withData(data).build();
+    }
+
+    private Function<EvaluationContext, Object> compileStatement(final String statement) {
+        final ParseTree parseTree = parseTreeParser.parse(statement);
+        objectUnderTest = createObjectUnderTest();
+        walker.walk(objectUnderTest, parseTree);
+        return objectUnderTest.getResult();
+    }
+
+    private Object interpretStatement(final String statement, final Event event) {
+        final ParseTree parseTree = parseTreeParser.parse(statement);
+        final ParseTreeEvaluatorListener listener = new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+
+    @Test
+    void testVisitErrorNode() {
+        final ErrorNode errorNode = mock(ErrorNode.class);
+        objectUnderTest = createObjectUnderTest();
+
+        assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
+    }
+
+    @Test
+    void testGetResultWithDoubleWalk() {
+        final ParseTree testParseTree = parseTreeParser.parse("true");
+        objectUnderTest = createObjectUnderTest();
+        walker.walk(objectUnderTest, testParseTree);
+        walker.walk(objectUnderTest, testParseTree);
+        assertThrows(IllegalStateException.class, objectUnderTest::getResult);
+    }
+
+    @Test
+    void testGetResultWithoutWalk() {
+        objectUnderTest = createObjectUnderTest();
+        assertThrows(IllegalStateException.class, objectUnderTest::getResult);
+    }
+
+    @ParameterizedTest
+    @MethodSource("statementArguments")
+    void testCompiledStatementMatchesParseTreeEvaluatorListener(final String statement, final Event event) {
+        final Function<EvaluationContext, Object> plan = compileStatement(statement);
+
+        assertThat(plan.apply(new EvaluationContext(event)), equalTo(interpretStatement(statement, event)));
+    }
+
+    @Test
+    void testCompiledStatementCanBeEvaluatedForManyEvents() {
+        final Function<EvaluationContext, Object> plan = compileStatement("/status >= 200 and /status < 300");
+
+        assertThat(plan.apply(new EvaluationContext(createTestEvent(Map.of("status", 200)))), equalTo(true));
+        assertThat(plan.apply(new EvaluationContext(createTestEvent(Map.of("status", 404)))), equalTo(false));
+        assertThat(plan.apply(new EvaluationContext(createTestEvent(Map.of("status", 299)))), equalTo(true));
+    }
+
+    @Test
+    void testCompiledFunctionIsEvaluatedForEachEvent() {
+        when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), any(Event.class), any(Function.class)))
+                .thenReturn(3, 4);
+        final Function<EvaluationContext, Object> plan = compileStatement("length(/message) == 3");
+
+        assertThat(plan.apply(new EvaluationContext(createTestEvent(Map.of("message", "abc")))), equalTo(true));
+        assertThat(plan.apply(new EvaluationContext(createTestEvent(Map.of("message", "abcd")))), equalTo(false));
+    }
+
+    @Test
+    void testBooleanOperatorWithIllegalArgumentReturnsFalse() {
+        final Function<EvaluationContext, Object> plan = compileStatement("/status > 200");
+
+        assertThat(plan.apply(new EvaluationContext(createTestEvent(Map.of("status", "value")))), equalTo(false));
+    }
+
+    @Test
+    void testNonBooleanOperatorFailureThrows() {
+        final Function<EvaluationContext, Object> plan = compileStatement("/status + /message");
+
+        assertThrows(ExpressionEvaluationException.class, () -> plan.apply(new EvaluationContext(createTestEvent(Map.of("status", 200, "message", "msg")))));
+    }
+
+    @Test
+    void testSetWithMixedTypesThrows() {
+        final Function<EvaluationContext, Object> plan = compileStatement("/status in {200, \"ok\"}");
+
+        assertThrows(RuntimeException.class, () -> plan.apply(new EvaluationContext(createTestEvent(Map.of("status", 200)))));
+    }
+
+    private static Stream<Arguments> statementArguments() {
+        final Event event = createTestEvent(Map.of(
+                "status", 200,
+                "message", "hello world",
+                "ratio", 0.5,
+                "flag", true,
+                "nested", Map.of("key", "value")));
+        final Event emptyEvent = createTestEvent(new HashMap<>());
+        return Stream.of(
+                arguments("\"test string\"", event),
+                arguments("1234", event),
+                arguments("12345678901", event),
+                arguments("3.25", event),
+                arguments("true", event),
+                arguments("null", event),
+                arguments("/status", event),
+                arguments("\"/status\"", event),
+                arguments("/nested/key == \"value\"", event),
+                arguments("/status == 200", event),
+                arguments("/status != 200", event),
+                arguments("/missing == null", emptyEvent),
+                arguments("/status in {200, 201, 202}", event),
+                arguments("/status not in {200, 201, 202}", event),
+                arguments("/message in {\"hello world\", \"goodbye\"}", event),
+                arguments("/message =~ \"hello.*\"", event),
+                arguments("/message !~ \"hello.*\"", event),
+                arguments("/status typeof integer", event),
+                arguments("/message typeof string", event),
+                arguments("not /flag", event),
+                arguments("not (/status == 200 or /flag)", event),
+                arguments("(/status > 100 and /status < 300) or /flag == false", event),
+                arguments("/status + 5 * 2", event),
+                arguments("(/status + 5) * 2", event),
+                arguments("-/status", event),
+                arguments("/status - -5", event),
+                arguments("/status % 7", event),
+                arguments("/message + \" again\"", event)
+        );
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParseTreeCompilerTest {
+
+    @Mock
+    private Event event;
+
+    @Mock
+    private OperatorProvider operatorProvider;
+
+    @Mock
+    private ParseTree parseTree;
+
+    @Mock
+    private ParseTreeWalker parseTreeWalker;
+
+    @Mock
+    private ParseTreeCoercionService coercionService;
+
+    @Mock
+    private Evaluator<ParseTree, Event> evaluator;
+
+    private String statement;
+
+    private ParseTreeCompiler objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        statement = UUID.randomUUID().toString();
+        objectUnderTest = new ParseTreeCompiler(operatorProvider, parseTreeWalker, coercionService, evaluator);
+    }
+
+    @Test
+    void compile_returns_expression_which_evaluates_the_compiled_plan() {
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class, (mock, context) -> when(mock.getResult()).thenReturn(e -> true))) {
+            final CompiledExpression compiledExpression = objectUnderTest.compile(statement, parseTree);
+
+            assertThat(compiledExpression.getStatement(), equalTo(statement));
+            assertThat(compiledExpression.evaluate(event), is(true));
+        }
+        verify(parseTreeWalker).walk(any(ParseTreeCompilerListener.class), any(ParseTree.class));
+        verifyNoInteractions(evaluator);
+    }
+
+    @Test
+    void compile_falls_back_to_the_evaluator_when_the_walk_fails() {
+        doThrow(new RuntimeException()).when(parseTreeWalker).walk(
+                any(ParseTreeCompilerListener.class), any(ParseTree.class));
+        when(evaluator.evaluate(parseTree, event)).thenReturn(true);
+
+        final CompiledExpression compiledExpression = objectUnderTest.compile(statement, parseTree);
+
+        assertThat(compiledExpression.getStatement(), equalTo(statement));
+        assertThat(compiledExpression.evaluate(event), is(true));
+    }
+
+    @Test
+    void compile_falls_back_to_the_evaluator_when_getResult_fails() {
+        when(evaluator.evaluate(parseTree, event)).thenReturn(false);
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class,
+                             (mock, context) -> when(mock.getResult()).thenThrow(new IllegalStateException()))) {
+            final CompiledExpression compiledExpression = objectUnderTest.compile(statement, parseTree);
+
+            assertThat(compiledExpression.evaluate(event), is(false));
+        }
+    }
+}
@@ -25,8 +25,10 @@ import java.util.stream.Collectors;
 public class PipelineConfiguration {
     private static final String WORKERS_COMPONENT = "workers";
     private static final String DELAY_COMPONENT = "delay";
+    private static final String MAX_PENDING_SINK_BATCHES_COMPONENT = "max_pending_sink_batches";
     private static final int DEFAULT_READ_BATCH_DELAY = 3_000;
     private static final int DEFAULT_WORKERS = 1;
+    private static final int DEFAULT_MAX_PENDING_SINK_BATCHES = 0;
 
     private final PluginSetting sourcePluginSetting;
     private final PluginSetting bufferPluginSetting;
@@ -35,6 +37,7 @@ public class PipelineConfiguration {
 
     private final Integer workers;
     private final Integer readBatchDelay;
+    private final Integer maxPendingSinkBatches;
     private final Set<ConditionalRoute> routes;
 
     public PipelineConfiguration(final PipelineModel pipelineModel) {
@@ -44,6 +47,7 @@ public class PipelineConfiguration {
         this.sinkPluginSettings = getSinksFromPluginModel(pipelineModel.getSinks());
         this.workers = getWorkersFromPipelineModel(pipelineModel);
         this.readBatchDelay = getReadBatchDelayFromPipelineModel(pipelineModel);
+        this.maxPendingSinkBatches = getMaxPendingSinkBatchesFromPipelineModel(pipelineModel);
         routes = new HashSet<>(pipelineModel.getRoutes());
     }
 
@@ -75,6 +79,10 @@ public class PipelineConfiguration {
         return readBatchDelay;
     }
 
+    public Integer getMaxPendingSinkBatches() {
+        return maxPendingSinkBatches;
+    }
+
     public void updateCommonPipelineConfiguration(final String pipelineName) {
         updatePluginSetting(sourcePluginSetting, pipelineName);
         updatePluginSetting(bufferPluginSetting, pipelineName);
@@ -154,6 +162,16 @@ public class PipelineConfiguration {
         return configuredDelay == null ? DEFAULT_READ_BATCH_DELAY : configuredDelay;
     }
 
+    private Integer getMaxPendingSinkBatchesFromPipelineModel(final PipelineModel pipelineModel) {
+        final Integer configuredMaxPendingSinkBatches = pipelineModel.getMaxPendingSinkBatches();
+
+        if (configuredMaxPendingSinkBatches != null && configuredMaxPendingSinkBatches < 0) {
+            throw new IllegalArgumentException(String.format("Invalid configuration, %s must be a non-negative integer.", MAX_PENDING_SINK_BATCHES_COMPONENT));
+        }
+
+        return configuredMaxPendingSinkBatches == null ? DEFAULT_MAX_PENDING_SINK_BATCHES : configuredMaxPendingSinkBatches;
+    }
+
     private void validateConfiguration(final Integer configuration, final String component) {
         if (configuration != null && configuration <= 0) {
             throw new IllegalArgumentException(String.format("Invalid configuration, %s cannot be %s",
@@ -203,6 +203,36 @@ class PipelineConfigurationTests {
         assertThat(actual.getMessage(), equalTo("Invalid configuration, delay must be a non-negative integer."));
     }
 
+    @Test
+    void testMaxPendingSinkBatchesDefaultsToZero() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getMaxPendingSinkBatches()).thenReturn(null);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMaxPendingSinkBatches(), equalTo(0));
+    }
+
+    @Test
+    void testMaxPendingSinkBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getMaxPendingSinkBatches()).thenReturn(3);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMaxPendingSinkBatches(), equalTo(3));
+    }
+
+    @Test
+    void testInvalidMaxPendingSinkBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getMaxPendingSinkBatches()).thenReturn(-1);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, max_pending_sink_batches must be a non-negative integer."));
+    }
+
     @Test
     void testSinksWithRoutes() {
         final List<Collection<String>> orderedSinkRoutes = new ArrayList<>();
@@ -25,7 +25,6 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
@@ -37,7 +36,8 @@ import static org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingB
 import static org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBufferConfig.DEFAULT_BUFFER_CAPACITY;
 
 /**
- * A bounded BlockingBuffer is an implementation of {@link Buffer} using {@link LinkedBlockingQueue}, it is bounded
+ * A bounded BlockingBuffer is an implementation of {@link Buffer} using {@link LinkedBlockingQueue}, or a lock-free
+ * array ring when configured with {@link QueueType#RING}, it is bounded
  * to the provided capacity {@link #ATTRIBUTE_BUFFER_CAPACITY} or {@link #ATTRIBUTE_BUFFER_CAPACITY} (if attribute is
  * not provided); {@link #write(Record, int)} inserts specified non-null record into this buffer, waiting up to the
  * specified timeout in milliseconds if necessary for space to become available; and throws an exception if the
@@ -55,7 +55,7 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     public static final String CAPACITY_USED_METRIC = "capacityUsed";
     private final int bufferCapacity;
     private final int batchSize;
-    private final BlockingQueue<T> blockingQueue;
+    private final BufferQueue<T> blockingQueue;
     private final String pipelineName;
 
     private final Semaphore capacitySemaphore;
@@ -68,10 +68,22 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        this(bufferCapacity, batchSize, pipelineName, QueueType.LINKED);
+    }
+
+    /**
+     * Creates a BlockingBuffer with the given (fixed) capacity, holding records in the given type of queue.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     * @param queueType      the type of queue which holds the records
+     */
+    public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName, final QueueType queueType) {
         super(BLOCKING_BUFFER, pipelineName);
         this.bufferCapacity = bufferCapacity;
         this.batchSize = batchSize;
-        this.blockingQueue = new LinkedBlockingQueue<>(bufferCapacity);
+        this.blockingQueue = checkNotNull(queueType, "queueType cannot be null").createQueue(bufferCapacity);
         this.capacitySemaphore = new Semaphore(bufferCapacity);
         this.pipelineName = pipelineName;
 
@@ -94,7 +106,8 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     public BlockingBuffer(final BlockingBufferConfig blockingBufferConfig, final PipelineDescription pipelineDescription) {
         this(checkNotNull(blockingBufferConfig, "BlockingBufferConfig cannot be null").getBufferSize(),
                 blockingBufferConfig.getBatchSize(),
-                pipelineDescription.getPipelineName());
+                pipelineDescription.getPipelineName(),
+                blockingBufferConfig.getQueueType());
     }
 
     public BlockingBuffer(final String pipelineName) {
@@ -130,7 +143,7 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
                                         "timed out waiting for slots.",
                         pipelineName, size));
             }
-            blockingQueue.addAll(records);
+            blockingQueue.offerAll(records);
         } catch (InterruptedException ex) {
             LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
                             "interrupted while waiting to write the records",
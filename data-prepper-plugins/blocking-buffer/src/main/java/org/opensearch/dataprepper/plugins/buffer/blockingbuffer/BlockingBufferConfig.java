@@ -25,4 +25,11 @@ public class BlockingBufferConfig {
     public int getBatchSize() {
         return batchSize;
     }
+
+    @JsonProperty("queue_type")
+    private QueueType queueType = QueueType.LINKED;
+
+    public QueueType getQueueType() {
+        return queueType;
+    }
 }
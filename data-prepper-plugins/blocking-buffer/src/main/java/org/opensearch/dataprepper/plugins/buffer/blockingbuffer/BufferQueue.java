@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The storage used by {@link BlockingBuffer} to hold records which are written but not yet read. Capacity is
+ * enforced by the buffer itself, so implementations may assume that callers never offer more records than there
+ * is room for.
+ *
+ * @param <T> the type of element held in the queue
+ */
+interface BufferQueue<T> {
+    /**
+     * Adds a single record to the tail of the queue.
+     *
+     * @param record the record to add
+     */
+    void offer(T record);
+
+    /**
+     * Adds all the records to the tail of the queue, preserving their iteration order.
+     *
+     * @param records the records to add
+     */
+    void offerAll(Collection<T> records);
+
+    /**
+     * Retrieves and removes the head of the queue, waiting up to the specified wait time for a record.
+     *
+     * @param timeout how long to wait before giving up
+     * @param unit    the unit of timeout
+     * @return the head of the queue, or null if the timeout elapsed before a record was available
+     * @throws InterruptedException if interrupted while waiting
+     */
+    T poll(long timeout, TimeUnit unit) throws InterruptedException;
+
+    /**
+     * Removes at most the given number of available records and adds them to the given collection.
+     *
+     * @param collection  the collection to transfer records into
+     * @param maxElements the maximum number of records to transfer
+     * @return the number of records transferred
+     */
+    int drainTo(Collection<? super T> collection, int maxElements);
+
+    boolean isEmpty();
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link BufferQueue} backed by a {@link LinkedBlockingQueue}.
+ */
+class LinkedBufferQueue<T> implements BufferQueue<T> {
+    private final BlockingQueue<T> blockingQueue;
+
+    LinkedBufferQueue(final int capacity) {
+        this.blockingQueue = new LinkedBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public void offer(final T record) {
+        blockingQueue.offer(record);
+    }
+
+    @Override
+    public void offerAll(final Collection<T> records) {
+        blockingQueue.addAll(records);
+    }
+
+    @Override
+    public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return blockingQueue.poll(timeout, unit);
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> collection, final int maxElements) {
+        return blockingQueue.drainTo(collection, maxElements);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return blockingQueue.isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * The type of queue which holds the records of a {@link BlockingBuffer}.
+ */
+public enum QueueType {
+    LINKED("linked", LinkedBufferQueue::new),
+    RING("ring", RingBufferQueue::new);
+
+    private static final Map<String, QueueType> OPTIONS_MAP = Arrays.stream(QueueType.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value,
+                    (first, second) -> first,
+                    LinkedHashMap::new
+            ));
+
+    private final String option;
+    private final IntFunction<BufferQueue<?>> queueFactory;
+
+    QueueType(final String option, final IntFunction<BufferQueue<?>> queueFactory) {
+        this.option = option;
+        this.queueFactory = queueFactory;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> BufferQueue<T> createQueue(final int capacity) {
+        return (BufferQueue<T>) queueFactory.apply(capacity);
+    }
+
+    @JsonCreator
+    static QueueType fromOptionValue(final String option) {
+        final QueueType queueType = OPTIONS_MAP.get(option);
+        if (queueType == null) {
+            throw new IllegalArgumentException("Unknown queue_type " + option + ". Valid values are " + OPTIONS_MAP.keySet() + ".");
+        }
+        return queueType;
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * A lock-free, multi-producer/multi-consumer {@link BufferQueue} backed by a preallocated array ring.
+ * <p>
+ * Each slot carries a sequence number which tells producers and consumers whether the slot is free for the
+ * current lap of the ring or holds a published record. Producers claim a contiguous range of slots for a whole
+ * batch with a single atomic add on the tail, and consumers claim a contiguous range of published slots with a
+ * single compare-and-set on the head. Neither side takes a lock, and no node is allocated per record.
+ * <p>
+ * The ring does not enforce capacity on its own. {@link BlockingBuffer} only offers records after acquiring
+ * capacity permits, so a producer never has to wait for more than an in-progress read of its slots.
+ */
+class RingBufferQueue<T> implements BufferQueue<T> {
+    static final int MAXIMUM_CAPACITY = 1 << 30;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Object[] slots;
+    private final AtomicLongArray sequences;
+    private final int ringSize;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    RingBufferQueue(final int capacity) {
+        checkArgument(capacity > 0, "capacity must be greater than 0");
+        checkArgument(capacity <= MAXIMUM_CAPACITY, "capacity must not be greater than " + MAXIMUM_CAPACITY);
+        this.ringSize = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = ringSize - 1;
+        this.slots = new Object[ringSize];
+        this.sequences = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    @Override
+    public void offer(final T record) {
+        if (record == null) {
+            throw new NullPointerException("record cannot be null");
+        }
+        publish(tail.getAndIncrement(), record);
+    }
+
+    @Override
+    public void offerAll(final Collection<T> records) {
+        final Object[] batch = records.toArray();
+        for (final Object record : batch) {
+            if (record == null) {
+                throw new NullPointerException("records cannot contain null");
+            }
+        }
+        if (batch.length == 0) {
+            return;
+        }
+
+        final long start = tail.getAndAdd(batch.length);
+        for (int i = 0; i < batch.length; i++) {
+            publish(start + i, batch[i]);
+        }
+    }
+
+    @Override
+    public T poll(final long timeout, final TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long parkNanos = MIN_PARK_NANOS;
+        while (true) {
+            final T record = tryPoll();
+            if (record != null) {
+                return record;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            final long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return null;
+            }
+            LockSupport.parkNanos(Math.min(parkNanos, remainingNanos));
+            parkNanos = Math.min(parkNanos << 1, MAX_PARK_NANOS);
+        }
+    }
+
+    @Override
+    public int drainTo(final Collection<? super T> collection, final int maxElements) {
+        if (maxElements <= 0) {
+            return 0;
+        }
+        while (true) {
+            final long start = head.get();
+            int available = 0;
+            while (available < maxElements && isPublished(start + available)) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (head.compareAndSet(start, start + available)) {
+                for (int i = 0; i < available; i++) {
+                    collection.add(consume(start + i));
+                }
+                return available;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    int getRingSize() {
+        return ringSize;
+    }
+
+    private T tryPoll() {
+        while (true) {
+            final long position = head.get();
+            if (!isPublished(position)) {
+                return null;
+            }
+            if (head.compareAndSet(position, position + 1)) {
+                return consume(position);
+            }
+        }
+    }
+
+    private boolean isPublished(final long position) {
+        return sequences.get(index(position)) == position + 1;
+    }
+
+    private void publish(final long position, final Object record) {
+        final int index = index(position);
+        // Only waits if a consumer has claimed this slot on the previous lap but not yet released it.
+        while (sequences.get(index) != position) {
+            Thread.onSpinWait();
+        }
+        slots[index] = record;
+        sequences.lazySet(index, position + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T consume(final long position) {
+        final int index = index(position);
+        final T record = (T) slots[index];
+        slots[index] = null;
+        sequences.lazySet(index, position + ringSize);
+        return record;
+    }
+
+    private int index(final long position) {
+        return (int) position & mask;
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.model.CheckpointState;
@@ -23,6 +24,7 @@ import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.util.ArrayList;
@@ -38,6 +40,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.stream.Stream;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -97,6 +100,33 @@ public class BlockingBufferTests {
         assertThat(blockingBuffer, notNullValue());
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"linked", "ring"})
+    public void testCreationUsingBlockingBufferConfigWithQueueType(final String queueType) throws JsonProcessingException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        String json = "{\"queue_type\": \"" + queueType + "\"}";
+        BlockingBufferConfig config = objectMapper.readValue(json, BlockingBufferConfig.class);
+        assertThat(config.getQueueType(), equalTo(QueueType.fromOptionValue(queueType)));
+        PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(config, pipelineDescription);
+        assertThat(blockingBuffer, notNullValue());
+    }
+
+    @Test
+    public void testCreationUsingBlockingBufferConfigWithUnknownQueueType() {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final JsonMappingException exception = assertThrows(JsonMappingException.class,
+                () -> objectMapper.readValue("{\"queue_type\": \"rnig\"}", BlockingBufferConfig.class));
+        assertThat(exception.getMessage(), containsString("Valid values are [linked, ring]"));
+    }
+
+    @Test
+    public void testDefaultQueueTypeIsLinked() throws JsonProcessingException {
+        BlockingBufferConfig config = new ObjectMapper().readValue("{}", BlockingBufferConfig.class);
+        assertThat(config.getQueueType(), equalTo(QueueType.LINKED));
+    }
+
     @Test
     public void testCreationUsingValues() {
         final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
@@ -176,11 +206,12 @@ public class BlockingBufferTests {
         assertEquals(1, readCheckResult.getKey().size());
     }
 
-    @Test
-    public void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+    @ParameterizedTest
+    @EnumSource(QueueType.class)
+    public void testWriteAllIntoEmptySpaceAfterCheckedRead(final QueueType queueType) throws Exception {
         // Given
         final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(2, TEST_BATCH_SIZE,
-                TEST_PIPELINE_NAME);
+                TEST_PIPELINE_NAME, queueType);
         assertThat(blockingBuffer, notNullValue());
         final Collection<Record<String>> testRecords = generateBatchRecords(2);
         blockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
@@ -248,6 +279,68 @@ public class BlockingBufferTests {
         verifyBufferUsageMetric(0.0);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    public void testBatchReadWithRingQueue(final int readTimeout) throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME, QueueType.RING);
+        final int testSize = 5;
+        blockingBuffer.write(new Record<>("TEST0"), TEST_WRITE_TIMEOUT);
+        final Collection<Record<String>> testRecords = new ArrayList<>();
+        for (int i = 1; i < testSize; i++) {
+            testRecords.add(new Record<>("TEST" + i));
+        }
+        blockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(38.46153846153847);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = blockingBuffer.read(readTimeout);
+        assertThat(partialReadResult.getKey().size(), is(TEST_BATCH_SIZE));
+        assertEquals(TEST_BATCH_SIZE, partialReadResult.getValue().getNumRecordsToBeChecked());
+        int i = 0;
+        for (Record<String> record : partialReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+        blockingBuffer.checkpoint(partialReadResult.getValue());
+        verifyBufferUsageMetric(15.384615384615385);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = blockingBuffer.read(readTimeout);
+        assertThat(finalReadResult.getKey().size(), is(testSize - TEST_BATCH_SIZE));
+        for (Record<String> record : finalReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        blockingBuffer.checkpoint(finalReadResult.getValue());
+        verifyBufferUsageMetric(0.0);
+        assertTrue(blockingBuffer.isEmpty());
+    }
+
+    @Test
+    public void testNoEmptySpaceAfterUncheckedReadWithRingQueue() throws TimeoutException {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(1, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME, QueueType.RING);
+        blockingBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(1));
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+
+        blockingBuffer.checkpoint(readResult.getValue());
+        blockingBuffer.write(new Record<>("REFILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), is(1));
+    }
+
+    @Test
+    public void testReadEmptyBufferWithRingQueue() {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME, QueueType.RING);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+    }
+
     @Test
     public void testBufferIsEmpty() throws JsonProcessingException {
         final BlockingBufferConfig blockingBufferConfig = completeBlockingBufferConfig();
@@ -0,0 +1,156 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RingBufferQueueTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "12800, 16384", "16384, 16384"})
+    void ring_size_is_next_power_of_two(final int capacity, final int expectedRingSize) {
+        assertThat(new RingBufferQueue<String>(capacity).getRingSize(), equalTo(expectedRingSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, RingBufferQueue.MAXIMUM_CAPACITY + 1})
+    void constructor_with_invalid_capacity_throws(final int capacity) {
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferQueue<String>(capacity));
+    }
+
+    @Test
+    void offer_null_throws() {
+        final RingBufferQueue<String> objectUnderTest = new RingBufferQueue<>(4);
+
+        assertThrows(NullPointerException.class, () -> objectUnderTest.offer(null));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void offerAll_with_null_record_throws_without_adding_records() {
+        final RingBufferQueue<String> objectUnderTest = new RingBufferQueue<>(4);
+
+        assertThrows(NullPointerException.class, () -> objectUnderTest.offerAll(Arrays.asList("a", null)));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void poll_on_empty_queue_returns_null_after_timeout() throws InterruptedException {
+        final RingBufferQueue<String> objectUnderTest = new RingBufferQueue<>(4);
+
+        assertThat(objectUnderTest.poll(10, TimeUnit.MILLISECONDS), nullValue());
+    }
+
+    @Test
+    void records_are_read_in_order_across_laps_of_the_ring() throws InterruptedException {
+        final RingBufferQueue<String> objectUnderTest = new RingBufferQueue<>(4);
+
+        for (int lap = 0; lap < 5; lap++) {
+            objectUnderTest.offer("a" + lap);
+            objectUnderTest.offerAll(Arrays.asList("b" + lap, "c" + lap, "d" + lap));
+            assertThat(objectUnderTest.isEmpty(), equalTo(false));
+
+            assertThat(objectUnderTest.poll(10, TimeUnit.MILLISECONDS), equalTo("a" + lap));
+            final List<String> drained = new ArrayList<>();
+            assertThat(objectUnderTest.drainTo(drained, 2), equalTo(2));
+            assertThat(objectUnderTest.drainTo(drained, 10), equalTo(1));
+            assertThat(drained, equalTo(Arrays.asList("b" + lap, "c" + lap, "d" + lap)));
+            assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        }
+    }
+
+    @Test
+    void drainTo_with_non_positive_max_does_not_remove_records() {
+        final RingBufferQueue<String> objectUnderTest = new RingBufferQueue<>(4);
+        objectUnderTest.offerAll(Collections.singletonList("a"));
+
+        assertThat(objectUnderTest.drainTo(new ArrayList<>(), 0), equalTo(0));
+        assertThat(objectUnderTest.isEmpty(), equalTo(false));
+    }
+
+    @Test
+    void concurrent_producers_and_consumers_transfer_every_record_once() throws Exception {
+        final int capacity = 64;
+        final int producers = 4;
+        final int consumers = 4;
+        final int batchesPerProducer = 500;
+        final int batchSize = 7;
+        final int totalRecords = producers * batchesPerProducer * batchSize;
+        final RingBufferQueue<Integer> objectUnderTest = new RingBufferQueue<>(capacity);
+        final Semaphore capacityPermits = new Semaphore(capacity);
+        final CountDownLatch remaining = new CountDownLatch(totalRecords);
+        final ExecutorService executorService = Executors.newFixedThreadPool(producers + consumers);
+        final List<Future<List<Integer>>> consumerResults = new ArrayList<>();
+
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                executorService.submit(() -> {
+                    for (int b = 0; b < batchesPerProducer; b++) {
+                        final List<Integer> batch = new ArrayList<>(batchSize);
+                        for (int i = 0; i < batchSize; i++) {
+                            batch.add((producer * batchesPerProducer + b) * batchSize + i);
+                        }
+                        capacityPermits.acquire(batchSize);
+                        objectUnderTest.offerAll(batch);
+                    }
+                    return null;
+                });
+            }
+            for (int c = 0; c < consumers; c++) {
+                consumerResults.add(executorService.submit(() -> {
+                    final List<Integer> received = new ArrayList<>();
+                    while (remaining.getCount() > 0) {
+                        final List<Integer> drained = new ArrayList<>();
+                        final int count = objectUnderTest.drainTo(drained, 5);
+                        received.addAll(drained);
+                        capacityPermits.release(count);
+                        for (int i = 0; i < count; i++) {
+                            remaining.countDown();
+                        }
+                    }
+                    return received;
+                }));
+            }
+
+            assertThat(remaining.await(30, TimeUnit.SECONDS), equalTo(true));
+
+            final Set<Integer> allReceived = new HashSet<>();
+            int receivedCount = 0;
+            for (final Future<List<Integer>> consumerResult : consumerResults) {
+                final List<Integer> received = consumerResult.get(30, TimeUnit.SECONDS);
+                receivedCount += received.size();
+                allReceived.addAll(received);
+            }
+            assertThat(receivedCount, equalTo(totalRecords));
+            assertThat(allReceived.size(), equalTo(totalRecords));
+            assertThat(objectUnderTest.isEmpty(), equalTo(true));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
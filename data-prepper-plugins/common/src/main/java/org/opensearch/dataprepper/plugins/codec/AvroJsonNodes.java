@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+/**
+ * Converts Avro numeric values into the JSON nodes which parsing the JSON text written by Avro for them gives.
+ * Codecs which build trees from Avro values directly use these to produce the same events as parsing that JSON.
+ */
+public final class AvroJsonNodes {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private AvroJsonNodes() {
+    }
+
+    /**
+     * @param value an Avro long value
+     * @return an int node if the value fits in an int, otherwise a long node
+     */
+    public static JsonNode longNode(final long value) {
+        // the JSON text of a long which fits in an int is parsed as an int
+        return value == (int) value ? NODE_FACTORY.numberNode((int) value) : NODE_FACTORY.numberNode(value);
+    }
+
+    /**
+     * @param value an Avro float value
+     * @return a double node with the shortest decimal of the value, or a text node if it is infinite or NaN
+     */
+    public static JsonNode floatNode(final float value) {
+        if (Float.isInfinite(value) || Float.isNaN(value)) {
+            return NODE_FACTORY.textNode(Float.toString(value));
+        }
+        // the JSON text of a float is its shortest decimal, which is parsed as a double
+        return NODE_FACTORY.numberNode(Double.parseDouble(Float.toString(value)));
+    }
+
+    /**
+     * @param value an Avro double value
+     * @return a double node, or a text node if the value is infinite or NaN
+     */
+    public static JsonNode doubleNode(final double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            return NODE_FACTORY.textNode(Double.toString(value));
+        }
+        return NODE_FACTORY.numberNode(value);
+    }
+}
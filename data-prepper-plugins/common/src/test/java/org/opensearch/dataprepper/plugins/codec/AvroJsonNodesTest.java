@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class AvroJsonNodesTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, -1L, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE + 1L, Integer.MIN_VALUE - 1L, Long.MAX_VALUE, Long.MIN_VALUE})
+    void longNode_returns_the_parsed_json_text(final long value) throws Exception {
+        assertThat(AvroJsonNodes.longNode(value), equalTo(OBJECT_MAPPER.readTree(Long.toString(value))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {0.0f, -1.5f, 0.1f, 3.4028235E38f, 1.4E-45f})
+    void floatNode_returns_the_parsed_json_text(final float value) throws Exception {
+        assertThat(AvroJsonNodes.floatNode(value), equalTo(OBJECT_MAPPER.readTree(Float.toString(value))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(floats = {Float.NaN, Float.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY})
+    void floatNode_returns_text_for_values_without_a_json_number(final float value) {
+        final JsonNode jsonNode = AvroJsonNodes.floatNode(value);
+
+        assertThat(jsonNode.isTextual(), equalTo(true));
+        assertThat(jsonNode.asText(), equalTo(Float.toString(value)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, -1.5, 0.1, Double.MAX_VALUE, Double.MIN_VALUE})
+    void doubleNode_returns_the_parsed_json_text(final double value) throws Exception {
+        assertThat(AvroJsonNodes.doubleNode(value), equalTo(OBJECT_MAPPER.readTree(Double.toString(value))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void doubleNode_returns_text_for_values_without_a_json_number(final double value) {
+        final JsonNode jsonNode = AvroJsonNodes.doubleNode(value);
+
+        assertThat(jsonNode.isTextual(), equalTo(true));
+        assertThat(jsonNode.asText(), equalTo(Double.toString(value)));
+    }
+}
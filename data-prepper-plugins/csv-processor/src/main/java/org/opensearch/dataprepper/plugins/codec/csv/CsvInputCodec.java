@@ -20,10 +20,10 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.BufferedReader;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -36,6 +36,7 @@ import java.util.function.Consumer;
 @DataPrepperPlugin(name = "csv", pluginType = InputCodec.class, pluginConfigurationType = CsvInputCodecConfig.class)
 public class CsvInputCodec implements InputCodec {
     private static final Logger LOG = LoggerFactory.getLogger(CsvInputCodec.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
     private final CsvInputCodecConfig config;
     private final EventFactory eventFactory;
 
@@ -46,25 +47,30 @@ public class CsvInputCodec implements InputCodec {
         this.eventFactory = eventFactory;
     }
 
+    /**
+     * Parses the stream as UTF-8, or as UTF-16 or UTF-32 when it starts with a byte order mark. The bytes are
+     * handed to the CSV parser as they are, which decodes them into its own buffer, rather than through an
+     * intermediate reader.
+     */
     @Override
     public void parse(final InputStream inputStream, final Consumer<Record<Event>> eventConsumer) throws IOException {
-        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            parseBufferedReader(reader, eventConsumer);
+        try (final BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream, BUFFER_SIZE)) {
+            parseBufferedInputStream(bufferedInputStream, eventConsumer);
         }
     }
 
-    private void parseBufferedReader(final BufferedReader reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
+    private void parseBufferedInputStream(final BufferedInputStream inputStream, final Consumer<Record<Event>> eventConsumer) throws IOException {
         final CsvMapper mapper = createCsvMapper();
         final CsvSchema schema;
         if (config.isDetectHeader()) {
             schema = createAutodetectHeaderCsvSchema();
         }
         else {
-            final int numberColumnsFirstLine = getNumberOfColumnsByMarkingBeginningOfInputStreamAndResettingReaderAfter(reader);
+            final int numberColumnsFirstLine = getNumberOfColumnsByMarkingBeginningOfInputStreamAndResettingAfter(inputStream);
             schema = createCsvSchemaFromConfig(numberColumnsFirstLine);
         }
 
-        MappingIterator<Map<String, String>> parsingIterator = mapper.readerFor(Map.class).with(schema).readValues(reader);
+        MappingIterator<Map<String, String>> parsingIterator = mapper.readerFor(Map.class).with(schema).readValues(inputStream);
         boolean hasNextValue;
         try {
             hasNextValue = parsingIterator.hasNextValue();
@@ -84,12 +90,32 @@ public class CsvInputCodec implements InputCodec {
         }
     }
 
-    private int getNumberOfColumnsByMarkingBeginningOfInputStreamAndResettingReaderAfter(BufferedReader reader) throws IOException {
-        final int defaultBufferSize = 8192; // this number doesn't affect even a thousand column header — it's sufficiently large.
-        reader.mark(defaultBufferSize); // calling reader.readLine() will consume the first line, so mark initial location to reset after
-        final int firstLineNumberColumns = extractNumberOfColumnsFromFirstLine(reader.readLine());
-        reader.reset(); // move reader pointer back to beginning of file in order to reread first line
-        return firstLineNumberColumns;
+    private int getNumberOfColumnsByMarkingBeginningOfInputStreamAndResettingAfter(final BufferedInputStream inputStream) throws IOException {
+        // reading the first line consumes it, so mark the initial location to reset to. The mark is kept however long the line is.
+        inputStream.mark(Integer.MAX_VALUE);
+        final byte[] delimiter = config.getDelimiter().substring(0, 1).getBytes(StandardCharsets.UTF_8);
+        int numberOfSeparators = 0;
+        int matchedDelimiterBytes = 0;
+        int nextByte = inputStream.read();
+        if (nextByte == -1) {
+            inputStream.reset();
+            return 0;
+        }
+        while (nextByte != -1 && nextByte != '\n' && nextByte != '\r') {
+            // UTF-8 never encodes one character within the bytes of another, so matching bytes matches characters
+            if ((byte) nextByte == delimiter[matchedDelimiterBytes]) {
+                matchedDelimiterBytes++;
+                if (matchedDelimiterBytes == delimiter.length) {
+                    numberOfSeparators++;
+                    matchedDelimiterBytes = 0;
+                }
+            } else {
+                matchedDelimiterBytes = (byte) nextByte == delimiter[0] ? 1 : 0;
+            }
+            nextByte = inputStream.read();
+        }
+        inputStream.reset(); // move back to the beginning of the stream in order to reread the first line
+        return numberOfSeparators + 1;
     }
 
     private void readCsvLine(final MappingIterator<Map<String, String>> parsingIterator, final Consumer<Record<Event>> eventConsumer) throws IOException {
@@ -115,19 +141,6 @@ public class CsvInputCodec implements InputCodec {
         }
     }
 
-    private int extractNumberOfColumnsFromFirstLine(final String firstLine) {
-        if (Objects.isNull(firstLine)) {
-            return 0;
-        }
-        int numberOfSeparators = 0;
-        for (int charPointer = 0; charPointer < firstLine.length(); charPointer++) {
-            if (firstLine.charAt(charPointer) == config.getDelimiter().charAt(0)) {
-                numberOfSeparators++;
-            }
-        }
-        return numberOfSeparators + 1;
-    }
-
     private CsvSchema createCsvSchemaFromConfig(final int firstLineSize) {
         final List<String> userSpecifiedHeader = Objects.isNull(config.getHeader()) ? new ArrayList<>() : config.getHeader();
         final List<String> actualHeader = new ArrayList<>();
@@ -130,6 +130,53 @@ public class CsvCodecTest {
         }
     }
 
+    @Test
+    void test_when_noAutoDetectHeaderWithFirstLineLongerThanBuffer_then_autogeneratesEntireHeader() throws IOException {
+        when(config.isDetectHeader()).thenReturn(Boolean.FALSE);
+
+        final int numberOfRows = 3;
+        final int numberOfColumns = 2000;
+
+        final List<String> csvRowsExcludingHeader = generateCsvLinesAsList(numberOfRows, numberOfColumns);
+        final InputStream inputStream = createInputStream(csvRowsExcludingHeader);
+        csvCodec.parse(inputStream, eventConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(eventConsumer, times(numberOfRows)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        final List<String> autoGeneratedHeader = createAutoGeneratedHeader(numberOfColumns);
+        for (int i = 0; i < actualRecords.size(); i++) {
+            final Map<String, Object> expectedMap = createExpectedMapFromHeaderList(csvRowsExcludingHeader.get(i), autoGeneratedHeader);
+            assertThat(actualRecords.get(i).getData().toMap(), equalTo(expectedMap));
+        }
+    }
+
+    @Test
+    void test_when_noAutoDetectHeaderAndMultiByteDelimiter_then_autogeneratesHeaderAndParsesCorrectly() throws IOException {
+        final String delimiter = "\u00a7";
+        when(config.isDetectHeader()).thenReturn(Boolean.FALSE);
+        when(config.getDelimiter()).thenReturn(delimiter);
+
+        final int numberOfRows = 5;
+        final int numberOfColumns = 10;
+
+        final List<String> csvRowsExcludingHeader = generateCsvLinesAsList(numberOfRows, numberOfColumns, delimiter, "\"");
+        final InputStream inputStream = createInputStream(csvRowsExcludingHeader);
+        csvCodec.parse(inputStream, eventConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(eventConsumer, times(numberOfRows)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        final List<String> autoGeneratedHeader = createAutoGeneratedHeader(numberOfColumns);
+        for (int i = 0; i < actualRecords.size(); i++) {
+            final Map<String, Object> expectedMap = createExpectedMapFromHeaderList(csvRowsExcludingHeader.get(i), autoGeneratedHeader,
+                    delimiter.charAt(0), '"');
+            assertThat(actualRecords.get(i).getData().toMap(), equalTo(expectedMap));
+        }
+    }
+
     @Test
     void test_inputFile_autogeneratesHeaderAndParsesCorrectly() throws IOException {
         when(config.isDetectHeader()).thenReturn(Boolean.FALSE);
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.processor.drop;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.expression.CompiledExpression;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.HandleFailedEventsOption;
 import org.slf4j.Logger;
@@ -27,14 +28,14 @@ class DropEventsWhenCondition {
 
     private final String dropWhen;
     private final HandleFailedEventsOption handleFailedEventsSetting;
-    private final ExpressionEvaluator expressionEvaluator;
     private final boolean notAlwaysTrue;
+    private final CompiledExpression compiledDropWhen;
 
     DropEventsWhenCondition(final Builder builder) {
         dropWhen = builder.dropWhen;
         handleFailedEventsSetting = builder.handleFailedEventsSetting;
-        expressionEvaluator = builder.expressionEvaluator;
         notAlwaysTrue = !Objects.equals(dropWhen, HARDCODED_TRUE);
+        compiledDropWhen = notAlwaysTrue ? builder.expressionEvaluator.compile(dropWhen) : null;
     }
 
     /**
@@ -58,7 +59,7 @@ class DropEventsWhenCondition {
      */
     public boolean isStatementFalseWith(final Event event) {
         try {
-            return !expressionEvaluator.evaluateConditional(dropWhen, event);
+            return !compiledDropWhen.evaluateConditional(event);
         } catch (final Exception e) {
             if (handleFailedEventsSetting.shouldLog()) {
                 LOG.warn(EVENT, "An exception occurred while processing when expression for event [{}]", event, e);
@@ -32,6 +32,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
@@ -55,6 +56,7 @@ public class DropEventsProcessorTests {
     void beforeEach() {
         whenSetting = UUID.randomUUID().toString();
         when(expressionEvaluator.isValidExpressionStatement(anyString())).thenReturn(true);
+        lenient().doCallRealMethod().when(expressionEvaluator).compile(anyString());
         lenient().doReturn(HandleFailedEventsOption.SKIP)
                 .when(dropEventProcessorConfig)
                 .getHandleFailedEventsOption();
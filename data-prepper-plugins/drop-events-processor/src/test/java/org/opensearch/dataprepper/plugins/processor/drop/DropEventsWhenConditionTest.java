@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.processor.drop;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -25,9 +26,12 @@ import static org.hamcrest.CoreMatchers.isA;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
@@ -38,6 +42,11 @@ class DropEventsWhenConditionTest {
     @Mock
     private DropEventProcessorConfig dropEventProcessorConfig;
 
+    @BeforeEach
+    void setUp() {
+        lenient().doCallRealMethod().when(evaluator).compile(anyString());
+    }
+
     @Test
     void testGivenNullWhenSettingThenShouldEvaluateConditionalReturnFalse() {
         doReturn(HandleFailedEventsOption.SKIP)
@@ -101,6 +110,30 @@ class DropEventsWhenConditionTest {
         verify(evaluator).evaluateConditional(eq(whenStatement), eq(event));
     }
 
+    @Test
+    void testWhenStatementIsCompiledOnce() {
+        doReturn(HandleFailedEventsOption.SKIP)
+                .when(dropEventProcessorConfig)
+                .getHandleFailedEventsOption();
+
+        final String whenStatement = UUID.randomUUID().toString();
+        doReturn(whenStatement)
+                .when(dropEventProcessorConfig)
+                .getDropWhen();
+        doReturn(false)
+                .when(evaluator)
+                .evaluateConditional(eq(whenStatement), any());
+
+        final DropEventsWhenCondition whenCondition = new DropEventsWhenCondition.Builder()
+                .withDropEventsProcessorConfig(dropEventProcessorConfig)
+                .withExpressionEvaluator(evaluator)
+                .build();
+
+        assertThat(whenCondition.isStatementFalseWith(mock(Event.class)), is(true));
+        assertThat(whenCondition.isStatementFalseWith(mock(Event.class)), is(true));
+        verify(evaluator).compile(whenStatement);
+    }
+
 
     @ParameterizedTest
     @EnumSource(HandleFailedEventsOption.class)
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link CharSequence} which aborts a regular expression match on it once a deadline has passed.
+ * <p>
+ * The regex engine reads its input one character at a time, including while it backtracks. Checking the clock on
+ * those reads lets the grok processor enforce its timeout on the worker thread which runs the match, rather than
+ * handing each match to another thread and waiting on it. The clock is only read every {@link #CHECK_INTERVAL}
+ * characters, and on the first one, so that short matches cost little more than on the plain {@link String}.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final String value;
+    private final long deadlineNanos;
+    private final LongSupplier nanoClock;
+    private int charactersUntilCheck;
+
+    /**
+     * @param value the text to match
+     * @param deadlineNanos the time, according to the clock, after which reading the text fails
+     * @param nanoClock a clock in nanoseconds, such as {@link System#nanoTime()}
+     */
+    DeadlineCharSequence(final String value, final long deadlineNanos, final LongSupplier nanoClock) {
+        this.value = Objects.requireNonNull(value);
+        this.deadlineNanos = deadlineNanos;
+        this.nanoClock = Objects.requireNonNull(nanoClock);
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    /**
+     * @throws DeadlineExceededException if the deadline has passed
+     */
+    @Override
+    public char charAt(final int index) {
+        if (--charactersUntilCheck < 0) {
+            charactersUntilCheck = CHECK_INTERVAL;
+            if (nanoClock.getAsLong() - deadlineNanos > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+        return value.charAt(index);
+    }
+
+    /**
+     * Returns a part of the text. This is used to read captures once a match has completed, so it does not check the
+     * deadline.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    /**
+     * Thrown by {@link DeadlineCharSequence#charAt(int)} once the deadline has passed.
+     */
+    static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super("The deadline for matching passed.", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The compiled grok patterns configured for one field, in the order in which they are tried.
+ * <p>
+ * With the prefilter enabled, the literals which every match of a pattern must contain are found for all patterns of
+ * the field with a single pass over the value. Patterns missing any of their literals cannot match, so only the
+ * remaining candidates are run as regular expressions.
+ * <p>
+ * With reordering enabled, the patterns are sorted by how often they matched recently, so that the patterns which
+ * match most events are tried first. Match counts are halved on each reorder so that the order follows changes in the
+ * data. This class is not thread-safe.
+ */
+class GrokPatternSet {
+    static final int REORDER_INTERVAL = 1000;
+
+    private static final Comparator<PatternEntry> BY_MATCHES_DESCENDING =
+            Comparator.comparingLong((PatternEntry entry) -> entry.matches).reversed();
+
+    private final List<PatternEntry> entries;
+    private final LiteralSetMatcher literalSetMatcher;
+    private final boolean reorder;
+    private int evaluationsSinceReorder;
+
+    /**
+     * @param groks the patterns in their configured order
+     * @param prefilter whether to skip patterns whose required literals are missing from the value
+     * @param reorder whether to try the most frequently matching patterns first
+     */
+    GrokPatternSet(final List<Grok> groks, final boolean prefilter, final boolean reorder) {
+        this.reorder = reorder;
+        this.entries = new ArrayList<>(groks.size());
+
+        final Map<String, Integer> literalIds = new LinkedHashMap<>();
+        for (final Grok grok : groks) {
+            final List<String> requiredLiterals = prefilter ? RequiredLiterals.extract(grok.getNamedRegex()) : List.of();
+            final int[] requiredLiteralIds = requiredLiterals.stream()
+                    .mapToInt(literal -> literalIds.computeIfAbsent(literal, ignored -> literalIds.size()))
+                    .distinct()
+                    .toArray();
+            entries.add(new PatternEntry(grok, requiredLiteralIds));
+        }
+        this.literalSetMatcher = literalIds.isEmpty() ? null : new LiteralSetMatcher(new ArrayList<>(literalIds.keySet()));
+    }
+
+    /**
+     * Gets the patterns to try on a value, in the order in which to try them.
+     *
+     * @param value the value of the field
+     * @return the patterns which may match the value
+     */
+    List<PatternEntry> getCandidates(final String value) {
+        if (reorder && ++evaluationsSinceReorder >= REORDER_INTERVAL) {
+            reorder();
+        }
+        if (literalSetMatcher == null) {
+            return entries;
+        }
+
+        final BitSet foundLiterals = literalSetMatcher.findLiterals(value);
+        final List<PatternEntry> candidates = new ArrayList<>(entries.size());
+        for (final PatternEntry entry : entries) {
+            if (entry.hasRequiredLiterals(foundLiterals)) {
+                candidates.add(entry);
+            }
+        }
+        return candidates;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void reorder() {
+        evaluationsSinceReorder = 0;
+        entries.sort(BY_MATCHES_DESCENDING);
+        for (final PatternEntry entry : entries) {
+            entry.matches /= 2;
+        }
+    }
+
+    static class PatternEntry {
+        private final Grok grok;
+        private final int[] requiredLiteralIds;
+        private long matches;
+
+        private PatternEntry(final Grok grok, final int[] requiredLiteralIds) {
+            this.grok = grok;
+            this.requiredLiteralIds = requiredLiteralIds;
+        }
+
+        Grok getGrok() {
+            return grok;
+        }
+
+        void recordMatch() {
+            matches++;
+        }
+
+        private boolean hasRequiredLiterals(final BitSet foundLiterals) {
+            for (final int id : requiredLiteralIds) {
+                if (!foundLiterals.get(id)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -49,12 +49,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -62,8 +58,6 @@ import java.util.stream.Collectors;
 @SingleThread
 @DataPrepperPlugin(name = "grok", pluginType = Processor.class, pluginConfigurationType = GrokProcessorConfig.class)
 public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    static final long EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT = 300L;
-
     private static final Logger LOG = LoggerFactory.getLogger(GrokProcessor.class);
 
     private static final String DATA_PREPPER_GROK_PATTERNS_FILE = "grok-patterns/patterns";
@@ -73,18 +67,20 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     static final String GROK_PROCESSING_ERRORS = "grokProcessingErrors";
     static final String GROK_PROCESSING_TIMEOUTS = "grokProcessingTimeouts";
     static final String GROK_PROCESSING_TIME = "grokProcessingTime";
+    static final String GROK_PATTERNS_SKIPPED = "grokPatternsSkipped";
 
     private final Counter grokProcessingMismatchCounter;
     private final Counter grokProcessingMatchCounter;
     private final Counter grokProcessingErrorsCounter;
     private final Counter grokProcessingTimeoutsCounter;
     private final Timer grokProcessingTime;
+    private final Counter grokPatternsSkippedCounter;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, GrokPatternSet> fieldToGrok;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
-    private final ExecutorService executorService;
+    private final LongSupplier nanoClock;
     private final List<String> tagsOnMatchFailure;
     private final List<String> tagsOnTimeout;
     private final ExpressionEvaluator expressionEvaluator;
@@ -93,21 +89,20 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public GrokProcessor(final PluginMetrics pluginMetrics,
                          final GrokProcessorConfig grokProcessorConfig,
                          final ExpressionEvaluator expressionEvaluator) {
-        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(),
-                Executors.newSingleThreadExecutor(), expressionEvaluator);
+        this(pluginMetrics, grokProcessorConfig, GrokCompiler.newInstance(), System::nanoTime, expressionEvaluator);
     }
 
     GrokProcessor(final PluginMetrics pluginMetrics,
                   final GrokProcessorConfig grokProcessorConfig,
                   final GrokCompiler grokCompiler,
-                  final ExecutorService executorService,
+                  final LongSupplier nanoClock,
                   final ExpressionEvaluator expressionEvaluator) {
         super(pluginMetrics);
         this.grokProcessorConfig = grokProcessorConfig;
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
         this.fieldToGrok = new LinkedHashMap<>();
-        this.executorService = executorService;
+        this.nanoClock = nanoClock;
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
         this.tagsOnTimeout = grokProcessorConfig.getTagsOnTimeout().isEmpty() ?
@@ -117,6 +112,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         grokProcessingErrorsCounter = pluginMetrics.counter(GROK_PROCESSING_ERRORS);
         grokProcessingTimeoutsCounter = pluginMetrics.counter(GROK_PROCESSING_TIMEOUTS);
         grokProcessingTime = pluginMetrics.timer(GROK_PROCESSING_TIME);
+        grokPatternsSkippedCounter = pluginMetrics.counter(GROK_PATTERNS_SKIPPED);
 
         registerPatterns();
         compileMatchPatterns();
@@ -147,13 +143,10 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                     continue;
                 }
 
-                if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
-                } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
-                }
+                final long deadlineNanos = nanoClock.getAsLong() + TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
+                grokProcessingTime.record(() -> matchAndMerge(event, deadlineNanos));
 
-            } catch (final TimeoutException e) {
+            } catch (final DeadlineCharSequence.DeadlineExceededException e) {
                 event.getMetadata().addTags(tagsOnTimeout);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -164,7 +157,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                         .log();
 
                 grokProcessingTimeoutsCounter.increment();
-            } catch (final ExecutionException | InterruptedException | RuntimeException e) {
+            } catch (final RuntimeException | StackOverflowError e) {
                 event.getMetadata().addTags(tagsOnMatchFailure);
                 LOG.atError()
                         .addMarker(EVENT)
@@ -204,18 +197,6 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     @Override
     public void shutdown() {
-        executorService.shutdown();
-        try {
-            if (executorService.awaitTermination(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
-                LOG.info("Successfully waited for running task to terminate");
-            } else {
-                LOG.warn("Running task did not terminate in time, forcing termination");
-                executorService.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            LOG.error("Interrupted while waiting for running task to terminate", e);
-            executorService.shutdownNow();
-        }
     }
 
     private void registerPatterns() {
@@ -264,8 +245,9 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private void compileMatchPatterns() {
+        final boolean reorderMatchPatterns = grokProcessorConfig.isReorderMatchPatterns() && grokProcessorConfig.isBreakOnMatch();
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
+            final List<Grok> groks = entry.getValue()
                             .stream()
                             .map(item -> {
                                 try {
@@ -276,23 +258,34 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                                                     entry.getKey()), e);
                                 }
                             })
-                            .collect(Collectors.toList()));
+                            .collect(Collectors.toList());
+            fieldToGrok.put(entry.getKey(),
+                    new GrokPatternSet(groks, grokProcessorConfig.isPrefilterMatchPatterns(), reorderMatchPatterns));
         }
     }
 
-    private void matchAndMerge(final Event event) {
+    private void matchAndMerge(final Event event, final long deadlineNanos) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
         int patternsAttempted = 0;
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
+        for (final Map.Entry<String, GrokPatternSet> entry : fieldToGrok.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value != null && !value.isEmpty()) {
+                final GrokPatternSet grokPatternSet = entry.getValue();
+                final List<GrokPatternSet.PatternEntry> candidates = grokPatternSet.getCandidates(value);
+                if (candidates.size() < grokPatternSet.size()) {
+                    grokPatternsSkippedCounter.increment(grokPatternSet.size() - candidates.size());
+                }
+
+                for (final GrokPatternSet.PatternEntry candidate : candidates) {
+                    final Match match = candidate.getGrok().match(toMatchInput(value, deadlineNanos));
                     match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
 
                     final Map<String, Object> captures = match.capture();
+                    if (!captures.isEmpty()) {
+                        candidate.recordMatch();
+                    }
                     mergeCaptures(grokkedCaptures, captures);
 
                     patternsAttempted++;
@@ -382,13 +375,14 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
 
-    private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
-        final Future<?> task = executorService.submit(runnable);
-        try {
-            task.get(grokProcessorConfig.getTimeoutMillis(), TimeUnit.MILLISECONDS);
-        } catch (final TimeoutException exception) {
-            task.cancel(true);
-            throw exception;
+    /**
+     * Wraps the value so that matching on it fails once the deadline has passed. This runs the match on the calling
+     * worker thread, and leaves the event unchanged when the match times out.
+     */
+    private CharSequence toMatchInput(final String value, final long deadlineNanos) {
+        if (grokProcessorConfig.getTimeoutMillis() == 0) {
+            return value;
         }
+        return new DeadlineCharSequence(value, deadlineNanos, nanoClock);
     }
 }
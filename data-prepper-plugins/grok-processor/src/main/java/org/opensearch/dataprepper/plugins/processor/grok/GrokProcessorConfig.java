@@ -40,6 +40,8 @@ public class GrokProcessorConfig {
     static final String GROK_WHEN = "grok_when";
     static final String TAGS_ON_MATCH_FAILURE = "tags_on_match_failure";
     static final String TAGS_ON_TIMEOUT = "tags_on_timeout";
+    static final String PREFILTER_MATCH_PATTERNS = "prefilter_match_patterns";
+    static final String REORDER_MATCH_PATTERNS = "reorder_match_patterns";
 
     static final String INCLUDE_PERFORMANCE_METADATA = "performance_metadata";
 
@@ -116,6 +118,18 @@ public class GrokProcessorConfig {
     @JsonPropertyDescription("The tags to add to the event metadata if the grok match times out.")
     private List<String> tagsOnTimeout = Collections.emptyList();
 
+    @JsonProperty(PREFILTER_MATCH_PATTERNS)
+    @JsonPropertyDescription("Specifies whether to skip the patterns of a key which cannot match its value. " +
+            "The literal text which each pattern requires is searched for in a single pass over the value, and only patterns " +
+            "whose literals are all present are matched. This does not change the results. Default is <code>false</code>.")
+    private boolean prefilterMatchPatterns = false;
+
+    @JsonProperty(REORDER_MATCH_PATTERNS)
+    @JsonPropertyDescription("Specifies whether to try the patterns of a key which matched most often recently first. " +
+            "Only applies when <code>break_on_match</code> is <code>true</code>. When a value matches more than one pattern, " +
+            "the captures may come from a different pattern than the first configured one. Default is <code>false</code>.")
+    private boolean reorderMatchPatterns = false;
+
     @JsonProperty(INCLUDE_PERFORMANCE_METADATA)
     @JsonPropertyDescription("A boolean value to determine whether to include performance metadata into event metadata. " +
             "If set to true, the events coming out of grok will have new fields such as <code>_total_grok_patterns_attempted</code> and <code>_total_grok_processing_time</code>." +
@@ -181,4 +195,12 @@ public class GrokProcessorConfig {
     }
 
     public boolean getIncludePerformanceMetadata() { return includePerformanceMetadata; }
+
+    public boolean isPrefilterMatchPatterns() {
+        return prefilterMatchPatterns;
+    }
+
+    public boolean isReorderMatchPatterns() {
+        return reorderMatchPatterns;
+    }
 }
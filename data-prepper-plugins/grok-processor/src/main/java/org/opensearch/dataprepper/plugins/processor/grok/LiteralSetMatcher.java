@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayDeque;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Finds which of a set of literals occur in a text with a single pass over the text, using an Aho-Corasick automaton.
+ */
+class LiteralSetMatcher {
+    private static final int[] NO_OUTPUTS = new int[0];
+
+    private final Node root = new Node();
+    private final int numberOfLiterals;
+
+    /**
+     * @param literals the literals to find. The index of each literal is its id in the results.
+     */
+    LiteralSetMatcher(final List<String> literals) {
+        numberOfLiterals = literals.size();
+        for (int id = 0; id < literals.size(); id++) {
+            Node node = root;
+            for (final char c : literals.get(id).toCharArray()) {
+                node = node.next.computeIfAbsent(c, ignored -> new Node());
+            }
+            node.outputs = append(node.outputs, id);
+        }
+        linkFailures();
+    }
+
+    /**
+     * @param text the text to search
+     * @return the ids of the literals which occur in the text
+     */
+    BitSet findLiterals(final String text) {
+        final BitSet found = new BitSet(numberOfLiterals);
+        Node state = root;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            Node next = state.next.get(c);
+            while (next == null && state != root) {
+                state = state.failure;
+                next = state.next.get(c);
+            }
+            state = next != null ? next : root;
+            for (final int id : state.outputs) {
+                found.set(id);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Links each node to the node for its longest proper suffix which is also a prefix of a literal, and adds the
+     * literals ending at that node to its own.
+     */
+    private void linkFailures() {
+        final Queue<Node> queue = new ArrayDeque<>();
+        for (final Node child : root.next.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node node = queue.remove();
+            for (final Map.Entry<Character, Node> transition : node.next.entrySet()) {
+                final char c = transition.getKey();
+                final Node child = transition.getValue();
+
+                Node failure = node.failure;
+                while (failure != root && !failure.next.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                child.failure = failure.next.getOrDefault(c, root);
+                for (final int id : child.failure.outputs) {
+                    child.outputs = append(child.outputs, id);
+                }
+                queue.add(child);
+            }
+        }
+    }
+
+    private static int[] append(final int[] ids, final int id) {
+        final int[] appended = new int[ids.length + 1];
+        System.arraycopy(ids, 0, appended, 0, ids.length);
+        appended[ids.length] = id;
+        return appended;
+    }
+
+    private static class Node {
+        private final Map<Character, Node> next = new HashMap<>();
+        private Node failure;
+        private int[] outputs = NO_OUTPUTS;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the literal text which every match of a regular expression must contain.
+ * <p>
+ * Only the top level of the expression is considered: literal runs inside groups, alternations or character classes
+ * are skipped, and a literal character made optional by a quantifier ends its run without being included. Expressions
+ * using constructs which could change the meaning of literal text, such as inline flags, quoting or back references,
+ * have no required literals. The result may therefore miss literals, but never includes one which a match could lack.
+ */
+final class RequiredLiterals {
+    private static final Pattern INLINE_FLAGS = Pattern.compile("\\(\\?[a-zA-Z-]+[:)]");
+    private static final String UNSUPPORTED_ESCAPES = "xucpPkNQE";
+
+    private RequiredLiterals() {
+    }
+
+    /**
+     * @param regex the regular expression, such as the named regex of a compiled grok pattern
+     * @return the literals which every match contains, or an empty list if there are none or they cannot be determined
+     */
+    static List<String> extract(final String regex) {
+        if (regex == null || INLINE_FLAGS.matcher(regex).find()) {
+            return Collections.emptyList();
+        }
+
+        final List<String> literals = new ArrayList<>();
+        final StringBuilder run = new StringBuilder();
+        int groupDepth = 0;
+        int classDepth = 0;
+        boolean lastWasLiteral = false;
+        boolean lastWasQuantifier = false;
+
+        int i = 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            final boolean topLevel = groupDepth == 0 && classDepth == 0;
+
+            if (c == '\\') {
+                if (i + 1 == regex.length()) {
+                    return Collections.emptyList();
+                }
+                final char escaped = regex.charAt(i + 1);
+                i += 2;
+                if (Character.isLetterOrDigit(escaped)) {
+                    if (Character.isDigit(escaped) || UNSUPPORTED_ESCAPES.indexOf(escaped) >= 0) {
+                        return Collections.emptyList();
+                    }
+                    if (topLevel) {
+                        endRun(run, literals);
+                        lastWasLiteral = false;
+                    }
+                } else if (topLevel) {
+                    run.append(escaped);
+                    lastWasLiteral = true;
+                }
+                lastWasQuantifier = false;
+                continue;
+            }
+
+            if (classDepth > 0) {
+                if (c == '[') {
+                    classDepth++;
+                } else if (c == ']') {
+                    classDepth--;
+                }
+                i++;
+                continue;
+            }
+
+            switch (c) {
+                case '[':
+                    if (groupDepth == 0) {
+                        endRun(run, literals);
+                    }
+                    classDepth = 1;
+                    i = skipClassStart(regex, i + 1);
+                    lastWasLiteral = false;
+                    lastWasQuantifier = false;
+                    continue;
+                case '(':
+                    if (groupDepth == 0) {
+                        endRun(run, literals);
+                    }
+                    groupDepth++;
+                    break;
+                case ')':
+                    groupDepth--;
+                    if (groupDepth < 0) {
+                        return Collections.emptyList();
+                    }
+                    break;
+                case '|':
+                    if (groupDepth == 0) {
+                        return Collections.emptyList();
+                    }
+                    break;
+                case '?':
+                case '*':
+                case '+':
+                case '{':
+                    if (lastWasQuantifier && c != '{') {
+                        // A lazy or possessive modifier of the previous quantifier
+                        lastWasQuantifier = false;
+                        i++;
+                        continue;
+                    }
+                    if (topLevel) {
+                        if (lastWasLiteral && c != '+') {
+                            run.setLength(run.length() - 1);
+                        }
+                        endRun(run, literals);
+                    }
+                    if (c == '{') {
+                        final int end = regex.indexOf('}', i);
+                        if (end < 0) {
+                            return Collections.emptyList();
+                        }
+                        i = end;
+                    }
+                    lastWasLiteral = false;
+                    lastWasQuantifier = true;
+                    i++;
+                    continue;
+                case '.':
+                case '^':
+                case '$':
+                    if (topLevel) {
+                        endRun(run, literals);
+                    }
+                    break;
+                default:
+                    if (topLevel) {
+                        run.append(c);
+                        lastWasLiteral = true;
+                        lastWasQuantifier = false;
+                        i++;
+                        continue;
+                    }
+            }
+            lastWasLiteral = false;
+            lastWasQuantifier = false;
+            i++;
+        }
+
+        if (groupDepth != 0 || classDepth != 0) {
+            return Collections.emptyList();
+        }
+        endRun(run, literals);
+        return literals;
+    }
+
+    /**
+     * Skips a leading negation and a leading ']' in a character class, both of which do not end the class.
+     */
+    private static int skipClassStart(final String regex, int index) {
+        if (index < regex.length() && regex.charAt(index) == '^') {
+            index++;
+        }
+        if (index < regex.length() && regex.charAt(index) == ']') {
+            index++;
+        }
+        return index;
+    }
+
+    private static void endRun(final StringBuilder run, final List<String> literals) {
+        if (run.length() > 0) {
+            literals.add(run.toString());
+            run.setLength(0);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+    private static final long DEADLINE_NANOS = 1_000L;
+
+    private String value;
+    private AtomicLong nanoTime;
+    private AtomicInteger clockReads;
+
+    @BeforeEach
+    void setUp() {
+        value = UUID.randomUUID().toString();
+        nanoTime = new AtomicLong(0L);
+        clockReads = new AtomicInteger();
+    }
+
+    private DeadlineCharSequence createObjectUnderTest() {
+        return new DeadlineCharSequence(value, DEADLINE_NANOS, () -> {
+            clockReads.incrementAndGet();
+            return nanoTime.get();
+        });
+    }
+
+    @Test
+    void length_toString_and_subSequence_return_values_of_the_text() {
+        final DeadlineCharSequence objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+        assertThat(objectUnderTest.subSequence(2, 8), equalTo(value.subSequence(2, 8)));
+        assertThat(clockReads.get(), equalTo(0));
+    }
+
+    @Test
+    void charAt_returns_characters_before_the_deadline() {
+        final DeadlineCharSequence objectUnderTest = createObjectUnderTest();
+        nanoTime.set(DEADLINE_NANOS);
+
+        for (int i = 0; i < value.length(); i++) {
+            assertThat(objectUnderTest.charAt(i), equalTo(value.charAt(i)));
+        }
+    }
+
+    @Test
+    void charAt_throws_on_first_read_after_the_deadline() {
+        nanoTime.set(DEADLINE_NANOS + 1);
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> createObjectUnderTest().charAt(0));
+    }
+
+    @Test
+    void charAt_reads_the_clock_once_per_check_interval() {
+        final DeadlineCharSequence objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i <= DeadlineCharSequence.CHECK_INTERVAL; i++) {
+            objectUnderTest.charAt(0);
+        }
+        assertThat(clockReads.get(), equalTo(1));
+
+        nanoTime.set(DEADLINE_NANOS + 1);
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> objectUnderTest.charAt(0));
+        assertThat(clockReads.get(), equalTo(2));
+    }
+
+    @Test
+    void regular_expression_match_is_aborted_after_the_deadline() {
+        value = "a".repeat(30) + "b";
+        final Pattern catastrophicPattern = Pattern.compile("(.*a){20}");
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() + 50_000_000L, System::nanoTime);
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> catastrophicPattern.matcher(objectUnderTest).find());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class GrokPatternSetTest {
+    @Mock
+    private Grok firewallGrok;
+
+    @Mock
+    private Grok accessGrok;
+
+    @Mock
+    private Grok catchAllGrok;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(firewallGrok.getNamedRegex()).thenReturn("(?<action>\\w+) src=(?<src>\\S+) dst=(?<dst>\\S+)");
+        lenient().when(accessGrok.getNamedRegex()).thenReturn("(?<client>\\S+) \"GET (?<path>\\S+)\"");
+        lenient().when(catchAllGrok.getNamedRegex()).thenReturn("(?<message>.*)");
+    }
+
+    private GrokPatternSet createObjectUnderTest(final boolean prefilter, final boolean reorder) {
+        return new GrokPatternSet(List.of(firewallGrok, accessGrok, catchAllGrok), prefilter, reorder);
+    }
+
+    @Test
+    void getCandidates_without_prefilter_returns_all_patterns_in_order() {
+        final GrokPatternSet objectUnderTest = createObjectUnderTest(false, false);
+
+        assertThat(groksOf(objectUnderTest.getCandidates("DROP src=1.1.1.1 dst=2.2.2.2")), equalTo(List.of(firewallGrok, accessGrok, catchAllGrok)));
+        assertThat(objectUnderTest.size(), equalTo(3));
+        verifyNoInteractions(firewallGrok, accessGrok, catchAllGrok);
+    }
+
+    @Test
+    void getCandidates_with_prefilter_skips_patterns_missing_required_literals() {
+        final GrokPatternSet objectUnderTest = createObjectUnderTest(true, false);
+
+        assertThat(groksOf(objectUnderTest.getCandidates("DROP src=1.1.1.1 dst=2.2.2.2")), equalTo(List.of(firewallGrok, catchAllGrok)));
+        assertThat(groksOf(objectUnderTest.getCandidates("1.1.1.1 \"GET /index.html\"")), equalTo(List.of(accessGrok, catchAllGrok)));
+        assertThat(groksOf(objectUnderTest.getCandidates("DROP src=1.1.1.1")), equalTo(List.of(catchAllGrok)));
+        assertThat(objectUnderTest.size(), equalTo(3));
+    }
+
+    @Test
+    void getCandidates_with_prefilter_and_no_literals_returns_all_patterns() {
+        final GrokPatternSet objectUnderTest = new GrokPatternSet(List.of(catchAllGrok), true, false);
+
+        assertThat(groksOf(objectUnderTest.getCandidates("anything")), equalTo(List.of(catchAllGrok)));
+    }
+
+    @Test
+    void getCandidates_with_reorder_tries_most_matched_patterns_first_after_interval() {
+        final GrokPatternSet objectUnderTest = createObjectUnderTest(false, true);
+
+        for (int i = 1; i < GrokPatternSet.REORDER_INTERVAL; i++) {
+            final List<GrokPatternSet.PatternEntry> candidates = objectUnderTest.getCandidates("value");
+            assertThat(groksOf(candidates), equalTo(List.of(firewallGrok, accessGrok, catchAllGrok)));
+            candidates.get(2).recordMatch();
+            if (i % 2 == 0) {
+                candidates.get(1).recordMatch();
+            }
+        }
+
+        assertThat(groksOf(objectUnderTest.getCandidates("value")), equalTo(List.of(catchAllGrok, accessGrok, firewallGrok)));
+    }
+
+    @Test
+    void getCandidates_with_reorder_follows_changes_in_matches() {
+        final GrokPatternSet objectUnderTest = createObjectUnderTest(false, true);
+
+        for (int i = 1; i < GrokPatternSet.REORDER_INTERVAL; i++) {
+            objectUnderTest.getCandidates("value").get(2).recordMatch();
+        }
+        assertThat(groksOf(objectUnderTest.getCandidates("value")).get(0), equalTo(catchAllGrok));
+
+        for (int i = 1; i < GrokPatternSet.REORDER_INTERVAL; i++) {
+            final List<GrokPatternSet.PatternEntry> candidates = objectUnderTest.getCandidates("value");
+            candidates.get(1).recordMatch();
+            candidates.get(2).recordMatch();
+        }
+        for (int i = 0; i < GrokPatternSet.REORDER_INTERVAL; i++) {
+            final List<GrokPatternSet.PatternEntry> candidates = objectUnderTest.getCandidates("value");
+            candidates.stream().filter(candidate -> candidate.getGrok() == accessGrok).findFirst().get().recordMatch();
+        }
+
+        assertThat(groksOf(objectUnderTest.getCandidates("value")).get(0), equalTo(accessGrok));
+    }
+
+    private static List<Grok> groksOf(final List<GrokPatternSet.PatternEntry> candidates) {
+        return candidates.stream().map(GrokPatternSet.PatternEntry::getGrok).collect(Collectors.toList());
+    }
+}
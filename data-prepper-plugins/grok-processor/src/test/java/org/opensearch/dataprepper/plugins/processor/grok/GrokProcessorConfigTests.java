@@ -81,6 +81,8 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getTagsOnMatchFailure(), equalTo(Collections.emptyList()));
         assertThat(grokProcessorConfig.getTagsOnTimeout(), equalTo(Collections.emptyList()));
         assertThat(grokProcessorConfig.getIncludePerformanceMetadata(), equalTo(false));
+        assertThat(grokProcessorConfig.isPrefilterMatchPatterns(), equalTo(false));
+        assertThat(grokProcessorConfig.isReorderMatchPatterns(), equalTo(false));
     }
 
     @Test
@@ -193,4 +195,17 @@ public class GrokProcessorConfigTests {
 
         assertThat(objectUnderTest.getTagsOnTimeout(), equalTo(tagsOnTimeout));
     }
+
+    @Test
+    void prefilter_and_reorder_match_patterns_are_read_from_configuration() {
+        final GrokProcessorConfig objectUnderTest = OBJECT_MAPPER.convertValue(
+                Map.of(
+                        GrokProcessorConfig.PREFILTER_MATCH_PATTERNS, true,
+                        GrokProcessorConfig.REORDER_MATCH_PATTERNS, true
+                ),
+                GrokProcessorConfig.class);
+
+        assertThat(objectUnderTest.isPrefilterMatchPatterns(), equalTo(true));
+        assertThat(objectUnderTest.isReorderMatchPatterns(), equalTo(true));
+    }
 }
@@ -171,6 +171,42 @@ public class GrokProcessorIT {
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
     }
 
+    @Test
+    public void testSingleMatchMultiplePatternsWithPrefilterMatchPatterns() throws JsonProcessingException {
+        final Map<String, List<String>> matchConfig = new HashMap<>();
+        matchConfig.put("message", List.of("%{WORD:action} src=%{IP:src} dst=%{IP:dst}", "%{SYSLOGBASE}", "%{COMMONAPACHELOG}"));
+
+        pluginSetting.getSettings().put(GrokProcessorConfig.MATCH, matchConfig);
+        pluginSetting.getSettings().put(GrokProcessorConfig.PREFILTER_MATCH_PATTERNS, true);
+        pluginSetting.getSettings().put(GrokProcessorConfig.REORDER_MATCH_PATTERNS, true);
+        grokProcessorConfig = OBJECT_MAPPER.convertValue(pluginSetting.getSettings(), GrokProcessorConfig.class);
+        grokProcessor = new GrokProcessor(pluginMetrics, grokProcessorConfig, expressionEvaluator);
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final Map<String, Object> resultData = new HashMap<>();
+        resultData.put("message", messageInput);
+        resultData.put("clientip", "127.0.0.1");
+        resultData.put("ident", "user-identifier");
+        resultData.put("auth", "frank");
+        resultData.put("timestamp", "10/Oct/2000:13:55:36 -0700");
+        resultData.put("verb", "GET");
+        resultData.put("request", "/apache_pb.gif");
+        resultData.put("httpversion", "1.0");
+        resultData.put("response", "200");
+        resultData.put("bytes", "2326");
+
+        final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertThat(grokkedRecords.get(0), notNullValue());
+        assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+    }
+
     @Test
     public void testSingleMatchMultiplePatternWithBreakOnMatchFalse() throws JsonProcessingException {
         final Map<String, List<String>> matchConfig = new HashMap<>();
@@ -35,11 +35,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
@@ -49,15 +46,16 @@ import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
-import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
-import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor.EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_PATTERNS_ATTEMPTED_METADATA_KEY;
 import static org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig.TOTAL_TIME_SPENT_IN_GROK_METADATA_KEY;
 import static org.opensearch.dataprepper.test.matcher.MapEquals.isEqualWithoutTimestamp;
@@ -70,11 +68,7 @@ public class GrokProcessorTests {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<Map<String, Object>>() {};
     private String messageInput;
 
-    @Mock
-    private ExecutorService executorService;
-
-    @Mock
-    private Future task;
+    private final AtomicLong nanoTime = new AtomicLong();
 
     @Mock
     private GrokCompiler grokCompiler;
@@ -106,6 +100,9 @@ public class GrokProcessorTests {
     @Mock
     private Timer grokProcessingTime;
 
+    @Mock
+    private Counter grokPatternsSkippedCounter;
+
     @Mock
     private ExpressionEvaluator expressionEvaluator;
     @Mock
@@ -115,7 +112,7 @@ public class GrokProcessorTests {
     private final Map<String, List<String>> matchConfig = new HashMap<>();
 
     @BeforeEach
-    public void setup() throws TimeoutException, ExecutionException, InterruptedException {
+    public void setup() {
         configureDefaultGrokProcessorConfig();
 
         final List<String> matchPatterns = new ArrayList<>();
@@ -130,6 +127,7 @@ public class GrokProcessorTests {
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_TIMEOUTS)).thenReturn(grokProcessingTimeoutsCounter);
         lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PROCESSING_ERRORS)).thenReturn(grokProcessingErrorsCounter);
         lenient().when(pluginMetrics.timer(GrokProcessor.GROK_PROCESSING_TIME)).thenReturn(grokProcessingTime);
+        lenient().when(pluginMetrics.counter(GrokProcessor.GROK_PATTERNS_SKIPPED)).thenReturn(grokPatternsSkippedCounter);
 
         lenient().doAnswer(a -> {
             a.<Runnable>getArgument(0).run();
@@ -143,18 +141,25 @@ public class GrokProcessorTests {
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(0)), anyBoolean())).thenReturn(grok);
         lenient().when(grokCompiler.compile(eq(matchConfig.get("message").get(1)), anyBoolean())).thenReturn(grokSecondMatch);
 
-        lenient().when(grok.match(messageInput)).thenReturn(match);
+        lenient().when(grok.match(charSequenceOf(messageInput))).thenReturn(match);
         lenient().when(match.capture()).thenReturn(capture);
-        lenient().when(executorService.submit(any(Runnable.class))).then(a -> {
-            a.<Runnable>getArgument(0).run();
-            return task;
-        });
-        lenient().when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenReturn(null);
     }
 
     private GrokProcessor createObjectUnderTest() {
         return new GrokProcessor(
-                pluginMetrics, grokProcessorConfig, grokCompiler, executorService, expressionEvaluator);
+                pluginMetrics, grokProcessorConfig, grokCompiler, nanoTime::get, expressionEvaluator);
+    }
+
+    private static CharSequence charSequenceOf(final String value) {
+        return argThat(charSequence -> charSequence != null && value.contentEquals(charSequence));
+    }
+
+    private void timeOutOnMatch(final Grok grokToTimeOut) {
+        when(grokToTimeOut.match(charSequenceOf(messageInput))).then(a -> {
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS) + 1);
+            a.<CharSequence>getArgument(0).charAt(0);
+            return match;
+        });
     }
 
     @Test
@@ -202,8 +207,7 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
+        verify(grok).match(argThat(charSequence -> charSequence instanceof DeadlineCharSequence));
     }
 
     @Test
@@ -238,8 +242,7 @@ public class GrokProcessorTests {
         verify(grokProcessingMatchCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
         verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
-        verify(task).get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
-        verifyNoMoreInteractions(task);
+        verify(grok).match(argThat(charSequence -> charSequence instanceof DeadlineCharSequence));
     }
 
     @Test
@@ -404,8 +407,8 @@ public class GrokProcessorTests {
     }
 
     @Test
-    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-        when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+    public void testThatTimeoutExceptionIsCaughtAndProcessingContinues() throws JsonProcessingException {
+        timeOutOnMatch(grok);
 
         grokProcessor = createObjectUnderTest();
 
@@ -422,13 +425,33 @@ public class GrokProcessorTests {
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), record);
-        verify(task).cancel(true);
         verify(grokProcessingTimeoutsCounter, times(1)).increment();
         verify(grokProcessingTime, times(1)).record(any(Runnable.class));
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingMismatchCounter, grokSecondMatch);
+    }
+
+    @Test
+    public void testThatTimeoutOfOneRecordDoesNotAffectTheNextRecord() throws JsonProcessingException {
+        final String nextMessageInput = UUID.randomUUID().toString();
+        timeOutOnMatch(grok);
+        when(grok.match(charSequenceOf(nextMessageInput))).thenReturn(match);
+        capture.put("key_capture_1", "value_capture_1");
+
+        grokProcessor = createObjectUnderTest();
+
+        final Record<Event> timedOutRecord = buildRecordWithEvent(Map.of("message", messageInput));
+        final Record<Event> nextRecord = buildRecordWithEvent(Map.of("message", nextMessageInput));
+
+        grokProcessor.doExecute(List.of(timedOutRecord, nextRecord));
+
+        assertRecordsAreEqual(timedOutRecord, buildRecordWithEvent(Map.of("message", messageInput)));
+        assertRecordsAreEqual(nextRecord, buildRecordWithEvent(Map.of("message", nextMessageInput, "key_capture_1", "value_capture_1")));
+        verify(grokProcessingTimeoutsCounter, times(1)).increment();
+        verify(grokProcessingMatchCounter, times(1)).increment();
     }
 
     @Test
-    public void testThatProcessingWithTimeoutMillisOfZeroDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+    public void testThatProcessingWithTimeoutMillisOfZeroMatchesOnTheValueAndReturnsCorrectResult() throws JsonProcessingException {
         when(grokProcessorConfig.getTimeoutMillis()).thenReturn(0);
         grokProcessor = createObjectUnderTest();
 
@@ -450,7 +473,7 @@ public class GrokProcessorTests {
         final Record<Event> resultRecord = buildRecordWithEvent(resultData);
 
         final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
-        verifyNoInteractions(executorService);
+        verify(grok).match(messageInput);
         assertThat(grokkedRecords.size(), equalTo(1));
         assertThat(grokkedRecords.get(0), notNullValue());
         assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
@@ -461,42 +484,58 @@ public class GrokProcessorTests {
 
 
     @Test
-    public void testPrepareForShutdown() {
+    public void testPrefilterMatchPatternsSkipsPatternsWithMissingLiterals() throws JsonProcessingException {
+        when(grokProcessorConfig.isPrefilterMatchPatterns()).thenReturn(true);
+        when(grok.getNamedRegex()).thenReturn("(?<action>\\w+) src=(?<src>\\S+)");
+        when(grokSecondMatch.getNamedRegex()).thenReturn("(?<message>.*)");
+        final Match secondMatch = mock(Match.class);
+        when(grokSecondMatch.match(charSequenceOf(messageInput))).thenReturn(secondMatch);
+        when(secondMatch.capture()).thenReturn(Map.of("key_capture_1", "value_capture_1"));
         grokProcessor = createObjectUnderTest();
-        grokProcessor.prepareForShutdown();
+
+        final Record<Event> record = buildRecordWithEvent(Map.of("message", messageInput));
+
+        grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertRecordsAreEqual(record, buildRecordWithEvent(Map.of("message", messageInput, "key_capture_1", "value_capture_1")));
+        verify(grok, never()).match(any(CharSequence.class));
+        verify(grokPatternsSkippedCounter).increment(1);
+        verify(grokProcessingMatchCounter).increment();
     }
 
     @Test
-    public void testShutdown_Successful() throws InterruptedException {
+    public void testPrefilterMatchPatternsMatchesPatternsWithAllLiterals() throws JsonProcessingException {
+        when(grokProcessorConfig.isPrefilterMatchPatterns()).thenReturn(true);
+        when(grok.getNamedRegex()).thenReturn("(?<action>\\w+) src=(?<src>\\S+)");
+        when(grokSecondMatch.getNamedRegex()).thenReturn("(?<message>.*)");
+        final String firewallInput = "DROP src=" + messageInput;
+        when(grok.match(charSequenceOf(firewallInput))).thenReturn(match);
+        capture.put("action", "DROP");
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
 
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
+        final Record<Event> record = buildRecordWithEvent(Map.of("message", firewallInput));
+
+        grokProcessor.doExecute(Collections.singletonList(record));
+
+        assertRecordsAreEqual(record, buildRecordWithEvent(Map.of("message", firewallInput, "action", "DROP")));
+        verifyNoInteractions(grokPatternsSkippedCounter);
+        verify(grokSecondMatch, never()).match(any(CharSequence.class));
+        verify(grokProcessingMatchCounter).increment();
     }
 
     @Test
-    public void testShutdown_Timeout() throws InterruptedException {
+    public void testPrepareForShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
-
-        grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+        grokProcessor.prepareForShutdown();
     }
 
     @Test
-    public void testShutdown_InterruptedException() throws InterruptedException {
+    public void testShutdown() {
         grokProcessor = createObjectUnderTest();
-        lenient().when(executorService.awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS)))
-                .thenThrow(new InterruptedException());
 
         grokProcessor.shutdown();
-        verify(executorService).shutdown();
-        verify(executorService).awaitTermination(eq(EXECUTOR_SERVICE_SHUTDOWN_TIMEOUT), eq(TimeUnit.MILLISECONDS));
-        verify(executorService).shutdownNow();
+
+        assertThat(grokProcessor.isReadyForShutdown(), equalTo(true));
     }
 
     @Nested
@@ -515,7 +554,7 @@ public class GrokProcessorTests {
         public void testNoCaptures() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(charSequenceOf(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             final Map<String, Object> testData = new HashMap();
@@ -537,7 +576,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(charSequenceOf(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -565,7 +604,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.getIncludePerformanceMetadata()).thenReturn(true);
 
             when(match.capture()).thenReturn(Collections.emptyMap());
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(charSequenceOf(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(capture);
 
             grokProcessor = createObjectUnderTest();
@@ -613,7 +652,7 @@ public class GrokProcessorTests {
             @Test
             public void testNoCapturesWithTag() throws JsonProcessingException {
                 grokProcessor = createObjectUnderTest();
-                lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+                lenient().when(grokSecondMatch.match(charSequenceOf(messageInput))).thenReturn(secondMatch);
                 lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
                 final Map<String, Object> testData = new HashMap();
@@ -635,8 +674,8 @@ public class GrokProcessorTests {
             }
 
             @Test
-            public void timeout_exception_tags_the_event() throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+            public void timeout_exception_tags_the_event() throws JsonProcessingException {
+                timeOutOnMatch(grok);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -664,9 +703,9 @@ public class GrokProcessorTests {
 
             @Test
             public void timeout_exception_tags_the_event_with_tags_on_match_failure()
-                    throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
+                    throws JsonProcessingException {
                 when(grokProcessorConfig.getTagsOnTimeout()).thenReturn(Collections.emptyList());
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(TimeoutException.class);
+                timeOutOnMatch(grok);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -691,9 +730,9 @@ public class GrokProcessorTests {
             }
 
             @ParameterizedTest
-            @ValueSource(classes = {ExecutionException.class, InterruptedException.class, RuntimeException.class})
-            public void execution_exception_tags_the_event(Class<Exception> exceptionClass) throws JsonProcessingException, TimeoutException, ExecutionException, InterruptedException {
-                when(task.get(GrokProcessorConfig.DEFAULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)).thenThrow(exceptionClass);
+            @ValueSource(classes = {RuntimeException.class, IllegalStateException.class, StackOverflowError.class})
+            public void execution_exception_tags_the_event(Class<Throwable> exceptionClass) throws JsonProcessingException {
+                when(grok.match(charSequenceOf(messageInput))).thenThrow(exceptionClass);
 
                 grokProcessor = createObjectUnderTest();
 
@@ -722,7 +761,7 @@ public class GrokProcessorTests {
         public void testBreakOnMatchTrue() throws JsonProcessingException {
             grokProcessor = createObjectUnderTest();
 
-            lenient().when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            lenient().when(grokSecondMatch.match(charSequenceOf(messageInput))).thenReturn(secondMatch);
             lenient().when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -759,7 +798,7 @@ public class GrokProcessorTests {
             when(grokProcessorConfig.isBreakOnMatch()).thenReturn(false);
             grokProcessor = createObjectUnderTest();
 
-            when(grokSecondMatch.match(messageInput)).thenReturn(secondMatch);
+            when(grokSecondMatch.match(charSequenceOf(messageInput))).thenReturn(secondMatch);
             when(secondMatch.capture()).thenReturn(secondCapture);
 
             capture.put("key_capture_1", "value_capture_1");
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class LiteralSetMatcherTest {
+    @Test
+    void findLiterals_finds_overlapping_literals() {
+        final LiteralSetMatcher objectUnderTest = new LiteralSetMatcher(List.of("he", "she", "his", "hers", "x"));
+
+        assertThat(objectUnderTest.findLiterals("ushers"), equalTo(bitSetOf(0, 1, 3)));
+        assertThat(objectUnderTest.findLiterals("ahishe"), equalTo(bitSetOf(0, 1, 2)));
+        assertThat(objectUnderTest.findLiterals("abc"), equalTo(new BitSet()));
+        assertThat(objectUnderTest.findLiterals(""), equalTo(new BitSet()));
+    }
+
+    @Test
+    void findLiterals_with_no_literals_finds_nothing() {
+        assertThat(new LiteralSetMatcher(List.of()).findLiterals("abc"), equalTo(new BitSet()));
+    }
+
+    @Test
+    void findLiterals_finds_the_same_literals_as_contains() {
+        final Random random = new Random(1);
+        for (int i = 0; i < 1_000; i++) {
+            final List<String> literals = List.of(randomText(random, 1, 4), randomText(random, 1, 4), randomText(random, 1, 4));
+            final String text = randomText(random, 0, 20);
+
+            final BitSet foundLiterals = new LiteralSetMatcher(literals).findLiterals(text);
+
+            for (int id = 0; id < literals.size(); id++) {
+                assertThat(literals + " in " + text, foundLiterals.get(id), equalTo(text.contains(literals.get(id))));
+            }
+        }
+    }
+
+    private static String randomText(final Random random, final int minimumLength, final int maximumLength) {
+        final int length = minimumLength + random.nextInt(maximumLength - minimumLength + 1);
+        final StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append("abc".charAt(random.nextInt(3)));
+        }
+        return text.toString();
+    }
+
+    private static BitSet bitSetOf(final int... ids) {
+        final BitSet bitSet = new BitSet();
+        for (final int id : ids) {
+            bitSet.set(id);
+        }
+        return bitSet;
+    }
+}
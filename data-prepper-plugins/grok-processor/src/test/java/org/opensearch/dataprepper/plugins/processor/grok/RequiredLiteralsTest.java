@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class RequiredLiteralsTest {
+    @ParameterizedTest
+    @MethodSource("regexesWithRequiredLiterals")
+    void extract_returns_required_top_level_literals(final String regex, final List<String> expectedLiterals) {
+        assertThat(RequiredLiterals.extract(regex), equalTo(expectedLiterals));
+    }
+
+    private static Stream<Arguments> regexesWithRequiredLiterals() {
+        return Stream.of(
+                arguments("GET", List.of("GET")),
+                arguments("(?<ip>\\d+) - \\[(?<ts>[^\\]]+)\\] \"GET", List.of(" - [", "] \"GET")),
+                arguments("abc?def", List.of("ab", "def")),
+                arguments("abc*def", List.of("ab", "def")),
+                arguments("abc+def", List.of("abc", "def")),
+                arguments("ab{2,3}cd", List.of("a", "cd")),
+                arguments("ab*?cd", List.of("a", "cd")),
+                arguments("ab++cd", List.of("ab", "cd")),
+                arguments("ab{2}?cd", List.of("a", "cd")),
+                arguments("x\\.y\\d z", List.of("x.y", " z")),
+                arguments("foo(bar)?baz", List.of("foo", "baz")),
+                arguments("foo(b|a\\)r)+baz", List.of("foo", "baz")),
+                arguments("foo(a{2}b?\\.)baz", List.of("foo", "baz")),
+                arguments("^start.*end$", List.of("start", "end")),
+                arguments("[]x]yz", List.of("yz")),
+                arguments("[^]q]rs", List.of("rs")),
+                arguments("[^q]rs", List.of("rs")),
+                arguments("[a-z[0-9]]lit", List.of("lit")),
+                arguments("a[\\]]b", List.of("a", "b")),
+                arguments("(a[)]b)c", List.of("c")),
+                arguments("\\d+", List.of()),
+                arguments("", List.of())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "a|b",
+            "(?i)abc",
+            "abc(?i:d)",
+            "a(b)\\1",
+            "q\\x41r",
+            "q\\Qr\\E",
+            "\\p{Alpha}abc",
+            "a)b",
+            "(ab",
+            "[ab",
+            "tr\\",
+            "a{2"
+    })
+    void extract_returns_no_literals_for_unsupported_expressions(final String regex) {
+        assertThat(RequiredLiterals.extract(regex), equalTo(List.of()));
+    }
+
+    @Test
+    void extract_returns_no_literals_for_null() {
+        assertThat(RequiredLiterals.extract(null), equalTo(List.of()));
+    }
+}
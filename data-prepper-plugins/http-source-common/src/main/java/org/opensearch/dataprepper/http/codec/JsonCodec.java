@@ -8,9 +8,11 @@ package org.opensearch.dataprepper.http.codec;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.io.CountingOutputStream;
 import com.linecorp.armeria.common.HttpData;
@@ -20,13 +22,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
 /**
- * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
- * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
+ * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;, or streams
+ * each array element as a {@link JsonNode} via {@link #parse(HttpData, Consumer)} or as
+ * its UTF-8 bytes via {@link #parseBytes(HttpData, Consumer)}.
  */
 public class JsonCodec implements Codec<List<String>> {
     private static final ObjectMapper mapper = new ObjectMapper();
@@ -49,6 +53,65 @@ public class JsonCodec implements Codec<List<String>> {
         return jsonList;
     }
 
+    /**
+     * Parses the json array format HTTP data in a single streaming pass, handing each array element
+     * to the consumer as a {@link JsonNode} tree. Unlike {@link #parse(HttpData)}, the elements are
+     * neither materialized as maps nor re-serialized to strings.
+     *
+     * @param httpData The content of the original HTTP request
+     * @param jsonNodeConsumer A {@link Consumer} to accept each JSON object in the array
+     * @throws IOException A failure while parsing data, including array elements which are not JSON objects.
+     */
+    public void parse(final HttpData httpData, final Consumer<JsonNode> jsonNodeConsumer) throws IOException {
+        try (final JsonParser jsonParser = mapper.createParser(httpData.toInputStream())) {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(jsonParser, "Input is not a valid JSON array.");
+            }
+
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(jsonParser, "Input JSON array elements must be JSON objects.");
+                }
+                jsonNodeConsumer.accept(mapper.readTree(jsonParser));
+            }
+        }
+    }
+
+    /**
+     * Parses the json array format HTTP data in a single streaming pass, handing each array element
+     * to the consumer as its own UTF-8 encoded JSON. The elements are validated but no trees are built,
+     * and for UTF-8 content the bytes are copied from the request as they are.
+     *
+     * @param httpData The content of the original HTTP request
+     * @param jsonBytesConsumer A {@link Consumer} to accept the bytes of each JSON object in the array
+     * @throws IOException A failure while parsing data, including array elements which are not JSON objects.
+     */
+    public void parseBytes(final HttpData httpData, final Consumer<byte[]> jsonBytesConsumer) throws IOException {
+        final byte[] content = httpData.array();
+        try (final JsonParser jsonParser = mapper.createParser(content)) {
+            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(jsonParser, "Input is not a valid JSON array.");
+            }
+
+            JsonToken token;
+            while ((token = jsonParser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new JsonParseException(jsonParser, "Input JSON array elements must be JSON objects.");
+                }
+                final long start = jsonParser.currentTokenLocation().getByteOffset();
+                if (start < 0) {
+                    // Content in other encodings is read as characters, so there are no byte offsets.
+                    jsonBytesConsumer.accept(mapper.writeValueAsBytes(mapper.readTree(jsonParser)));
+                    continue;
+                }
+                jsonParser.skipChildren();
+                final long end = jsonParser.currentLocation().getByteOffset();
+                jsonBytesConsumer.accept(Arrays.copyOfRange(content, (int) start, (int) end));
+            }
+        }
+    }
+
     @Override
     public void validate(final HttpData content) throws IOException {
         mapper.readValue(content.toInputStream(),
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.http.codec;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -18,6 +20,7 @@ import org.mockito.ArgumentCaptor;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -30,7 +33,9 @@ import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -41,6 +46,7 @@ class JsonCodecTest {
     private final HttpData badTestDataJsonLine = HttpData.ofUtf8("{\"a\":\"b\"}");
     private final HttpData badTestDataMultiJsonLines = HttpData.ofUtf8("{\"a\":\"b\"}{\"c\":\"d\"}");
     private final HttpData badTestDataNonJson = HttpData.ofUtf8("non json content");
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private final JsonCodec objectUnderTest = new JsonCodec();
 
     @Test
@@ -228,6 +234,95 @@ class JsonCodecTest {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson));
     }
 
+    @ParameterizedTest
+    @ArgumentsSource(GoodTestData.class)
+    void parse_with_consumer_produces_same_objects_as_parse(final HttpData httpData) throws IOException {
+        final List<String> expected = objectUnderTest.parse(httpData);
+        final List<JsonNode> actualNodes = new ArrayList<>();
+
+        objectUnderTest.parse(httpData, actualNodes::add);
+
+        assertThat(actualNodes.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actualNodes.get(i).isObject(), equalTo(true));
+            assertThat(actualNodes.get(i).toString(), equalTo(expected.get(i)));
+        }
+    }
+
+    @Test
+    void parse_with_consumer_on_non_object_elements_throws() {
+        final Consumer<JsonNode> jsonNodeConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":\"b\"}, \"c\"]"), jsonNodeConsumer));
+    }
+
+    @Test
+    void parse_with_consumer_on_truncated_array_throws() {
+        final Consumer<JsonNode> jsonNodeConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(HttpData.ofUtf8("[{\"a\":\"b\"}"), jsonNodeConsumer));
+    }
+
+    @Test
+    void parse_with_consumer_JsonLineFailure() {
+        final Consumer<JsonNode> jsonNodeConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonLine, jsonNodeConsumer));
+        verify(jsonNodeConsumer, never()).accept(any());
+    }
+
+    @Test
+    void parse_with_consumer_NonJsonFailure() {
+        final Consumer<JsonNode> jsonNodeConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataNonJson, jsonNodeConsumer));
+        verify(jsonNodeConsumer, never()).accept(any());
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(GoodTestData.class)
+    void parseBytes_produces_same_objects_as_parse(final HttpData httpData) throws IOException {
+        final List<JsonNode> expected = new ArrayList<>();
+        objectUnderTest.parse(httpData, expected::add);
+        final List<byte[]> actualBytes = new ArrayList<>();
+
+        objectUnderTest.parseBytes(httpData, actualBytes::add);
+
+        assertThat(actualBytes.size(), equalTo(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(OBJECT_MAPPER.readTree(actualBytes.get(i)), equalTo(expected.get(i)));
+        }
+    }
+
+    @Test
+    void parseBytes_copies_the_bytes_of_each_element() throws IOException {
+        final List<byte[]> actualBytes = new ArrayList<>();
+
+        objectUnderTest.parseBytes(HttpData.ofUtf8("[ {\"a\": [1, {}]},\n{\"b\": \"\u00e9\"} ]"), actualBytes::add);
+
+        assertThat(actualBytes.size(), equalTo(2));
+        assertThat(new String(actualBytes.get(0), StandardCharsets.UTF_8), equalTo("{\"a\": [1, {}]}"));
+        assertThat(new String(actualBytes.get(1), StandardCharsets.UTF_8), equalTo("{\"b\": \"\u00e9\"}"));
+    }
+
+    @Test
+    void parseBytes_encodes_elements_of_UTF_16_content_as_UTF_8() throws IOException {
+        final List<byte[]> actualBytes = new ArrayList<>();
+
+        objectUnderTest.parseBytes(HttpData.wrap("[{\"a\": \"\u00e9\"}]".getBytes(StandardCharsets.UTF_16BE)), actualBytes::add);
+
+        assertThat(actualBytes.size(), equalTo(1));
+        assertThat(new String(actualBytes.get(0), StandardCharsets.UTF_8), equalTo("{\"a\":\"\u00e9\"}"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"a\":\"b\"}, \"c\"]", "[{\"a\":\"b\"}", "[{\"a\":}]", "{\"a\":\"b\"}", "non json content"})
+    void parseBytes_on_invalid_content_throws(final String content) {
+        final Consumer<byte[]> jsonBytesConsumer = mock(Consumer.class);
+
+        assertThrows(IOException.class, () -> objectUnderTest.parseBytes(HttpData.ofUtf8(content), jsonBytesConsumer));
+    }
+
     static class GoodTestData implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
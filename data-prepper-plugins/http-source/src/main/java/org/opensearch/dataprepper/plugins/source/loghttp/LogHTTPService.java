@@ -29,7 +29,6 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 
 /*
@@ -112,7 +111,6 @@ public class LogHTTPService {
                 }
             }
         } else {
-            final List<String> jsonList;
             final List<Record<Log>> records = new ArrayList<>();
 
             if (codec != null) {
@@ -127,17 +125,11 @@ public class LogHTTPService {
             } else {
 
                 try {
-                    jsonList = jsonCodec.parse(content);
+                    jsonCodec.parseBytes(content, jsonBytes -> records.add(buildRecordLog(jsonBytes)));
                 } catch (IOException e) {
                     LOG.error("Failed to parse the request of size {} due to: {}", content.length(), e.getMessage());
                     throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
                 }
-
-                records.addAll(
-                        jsonList.stream()
-                                .map(this::buildRecordLog)
-                                .collect(Collectors.toList())
-                );
             }
 
             try {
@@ -171,10 +163,10 @@ public class LogHTTPService {
         }
     }
 
-    private Record<Log> buildRecordLog(String json) {
+    private Record<Log> buildRecordLog(final byte[] jsonBytes) {
 
         final JacksonLog log = JacksonLog.builder()
-                .withData(json)
+                .withData(jsonBytes)
                 .getThis()
                 .build();
 
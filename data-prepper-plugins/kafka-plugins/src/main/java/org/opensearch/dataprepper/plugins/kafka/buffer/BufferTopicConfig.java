@@ -26,6 +26,7 @@ class BufferTopicConfig extends CommonTopicConfig implements TopicProducerConfig
     private static final Short DEFAULT_REPLICATION_FACTOR = 1;
     private static final Long DEFAULT_RETENTION_PERIOD = 604800000L;
     static final boolean DEFAULT_AUTO_COMMIT = false;
+    static final boolean DEFAULT_ASYNC_COMMIT = false;
     static final ByteCount DEFAULT_FETCH_MAX_BYTES = ByteCount.parse("50mb");
     static final Duration DEFAULT_FETCH_MAX_WAIT = Duration.ofMillis(1000);
     static final ByteCount DEFAULT_FETCH_MIN_BYTES = ByteCount.parse("2kb");
@@ -104,6 +105,9 @@ class BufferTopicConfig extends CommonTopicConfig implements TopicProducerConfig
     @JsonProperty("auto_commit")
     private Boolean autoCommit = DEFAULT_AUTO_COMMIT;
 
+    @JsonProperty("async_commit")
+    private Boolean asyncCommit = DEFAULT_ASYNC_COMMIT;
+
     @JsonProperty("max_partition_fetch_bytes")
     private ByteCount maxPartitionFetchBytes = DEFAULT_MAX_PARTITION_FETCH_BYTES;
 
@@ -186,6 +190,11 @@ class BufferTopicConfig extends CommonTopicConfig implements TopicProducerConfig
         return autoCommit;
     }
 
+    @Override
+    public Boolean getAsyncCommit() {
+        return asyncCommit;
+    }
+
     @Override
     public Duration getSessionTimeOut() {
         return sessionTimeOut;
@@ -20,6 +20,8 @@ public interface TopicConsumerConfig extends TopicConfig {
 
     Boolean getAutoCommit();
 
+    Boolean getAsyncCommit();
+
     String getAutoOffsetReset();
 
     Duration getCommitInterval();
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericEnumSymbol;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.IndexedRecord;
+import org.opensearch.dataprepper.plugins.codec.AvroJsonNodes;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts Avro values into the same tree as parsing the JSON from {@link GenericData#toString(Object)}, without
+ * writing and parsing the JSON. The fields of each record schema are resolved once and kept, so a record is converted
+ * by reading its values by position with a converter chosen from the field's type. Deserializers keep one schema
+ * instance per schema id, so schemas are cached by identity.
+ * <p>
+ * Instances are not thread-safe.
+ */
+class GenericRecordTreeConverter {
+    static final int MAX_CACHED_SCHEMAS = 1000;
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private final Map<Schema, RecordConverter> recordConverters = new IdentityHashMap<>();
+
+    /**
+     * @param datum an Avro value, such as a {@link org.apache.avro.generic.GenericRecord}
+     * @return the value as a JSON tree
+     */
+    JsonNode toJsonNode(final Object datum) {
+        if (datum == null) {
+            return NODE_FACTORY.nullNode();
+        } else if (datum instanceof IndexedRecord) {
+            final IndexedRecord record = (IndexedRecord) datum;
+            return getRecordConverter(record.getSchema()).toJsonNode(record);
+        } else if (datum instanceof CharSequence || datum instanceof GenericEnumSymbol) {
+            return NODE_FACTORY.textNode(datum.toString());
+        } else if (datum instanceof Integer) {
+            return NODE_FACTORY.numberNode((Integer) datum);
+        } else if (datum instanceof Long) {
+            return AvroJsonNodes.longNode((Long) datum);
+        } else if (datum instanceof Boolean) {
+            return NODE_FACTORY.booleanNode((Boolean) datum);
+        } else if (datum instanceof Double) {
+            return AvroJsonNodes.doubleNode((Double) datum);
+        } else if (datum instanceof Float) {
+            return AvroJsonNodes.floatNode((Float) datum);
+        } else if (datum instanceof Collection) {
+            final ArrayNode arrayNode = NODE_FACTORY.arrayNode(((Collection<?>) datum).size());
+            for (final Object element : (Collection<?>) datum) {
+                arrayNode.add(toJsonNode(element));
+            }
+            return arrayNode;
+        } else if (datum instanceof Map) {
+            final ObjectNode objectNode = NODE_FACTORY.objectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) datum).entrySet()) {
+                objectNode.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+            }
+            return objectNode;
+        } else if (datum instanceof ByteBuffer) {
+            return NODE_FACTORY.textNode(StandardCharsets.ISO_8859_1.decode(((ByteBuffer) datum).duplicate()).toString());
+        } else if (datum instanceof GenericFixed) {
+            // the string of a fixed value is the list of its bytes
+            final byte[] bytes = ((GenericFixed) datum).bytes();
+            final ArrayNode arrayNode = NODE_FACTORY.arrayNode(bytes.length);
+            for (final byte b : bytes) {
+                arrayNode.add(b);
+            }
+            return arrayNode;
+        } else if (datum instanceof BigInteger) {
+            final BigInteger bigInteger = (BigInteger) datum;
+            return bigInteger.bitLength() < Long.SIZE ? AvroJsonNodes.longNode(bigInteger.longValue()) : NODE_FACTORY.numberNode(bigInteger);
+        } else if (datum instanceof BigDecimal) {
+            return NODE_FACTORY.numberNode(((BigDecimal) datum).doubleValue());
+        } else if (datum instanceof Number) {
+            return AvroJsonNodes.longNode(((Number) datum).longValue());
+        }
+        // Values from logical type conversions, such as dates, are written as their string representation
+        return NODE_FACTORY.textNode(datum.toString());
+    }
+
+    int getNumberOfCachedSchemas() {
+        return recordConverters.size();
+    }
+
+    private RecordConverter getRecordConverter(final Schema schema) {
+        RecordConverter recordConverter = recordConverters.get(schema);
+        if (recordConverter == null) {
+            if (recordConverters.size() >= MAX_CACHED_SCHEMAS) {
+                recordConverters.clear();
+            }
+            recordConverter = new RecordConverter(schema);
+            recordConverters.put(schema, recordConverter);
+        }
+        return recordConverter;
+    }
+
+    private ValueConverter getValueConverter(final Schema schema) {
+        switch (schema.getType()) {
+            case STRING:
+            case ENUM:
+                return datum -> datum instanceof CharSequence || datum instanceof GenericEnumSymbol
+                        ? NODE_FACTORY.textNode(datum.toString()) : toJsonNode(datum);
+            case INT:
+                return datum -> datum instanceof Integer ? NODE_FACTORY.numberNode((Integer) datum) : toJsonNode(datum);
+            case LONG:
+                return datum -> datum instanceof Long ? AvroJsonNodes.longNode((Long) datum) : toJsonNode(datum);
+            case DOUBLE:
+                return datum -> datum instanceof Double ? AvroJsonNodes.doubleNode((Double) datum) : toJsonNode(datum);
+            case BOOLEAN:
+                return datum -> datum instanceof Boolean ? NODE_FACTORY.booleanNode((Boolean) datum) : toJsonNode(datum);
+            default:
+                return this::toJsonNode;
+        }
+    }
+
+    @FunctionalInterface
+    private interface ValueConverter {
+        JsonNode toJsonNode(Object datum);
+    }
+
+    /**
+     * The names and value converters of the fields of one record schema.
+     */
+    private class RecordConverter {
+        private final String[] fieldNames;
+        private final int[] fieldPositions;
+        private final ValueConverter[] valueConverters;
+
+        private RecordConverter(final Schema schema) {
+            final List<Schema.Field> fields = schema.getFields();
+            fieldNames = new String[fields.size()];
+            fieldPositions = new int[fields.size()];
+            valueConverters = new ValueConverter[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                final Schema.Field field = fields.get(i);
+                fieldNames[i] = field.name();
+                fieldPositions[i] = field.pos();
+                valueConverters[i] = getValueConverter(field.schema());
+            }
+        }
+
+        private ObjectNode toJsonNode(final IndexedRecord record) {
+            final ObjectNode objectNode = NODE_FACTORY.objectNode();
+            for (int i = 0; i < fieldNames.length; i++) {
+                objectNode.set(fieldNames[i], valueConverters[i].toJsonNode(record.get(fieldPositions[i])));
+            }
+            return objectNode;
+        }
+    }
+}
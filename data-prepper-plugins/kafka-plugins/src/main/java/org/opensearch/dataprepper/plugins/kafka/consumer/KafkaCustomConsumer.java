@@ -5,10 +5,9 @@
 package org.opensearch.dataprepper.plugins.kafka.consumer;
 
 import com.amazonaws.services.schemaregistry.serializers.json.JsonDataWithSchema;
-import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang3.Range;
@@ -57,6 +56,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -83,8 +83,10 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private final BufferAccumulator<Record<Event>> bufferAccumulator;
     private final Buffer<Record<Event>> buffer;
     private static final ObjectMapper objectMapper = new ObjectMapper();
-    private final JsonFactory jsonFactory = new JsonFactory();
+    private final GenericRecordTreeConverter genericRecordTreeConverter = new GenericRecordTreeConverter();
     private Map<TopicPartition, OffsetAndMetadata> offsetsToCommit;
+    private Map<TopicPartition, OffsetAndMetadata> asyncCommitOffsets;
+    private final Map<TopicPartition, Long> committedOffsets;
     private Map<TopicPartition, Long> ownedPartitionsEpoch;
     private Set<TopicPartition> partitionsToReset;
     private final AcknowledgementSetManager acknowledgementSetManager;
@@ -126,6 +128,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         this.pauseConsumePredicate = pauseConsumePredicate;
         this.topicMetrics.register(consumer);
         this.offsetsToCommit = new HashMap<>();
+        this.committedOffsets = new HashMap<>();
         this.partitionToLastReceivedTimestampMillis = new HashMap<>();
         this.ownedPartitionsEpoch = new HashMap<>();
         this.metricsUpdatedTime = Instant.now().getEpochSecond();
@@ -337,31 +340,115 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         }
     }
 
-    private void commitOffsets(boolean forceCommit) {
+    /**
+     * Commits the acknowledged offsets. With async commits, offsets are committed without waiting for the broker and
+     * at most one commit is in flight. Offsets acknowledged while a commit is in flight replace the earlier offsets of
+     * their partitions and are committed together once it completes. A forced commit, on rebalance or shutdown, is
+     * always synchronous.
+     */
+    @VisibleForTesting
+    void commitOffsets(boolean forceCommit) {
         if (topicConfig.getAutoCommit()) {
             return;
         }
         processAcknowledgedOffsets();
         long currentTimeMillis = System.currentTimeMillis();
-        if (!forceCommit && (currentTimeMillis - lastCommitTime) < topicConfig.getCommitInterval().toMillis()) {
-            return;
-        }
         synchronized (offsetsToCommit) {
+            topicMetrics.updateUncommittedOffsets(consumer, getNumberOfUncommittedOffsets());
+            if (!forceCommit && (currentTimeMillis - lastCommitTime) < topicConfig.getCommitInterval().toMillis()) {
+                return;
+            }
             if (offsetsToCommit.isEmpty()) {
                 return;
             }
+            final boolean asyncCommit = !forceCommit && topicConfig.getAsyncCommit();
+            if (asyncCommit && Objects.nonNull(asyncCommitOffsets)) {
+                return;
+            }
 
             offsetsToCommit.forEach(((partition, offset) -> updateCommitCountMetric(partition, offset)));
-            try {
-                consumer.commitSync(offsetsToCommit);
-            } catch (Exception e) {
-                LOG.error("Failed to commit offsets in topic {}", topicName, e);
+            if (asyncCommit) {
+                commitOffsetsAsync(new HashMap<>(offsetsToCommit));
+            } else {
+                commitOffsetsSync(offsetsToCommit);
             }
             offsetsToCommit.clear();
             lastCommitTime = currentTimeMillis;
         }
     }
 
+    private void commitOffsetsSync(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+        final long startTimeNanos = System.nanoTime();
+        try {
+            consumer.commitSync(offsets);
+            topicMetrics.getOffsetCommitLatency().record(System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
+            updateCommittedOffsets(offsets);
+        } catch (Exception e) {
+            topicMetrics.getNumberOfOffsetCommitFailures().increment();
+            LOG.error("Failed to commit offsets in topic {}", topicName, e);
+        }
+    }
+
+    private void commitOffsetsAsync(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+        final long startTimeNanos = System.nanoTime();
+        asyncCommitOffsets = offsets;
+        try {
+            // The callback runs on this thread, from a later poll or commit
+            consumer.commitAsync(offsets, (committed, exception) -> onAsyncCommitComplete(offsets, startTimeNanos, exception));
+        } catch (Exception e) {
+            asyncCommitOffsets = null;
+            topicMetrics.getNumberOfOffsetCommitFailures().increment();
+            LOG.error("Failed to commit offsets in topic {}", topicName, e);
+        }
+    }
+
+    private void onAsyncCommitComplete(final Map<TopicPartition, OffsetAndMetadata> offsets, final long startTimeNanos, final Exception exception) {
+        synchronized (offsetsToCommit) {
+            if (asyncCommitOffsets == offsets) {
+                asyncCommitOffsets = null;
+            }
+            if (Objects.isNull(exception)) {
+                topicMetrics.getOffsetCommitLatency().record(System.nanoTime() - startTimeNanos, TimeUnit.NANOSECONDS);
+                updateCommittedOffsets(offsets);
+                return;
+            }
+            topicMetrics.getNumberOfOffsetCommitFailures().increment();
+            LOG.error("Failed to commit offsets in topic {}", topicName, exception);
+            // Retry with the next commit, unless the partition was revoked or a later offset is pending or committed
+            offsets.forEach((partition, offsetAndMetadata) -> {
+                if (ownedPartitionsEpoch.containsKey(partition)
+                        && offsetAndMetadata.offset() > committedOffsets.getOrDefault(partition, -1L)) {
+                    offsetsToCommit.putIfAbsent(partition, offsetAndMetadata);
+                }
+            });
+        }
+    }
+
+    private void updateCommittedOffsets(final Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((partition, offsetAndMetadata) -> committedOffsets.merge(partition, offsetAndMetadata.offset(), Math::max));
+    }
+
+    /**
+     * The number of offsets after the last committed offset of each partition which are ready to commit or in flight.
+     * Partitions without a commit from this consumer are not counted.
+     */
+    private long getNumberOfUncommittedOffsets() {
+        long uncommittedOffsets = 0;
+        for (final Map.Entry<TopicPartition, Long> entry : committedOffsets.entrySet()) {
+            long offset = entry.getValue();
+            final OffsetAndMetadata pendingOffset = offsetsToCommit.get(entry.getKey());
+            if (Objects.nonNull(pendingOffset)) {
+                offset = Math.max(offset, pendingOffset.offset());
+            }
+            final OffsetAndMetadata inFlightOffset = Objects.isNull(asyncCommitOffsets) ? null : asyncCommitOffsets.get(entry.getKey());
+            if (Objects.nonNull(inFlightOffset)) {
+                offset = Math.max(offset, inFlightOffset.offset());
+            }
+            uncommittedOffsets += offset - entry.getValue();
+        }
+        return uncommittedOffsets;
+    }
+
     @VisibleForTesting
     Map<TopicPartition, OffsetAndMetadata> getOffsetsToCommit() {
         return offsetsToCommit;
@@ -431,39 +518,48 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         KafkaKeyMode kafkaKeyMode = topicConfig.getKafkaKeyMode();
         boolean plainTextMode = false;
         try {
+            // JSON and Avro values are converted to a tree which the event takes as its data without copying it
             if (value instanceof JsonDataWithSchema) {
                 JsonDataWithSchema j = (JsonDataWithSchema)consumerRecord.value();
-                value = objectMapper.readValue(j.getPayload(), Map.class);
+                value = objectMapper.readTree(j.getPayload());
             } else if (schema == MessageFormat.AVRO || value instanceof GenericRecord) {
-                final JsonParser jsonParser = jsonFactory.createParser((String)consumerRecord.value().toString());
-                value = objectMapper.readValue(jsonParser, Map.class);
+                value = genericRecordTreeConverter.toJsonNode(value);
             } else if (schema == MessageFormat.PLAINTEXT) {
                 value = (String)consumerRecord.value();
                 plainTextMode = true;
-            } else if (schema == MessageFormat.JSON) {
-                value = objectMapper.convertValue(value, Map.class);
+            } else if (schema == MessageFormat.JSON && !(value instanceof JsonNode)) {
+                value = objectMapper.valueToTree(value);
             }
         } catch (Exception e){
             LOG.error("Failed to parse JSON or AVRO record", e);
             topicMetrics.getNumberOfRecordsFailedToParse().increment();
         }
+        final JacksonLog.Builder logBuilder = JacksonLog.builder();
         if (!plainTextMode) {
-            if (!(value instanceof Map)) {
+            if (value instanceof ObjectNode) {
+                final ObjectNode valueNode = (ObjectNode)value;
+                if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
+                    valueNode.put("kafka_key", key);
+                }
+                logBuilder.withAdoptedData(valueNode);
+            } else if (!(value instanceof Map)) {
                 data.put(key, value);
+                logBuilder.withData(data);
             } else {
                 Map<String, Object> valueMap = (Map<String, Object>)value;
                 if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
                     valueMap.put("kafka_key", key);
                 }
-                data = valueMap;
+                logBuilder.withData(valueMap);
             }
         } else {
             if (Objects.isNull(key)) {
                 key = DEFAULT_KEY;
             }
             data.put(key, value);
+            logBuilder.withData(data);
         }
-        event = JacksonLog.builder().withData(data).build();
+        event = logBuilder.build();
         EventMetadata eventMetadata = event.getMetadata();
         if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_METADATA) {
             eventMetadata.setAttribute("kafka_key", key);
@@ -562,13 +658,15 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                     if(byteDecoder != null) {
                         final long receivedTimeStamp = getRecordTimeStamp(consumerRecord, Instant.now().toEpochMilli());
 
-                        byteDecoder.parse(decompressedInputStream, Instant.ofEpochMilli(receivedTimeStamp), (record) -> {
+                        // The record is already in memory, so the decoder can keep slices of its bytes.
+                        byteDecoder.parse(decompressedInputStream.readAllBytes(), Instant.ofEpochMilli(receivedTimeStamp), (record) -> {
                             processRecord(acknowledgementSet, record);
                         });
                     } else {
-                        JsonNode jsonNode = objectMapper.readValue(decompressedInputStream, JsonNode.class);
+                        // The event keeps the bytes and only parses the values which are read from it.
+                        final byte[] jsonBytes = decompressedInputStream.readAllBytes();
 
-                        Event event = JacksonLog.builder().withData(jsonNode).build();
+                        Event event = JacksonLog.builder().withData(jsonBytes).build();
                         Record<Event> record = new Record<>(event);
                         processRecord(acknowledgementSet, record);
                     }
@@ -631,6 +729,9 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                 }
                 LOG.info("Revoked partition {}", topicPartition);
                 ownedPartitionsEpoch.remove(topicPartition);
+                synchronized (offsetsToCommit) {
+                    committedOffsets.remove(topicPartition);
+                }
                 partitionCommitTrackerMap.remove(topicPartition.partition());
             }
             if (paused) {
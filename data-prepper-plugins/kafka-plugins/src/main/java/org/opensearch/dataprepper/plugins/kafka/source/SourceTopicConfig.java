@@ -19,6 +19,7 @@ import java.time.Duration;
 
 class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig {
     static final boolean DEFAULT_AUTO_COMMIT = false;
+    static final boolean DEFAULT_ASYNC_COMMIT = false;
     static final Duration DEFAULT_COMMIT_INTERVAL = Duration.ofSeconds(5);
     static final String DEFAULT_FETCH_MAX_BYTES = "50mb";
     static final Integer DEFAULT_FETCH_MAX_WAIT = 500;
@@ -84,6 +85,9 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
     @JsonProperty("auto_commit")
     private Boolean autoCommit = DEFAULT_AUTO_COMMIT;
 
+    @JsonProperty("async_commit")
+    private Boolean asyncCommit = DEFAULT_ASYNC_COMMIT;
+
     @JsonProperty("max_partition_fetch_bytes")
     private String maxPartitionFetchBytes = DEFAULT_MAX_PARTITION_FETCH_BYTES;
 
@@ -146,6 +150,11 @@ class SourceTopicConfig extends CommonTopicConfig implements TopicConsumerConfig
         return autoCommit;
     }
 
+    @Override
+    public Boolean getAsyncCommit() {
+        return asyncCommit;
+    }
+
     public void setAutoCommit(Boolean autoCommit) {
         this.autoCommit = autoCommit;
     }
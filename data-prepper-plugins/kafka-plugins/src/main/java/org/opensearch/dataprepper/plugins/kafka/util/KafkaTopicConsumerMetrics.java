@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.kafka.util;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.apache.kafka.common.Metric;
 import org.apache.kafka.common.MetricName;
@@ -30,6 +31,9 @@ public class KafkaTopicConsumerMetrics {
     static final String NUMBER_OF_RECORDS_COMMITTED = "numberOfRecordsCommitted";
     static final String NUMBER_OF_RECORDS_CONSUMED = "numberOfRecordsConsumed";
     static final String NUMBER_OF_BYTES_CONSUMED = "numberOfBytesConsumed";
+    static final String NUMBER_OF_OFFSET_COMMIT_FAILURES = "numberOfOffsetCommitFailures";
+    static final String OFFSET_COMMIT_LATENCY = "offsetCommitLatency";
+    static final String UNCOMMITTED_OFFSETS = "uncommitted-offsets";
 
     private final String topicName;
     private long updateTime;
@@ -46,6 +50,8 @@ public class KafkaTopicConsumerMetrics {
     private final Counter numberOfRecordsCommitted;
     private final Counter numberOfRecordsConsumed;
     private final Counter numberOfBytesConsumed;
+    private final Counter numberOfOffsetCommitFailures;
+    private final Timer offsetCommitLatency;
 
     public KafkaTopicConsumerMetrics(final String topicName, final PluginMetrics pluginMetrics,
                                      final boolean topicNameInMetrics) {
@@ -64,6 +70,8 @@ public class KafkaTopicConsumerMetrics {
         this.numberOfPollAuthErrors = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_POLL_AUTH_ERRORS, topicNameInMetrics));
         this.numberOfPositiveAcknowledgements = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_POSITIVE_ACKNOWLEDGEMENTS, topicNameInMetrics));
         this.numberOfNegativeAcknowledgements = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_NEGATIVE_ACKNOWLEDGEMENTS, topicNameInMetrics));
+        this.numberOfOffsetCommitFailures = pluginMetrics.counter(getTopicMetricName(NUMBER_OF_OFFSET_COMMIT_FAILURES, topicNameInMetrics));
+        this.offsetCommitLatency = pluginMetrics.timer(getTopicMetricName(OFFSET_COMMIT_LATENCY, topicNameInMetrics));
     }
 
     private void initializeMetricNamesMap(final boolean topicNameInMetrics) {
@@ -79,6 +87,8 @@ public class KafkaTopicConsumerMetrics {
         this.metricsNameMap.put("incoming-byte-rate", "incomingByteRate");
         this.metricsNameMap.put("outgoing-byte-rate", "outgoingByteRate");
         this.metricsNameMap.put("assigned-partitions", "numberOfNonConsumers");
+        // Not a Kafka client metric. Each consumer reports it through updateUncommittedOffsets
+        this.metricsNameMap.put(UNCOMMITTED_OFFSETS, "numberOfUncommittedOffsets");
         this.metricsNameMap.forEach((metricName, camelCaseName) -> {
             if (metricName.equals("records-lag-max")) {
                 pluginMetrics.gauge(getTopicMetricName(camelCaseName, topicNameInMetrics), metricValues, metricValues -> {
@@ -168,6 +178,30 @@ public class KafkaTopicConsumerMetrics {
         return numberOfPositiveAcknowledgements;
     }
 
+    public Counter getNumberOfOffsetCommitFailures() {
+        return numberOfOffsetCommitFailures;
+    }
+
+    public Timer getOffsetCommitLatency() {
+        return offsetCommitLatency;
+    }
+
+    /**
+     * Updates the number of offsets the consumer has acknowledged but not yet committed, summed over its partitions.
+     *
+     * @param consumer the Kafka consumer
+     * @param uncommittedOffsets the number of uncommitted offsets
+     */
+    public void updateUncommittedOffsets(final KafkaConsumer consumer, final long uncommittedOffsets) {
+        final Map<String, Double> consumerMetrics = metricValues.get(consumer);
+        if (Objects.isNull(consumerMetrics)) {
+            return;
+        }
+        synchronized(consumerMetrics) {
+            consumerMetrics.put(UNCOMMITTED_OFFSETS, (double) uncommittedOffsets);
+        }
+    }
+
     private String getTopicMetricName(final String metricName, final boolean topicNameInMetrics) {
         if (topicNameInMetrics) {
             return "topic." + topicName + "." + metricName;
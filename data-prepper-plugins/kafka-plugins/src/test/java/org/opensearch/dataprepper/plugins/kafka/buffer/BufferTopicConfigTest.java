@@ -28,6 +28,7 @@ class BufferTopicConfigTest {
         BufferTopicConfig objectUnderTest = createObjectUnderTest();
 
         assertThat(objectUnderTest.getAutoCommit(), equalTo(BufferTopicConfig.DEFAULT_AUTO_COMMIT));
+        assertThat(objectUnderTest.getAsyncCommit(), equalTo(BufferTopicConfig.DEFAULT_ASYNC_COMMIT));
         assertThat(objectUnderTest.getCommitInterval(), equalTo(BufferTopicConfig.DEFAULT_COMMIT_INTERVAL));
         assertThat(objectUnderTest.getFetchMaxWait(), equalTo((int) BufferTopicConfig.DEFAULT_FETCH_MAX_WAIT.toMillis()));
         assertThat(objectUnderTest.getFetchMinBytes(), equalTo(BufferTopicConfig.DEFAULT_FETCH_MIN_BYTES.getBytes()));
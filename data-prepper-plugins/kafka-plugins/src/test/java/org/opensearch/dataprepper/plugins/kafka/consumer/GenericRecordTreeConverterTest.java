@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class GenericRecordTreeConverterTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private Schema innerSchema;
+    private Schema schema;
+
+    @BeforeEach
+    void setUp() {
+        innerSchema = SchemaBuilder.record("Inner").fields()
+                .requiredString("name")
+                .optionalInt("count")
+                .endRecord();
+        schema = SchemaBuilder.record("Outer").fields()
+                .requiredString("string_field")
+                .requiredInt("int_field")
+                .requiredLong("long_field")
+                .requiredLong("small_long_field")
+                .requiredDouble("double_field")
+                .requiredFloat("float_field")
+                .requiredBoolean("boolean_field")
+                .optionalString("optional_string_field")
+                .name("enum_field").type().enumeration("Color").symbols("RED", "GREEN").noDefault()
+                .name("array_field").type().array().items().stringType().noDefault()
+                .name("map_field").type().map().values().longType().noDefault()
+                .name("record_field").type(innerSchema).noDefault()
+                .name("records_field").type().array().items(innerSchema).noDefault()
+                .name("bytes_field").type().bytesType().noDefault()
+                .endRecord();
+    }
+
+    private GenericRecordTreeConverter createObjectUnderTest() {
+        return new GenericRecordTreeConverter();
+    }
+
+    private GenericRecord createRecord() {
+        final GenericRecord innerRecord = new GenericData.Record(innerSchema);
+        innerRecord.put("name", new Utf8(UUID.randomUUID().toString()));
+        innerRecord.put("count", 5);
+
+        final GenericRecord otherInnerRecord = new GenericData.Record(innerSchema);
+        otherInnerRecord.put("name", "with \"quotes\" and \\ and \n");
+
+        final Map<Utf8, Long> map = new LinkedHashMap<>();
+        map.put(new Utf8("a"), 1L);
+        map.put(new Utf8("b"), Long.MAX_VALUE);
+
+        final GenericRecord record = new GenericData.Record(schema);
+        record.put("string_field", UUID.randomUUID().toString());
+        record.put("int_field", -42);
+        record.put("long_field", 3_000_000_000L);
+        record.put("small_long_field", 7L);
+        record.put("double_field", 1.25e20);
+        record.put("float_field", 0.1f);
+        record.put("boolean_field", true);
+        record.put("optional_string_field", null);
+        record.put("enum_field", new GenericData.EnumSymbol(schema.getField("enum_field").schema(), "GREEN"));
+        record.put("array_field", new GenericData.Array<>(schema.getField("array_field").schema(), List.of(new Utf8("x"), new Utf8("y"))));
+        record.put("map_field", map);
+        record.put("record_field", innerRecord);
+        record.put("records_field", List.of(innerRecord, otherInnerRecord));
+        record.put("bytes_field", ByteBuffer.wrap("some bytes".getBytes(StandardCharsets.ISO_8859_1)));
+        return record;
+    }
+
+    @Test
+    void toJsonNode_returns_the_tree_of_the_record_string() throws Exception {
+        final GenericRecord record = createRecord();
+
+        final JsonNode jsonNode = createObjectUnderTest().toJsonNode(record);
+
+        assertThat(jsonNode, equalTo(OBJECT_MAPPER.readTree(record.toString())));
+    }
+
+    @Test
+    void toJsonNode_returns_the_same_tree_as_the_record_string_when_read_as_a_map() throws Exception {
+        final GenericRecord record = createRecord();
+
+        final JsonNode jsonNode = createObjectUnderTest().toJsonNode(record);
+
+        assertThat(jsonNode, equalTo(OBJECT_MAPPER.valueToTree(OBJECT_MAPPER.readValue(record.toString(), Map.class))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY})
+    void toJsonNode_returns_text_for_doubles_which_are_not_numbers_in_JSON(final double value) throws Exception {
+        final GenericRecord record = createRecord();
+        record.put("double_field", value);
+        record.put("float_field", (float) value);
+
+        final JsonNode jsonNode = createObjectUnderTest().toJsonNode(record);
+
+        assertThat(jsonNode, equalTo(OBJECT_MAPPER.readTree(record.toString())));
+        assertThat(jsonNode.get("double_field").asText(), equalTo(Double.toString(value)));
+    }
+
+    @Test
+    void toJsonNode_returns_fixed_as_the_list_of_its_bytes() {
+        final Schema fixedSchema = SchemaBuilder.fixed("Fixed").size(3);
+        final GenericData.Fixed fixed = new GenericData.Fixed(fixedSchema, new byte[]{1, -2, 3});
+
+        final JsonNode jsonNode = createObjectUnderTest().toJsonNode(fixed);
+
+        assertThat(jsonNode, equalTo(OBJECT_MAPPER.createArrayNode().add(1).add(-2).add(3)));
+    }
+
+    @Test
+    void toJsonNode_returns_values_of_logical_type_conversions() {
+        final GenericRecordTreeConverter objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.toJsonNode(LocalDate.of(2024, 2, 29)).asText(), equalTo("2024-02-29"));
+        assertThat(objectUnderTest.toJsonNode(new BigDecimal("12.50")).doubleValue(), equalTo(12.5));
+    }
+
+    @Test
+    void toJsonNode_reuses_the_converter_of_each_schema() {
+        final GenericRecordTreeConverter objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.toJsonNode(createRecord());
+        objectUnderTest.toJsonNode(createRecord());
+
+        assertThat(objectUnderTest.getNumberOfCachedSchemas(), equalTo(2));
+    }
+
+    @Test
+    void toJsonNode_limits_the_number_of_cached_schemas() {
+        final GenericRecordTreeConverter objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i <= GenericRecordTreeConverter.MAX_CACHED_SCHEMAS; i++) {
+            final Schema recordSchema = SchemaBuilder.record("Record" + i).fields().requiredInt("value").endRecord();
+            final GenericRecord record = new GenericData.Record(recordSchema);
+            record.put("value", i);
+            assertThat(objectUnderTest.toJsonNode(record).get("value").intValue(), equalTo(i));
+        }
+
+        assertThat(objectUnderTest.getNumberOfCachedSchemas(), equalTo(1));
+    }
+}
@@ -11,9 +11,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetCommitCallback;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.errors.RecordDeserializationException;
@@ -21,6 +27,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -51,6 +58,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.awaitility.Awaitility.await;
@@ -60,8 +68,14 @@ import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -120,6 +134,10 @@ public class KafkaCustomConsumerTest {
     private Counter negCounter;
     @Mock
     private Counter overflowCounter;
+    @Mock
+    private Counter commitFailureCounter;
+    @Mock
+    private Timer commitLatencyTimer;
     private Duration delayTime;
     private double posCount;
     private double negCount;
@@ -139,6 +157,8 @@ public class KafkaCustomConsumerTest {
         mockBuffer = mock(Buffer.class);
         negCounter = mock(Counter.class);
         overflowCounter = mock(Counter.class);
+        commitFailureCounter = mock(Counter.class);
+        commitLatencyTimer = mock(Timer.class);
         topicConfig = mock(TopicConsumerConfig.class);
         when(topicMetrics.getNumberOfPositiveAcknowledgements()).thenReturn(posCounter);
         when(topicMetrics.getNumberOfNegativeAcknowledgements()).thenReturn(negCounter);
@@ -146,6 +166,8 @@ public class KafkaCustomConsumerTest {
         when(topicMetrics.getNumberOfRecordsCommitted()).thenReturn(counter);
         when(topicMetrics.getNumberOfDeserializationErrors()).thenReturn(counter);
         when(topicMetrics.getNumberOfInvalidTimeStamps()).thenReturn(counter);
+        when(topicMetrics.getNumberOfOffsetCommitFailures()).thenReturn(commitFailureCounter);
+        when(topicMetrics.getOffsetCommitLatency()).thenReturn(commitLatencyTimer);
         when(topicConfig.getThreadWaitingTime()).thenReturn(Duration.ofSeconds(1));
         when(topicConfig.getSerdeFormat()).thenReturn(MessageFormat.PLAINTEXT);
         when(topicConfig.getAutoCommit()).thenReturn(false);
@@ -451,6 +473,48 @@ public class KafkaCustomConsumerTest {
         }
     }
 
+    @Test
+    public void testAvroConsumeRecords() throws Exception {
+        String topic = topicConfig.getName();
+        when(topicConfig.getKafkaKeyMode()).thenReturn(KafkaKeyMode.INCLUDE_AS_FIELD);
+        final Schema schema = SchemaBuilder.record("TestRecord").fields()
+                .requiredString("key1")
+                .requiredInt("key2")
+                .optionalLong("key3")
+                .endRecord();
+        final GenericRecord genericRecord1 = new GenericData.Record(schema);
+        genericRecord1.put("key1", "value1");
+        genericRecord1.put("key2", 2);
+        genericRecord1.put("key3", 3_000_000_000L);
+        final GenericRecord genericRecord2 = new GenericData.Record(schema);
+        genericRecord2.put("key1", "value3");
+        genericRecord2.put("key2", 4);
+        Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
+        records.put(new TopicPartition(topic, testJsonPartition), Arrays.asList(
+                new ConsumerRecord<>(topic, testJsonPartition, 100L, testKey1, genericRecord1),
+                new ConsumerRecord<>(topic, testJsonPartition, 101L, testKey2, genericRecord2)));
+        consumerRecords = new ConsumerRecords(records);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(consumerRecords);
+        consumer = createObjectUnderTest("avro", false);
+
+        consumer.onPartitionsAssigned(List.of(new TopicPartition(topic, testJsonPartition)));
+        consumer.consumeRecords();
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> bufferRecords = buffer.read(1000);
+        ArrayList<Record<Event>> bufferedRecords = new ArrayList<>(bufferRecords.getKey());
+        Assertions.assertEquals(2, bufferedRecords.size());
+
+        final ObjectMapper mapper = new ObjectMapper();
+        for (Record<Event> record: bufferedRecords) {
+            Event event = record.getData();
+            String kafkaKey = event.get("kafka_key", String.class);
+            final GenericRecord genericRecord = kafkaKey.equals(testKey1) ? genericRecord1 : genericRecord2;
+            final Map<String, Object> expectedMap = mapper.readValue(genericRecord.toString(), Map.class);
+            expectedMap.put("kafka_key", kafkaKey);
+            assertThat(event.toMap(), equalTo(expectedMap));
+            Assertions.assertNotNull(event.getMetadata().getExternalOriginationTime());
+        }
+    }
+
     @Test
     public void testJsonDeserializationErrorWithAcknowledgements() throws Exception {
         String topic = topicConfig.getName();
@@ -589,6 +653,95 @@ public class KafkaCustomConsumerTest {
         });
     }
 
+    @Test
+    public void testCommitOffsetsCommitsSynchronously() {
+        String topic = topicConfig.getName();
+        final TopicPartition topicPartition = new TopicPartition(topic, testPartition);
+        when(topicConfig.getCommitInterval()).thenReturn(Duration.ZERO);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(createPlainTextRecords(topic, 0L));
+        consumer = createObjectUnderTest("plaintext", false);
+        consumer.onPartitionsAssigned(List.of(topicPartition));
+        consumer.consumeRecords();
+
+        consumer.commitOffsets(false);
+
+        verify(kafkaConsumer).commitSync(Map.of(topicPartition, new OffsetAndMetadata(2L)));
+        verify(kafkaConsumer, never()).commitAsync(anyMap(), any(OffsetCommitCallback.class));
+        verify(commitLatencyTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        assertThat(consumer.getOffsetsToCommit().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    public void testAsyncCommitOffsetsCoalescesOffsetsWhileCommitIsInFlight() {
+        String topic = topicConfig.getName();
+        final TopicPartition topicPartition = new TopicPartition(topic, testPartition);
+        when(topicConfig.getCommitInterval()).thenReturn(Duration.ZERO);
+        when(topicConfig.getAsyncCommit()).thenReturn(true);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(createPlainTextRecords(topic, 0L),
+                createPlainTextRecords(topic, 2L), createPlainTextRecords(topic, 4L));
+        consumer = createObjectUnderTest("plaintext", false);
+        consumer.onPartitionsAssigned(List.of(topicPartition));
+        consumer.consumeRecords();
+
+        consumer.commitOffsets(false);
+        final ArgumentCaptor<OffsetCommitCallback> callbackCaptor = ArgumentCaptor.forClass(OffsetCommitCallback.class);
+        verify(kafkaConsumer).commitAsync(eq(Map.of(topicPartition, new OffsetAndMetadata(2L))), callbackCaptor.capture());
+
+        consumer.consumeRecords();
+        consumer.consumeRecords();
+        consumer.commitOffsets(false);
+        verify(kafkaConsumer, times(1)).commitAsync(anyMap(), any(OffsetCommitCallback.class));
+        assertThat(consumer.getOffsetsToCommit(), equalTo(Map.of(topicPartition, new OffsetAndMetadata(6L))));
+
+        callbackCaptor.getValue().onComplete(Map.of(topicPartition, new OffsetAndMetadata(2L)), null);
+        verify(commitLatencyTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        consumer.commitOffsets(false);
+
+        verify(kafkaConsumer).commitAsync(eq(Map.of(topicPartition, new OffsetAndMetadata(6L))), any(OffsetCommitCallback.class));
+        verify(kafkaConsumer, never()).commitSync(anyMap());
+        verify(topicMetrics).updateUncommittedOffsets(kafkaConsumer, 4L);
+    }
+
+    @Test
+    public void testAsyncCommitOffsetsRetriesFailedOffsets() {
+        String topic = topicConfig.getName();
+        final TopicPartition topicPartition = new TopicPartition(topic, testPartition);
+        when(topicConfig.getCommitInterval()).thenReturn(Duration.ZERO);
+        when(topicConfig.getAsyncCommit()).thenReturn(true);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(createPlainTextRecords(topic, 0L));
+        consumer = createObjectUnderTest("plaintext", false);
+        consumer.onPartitionsAssigned(List.of(topicPartition));
+        consumer.consumeRecords();
+
+        consumer.commitOffsets(false);
+        final ArgumentCaptor<OffsetCommitCallback> callbackCaptor = ArgumentCaptor.forClass(OffsetCommitCallback.class);
+        verify(kafkaConsumer).commitAsync(anyMap(), callbackCaptor.capture());
+        callbackCaptor.getValue().onComplete(Map.of(), new RuntimeException("commit failed"));
+
+        verify(commitFailureCounter).increment();
+        assertThat(consumer.getOffsetsToCommit(), equalTo(Map.of(topicPartition, new OffsetAndMetadata(2L))));
+        consumer.commitOffsets(false);
+        verify(kafkaConsumer, times(2)).commitAsync(eq(Map.of(topicPartition, new OffsetAndMetadata(2L))), any(OffsetCommitCallback.class));
+    }
+
+    @Test
+    public void testAsyncCommitOffsetsCommitsSynchronouslyOnRevoke() {
+        String topic = topicConfig.getName();
+        final TopicPartition topicPartition = new TopicPartition(topic, testPartition);
+        when(topicConfig.getCommitInterval()).thenReturn(Duration.ofHours(1));
+        when(topicConfig.getAsyncCommit()).thenReturn(true);
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(createPlainTextRecords(topic, 0L));
+        consumer = createObjectUnderTest("plaintext", false);
+        consumer.onPartitionsAssigned(List.of(topicPartition));
+        consumer.consumeRecords();
+
+        consumer.onPartitionsRevoked(List.of(topicPartition));
+
+        verify(kafkaConsumer).commitSync(Map.of(topicPartition, new OffsetAndMetadata(2L)));
+        verify(kafkaConsumer, never()).commitAsync(anyMap(), any(OffsetCommitCallback.class));
+        assertThat(consumer.getOffsetsToCommit().isEmpty(), equalTo(true));
+    }
+
     private ConsumerRecords createPlainTextRecords(String topic, final long startOffset) {
         Map<TopicPartition, List<ConsumerRecord>> records = new HashMap<>();
         ConsumerRecord<String, String> record1 = new ConsumerRecord<>(topic, testPartition, startOffset, testKey1, testValue1);
@@ -23,6 +23,7 @@ class SourceTopicConfigTest {
         SourceTopicConfig objectUnderTest = createObjectUnderTest();
 
         assertThat(objectUnderTest.getAutoCommit(), equalTo(SourceTopicConfig.DEFAULT_AUTO_COMMIT));
+        assertThat(objectUnderTest.getAsyncCommit(), equalTo(SourceTopicConfig.DEFAULT_ASYNC_COMMIT));
         assertThat(objectUnderTest.getCommitInterval(), equalTo(SourceTopicConfig.DEFAULT_COMMIT_INTERVAL));
         assertThat(objectUnderTest.getFetchMaxWait(), equalTo(SourceTopicConfig.DEFAULT_FETCH_MAX_WAIT));
         assertThat(objectUnderTest.getFetchMinBytes(), equalTo(ByteCount.parse(SourceTopicConfig.DEFAULT_FETCH_MIN_BYTES).getBytes()));
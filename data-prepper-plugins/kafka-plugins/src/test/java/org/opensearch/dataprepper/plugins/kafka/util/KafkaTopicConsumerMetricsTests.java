@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.kafka.util;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -239,6 +240,8 @@ public class KafkaTopicConsumerMetricsTests {
             } else if (k.contains("numberOfNonConsumers")) {
                 int expectedValue = numConsumers/2;
                 assertThat(result, equalTo((double)expectedValue));
+            } else if (k.contains("numberOfUncommittedOffsets")) {
+                assertThat(result, equalTo(0.0));
             } else {
                 assertThat(result, equalTo(k+": Unknown Metric"));
             }
@@ -246,4 +249,20 @@ public class KafkaTopicConsumerMetricsTests {
         
     }
 
+    @Test
+    public void KafkaTopicMetricTest_updateUncommittedOffsets_sums_consumers() {
+        topicMetrics = createObjectUnderTest();
+        KafkaConsumer kafkaConsumer1 = mock(KafkaConsumer.class);
+        KafkaConsumer kafkaConsumer2 = mock(KafkaConsumer.class);
+        topicMetrics.register(kafkaConsumer1);
+        topicMetrics.register(kafkaConsumer2);
+
+        topicMetrics.updateUncommittedOffsets(kafkaConsumer1, 5L);
+        topicMetrics.updateUncommittedOffsets(kafkaConsumer2, 7L);
+        topicMetrics.updateUncommittedOffsets(mock(KafkaConsumer.class), 11L);
+
+        final ToDoubleFunction gauge = pluginMetricsMap.get("topic." + topicName + ".numberOfUncommittedOffsets");
+        assertThat(gauge.applyAsDouble(topicMetrics.getMetricValues()), equalTo(12.0));
+    }
+
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.newline;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Reads lines from an {@link InputStream} by scanning blocks of bytes for line terminators, and decodes each
+ * line straight from the block into a {@link String}. This avoids decoding the whole stream into an
+ * intermediate character buffer as an {@link java.io.InputStreamReader} does.
+ * <p>
+ * Lines are terminated the same way as for {@link java.io.BufferedReader#readLine()}: by a line feed, a
+ * carriage return, or a carriage return followed by a line feed. This only works for charsets in which these
+ * are single bytes that never appear within the encoding of another character, see {@link #supports(Charset)}.
+ */
+class ByteLineReader implements Closeable {
+    static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+    private static final Set<Charset> SUPPORTED_CHARSETS =
+            Set.of(StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1);
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long LINE_FEEDS = 0x0A0A0A0A0A0A0A0AL;
+    private static final long CARRIAGE_RETURNS = 0x0D0D0D0D0D0D0D0DL;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final InputStream inputStream;
+    private final Charset charset;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean endOfStream;
+    private boolean skipLineFeed;
+
+    ByteLineReader(final InputStream inputStream, final Charset charset) {
+        this(inputStream, charset, DEFAULT_BLOCK_SIZE);
+    }
+
+    ByteLineReader(final InputStream inputStream, final Charset charset, final int blockSize) {
+        if (!supports(charset)) {
+            throw new IllegalArgumentException("Lines cannot be split on the bytes of charset " + charset);
+        }
+        this.inputStream = inputStream;
+        this.charset = charset;
+        this.buffer = new byte[blockSize];
+    }
+
+    /**
+     * @param charset a charset
+     * @return true if lines in the charset can be split on line feed and carriage return bytes
+     */
+    static boolean supports(final Charset charset) {
+        return SUPPORTED_CHARSETS.contains(charset);
+    }
+
+    /**
+     * Reads the next line, without its line terminator.
+     *
+     * @return the line, or null when the end of the stream has been reached
+     * @throws IOException if the stream could not be read
+     */
+    String readLine() throws IOException {
+        int scanFrom = position;
+        while (true) {
+            if (skipLineFeed && position < limit) {
+                if (buffer[position] == LINE_FEED) {
+                    position++;
+                }
+                scanFrom = position;
+                skipLineFeed = false;
+            }
+
+            if (!skipLineFeed) {
+                final int terminator = indexOfLineTerminator(buffer, scanFrom, limit);
+                if (terminator >= 0) {
+                    final String line = new String(buffer, position, terminator - position, charset);
+                    skipLineFeed = buffer[terminator] == CARRIAGE_RETURN;
+                    position = terminator + 1;
+                    return line;
+                }
+            }
+
+            if (endOfStream) {
+                skipLineFeed = false;
+                if (position == limit) {
+                    return null;
+                }
+                final String line = new String(buffer, position, limit - position, charset);
+                position = limit;
+                return line;
+            }
+
+            scanFrom = limit - position;
+            fill();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    /**
+     * Moves the unread bytes to the start of the buffer, growing it if a single line fills it, and reads
+     * more of the stream after them.
+     */
+    private void fill() throws IOException {
+        final int remaining = limit - position;
+        if (remaining == buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.multiplyExact(buffer.length, 2));
+        } else if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, remaining);
+        }
+        position = 0;
+        limit = remaining;
+
+        final int bytesRead = inputStream.readNBytes(buffer, limit, buffer.length - limit);
+        limit += bytesRead;
+        if (limit < buffer.length) {
+            endOfStream = true;
+        }
+    }
+
+    /**
+     * Finds the first line feed or carriage return, checking eight bytes at a time.
+     *
+     * @return the index of the line terminator, or -1 if there is none between from and to
+     */
+    static int indexOfLineTerminator(final byte[] bytes, final int from, final int to) {
+        int index = from;
+        for (; index + Long.BYTES <= to; index += Long.BYTES) {
+            final long word = (long) LONG_VIEW.get(bytes, index);
+            final long terminators = zeroBytes(word ^ LINE_FEEDS) | zeroBytes(word ^ CARRIAGE_RETURNS);
+            if (terminators != 0) {
+                return index + (Long.numberOfTrailingZeros(terminators) >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            if (bytes[index] == LINE_FEED || bytes[index] == CARRIAGE_RETURN) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Sets the high bit of the lowest zero byte of the word. Bytes above it may be set falsely, so only the
+     * lowest set bit of the result can be relied on.
+     */
+    private static long zeroBytes(final long word) {
+        return (word - LOW_BITS) & ~word & HIGH_BITS;
+    }
+}
@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.codec.newline;
 
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.InputCodec;
@@ -17,14 +19,14 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.Charset;
 import java.util.Objects;
 import java.util.function.Consumer;
 
 @DataPrepperPlugin(name = "newline", pluginType = InputCodec.class, pluginConfigurationType = NewlineDelimitedInputConfig.class)
 public class NewlineDelimitedInputCodec implements InputCodec {
     private static final String MESSAGE_FIELD_NAME = "message";
+    private final Charset charset = Charset.defaultCharset();
     private final int skipLines;
     private final String headerDestination;
 
@@ -44,19 +46,25 @@ public class NewlineDelimitedInputCodec implements InputCodec {
 
     @Override
     public void parse(final InputStream inputStream, final Consumer<Record<Event>> eventConsumer) throws IOException {
-        try (final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            parseBufferedReader(reader, eventConsumer);
+        if (ByteLineReader.supports(charset)) {
+            try (final ByteLineReader reader = new ByteLineReader(inputStream, charset)) {
+                parseLines(reader::readLine, eventConsumer);
+            }
+        } else {
+            try (final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charset))) {
+                parseLines(reader::readLine, eventConsumer);
+            }
         }
     }
 
-    private void parseBufferedReader(final BufferedReader reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
+    private void parseLines(final LineSource lineSource, final Consumer<Record<Event>> eventConsumer) throws IOException {
         final boolean doAddHeaderToOutgoingEvents = Objects.nonNull(headerDestination);
         boolean hasReadHeader = false;
         String header = "";
 
         int linesToSkip = skipLines;
         String line;
-        while ((line = reader.readLine()) != null) {
+        while ((line = lineSource.readLine()) != null) {
             final boolean shouldSkipBecauseThisLineIsHeader = doAddHeaderToOutgoingEvents && !hasReadHeader;
             final boolean shouldSkipThisLine = linesToSkip > 0 || shouldSkipBecauseThisLineIsHeader;
 
@@ -70,7 +78,7 @@ public class NewlineDelimitedInputCodec implements InputCodec {
                 continue;
             }
 
-            final Map<String, String> eventData = new HashMap<>();
+            final ObjectNode eventData = JsonNodeFactory.instance.objectNode();
 
             if (doAddHeaderToOutgoingEvents) {
                 eventData.put(headerDestination, header);
@@ -81,4 +89,9 @@ public class NewlineDelimitedInputCodec implements InputCodec {
             eventConsumer.accept(new Record<>(event));
         }
     }
+
+    @FunctionalInterface
+    private interface LineSource {
+        String readLine() throws IOException;
+    }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.newline;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class ByteLineReaderTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "\n",
+            "\r\n",
+            "\n\n\n",
+            "single line",
+            "first\nsecond\n",
+            "first\nsecond",
+            "first\r\nsecond\rthird\n\rfourth",
+            "trailing carriage return\r",
+            "\r\r\n\n\r",
+            "a line which is longer than the eight bytes read at a time\nshort\n",
+            "caf\u00e9 \u65e5\u672c\u8a9e\n\ud83d\ude00 emoji\r\n"
+    })
+    void readLine_splits_lines_the_same_way_as_BufferedReader(final String input) throws IOException {
+        for (final int blockSize : new int[] {1, 2, 3, 7, 8, 9, ByteLineReader.DEFAULT_BLOCK_SIZE}) {
+            assertThat("block size " + blockSize, readLines(input, blockSize), equalTo(readLinesWithBufferedReader(input)));
+        }
+    }
+
+    @Test
+    void readLine_splits_random_lines_the_same_way_as_BufferedReader() throws IOException {
+        final Random random = new Random(12345);
+        final char[] alphabet = {'a', 'b', ' ', '\n', '\r', '\u00e9', '\u65e5'};
+        for (int iteration = 0; iteration < 200; iteration++) {
+            final StringBuilder input = new StringBuilder();
+            final int length = random.nextInt(300);
+            for (int i = 0; i < length; i++) {
+                input.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            final int blockSize = 1 + random.nextInt(64);
+            assertThat(readLines(input.toString(), blockSize), equalTo(readLinesWithBufferedReader(input.toString())));
+        }
+    }
+
+    @Test
+    void readLine_returns_null_after_the_end_of_the_stream() throws IOException {
+        final ByteLineReader objectUnderTest = createObjectUnderTest("line", 8);
+
+        assertThat(objectUnderTest.readLine(), equalTo("line"));
+        assertThat(objectUnderTest.readLine(), nullValue());
+        assertThat(objectUnderTest.readLine(), nullValue());
+    }
+
+    @Test
+    void readLine_decodes_ISO_8859_1() throws IOException {
+        final byte[] bytes = "caf\u00e9\nna\u00efve".getBytes(StandardCharsets.ISO_8859_1);
+        final ByteLineReader objectUnderTest = new ByteLineReader(new ByteArrayInputStream(bytes), StandardCharsets.ISO_8859_1, 4);
+
+        assertThat(objectUnderTest.readLine(), equalTo("caf\u00e9"));
+        assertThat(objectUnderTest.readLine(), equalTo("na\u00efve"));
+        assertThat(objectUnderTest.readLine(), nullValue());
+    }
+
+    @Test
+    void constructor_throws_for_charsets_which_cannot_be_split_on_bytes() {
+        assertThat(ByteLineReader.supports(StandardCharsets.UTF_16), equalTo(false));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ByteLineReader(new ByteArrayInputStream(new byte[0]), StandardCharsets.UTF_16));
+    }
+
+    @Test
+    void close_closes_the_input_stream() throws IOException {
+        final InputStream inputStream = mock(InputStream.class);
+
+        new ByteLineReader(inputStream, StandardCharsets.UTF_8).close();
+
+        verify(inputStream).close();
+    }
+
+    @Test
+    void indexOfLineTerminator_finds_the_first_terminator_at_every_position() {
+        for (int length = 0; length < 20; length++) {
+            for (int terminatorIndex = 0; terminatorIndex < length; terminatorIndex++) {
+                for (final byte terminator : new byte[] {'\n', '\r'}) {
+                    final byte[] bytes = new byte[length];
+                    Arrays.fill(bytes, (byte) 'x');
+                    bytes[terminatorIndex] = terminator;
+                    if (terminatorIndex + 1 < length) {
+                        bytes[terminatorIndex + 1] = terminator == '\n' ? (byte) '\r' : (byte) '\n';
+                    }
+
+                    assertThat(ByteLineReader.indexOfLineTerminator(bytes, 0, length), equalTo(terminatorIndex));
+                    assertThat(ByteLineReader.indexOfLineTerminator(bytes, terminatorIndex + 2, length), equalTo(-1));
+                }
+            }
+            final byte[] bytes = new byte[length];
+            Arrays.fill(bytes, (byte) 0x8A);
+            assertThat(ByteLineReader.indexOfLineTerminator(bytes, 0, length), equalTo(-1));
+        }
+    }
+
+    private static ByteLineReader createObjectUnderTest(final String input, final int blockSize) {
+        return new ByteLineReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, blockSize);
+    }
+
+    private static List<String> readLines(final String input, final int blockSize) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        try (final ByteLineReader reader = createObjectUnderTest(input, blockSize)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+
+    private static List<String> readLinesWithBufferedReader(final String input) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        try (final BufferedReader reader = new BufferedReader(new StringReader(input))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
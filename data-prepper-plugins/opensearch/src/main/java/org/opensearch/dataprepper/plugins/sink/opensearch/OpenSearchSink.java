@@ -51,6 +51,7 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkR
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapper;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapperFactory;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkOperationWriter;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkRequestAccumulator;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingCompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingUncompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.SerializedJson;
@@ -78,6 +79,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -86,10 +88,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -102,12 +106,16 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   public static final String BULKREQUEST_ERRORS = "bulkRequestErrors";
   public static final String INVALID_ACTION_ERRORS = "invalidActionErrors";
   public static final String BULKREQUEST_SIZE_BYTES = "bulkRequestSizeBytes";
+  public static final String BULKREQUEST_IN_FLIGHT_BYTES = "bulkRequestInFlightBytes";
+  public static final String BULKREQUEST_QUEUE_WAIT = "bulkRequestQueueWait";
   public static final String DYNAMIC_INDEX_DROPPED_EVENTS = "dynamicIndexDroppedEvents";
   public static final String INVALID_VERSION_EXPRESSION_DROPPED_EVENTS = "dynamicDocumentVersionDroppedEvents";
   private static final String PLUGIN_NAME = "opensearch";
 
   private static final Logger LOG = LoggerFactory.getLogger(OpenSearchSink.class);
   private static final int INITIALIZE_RETRY_WAIT_TIME_MS = 5000;
+  private static final int WORKERS_PER_BULK_REQUEST_STRIPE = 4;
+  private static final long BULK_REQUEST_SHUTDOWN_TIMEOUT_SECONDS = 30;
   private final AwsCredentialsSupplier awsCredentialsSupplier;
 
   private DlqWriter dlqWriter;
@@ -131,7 +139,6 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private final List<ActionConfiguration> actions;
   private final String documentRootKey;
   private String configuredIndexAlias;
-  private final ReentrantLock lock;
   private final VersionType versionType;
   private final String versionExpression;
 
@@ -140,6 +147,8 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private final Counter invalidActionErrorsCounter;
   private final Counter dynamicIndexDroppedEvents;
   private final DistributionSummary bulkRequestSizeBytesSummary;
+  private final AtomicLong bulkRequestInFlightBytes;
+  private final Timer bulkRequestQueueWaitTimer;
   private final Counter dynamicDocumentVersionDroppedEvents;
   private OpenSearchClient openSearchClient;
   private OpenSearchClientRefresher openSearchClientRefresher;
@@ -151,8 +160,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private FailedBulkOperationConverter failedBulkOperationConverter;
 
   private DlqProvider dlqProvider;
-  private final ConcurrentHashMap<Long, AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest>> bulkRequestMap;
-  private final ConcurrentHashMap<Long, Long> lastFlushTimeMap;
+  private BulkRequestAccumulator<BulkOperationWrapper, BulkRequest> bulkRequestAccumulator;
   private final PluginConfigObservable pluginConfigObservable;
 
   private ExistingDocumentQueryManager existingDocumentQueryManager;
@@ -160,6 +168,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private final ExecutorService queryExecutorService;
 
   private final int processWorkerThreads;
+  private ExecutorService bulkRequestExecutorService;
 
   @DataPrepperPluginConstructor
   public OpenSearchSink(final PluginSetting pluginSetting,
@@ -180,6 +189,8 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     invalidActionErrorsCounter = pluginMetrics.counter(INVALID_ACTION_ERRORS);
     dynamicIndexDroppedEvents = pluginMetrics.counter(DYNAMIC_INDEX_DROPPED_EVENTS);
     bulkRequestSizeBytesSummary = pluginMetrics.summary(BULKREQUEST_SIZE_BYTES);
+    bulkRequestInFlightBytes = pluginMetrics.gauge(BULKREQUEST_IN_FLIGHT_BYTES, new AtomicLong());
+    bulkRequestQueueWaitTimer = pluginMetrics.timer(BULKREQUEST_QUEUE_WAIT);
     dynamicDocumentVersionDroppedEvents = pluginMetrics.counter(INVALID_VERSION_EXPRESSION_DROPPED_EVENTS);
 
     this.openSearchSinkConfig = OpenSearchSinkConfiguration.readOSConfig(openSearchSinkConfiguration, expressionEvaluator);
@@ -198,9 +209,6 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     this.indexManagerFactory = new IndexManagerFactory(new ClusterSettingsParser());
     this.failedBulkOperationConverter = new FailedBulkOperationConverter(pipeline, PLUGIN_NAME);
     this.initialized = false;
-    this.lock = new ReentrantLock(true);
-    this.bulkRequestMap = new ConcurrentHashMap<>();
-    this.lastFlushTimeMap = new ConcurrentHashMap<>();
     this.pluginConfigObservable = pluginConfigObservable;
     this.objectMapper = new ObjectMapper();
     this.queryExecutorService = openSearchSinkConfig.getIndexConfiguration().getQueryTerm() != null ?
@@ -304,6 +312,33 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
             PLUGIN_NAME,
             openSearchSinkConfig.getIndexConfiguration().getQueryOnBulkFailures() ? existingDocumentQueryManager : null);
 
+    // Without max_in_flight_bulk_requests, each worker sends the bulk requests it fills on its own thread.
+    // Exceptions from inline bulk requests reach the pipeline as they did before.
+    final Integer configuredMaxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
+    final int maxInFlightBulkRequests;
+    final Executor bulkRequestExecutor;
+    final Consumer<AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest>> bulkRequestFlusher;
+    if (configuredMaxInFlightBulkRequests != null) {
+      maxInFlightBulkRequests = configuredMaxInFlightBulkRequests;
+      bulkRequestExecutorService = Executors.newFixedThreadPool(maxInFlightBulkRequests,
+              BackgroundThreadFactory.defaultExecutorThreadFactory("opensearch-sink-bulk-request"));
+      bulkRequestExecutor = bulkRequestExecutorService;
+      bulkRequestFlusher = this::flushBatchInFlight;
+    } else {
+      maxInFlightBulkRequests = Math.max(1, processWorkerThreads);
+      bulkRequestExecutor = Runnable::run;
+      bulkRequestFlusher = this::flushBatch;
+    }
+    bulkRequestAccumulator = new BulkRequestAccumulator<>(
+            () -> bulkRequestSupplier.get(),
+            bulkRequestFlusher,
+            bulkRequestExecutor,
+            bulkSize,
+            flushTimeout,
+            Math.max(1, (processWorkerThreads + WORKERS_PER_BULK_REQUEST_STRIPE - 1) / WORKERS_PER_BULK_REQUEST_STRIPE),
+            maxInFlightBulkRequests,
+            bulkRequestQueueWaitTimer);
+
     this.initialized = true;
     LOG.info("Initialized OpenSearch sink");
   }
@@ -405,17 +440,6 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
   @Override
   public void doOutput(final Collection<Record<Event>> records) {
-    final long threadId = Thread.currentThread().getId();
-    if (!bulkRequestMap.containsKey(threadId)) {
-      bulkRequestMap.put(threadId, bulkRequestSupplier.get());
-    }
-    if (!lastFlushTimeMap.containsKey(threadId)) {
-      lastFlushTimeMap.put(threadId, System.currentTimeMillis());
-    }
-
-    AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest = bulkRequestMap.get(threadId);
-    long lastFlushTime = lastFlushTimeMap.get(threadId);
-
     Set<BulkOperationWrapper> documentsReadyForIndexing = new HashSet<>();
     if (openSearchSinkConfig.getIndexConfiguration().getQueryTerm() != null) {
       documentsReadyForIndexing = existingDocumentQueryManager.getAndClearBulkOperationsReadyToIndex();
@@ -426,10 +450,8 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       LOG.info("Found {} documents ready for indexing from query manager", documentsReadyForIndexing.size());
     }
 
-    for (final BulkOperationWrapper bulkOperationWrapper : documentsReadyForIndexing) {
-      bulkRequest = flushBatch(bulkRequest, bulkOperationWrapper, lastFlushTime);
-      bulkRequest.addOperation(bulkOperationWrapper);
-    }
+    final List<BulkOperationWrapper> bulkOperationWrappers = new ArrayList<>(documentsReadyForIndexing.size() + records.size());
+    bulkOperationWrappers.addAll(documentsReadyForIndexing);
 
 
     for (final Record<Event> record : records) {
@@ -487,16 +509,19 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
         continue;
       }
 
+      // Only these actions need the tree, so index and create actions keep writing the event's original bytes.
+      JsonNode jsonNode = null;
       SerializedJson serializedJsonNode = null;
       if (StringUtils.equals(eventAction, OpenSearchBulkActions.UPDATE.toString()) ||
           StringUtils.equals(eventAction, OpenSearchBulkActions.UPSERT.toString()) ||
           StringUtils.equals(eventAction, OpenSearchBulkActions.DELETE.toString())) {
-            serializedJsonNode = SerializedJson.fromJsonNode(event.getJsonNode(), document);
+            jsonNode = event.getJsonNode();
+            serializedJsonNode = SerializedJson.fromJsonNode(jsonNode, document);
       }
       BulkOperation bulkOperation;
 
       try {
-        bulkOperation = getBulkOperationForAction(eventAction, document, version, indexName, event.getJsonNode());
+        bulkOperation = getBulkOperationForAction(eventAction, document, version, indexName, jsonNode);
       } catch (final Exception e) {
         LOG.error("An exception occurred while constructing the bulk operation for a document: ", e);
         logFailureForDlqObjects(List.of(createDlqObjectFromEvent(event, indexName, e.getMessage())), e);
@@ -514,19 +539,13 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
         continue;
       }
 
-      bulkRequest = flushBatch(bulkRequest, bulkOperationWrapper, lastFlushTime);
-      bulkRequest.addOperation(bulkOperationWrapper);
+      bulkOperationWrappers.add(bulkOperationWrapper);
     }
 
-    // Flush the remaining requests if flush timeout expired
-    if (System.currentTimeMillis() - lastFlushTime > flushTimeout && bulkRequest.getOperationsCount() > 0) {
-      flushBatch(bulkRequest);
-      lastFlushTime = System.currentTimeMillis();
-      bulkRequest = bulkRequestSupplier.get();
-    }
+    bulkRequestAccumulator.addOperations(bulkOperationWrappers);
 
-    bulkRequestMap.put(threadId, bulkRequest);
-    lastFlushTimeMap.put(threadId, lastFlushTime);
+    // Flush the remaining requests if flush timeout expired
+    bulkRequestAccumulator.flushExpired();
   }
 
   SerializedJson getDocument(final Event event) {
@@ -553,23 +572,41 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       }
     }
 
-    final String document = DocumentBuilder.build(event, documentRootKey, sinkContext.getTagsTargetKey(), sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys());
+    final byte[] document = DocumentBuilder.buildBytes(event, documentRootKey, sinkContext.getTagsTargetKey(), sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys());
 
-    return SerializedJson.fromStringAndOptionals(document, docId, routingValue, null);
+    return SerializedJson.fromBytesAndOptionals(document, docId, routingValue, null);
   }
 
   private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
-    bulkRequestTimer.record(() -> {
-      try {
-        LOG.debug("Sending data to OpenSearch");
-        bulkRetryStrategy.execute(accumulatingBulkRequest);
-        bulkRequestSizeBytesSummary.record(accumulatingBulkRequest.getEstimatedSizeInBytes());
-      } catch (final InterruptedException e) {
-        LOG.error("Unexpected Interrupt:", e);
-        bulkRequestErrorsCounter.increment();
-        Thread.currentThread().interrupt();
-      }
-    });
+    final long estimatedSizeInBytes = accumulatingBulkRequest.getEstimatedSizeInBytes();
+    bulkRequestInFlightBytes.addAndGet(estimatedSizeInBytes);
+    try {
+      bulkRequestTimer.record(() -> {
+        try {
+          LOG.debug("Sending data to OpenSearch");
+          bulkRetryStrategy.execute(accumulatingBulkRequest);
+          bulkRequestSizeBytesSummary.record(estimatedSizeInBytes);
+        } catch (final InterruptedException e) {
+          LOG.error("Unexpected Interrupt:", e);
+          bulkRequestErrorsCounter.increment();
+          Thread.currentThread().interrupt();
+        }
+      });
+    } finally {
+      bulkRequestInFlightBytes.addAndGet(-estimatedSizeInBytes);
+    }
+  }
+
+  /**
+   * Sends a bulk request on the in-flight pool, where no pipeline worker would see an exception it throws.
+   */
+  private void flushBatchInFlight(final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> accumulatingBulkRequest) {
+    try {
+      flushBatch(accumulatingBulkRequest);
+    } catch (final RuntimeException e) {
+      LOG.error("Unexpected exception while sending a bulk request to OpenSearch:", e);
+      bulkRequestErrorsCounter.increment();
+    }
   }
 
   private void logFailureForBulkRequests(final List<FailedBulkOperation> failedBulkOperations, final Throwable failure) {
@@ -647,6 +684,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   @Override
   public void shutdown() {
     super.shutdown();
+    shutdownBulkRequests();
     closeFiles();
     openSearchClient.shutdown();
     if (queryExecutorService != null) {
@@ -655,6 +693,22 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     }
   }
 
+  private void shutdownBulkRequests() {
+    if (bulkRequestExecutorService == null) {
+      return;
+    }
+    bulkRequestExecutorService.shutdown();
+    try {
+      if (!bulkRequestExecutorService.awaitTermination(BULK_REQUEST_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        LOG.warn("Timed out waiting for in-flight bulk requests to complete during shutdown.");
+        bulkRequestExecutorService.shutdownNow();
+      }
+    } catch (final InterruptedException e) {
+      bulkRequestExecutorService.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private void maybeUpdateServerlessNetworkPolicy() {
     final Optional<ServerlessOptions> maybeServerlessOptions = ServerlessOptionsFactory.create(
         openSearchSinkConfig.getConnectionConfiguration());
@@ -699,18 +753,4 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
             (sinkContext.getExcludeKeys() != null && !sinkContext.getExcludeKeys().isEmpty()) ||
             sinkContext.getTagsTargetKey() != null;
   }
-
-  private AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> flushBatch(
-          final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest,
-          final BulkOperationWrapper bulkOperationWrapper,
-          long lastFlushTime
-          ) {
-    final long estimatedBytesBeforeAdd = bulkRequest.estimateSizeInBytesWithDocument(bulkOperationWrapper);
-    if (bulkSize >= 0 && estimatedBytesBeforeAdd >= bulkSize && bulkRequest.getOperationsCount() > 0) {
-      flushBatch(bulkRequest);
-      lastFlushTime = System.currentTimeMillis();
-      return bulkRequestSupplier.get();
-    }
-   return bulkRequest;
-  }
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates bulk operations from any number of sink workers into a shared set of bulk requests.
+ * <p>
+ * Bulk requests are held in lock-protected stripes rather than per thread, so a request is filled up to the bulk size
+ * by whichever workers are writing and no partial request is left behind when a worker goes away. This also keeps
+ * the sink correct when it is driven by virtual threads, which are neither long-lived nor reused. Full requests are
+ * taken out of their stripe and handed to the flush executor outside of the stripe lock.
+ * <p>
+ * No more than the configured number of flushes are in flight at the same time. A worker which fills a request while
+ * all of them are in use waits for one to complete, which applies backpressure to the pipeline workers.
+ *
+ * @param <O> OperationType
+ * @param <R> RequestType
+ */
+public class BulkRequestAccumulator<O, R> {
+    private final Supplier<AccumulatingBulkRequest<O, R>> bulkRequestSupplier;
+    private final Consumer<AccumulatingBulkRequest<O, R>> flusher;
+    private final Executor flushExecutor;
+    private final long bulkSize;
+    private final long flushTimeout;
+    private final Semaphore inFlightPermits;
+    private final Timer queueWaitTimer;
+    private final LongSupplier clock;
+    private final List<Stripe<O, R>> stripes;
+    private final AtomicInteger nextStripe = new AtomicInteger();
+
+    /**
+     * @param bulkRequestSupplier creates empty bulk requests
+     * @param flusher sends a bulk request; it is called on the flush executor
+     * @param flushExecutor runs the flusher. It must be able to run maxInFlightBulkRequests flushes at the same time.
+     * @param bulkSize the estimated size in bytes at which a bulk request is flushed, or a negative value for no limit
+     * @param flushTimeout the time in milliseconds after which a partial bulk request is flushed
+     * @param numberOfStripes the number of bulk requests being filled at the same time
+     * @param maxInFlightBulkRequests the maximum number of flushes in flight at the same time
+     * @param queueWaitTimer records how long full bulk requests wait for an in-flight slot
+     */
+    public BulkRequestAccumulator(final Supplier<AccumulatingBulkRequest<O, R>> bulkRequestSupplier,
+                                  final Consumer<AccumulatingBulkRequest<O, R>> flusher,
+                                  final Executor flushExecutor,
+                                  final long bulkSize,
+                                  final long flushTimeout,
+                                  final int numberOfStripes,
+                                  final int maxInFlightBulkRequests,
+                                  final Timer queueWaitTimer) {
+        this(bulkRequestSupplier, flusher, flushExecutor, bulkSize, flushTimeout, numberOfStripes, maxInFlightBulkRequests,
+                queueWaitTimer, System::currentTimeMillis);
+    }
+
+    BulkRequestAccumulator(final Supplier<AccumulatingBulkRequest<O, R>> bulkRequestSupplier,
+                           final Consumer<AccumulatingBulkRequest<O, R>> flusher,
+                           final Executor flushExecutor,
+                           final long bulkSize,
+                           final long flushTimeout,
+                           final int numberOfStripes,
+                           final int maxInFlightBulkRequests,
+                           final Timer queueWaitTimer,
+                           final LongSupplier clock) {
+        if (numberOfStripes < 1) {
+            throw new IllegalArgumentException("The number of stripes must be at least 1.");
+        }
+        if (maxInFlightBulkRequests < 1) {
+            throw new IllegalArgumentException("The maximum number of in-flight bulk requests must be at least 1.");
+        }
+        this.bulkRequestSupplier = Objects.requireNonNull(bulkRequestSupplier);
+        this.flusher = Objects.requireNonNull(flusher);
+        this.flushExecutor = Objects.requireNonNull(flushExecutor);
+        this.bulkSize = bulkSize;
+        this.flushTimeout = flushTimeout;
+        this.inFlightPermits = new Semaphore(maxInFlightBulkRequests);
+        this.queueWaitTimer = Objects.requireNonNull(queueWaitTimer);
+        this.clock = Objects.requireNonNull(clock);
+
+        final long now = clock.getAsLong();
+        stripes = new ArrayList<>(numberOfStripes);
+        for (int i = 0; i < numberOfStripes; i++) {
+            stripes.add(new Stripe<>(bulkRequestSupplier.get(), now));
+        }
+    }
+
+    /**
+     * Adds operations to one of the shared bulk requests, flushing each request which reaches the bulk size.
+     *
+     * @param operations the operations to add
+     */
+    public void addOperations(final Collection<O> operations) {
+        if (operations.isEmpty()) {
+            return;
+        }
+
+        final List<AccumulatingBulkRequest<O, R>> fullRequests = new ArrayList<>();
+        final Stripe<O, R> stripe = lockStripe();
+        try {
+            for (final O operation : operations) {
+                if (bulkSize >= 0 && stripe.bulkRequest.getOperationsCount() > 0
+                        && stripe.bulkRequest.estimateSizeInBytesWithDocument(operation) >= bulkSize) {
+                    fullRequests.add(stripe.takeRequest(bulkRequestSupplier.get(), clock.getAsLong()));
+                }
+                stripe.bulkRequest.addOperation(operation);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+
+        for (final AccumulatingBulkRequest<O, R> fullRequest : fullRequests) {
+            flush(fullRequest);
+        }
+    }
+
+    /**
+     * Flushes every non-empty bulk request which has not been flushed within the flush timeout. Stripes which are being
+     * filled by another worker are skipped; that worker checks them once it is done adding.
+     */
+    public void flushExpired() {
+        for (final Stripe<O, R> stripe : stripes) {
+            if (!stripe.lock.tryLock()) {
+                continue;
+            }
+            AccumulatingBulkRequest<O, R> expiredRequest = null;
+            try {
+                final long now = clock.getAsLong();
+                if (stripe.bulkRequest.getOperationsCount() > 0 && now - stripe.lastFlushTime > flushTimeout) {
+                    expiredRequest = stripe.takeRequest(bulkRequestSupplier.get(), now);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+            if (expiredRequest != null) {
+                flush(expiredRequest);
+            }
+        }
+    }
+
+    int getNumberOfStripes() {
+        return stripes.size();
+    }
+
+    int getAvailableInFlightPermits() {
+        return inFlightPermits.availablePermits();
+    }
+
+    /**
+     * Locks the first free stripe, starting from a different stripe on each call so that concurrent workers spread out.
+     * Waits on the starting stripe only when all of them are busy.
+     */
+    private Stripe<O, R> lockStripe() {
+        final int start = Math.floorMod(nextStripe.getAndIncrement(), stripes.size());
+        for (int i = 0; i < stripes.size(); i++) {
+            final Stripe<O, R> stripe = stripes.get((start + i) % stripes.size());
+            if (stripe.lock.tryLock()) {
+                return stripe;
+            }
+        }
+        final Stripe<O, R> stripe = stripes.get(start);
+        stripe.lock.lock();
+        return stripe;
+    }
+
+    private void flush(final AccumulatingBulkRequest<O, R> bulkRequest) {
+        final long waitStartNanos = System.nanoTime();
+        inFlightPermits.acquireUninterruptibly();
+        queueWaitTimer.record(System.nanoTime() - waitStartNanos, TimeUnit.NANOSECONDS);
+
+        try {
+            flushExecutor.execute(() -> {
+                try {
+                    flusher.accept(bulkRequest);
+                } finally {
+                    inFlightPermits.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            inFlightPermits.release();
+            throw e;
+        }
+    }
+
+    private static class Stripe<O, R> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private AccumulatingBulkRequest<O, R> bulkRequest;
+        private long lastFlushTime;
+
+        private Stripe(final AccumulatingBulkRequest<O, R> bulkRequest, final long lastFlushTime) {
+            this.bulkRequest = bulkRequest;
+            this.lastFlushTime = lastFlushTime;
+        }
+
+        private AccumulatingBulkRequest<O, R> takeRequest(final AccumulatingBulkRequest<O, R> newBulkRequest, final long now) {
+            final AccumulatingBulkRequest<O, R> takenRequest = bulkRequest;
+            bulkRequest = newBulkRequest;
+            lastFlushTime = now;
+            return takenRequest;
+        }
+    }
+}
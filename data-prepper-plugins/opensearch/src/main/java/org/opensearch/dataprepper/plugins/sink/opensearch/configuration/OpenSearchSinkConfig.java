@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.configuration;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import org.opensearch.dataprepper.model.opensearch.OpenSearchBulkActions;
@@ -131,6 +132,11 @@ public class OpenSearchSinkConfig {
     @JsonProperty("flush_timeout")
     private Long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
 
+    @Getter
+    @Min(1)
+    @JsonProperty("max_in_flight_bulk_requests")
+    private Integer maxInFlightBulkRequests = null;
+
     @Getter
     @JsonProperty("document_version_type")
     private String versionType = null;
@@ -2,6 +2,7 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.index;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public final class DocumentBuilder {
@@ -20,6 +21,25 @@ public final class DocumentBuilder {
         return document;
     }
 
+    /**
+     * Builds the same document as {@link #build(Event, String, String, List, List)} as UTF-8 encoded JSON. For an event
+     * which is unchanged since it was created from JSON bytes, these are the original bytes.
+     */
+    public static byte[] buildBytes(final Event event, final String documentRootKey, final String tagsTargetKey, final List<String> includeKeys, final List<String> excludeKeys) {
+        final byte[] document = event.jsonBuilder()
+                .rootKey(documentRootKey)
+                .includeKeys(includeKeys)
+                .excludeKeys(excludeKeys)
+                .includeTags(tagsTargetKey)
+                .toJsonBytes();
+
+        if (document == null || document.length == 0 || document[0] != '{') {
+            final String data = document == null ? null : new String(document, StandardCharsets.UTF_8);
+            return String.format("{\"data\": %s}", data).getBytes(StandardCharsets.UTF_8);
+        }
+        return document;
+    }
+
     public static String build(final Event event, final String documentRootKey, final String tagsTargetKey) {
         return build(event, documentRootKey, tagsTargetKey, null, null);
     }
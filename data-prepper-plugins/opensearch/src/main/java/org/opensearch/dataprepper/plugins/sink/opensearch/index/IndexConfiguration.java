@@ -63,6 +63,7 @@ public class IndexConfiguration {
     public static final String ESTIMATE_BULK_SIZE_USING_COMPRESSION = "estimate_bulk_size_using_compression";
     public static final String MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = "max_local_compressions_for_estimation";
     public static final String FLUSH_TIMEOUT = "flush_timeout";
+    public static final String MAX_IN_FLIGHT_BULK_REQUESTS = "max_in_flight_bulk_requests";
     public static final String DOCUMENT_ID_FIELD = "document_id_field";
     public static final String DOCUMENT_ID = "document_id";
     public static final String ROUTING_FIELD = "routing_field";
@@ -89,6 +90,7 @@ public class IndexConfiguration {
     private final boolean estimateBulkSizeUsingCompression;
     private int maxLocalCompressionsForEstimation;
     private final long flushTimeout;
+    private final Integer maxInFlightBulkRequests;
     private final Optional<String> ismPolicyFile;
     private final String action;
     private final List<ActionConfiguration> actions;
@@ -159,6 +161,7 @@ public class IndexConfiguration {
         this.estimateBulkSizeUsingCompression = builder.estimateBulkSizeUsingCompression;
         this.maxLocalCompressionsForEstimation = builder.maxLocalCompressionsForEstimation;
         this.flushTimeout = builder.flushTimeout;
+        this.maxInFlightBulkRequests = builder.maxInFlightBulkRequests;
         this.routingField = builder.routingField;
         this.routing = builder.routing;
 
@@ -272,6 +275,7 @@ public class IndexConfiguration {
                 .withEstimateBulkSizeUsingCompression(openSearchSinkConfig.isEstimateBulkSizeUsingCompression())
                 .withMaxLocalCompressionsForEstimation(openSearchSinkConfig.getMaxLocalCompressionsForEstimation())
                 .withFlushTimeout(openSearchSinkConfig.getFlushTimeout())
+                .withMaxInFlightBulkRequests(openSearchSinkConfig.getMaxInFlightBulkRequests())
                 .withVersionType(openSearchSinkConfig.getVersionType())
                 .withNormalizeIndex(openSearchSinkConfig.isNormalizeIndex())
                 .withIsmPolicyFile(openSearchSinkConfig.getIsmPolicyFile())
@@ -360,6 +364,10 @@ public class IndexConfiguration {
         return flushTimeout;
     }
 
+    public Integer getMaxInFlightBulkRequests() {
+        return maxInFlightBulkRequests;
+    }
+
     public Optional<String> getIsmPolicyFile() {
         return ismPolicyFile;
     }
@@ -496,6 +504,7 @@ public class IndexConfiguration {
         private boolean estimateBulkSizeUsingCompression = DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION;
         private int maxLocalCompressionsForEstimation = DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION;
         private long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
+        private Integer maxInFlightBulkRequests;
         private Optional<String> ismPolicyFile;
         private String action;
         private List<ActionConfiguration> actions;
@@ -593,6 +602,11 @@ public class IndexConfiguration {
             return this;
         }
 
+        public Builder withMaxInFlightBulkRequests(final Integer maxInFlightBulkRequests) {
+            this.maxInFlightBulkRequests = maxInFlightBulkRequests;
+            return this;
+        }
+
         public Builder withNumShards(final int numShards) {
             this.numShards = numShards;
             return this;
@@ -42,10 +42,12 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.index.TemplateStrategy
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.TemplateType;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -63,7 +65,9 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.model.sink.SinkLatencyMetrics.EXTERNAL_LATENCY;
 import static org.opensearch.dataprepper.model.sink.SinkLatencyMetrics.INTERNAL_LATENCY;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_ERRORS;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_IN_FLIGHT_BYTES;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_LATENCY;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_QUEUE_WAIT;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.BULKREQUEST_SIZE_BYTES;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.DYNAMIC_INDEX_DROPPED_EVENTS;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.OpenSearchSink.INVALID_ACTION_ERRORS;
@@ -172,6 +176,8 @@ public class OpenSearchSinkTest {
         when(pluginMetrics.counter(DYNAMIC_INDEX_DROPPED_EVENTS)).thenReturn(dynamicIndexDroppedEvents);
         when(pluginMetrics.counter(INVALID_VERSION_EXPRESSION_DROPPED_EVENTS)).thenReturn(dynamicDocumentVersionDroppedEvents);
         when(pluginMetrics.summary(BULKREQUEST_SIZE_BYTES)).thenReturn(bulkRequestSizeBytesSummary);
+        when(pluginMetrics.gauge(eq(BULKREQUEST_IN_FLIGHT_BYTES), any(AtomicLong.class))).thenAnswer(invocation -> invocation.getArgument(1));
+        when(pluginMetrics.timer(BULKREQUEST_QUEUE_WAIT)).thenReturn(mock(Timer.class));
 
         lenient().when(sinkContext.getTagsTargetKey()).thenReturn(null);
         lenient().when(sinkContext.getIncludeKeys()).thenReturn(null);
@@ -243,8 +249,8 @@ public class OpenSearchSinkTest {
 
         try (final MockedStatic<DocumentBuilder> documentBuilderMockedStatic = mockStatic(DocumentBuilder.class);
              final MockedStatic<DlqObject> dlqObjectMockedStatic = mockStatic(DlqObject.class)) {
-            documentBuilderMockedStatic.when(() -> DocumentBuilder.build(eq(event), eq(null), eq(null), eq(null), eq(null)))
-                    .thenReturn(UUID.randomUUID().toString());
+            documentBuilderMockedStatic.when(() -> DocumentBuilder.buildBytes(eq(event), eq(null), eq(null), eq(null), eq(null)))
+                    .thenReturn(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
 
             dlqObjectMockedStatic.when(DlqObject::builder).thenReturn(dlqObjectBuilder);
             objectUnderTest.doOutput(List.of(eventRecord));
@@ -331,8 +337,8 @@ public class OpenSearchSinkTest {
 
         try (final MockedStatic<DocumentBuilder> documentBuilderMockedStatic = mockStatic(DocumentBuilder.class);
              final MockedStatic<DlqObject> dlqObjectMockedStatic = mockStatic(DlqObject.class)) {
-            documentBuilderMockedStatic.when(() -> DocumentBuilder.build(eq(event), eq(null), eq(null), eq(null), eq(null)))
-                    .thenReturn(UUID.randomUUID().toString());
+            documentBuilderMockedStatic.when(() -> DocumentBuilder.buildBytes(eq(event), eq(null), eq(null), eq(null), eq(null)))
+                    .thenReturn(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8));
 
             dlqObjectMockedStatic.when(DlqObject::builder).thenReturn(dlqObjectBuilder);
             objectUnderTest.doOutput(List.of(eventRecord));
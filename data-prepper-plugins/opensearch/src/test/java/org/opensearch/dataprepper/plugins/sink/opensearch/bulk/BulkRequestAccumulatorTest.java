@@ -0,0 +1,379 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class BulkRequestAccumulatorTest {
+    private static final long OPERATION_SIZE = 10;
+
+    private List<AccumulatingBulkRequest<String, Void>> flushedRequests;
+    private AtomicLong clock;
+    private long bulkSize;
+    private long flushTimeout;
+    private int numberOfStripes;
+    private int maxInFlightBulkRequests;
+    private Executor flushExecutor;
+    private Timer queueWaitTimer;
+
+    @BeforeEach
+    void setUp() {
+        flushedRequests = Collections.synchronizedList(new ArrayList<>());
+        clock = new AtomicLong(1_000L);
+        bulkSize = 3 * OPERATION_SIZE + 1;
+        flushTimeout = 100L;
+        numberOfStripes = 1;
+        maxInFlightBulkRequests = 1;
+        flushExecutor = Runnable::run;
+        queueWaitTimer = mock(Timer.class);
+    }
+
+    private BulkRequestAccumulator<String, Void> createObjectUnderTest() {
+        return new BulkRequestAccumulator<>(TestBulkRequest::new, flushedRequests::add, flushExecutor,
+                bulkSize, flushTimeout, numberOfStripes, maxInFlightBulkRequests, queueWaitTimer, clock::get);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_invalid_number_of_stripes(final int invalidNumberOfStripes) {
+        numberOfStripes = invalidNumberOfStripes;
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_for_invalid_max_in_flight_bulk_requests(final int invalidMaxInFlightBulkRequests) {
+        maxInFlightBulkRequests = invalidMaxInFlightBulkRequests;
+        assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+    }
+
+    @Test
+    void addOperations_does_not_flush_below_bulk_size() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a", "b", "c"));
+
+        assertThat(flushedRequests, empty());
+    }
+
+    @Test
+    void addOperations_flushes_when_the_next_operation_reaches_bulk_size() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a", "b", "c", "d", "e", "f", "g"));
+
+        assertThat(flushedRequests.size(), equalTo(2));
+        assertThat(flushedRequests.get(0).getOperations(), equalTo(List.of("a", "b", "c")));
+        assertThat(flushedRequests.get(1).getOperations(), equalTo(List.of("d", "e", "f")));
+    }
+
+    @Test
+    void addOperations_fills_a_bulk_request_across_calls() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a", "b"));
+        objectUnderTest.addOperations(List.of("c"));
+        assertThat(flushedRequests, empty());
+
+        objectUnderTest.addOperations(List.of("d"));
+        assertThat(flushedRequests.size(), equalTo(1));
+        assertThat(flushedRequests.get(0).getOperations(), equalTo(List.of("a", "b", "c")));
+    }
+
+    @Test
+    void addOperations_with_empty_operations_does_nothing() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(Collections.emptyList());
+        clock.addAndGet(flushTimeout + 1);
+        objectUnderTest.flushExpired();
+
+        assertThat(flushedRequests, empty());
+    }
+
+    @Test
+    void addOperations_sends_an_oversized_operation_in_its_own_bulk_request() {
+        bulkSize = OPERATION_SIZE / 2;
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a", "b"));
+
+        assertThat(flushedRequests.size(), equalTo(1));
+        assertThat(flushedRequests.get(0).getOperations(), equalTo(List.of("a")));
+    }
+
+    @Test
+    void flushExpired_does_not_flush_before_flush_timeout() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a"));
+        clock.addAndGet(flushTimeout);
+        objectUnderTest.flushExpired();
+
+        assertThat(flushedRequests, empty());
+    }
+
+    @Test
+    void flushExpired_flushes_partial_bulk_requests_after_flush_timeout() {
+        numberOfStripes = 2;
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a"));
+        objectUnderTest.addOperations(List.of("b"));
+        clock.addAndGet(flushTimeout + 1);
+        objectUnderTest.flushExpired();
+
+        assertThat(flushedRequests.size(), equalTo(2));
+        assertThat(flushedRequests.stream().flatMap(request -> request.getOperations().stream()).collect(Collectors.toList()),
+                containsInAnyOrder("a", "b"));
+
+        objectUnderTest.flushExpired();
+        assertThat(flushedRequests.size(), equalTo(2));
+    }
+
+    @Test
+    void flushExpired_restarts_the_flush_timeout_after_a_size_based_flush() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        clock.addAndGet(flushTimeout);
+        objectUnderTest.addOperations(List.of("a", "b", "c", "d"));
+        assertThat(flushedRequests.size(), equalTo(1));
+
+        clock.addAndGet(1);
+        objectUnderTest.flushExpired();
+        assertThat(flushedRequests.size(), equalTo(1));
+    }
+
+    @Test
+    void flushExpired_with_negative_flush_timeout_flushes_every_call() {
+        flushTimeout = -1;
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a"));
+        objectUnderTest.flushExpired();
+
+        assertThat(flushedRequests.size(), equalTo(1));
+        assertThat(flushedRequests.get(0).getOperations(), equalTo(List.of("a")));
+    }
+
+    @Test
+    void getters_return_configured_stripes_and_in_flight_permits() {
+        numberOfStripes = 3;
+        maxInFlightBulkRequests = 5;
+
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getNumberOfStripes(), equalTo(3));
+        assertThat(objectUnderTest.getAvailableInFlightPermits(), equalTo(5));
+    }
+
+    @Test
+    void concurrent_workers_share_bulk_requests_and_respect_max_in_flight_bulk_requests() throws Exception {
+        final int numberOfWorkers = 8;
+        final int operationsPerWorker = 300;
+        numberOfStripes = 2;
+        maxInFlightBulkRequests = 2;
+        final ExecutorService flushExecutorService = Executors.newFixedThreadPool(maxInFlightBulkRequests);
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxObservedInFlight = new AtomicInteger();
+        final BulkRequestAccumulator<String, Void> objectUnderTest = new BulkRequestAccumulator<>(TestBulkRequest::new, request -> {
+            maxObservedInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            flushedRequests.add(request);
+            inFlight.decrementAndGet();
+        }, flushExecutorService, bulkSize, flushTimeout, numberOfStripes, maxInFlightBulkRequests, queueWaitTimer, clock::get);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(numberOfWorkers);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int worker = 0; worker < numberOfWorkers; worker++) {
+            final int workerId = worker;
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int i = 0; i < operationsPerWorker; i++) {
+                    objectUnderTest.addOperations(List.of(workerId + "-" + i));
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (final Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executorService.shutdown();
+
+        clock.addAndGet(flushTimeout + 1);
+        objectUnderTest.flushExpired();
+        flushExecutorService.shutdown();
+        assertThat(flushExecutorService.awaitTermination(30, TimeUnit.SECONDS), equalTo(true));
+
+        final List<String> flushedOperations = flushedRequests.stream()
+                .flatMap(request -> request.getOperations().stream())
+                .collect(Collectors.toList());
+        final List<String> expectedOperations = IntStream.range(0, numberOfWorkers).boxed()
+                .flatMap(worker -> IntStream.range(0, operationsPerWorker).mapToObj(i -> worker + "-" + i))
+                .collect(Collectors.toList());
+        assertThat(flushedOperations.size(), equalTo(expectedOperations.size()));
+        assertThat(flushedOperations, containsInAnyOrder(expectedOperations.toArray()));
+        assertThat(flushedRequests.size(), lessThanOrEqualTo(expectedOperations.size() / 3 + numberOfStripes));
+        assertThat(maxObservedInFlight.get(), lessThanOrEqualTo(maxInFlightBulkRequests));
+        assertThat(objectUnderTest.getAvailableInFlightPermits(), equalTo(maxInFlightBulkRequests));
+    }
+
+    @Test
+    void flush_runs_on_the_flush_executor_and_records_queue_wait() {
+        final List<Runnable> submittedFlushes = new ArrayList<>();
+        flushExecutor = submittedFlushes::add;
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a", "b", "c", "d"));
+
+        assertThat(submittedFlushes.size(), equalTo(1));
+        assertThat(flushedRequests, empty());
+        assertThat(objectUnderTest.getAvailableInFlightPermits(), equalTo(0));
+        verify(queueWaitTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+
+        submittedFlushes.get(0).run();
+
+        assertThat(flushedRequests.size(), equalTo(1));
+        assertThat(flushedRequests.get(0).getOperations(), equalTo(List.of("a", "b", "c")));
+        assertThat(objectUnderTest.getAvailableInFlightPermits(), equalTo(1));
+    }
+
+    @Test
+    void flush_releases_in_flight_permit_when_flusher_throws() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = new BulkRequestAccumulator<>(TestBulkRequest::new, request -> {
+            throw new RuntimeException();
+        }, flushExecutor, bulkSize, -1, numberOfStripes, maxInFlightBulkRequests, queueWaitTimer, clock::get);
+
+        objectUnderTest.addOperations(List.of("a"));
+        assertThrows(RuntimeException.class, objectUnderTest::flushExpired);
+
+        assertThat(objectUnderTest.getAvailableInFlightPermits(), equalTo(maxInFlightBulkRequests));
+    }
+
+    @Test
+    void flush_releases_in_flight_permit_when_flush_executor_rejects() {
+        flushExecutor = mock(Executor.class);
+        doThrow(RejectedExecutionException.class).when(flushExecutor).execute(any(Runnable.class));
+        flushTimeout = -1;
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a"));
+        assertThrows(RejectedExecutionException.class, objectUnderTest::flushExpired);
+
+        assertThat(objectUnderTest.getAvailableInFlightPermits(), equalTo(maxInFlightBulkRequests));
+    }
+
+    @Test
+    void flush_waits_for_an_in_flight_permit() throws Exception {
+        final List<Runnable> submittedFlushes = Collections.synchronizedList(new ArrayList<>());
+        flushExecutor = submittedFlushes::add;
+        flushTimeout = -1;
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a"));
+        objectUnderTest.flushExpired();
+        assertThat(submittedFlushes.size(), equalTo(1));
+
+        final CountDownLatch secondFlushSubmitted = new CountDownLatch(1);
+        final Thread worker = new Thread(() -> {
+            objectUnderTest.addOperations(List.of("b"));
+            objectUnderTest.flushExpired();
+            secondFlushSubmitted.countDown();
+        });
+        worker.start();
+
+        assertThat(secondFlushSubmitted.await(200, TimeUnit.MILLISECONDS), equalTo(false));
+        assertThat(submittedFlushes.size(), equalTo(1));
+
+        submittedFlushes.get(0).run();
+
+        assertThat(secondFlushSubmitted.await(30, TimeUnit.SECONDS), equalTo(true));
+        worker.join();
+        assertThat(submittedFlushes.size(), equalTo(2));
+    }
+
+    @Test
+    void addOperations_below_bulk_size_does_not_record_queue_wait() {
+        final BulkRequestAccumulator<String, Void> objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.addOperations(List.of("a"));
+
+        verify(queueWaitTimer, never()).record(anyLong(), any(TimeUnit.class));
+    }
+
+    private static class TestBulkRequest implements AccumulatingBulkRequest<String, Void> {
+        private final List<String> operations = new ArrayList<>();
+
+        @Override
+        public long estimateSizeInBytesWithDocument(final String documentOrOperation) {
+            return (operations.size() + 1) * OPERATION_SIZE;
+        }
+
+        @Override
+        public void addOperation(final String documentOrOperation) {
+            operations.add(documentOrOperation);
+        }
+
+        @Override
+        public String getOperationAt(final int index) {
+            return operations.get(index);
+        }
+
+        @Override
+        public long getEstimatedSizeInBytes() {
+            return operations.size() * OPERATION_SIZE;
+        }
+
+        @Override
+        public int getOperationsCount() {
+            return operations.size();
+        }
+
+        @Override
+        public List<String> getOperations() {
+            return operations;
+        }
+
+        @Override
+        public Void getRequest() {
+            return null;
+        }
+    }
+}
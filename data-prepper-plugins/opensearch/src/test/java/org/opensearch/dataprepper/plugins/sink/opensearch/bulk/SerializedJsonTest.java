@@ -13,6 +13,7 @@ import org.apache.commons.lang3.RandomStringUtils;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class SerializedJsonTest {
@@ -39,6 +40,25 @@ class SerializedJsonTest {
         assertThat(serializedJson.getSerializedJson(), equalTo("{}".getBytes()));
     }
 
+    @Test
+    void fromBytes_returns_SerializedJsonImpl_with_the_same_bytes() {
+        String documentId = RandomStringUtils.randomAlphabetic(10);
+        String routingField = RandomStringUtils.randomAlphabetic(10);
+        final byte[] jsonBytes = "{\"key\":\"value\"}".getBytes();
+        SerializedJson serializedJson = SerializedJson.fromBytesAndOptionals(jsonBytes, documentId, routingField, null);
+        assertThat(serializedJson, instanceOf(SerializedJsonImpl.class));
+        assertThat(serializedJson.getDocumentId().get(), equalTo(documentId));
+        assertThat(serializedJson.getRoutingField().get(), equalTo(routingField));
+        assertThat(serializedJson.getPipelineField().isPresent(), equalTo(false));
+        assertThat(serializedJson.getSerializedJson(), sameInstance(jsonBytes));
+        assertThat(serializedJson.getDocumentSize(), equalTo((long) jsonBytes.length));
+    }
+
+    @Test
+    void fromBytes_throws_if_the_jsonBytes_are_null() {
+        assertThrows(NullPointerException.class, () -> SerializedJson.fromBytesAndOptionals(null, null, null, null));
+    }
+
     @Test
     void fromString_returns_SerializedJsonNode_with_correctValues() {
         String documentId = RandomStringUtils.randomAlphabetic(10);
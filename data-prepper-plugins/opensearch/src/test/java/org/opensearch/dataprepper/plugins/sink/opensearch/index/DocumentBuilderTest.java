@@ -3,6 +3,7 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.index;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -11,6 +12,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -19,6 +21,7 @@ import java.util.stream.Stream;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class DocumentBuilderTest {
 
@@ -74,6 +77,39 @@ public class DocumentBuilderTest {
         assertThat(doc, is(equalTo(String.format("{\"data\": %s}", expectedResult))));
     }
 
+    @ParameterizedTest
+    @NullSource
+    @ValueSource(strings = {"missingObject", "/", "nested"})
+    public void buildBytesWillReturnSameDocumentAsBuild(final String documentRootKey) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, tagsKey, null, null);
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(DocumentBuilder.build(event, documentRootKey, tagsKey))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideSingleItemKeys")
+    public void buildBytesWillReturnSingleObject(final String documentRootKey, final Object expectedResult) {
+
+        final byte[] doc = DocumentBuilder.buildBytes(event, documentRootKey, null, null, null);
+
+        assertThat(new String(doc, StandardCharsets.UTF_8), is(equalTo(String.format("{\"data\": %s}", expectedResult))));
+    }
+
+    @Test
+    public void buildBytesWillReturnOriginalBytesOfUnmodifiedEvent() {
+        final byte[] jsonBytes = "{\"foo\": 42, \"nested\": {\"triangle\": \"equilateral\"}}".getBytes(StandardCharsets.UTF_8);
+        final Event bytesEvent = JacksonEvent.builder()
+                .withData(jsonBytes)
+                .withEventType("TestEvent")
+                .build();
+
+        assertThat(bytesEvent.get("foo", Integer.class), is(equalTo(42)));
+        assertThat(DocumentBuilder.buildBytes(bytesEvent, null, null, null, null), is(sameInstance(jsonBytes)));
+        assertThat(new String(DocumentBuilder.buildBytes(bytesEvent, "nested", null, null, null), StandardCharsets.UTF_8),
+                is(equalTo("{\"triangle\":\"equilateral\"}")));
+    }
+
     private static Stream<Arguments> provideSingleItemKeys() {
         return Stream.of(
             Arguments.of("foo", 42),
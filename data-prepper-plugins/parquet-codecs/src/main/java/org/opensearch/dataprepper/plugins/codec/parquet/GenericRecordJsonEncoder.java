@@ -14,6 +14,12 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.avro.LogicalType;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
@@ -22,12 +28,16 @@ import org.apache.avro.generic.GenericEnumSymbol;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.commons.text.StringEscapeUtils;
+import org.opensearch.dataprepper.plugins.codec.AvroJsonNodes;
 
 /**
  * Credit to https://stackoverflow.com/questions/63655421/writing-parquet-avro-genericrecord-to-json-while-maintaining-logicaltypes
  */
 public class GenericRecordJsonEncoder {
 
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
     Map<LogicalType, Function<Object, Object>> logicalTypesConverters = new HashMap<>();
 
     public void registerLogicalTypeConverter(LogicalType logicalType, Function<Object, Object> converter) {
@@ -55,8 +65,90 @@ public class GenericRecordJsonEncoder {
         return result;
     }
 
-    private static final String TOSTRING_CIRCULAR_REFERENCE_ERROR_TEXT =
-            " \">>> CIRCULAR REFERENCE CANNOT BE PUT IN JSON STRING, ABORTING RECURSION <<<\" ";
+    /**
+     * Converts a record into the same tree as parsing the JSON from {@link #serialize(GenericRecord)}, without
+     * writing and parsing the JSON.
+     *
+     * @param value the record
+     * @return the record as a JSON object
+     */
+    public ObjectNode toJsonNode(final GenericRecord value) {
+        return (ObjectNode) toJsonNode(value, new IdentityHashMap<>(128));
+    }
+
+    private JsonNode toJsonNode(final Object datum, final IdentityHashMap<Object, Object> seenObjects) {
+        if (isRecord(datum)) {
+            if (seenObjects.containsKey(datum)) {
+                return NODE_FACTORY.textNode(CIRCULAR_REFERENCE_ERROR_TEXT);
+            }
+            seenObjects.put(datum, datum);
+            final ObjectNode objectNode = NODE_FACTORY.objectNode();
+            for (Schema.Field f : getRecordSchema(datum).getFields()) {
+                final Function<Object, Object> logicalTypeConverter = getLogicalTypeConverter(f);
+                objectNode.set(f.name(), toJsonNode(logicalTypeConverter.apply(getField(datum, f.name(), f.pos())), seenObjects));
+            }
+            seenObjects.remove(datum);
+            return objectNode;
+        } else if (isArray(datum)) {
+            if (seenObjects.containsKey(datum)) {
+                return NODE_FACTORY.textNode(CIRCULAR_REFERENCE_ERROR_TEXT);
+            }
+            seenObjects.put(datum, datum);
+            final ArrayNode arrayNode = NODE_FACTORY.arrayNode();
+            for (Object element : getArrayAsCollection(datum)) {
+                arrayNode.add(toJsonNode(element, seenObjects));
+            }
+            seenObjects.remove(datum);
+            return arrayNode;
+        } else if (isMap(datum)) {
+            if (seenObjects.containsKey(datum)) {
+                return NODE_FACTORY.textNode(CIRCULAR_REFERENCE_ERROR_TEXT);
+            }
+            seenObjects.put(datum, datum);
+            final ObjectNode objectNode = NODE_FACTORY.objectNode();
+            @SuppressWarnings(value="unchecked")
+            Map<Object,Object> map = (Map<Object,Object>)datum;
+            for (Map.Entry<Object,Object> entry : map.entrySet()) {
+                objectNode.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue(), seenObjects));
+            }
+            seenObjects.remove(datum);
+            return objectNode;
+        } else if (isString(datum) || isEnum(datum)) {
+            return NODE_FACTORY.textNode(datum.toString());
+        } else if (isBytes(datum)) {
+            final String bytesAsString = StandardCharsets.UTF_8.decode(((ByteBuffer) datum).duplicate()).toString();
+            final Optional<BigDecimal> bytesAsBigDecimal = getBigDecimal(bytesAsString);
+            if (bytesAsBigDecimal.isPresent()) {
+                return NODE_FACTORY.numberNode(bytesAsBigDecimal.get().doubleValue());
+            }
+            final ObjectNode objectNode = NODE_FACTORY.objectNode();
+            objectNode.put("bytes", new String(((ByteBuffer) datum).array(), StandardCharsets.ISO_8859_1));
+            return objectNode;
+        } else if (datum == null) {
+            return NODE_FACTORY.nullNode();
+        } else if (datum instanceof Boolean) {
+            return NODE_FACTORY.booleanNode((Boolean) datum);
+        } else if (datum instanceof Integer) {
+            return NODE_FACTORY.numberNode((Integer) datum);
+        } else if (datum instanceof Long) {
+            return AvroJsonNodes.longNode((Long) datum);
+        } else if (datum instanceof Float) {
+            return AvroJsonNodes.floatNode((Float) datum);
+        } else if (datum instanceof Double) {
+            return AvroJsonNodes.doubleNode((Double) datum);
+        }
+        // Other values, such as fixed values, are written as their string representation
+        try {
+            return OBJECT_MAPPER.readTree(datum.toString());
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to convert a value of type " + datum.getClass().getName() + " to JSON", e);
+        }
+    }
+
+    private static final String CIRCULAR_REFERENCE_ERROR_TEXT =
+            ">>> CIRCULAR REFERENCE CANNOT BE PUT IN JSON STRING, ABORTING RECURSION <<<";
+
+    private static final String TOSTRING_CIRCULAR_REFERENCE_ERROR_TEXT = " \"" + CIRCULAR_REFERENCE_ERROR_TEXT + "\" ";
 
     /** Renders a Java datum as <a href="http://www.json.org/">JSON</a>. */
     private void serialize(final Object datum, final StringBuilder buffer, final IdentityHashMap<Object, Object> seenObjects) {
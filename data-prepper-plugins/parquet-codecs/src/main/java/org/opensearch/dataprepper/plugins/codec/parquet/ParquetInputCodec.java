@@ -6,10 +6,13 @@
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
 import org.apache.avro.generic.GenericRecord;
-import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.conf.ParquetConfiguration;
 import org.apache.parquet.conf.PlainParquetConfiguration;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.codec.DecompressionEngine;
@@ -28,15 +31,22 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
+import static org.apache.parquet.avro.AvroReadSupport.AVRO_COMPATIBILITY;
 import static org.apache.parquet.avro.AvroReadSupport.READ_INT96_AS_FIXED;
 
 /**
  * An implementation of {@link InputCodec} which parses parquet records into fields.
  */
-@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class)
+@DataPrepperPlugin(name = "parquet", pluginType = InputCodec.class, pluginConfigurationType = ParquetInputCodecConfig.class)
 public class ParquetInputCodec implements InputCodec {
 
     static final String EVENT_TYPE = "event";
@@ -45,16 +55,29 @@ public class ParquetInputCodec implements InputCodec {
 
     static final String FILE_SUFFIX = ".parquet";
 
+    private static final int DECODED_EVENTS_QUEUE_CAPACITY = 1024;
+
     private static final Logger LOG = LoggerFactory.getLogger(ParquetInputCodec.class);
 
     private final ParquetConfiguration configuration;
     private final EventFactory eventFactory;
+    private final List<String> columns;
+    private final int rowGroupParallelism;
 
-    @DataPrepperPluginConstructor
     public ParquetInputCodec(final EventFactory eventFactory) {
+        this(new ParquetInputCodecConfig(), eventFactory);
+    }
+
+    @DataPrepperPluginConstructor
+    public ParquetInputCodec(final ParquetInputCodecConfig config, final EventFactory eventFactory) {
+        Objects.requireNonNull(config);
         this.eventFactory = eventFactory;
+        columns = config.getColumns();
+        rowGroupParallelism = config.getRowGroupParallelism();
         configuration = new PlainParquetConfiguration();
         configuration.setBoolean(READ_INT96_AS_FIXED, true);
+        // matches the AvroParquetReader defaults for generic records
+        configuration.setBoolean(AVRO_COMPATIBILITY, false);
     }
 
     @Override
@@ -81,20 +104,14 @@ public class ParquetInputCodec implements InputCodec {
     }
 
     private void parseParquetFile(final InputFile inputFile, final Consumer<Record<Event>> eventConsumer) throws IOException {
-        try (ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(inputFile, this.configuration)
-                .build()) {
-            GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
-            GenericRecord record = null;
-
-            while ((record = reader.read()) != null) {
-                final String json = encoder.serialize(record);
-
-                final Event event = eventFactory.eventBuilder(EventBuilder.class)
-                        .withEventType(EVENT_TYPE)
-                        .withData(json)
-                        .build();
-
-                eventConsumer.accept(new Record<>(event));
+        try {
+            final List<long[]> rowGroupRanges = rowGroupParallelism > 1 ? getRowGroupRanges(inputFile) : List.of();
+            if (rowGroupRanges.size() > 1) {
+                parseRowGroupRangesInParallel(inputFile, rowGroupRanges, eventConsumer);
+            } else {
+                try (ParquetReader<GenericRecord> reader = createReader(inputFile, null)) {
+                    readRecords(reader, eventConsumer);
+                }
             }
         } catch (Exception e){
             LOG.error("An exception occurred while parsing parquet InputStream ", e);
@@ -102,4 +119,159 @@ public class ParquetInputCodec implements InputCodec {
         }
     }
 
+    private void readRecords(final ParquetReader<GenericRecord> reader, final Consumer<Record<Event>> eventConsumer) throws IOException {
+        final GenericRecordJsonEncoder encoder = new GenericRecordJsonEncoder();
+        GenericRecord record = null;
+
+        while ((record = reader.read()) != null) {
+            final Event event = eventFactory.eventBuilder(EventBuilder.class)
+                    .withEventType(EVENT_TYPE)
+                    .withAdoptedData(encoder.toJsonNode(record))
+                    .build();
+
+            eventConsumer.accept(new Record<>(event));
+        }
+    }
+
+    /**
+     * Decodes each range of row groups on its own thread. The events are handed to the consumer on the calling
+     * thread through a bounded queue, so the decoding threads wait for the consumer rather than holding whole
+     * row groups in memory.
+     */
+    private void parseRowGroupRangesInParallel(final InputFile inputFile, final List<long[]> rowGroupRanges,
+                                               final Consumer<Record<Event>> eventConsumer) throws Exception {
+        final BlockingQueue<DecodedItem> decodedItems = new ArrayBlockingQueue<>(DECODED_EVENTS_QUEUE_CAPACITY);
+        final ExecutorService executorService = Executors.newFixedThreadPool(rowGroupRanges.size(), runnable -> {
+            final Thread thread = new Thread(runnable, "parquet-row-group-decoder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (final long[] rowGroupRange : rowGroupRanges) {
+                executorService.execute(() -> decodeRowGroupRange(inputFile, rowGroupRange, decodedItems));
+            }
+
+            int remainingRanges = rowGroupRanges.size();
+            while (remainingRanges > 0) {
+                final DecodedItem decodedItem;
+                try {
+                    decodedItem = decodedItems.take();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+                if (decodedItem.record != null) {
+                    eventConsumer.accept(decodedItem.record);
+                } else if (decodedItem.exception != null) {
+                    throw decodedItem.exception;
+                } else {
+                    remainingRanges--;
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void decodeRowGroupRange(final InputFile inputFile, final long[] rowGroupRange, final BlockingQueue<DecodedItem> decodedItems) {
+        try {
+            try (ParquetReader<GenericRecord> reader = createReader(inputFile, rowGroupRange)) {
+                readRecords(reader, record -> {
+                    try {
+                        decodedItems.put(new DecodedItem(record, null));
+                    } catch (final InterruptedException e) {
+                        throw new RowGroupDecodingInterruptedException();
+                    }
+                });
+            }
+            decodedItems.put(DecodedItem.END_OF_RANGE);
+        } catch (final RowGroupDecodingInterruptedException | InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            try {
+                decodedItems.put(new DecodedItem(null, e));
+            } catch (final InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Splits the row groups of the file into up to the row group parallelism ranges of consecutive row groups
+     * with about the same number of rows.
+     *
+     * @return the start and end offsets of each range
+     */
+    private List<long[]> getRowGroupRanges(final InputFile inputFile) throws IOException {
+        final List<BlockMetaData> rowGroups;
+        try (ParquetFileReader fileReader = ParquetFileReader.open(inputFile, ParquetReadOptions.builder(configuration).build())) {
+            rowGroups = fileReader.getFooter().getBlocks();
+        }
+        final int numberOfRanges = Math.min(rowGroupParallelism, rowGroups.size());
+        final long totalRows = rowGroups.stream().mapToLong(BlockMetaData::getRowCount).sum();
+        final long targetRowsPerRange = (totalRows + numberOfRanges - 1) / numberOfRanges;
+
+        final List<long[]> rowGroupRanges = new ArrayList<>(numberOfRanges);
+        long rangeStart = -1;
+        long rowsInRange = 0;
+        for (int i = 0; i < rowGroups.size(); i++) {
+            final BlockMetaData rowGroup = rowGroups.get(i);
+            if (rangeStart < 0) {
+                rangeStart = rowGroup.getStartingPos();
+            }
+            rowsInRange += rowGroup.getRowCount();
+
+            final int rowGroupsAfterThis = rowGroups.size() - i - 1;
+            final int rangesAfterThis = numberOfRanges - rowGroupRanges.size() - 1;
+            final boolean endsRange = rowGroupsAfterThis == 0 ||
+                    rangesAfterThis > 0 && (rowsInRange >= targetRowsPerRange || rowGroupsAfterThis == rangesAfterThis);
+            if (endsRange) {
+                rowGroupRanges.add(new long[] {rangeStart, rowGroup.getStartingPos() + rowGroup.getCompressedSize()});
+                rangeStart = -1;
+                rowsInRange = 0;
+            }
+        }
+        return rowGroupRanges;
+    }
+
+    /**
+     * @param rowGroupRange the start and end offsets of the row groups to read, or null to read the whole file
+     */
+    private ParquetReader<GenericRecord> createReader(final InputFile inputFile, final long[] rowGroupRange) throws IOException {
+        final ProjectingReaderBuilder readerBuilder = new ProjectingReaderBuilder(inputFile, configuration, new ProjectingAvroReadSupport(columns));
+        if (rowGroupRange != null) {
+            readerBuilder.withFileRange(rowGroupRange[0], rowGroupRange[1]);
+        }
+        return readerBuilder.build();
+    }
+
+    private static class ProjectingReaderBuilder extends ParquetReader.Builder<GenericRecord> {
+        private final ReadSupport<GenericRecord> readSupport;
+
+        private ProjectingReaderBuilder(final InputFile inputFile, final ParquetConfiguration configuration,
+                                        final ReadSupport<GenericRecord> readSupport) {
+            super(inputFile, configuration);
+            this.readSupport = readSupport;
+        }
+
+        @Override
+        protected ReadSupport<GenericRecord> getReadSupport() {
+            return readSupport;
+        }
+    }
+
+    private static class DecodedItem {
+        private static final DecodedItem END_OF_RANGE = new DecodedItem(null, null);
+
+        private final Record<Event> record;
+        private final Exception exception;
+
+        private DecodedItem(final Record<Event> record, final Exception exception) {
+            this.record = record;
+            this.exception = exception;
+        }
+    }
+
+    private static class RowGroupDecodingInterruptedException extends RuntimeException {
+    }
 }
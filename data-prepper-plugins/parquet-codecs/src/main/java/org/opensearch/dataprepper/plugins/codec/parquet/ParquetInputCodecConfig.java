@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.util.List;
+
+/**
+ * Configuration class for the parquet input codec.
+ */
+public class ParquetInputCodecConfig {
+    static final int DEFAULT_ROW_GROUP_PARALLELISM = 1;
+
+    @JsonPropertyDescription("The top-level columns to read from each Parquet file. Only these columns are decoded, " +
+            "and columns missing from a file are skipped. By default all columns are read.")
+    @JsonProperty("columns")
+    private List<String> columns;
+
+    @JsonPropertyDescription("The number of row groups of a Parquet file which are decoded in parallel. " +
+            "With more than one, the rows of different row groups may be interleaved.")
+    @JsonProperty("row_group_parallelism")
+    @Min(1)
+    @Max(64)
+    private int rowGroupParallelism = DEFAULT_ROW_GROUP_PARALLELISM;
+
+    /**
+     * The top-level columns to read.
+     *
+     * @return The names of the columns, or null to read all of them.
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * The number of row groups of a file which are decoded at a time.
+     *
+     * @return The row group parallelism.
+     */
+    public int getRowGroupParallelism() {
+        return rowGroupParallelism;
+    }
+}
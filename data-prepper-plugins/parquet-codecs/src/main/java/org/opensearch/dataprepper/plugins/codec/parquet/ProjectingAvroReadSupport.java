@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.avro.AvroReadSupport;
+import org.apache.parquet.avro.AvroSchemaConverter;
+import org.apache.parquet.hadoop.api.InitContext;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * An {@link AvroReadSupport} which only reads the given top-level columns of a file. The projection is taken
+ * from the Parquet schema of each file, so the pages of other columns are never read or decompressed, and the
+ * records are read with the Avro schema the file was written with, less the other columns.
+ */
+class ProjectingAvroReadSupport extends AvroReadSupport<GenericRecord> {
+    /* Keys of the Avro schema in the file metadata, and of the read schema in the read context, as used by AvroReadSupport */
+    static final String AVRO_SCHEMA_METADATA_KEY = "parquet.avro.schema";
+    static final String OLD_AVRO_SCHEMA_METADATA_KEY = "avro.schema";
+    static final String AVRO_READ_SCHEMA_METADATA_KEY = "avro.read.schema";
+
+    private final Set<String> columns;
+
+    /**
+     * @param columns the names of the columns to read, or null to read all of them
+     */
+    ProjectingAvroReadSupport(final List<String> columns) {
+        this.columns = columns == null ? null : Set.copyOf(columns);
+    }
+
+    @Override
+    public ReadContext init(final InitContext context) {
+        final ReadContext readContext = super.init(context);
+        if (columns == null) {
+            return readContext;
+        }
+
+        final MessageType fileSchema = context.getFileSchema();
+        final List<Type> projectedFields = fileSchema.getFields().stream()
+                .filter(field -> columns.contains(field.getName()))
+                .collect(Collectors.toList());
+        final MessageType projection = new MessageType(fileSchema.getName(), projectedFields);
+
+        final Map<String, String> readSupportMetadata = new HashMap<>(readContext.getReadSupportMetadata());
+        readSupportMetadata.put(AVRO_READ_SCHEMA_METADATA_KEY, getProjectedAvroSchema(context, projection).toString());
+        return new ReadContext(projection, readSupportMetadata);
+    }
+
+    private Schema getProjectedAvroSchema(final InitContext context, final MessageType projection) {
+        final String fileAvroSchema = getSingleValue(context.getKeyValueMetadata(), AVRO_SCHEMA_METADATA_KEY,
+                getSingleValue(context.getKeyValueMetadata(), OLD_AVRO_SCHEMA_METADATA_KEY, null));
+        if (fileAvroSchema == null) {
+            return new AvroSchemaConverter(context.getParquetConfiguration()).convert(projection);
+        }
+
+        final Schema schema = new Schema.Parser().parse(fileAvroSchema);
+        final List<Schema.Field> projectedFields = schema.getFields().stream()
+                .filter(field -> columns.contains(field.name()))
+                .map(field -> new Schema.Field(field, field.schema()))
+                .collect(Collectors.toList());
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), schema.isError(), projectedFields);
+    }
+
+    private static String getSingleValue(final Map<String, Set<String>> keyValueMetadata, final String key, final String defaultValue) {
+        final Set<String> values = keyValueMetadata.get(key);
+        if (values == null || values.size() != 1) {
+            return defaultValue;
+        }
+        return values.iterator().next();
+    }
+}
@@ -1,19 +1,26 @@
 package org.opensearch.dataprepper.plugins.codec.parquet;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.Stream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class GenericRecordJsonEncoderTest {
@@ -239,4 +246,38 @@ class GenericRecordJsonEncoderTest {
         assertEquals(expectedJson, json);
     }
 
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @MethodSource("provideRecords")
+    void toJsonNode_returns_the_same_tree_as_parsing_the_serialized_json(final GenericRecord record) throws JsonProcessingException {
+        final ObjectMapper objectMapper = new ObjectMapper();
+
+        assertThat(encoder.toJsonNode(record), equalTo(objectMapper.readTree(encoder.serialize(record))));
+    }
+
+    private static Stream<GenericRecord> provideRecords() {
+        final GenericRecord emptyRecord = new GenericData.Record(SCHEMA);
+
+        final GenericRecord fullRecord = new GenericData.Record(SCHEMA);
+        fullRecord.put("id", "id with \"quotes\", a \\ and a \u00e9");
+        fullRecord.put("value", 42);
+        fullRecord.put("floatValue", 0.1f);
+        fullRecord.put("alternateIds", new GenericData.Array<>(SCHEMA.getField("alternateIds").schema(), Arrays.asList("one", "two")));
+        fullRecord.put("metadata", Map.of("key", "value"));
+        fullRecord.put("lastUpdated", 1684509331977L);
+        fullRecord.put("rawData", ByteBuffer.wrap(new byte[]{34, 92, 13, 10, 9, 1}));
+        fullRecord.put("suit", new GenericData.EnumSymbol(SCHEMA.getField("suit").schema(), "HEARTS"));
+        final GenericRecord parentRecord = new GenericData.Record(SCHEMA);
+        parentRecord.put("nested", fullRecord);
+        parentRecord.put("lastUpdated", 12L);
+        parentRecord.put("floatValue", Float.NEGATIVE_INFINITY);
+
+        final GenericRecord circularRecord = new GenericData.Record(SCHEMA);
+        circularRecord.put("nested", circularRecord);
+
+        final GenericRecord decimalBytesRecord = new GenericData.Record(SCHEMA);
+        decimalBytesRecord.put("rawData", StandardCharsets.UTF_8.encode("7.8"));
+
+        return Stream.of(emptyRecord, fullRecord, parentRecord, circularRecord, decimalBytesRecord);
+    }
+}
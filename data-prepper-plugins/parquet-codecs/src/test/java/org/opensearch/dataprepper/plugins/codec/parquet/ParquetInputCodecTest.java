@@ -12,6 +12,7 @@ import org.apache.parquet.conf.PlainParquetConfiguration;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.example.data.simple.NanoTime;
 import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetReader;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.example.ExampleParquetWriter;
@@ -32,6 +33,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.NoneDecompressionEngine;
 import org.opensearch.dataprepper.plugins.fs.LocalInputFile;
 import org.opensearch.dataprepper.plugins.fs.LocalOutputFile;
+import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,10 +51,13 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.apache.parquet.avro.AvroWriteSupport.WRITE_FIXED_AS_INT96;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.equalTo;
@@ -228,16 +233,96 @@ public class ParquetInputCodecTest {
         }
     }
 
+    @Test
+    public void parseInputFile_with_columns_reads_only_those_columns() throws IOException, NoSuchFieldException, IllegalAccessException {
+        final ParquetInputCodecConfig config = new ParquetInputCodecConfig();
+        ReflectivelySetField.setField(ParquetInputCodecConfig.class, config, "columns", List.of("id", "metadata", "missing"));
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(testDataFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(10)).accept(recordArgumentCaptor.capture());
+
+        final List<Record<Event>> actualRecords = recordArgumentCaptor.getAllValues();
+        for (int i = 0; i < actualRecords.size(); i++) {
+            final Event event = actualRecords.get(i).getData();
+            assertThat(event.toMap().keySet(), containsInAnyOrder("id", "metadata"));
+            assertThat(event.get("id", String.class), equalTo("id" + i));
+            assertThat(event.get("metadata", Map.class), equalTo(Collections.singletonMap("key", "value")));
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_columns_reads_only_those_columns_of_a_snappy_file() throws URISyntaxException, IOException, NoSuchFieldException, IllegalAccessException {
+        final ParquetInputCodecConfig config = new ParquetInputCodecConfig();
+        ReflectivelySetField.setField(ParquetInputCodecConfig.class, config, "columns", List.of("architecture"));
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+        final URL resource = getClass().getClassLoader().getResource("sample.snappy.parquet");
+
+        parquetInputCodec.parse(new LocalInputFile(Paths.get(resource.toURI()).toFile()), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(100)).accept(recordArgumentCaptor.capture());
+        for (final Record<Event> record : recordArgumentCaptor.getAllValues()) {
+            assertThat(record.getData().toMap().keySet(), containsInAnyOrder("architecture"));
+            assertThat(record.getData().get("architecture", String.class), startsWith("x86"));
+        }
+    }
+
+    @Test
+    public void parseInputFile_with_row_group_parallelism_reads_every_row_group() throws IOException, NoSuchFieldException, IllegalAccessException {
+        final File multipleRowGroupsFile = File.createTempFile(FILE_PREFIX + "-row-groups-", FILE_SUFFIX);
+        multipleRowGroupsFile.deleteOnExit();
+        final int numberOfRecords = 1000;
+        generateTestData(multipleRowGroupsFile, numberOfRecords, 1024);
+        try (ParquetFileReader fileReader = ParquetFileReader.open(new LocalInputFile(multipleRowGroupsFile))) {
+            assertThat(fileReader.getFooter().getBlocks().size(), greaterThan(4));
+        }
+
+        final ParquetInputCodecConfig config = new ParquetInputCodecConfig();
+        ReflectivelySetField.setField(ParquetInputCodecConfig.class, config, "rowGroupParallelism", 4);
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+
+        parquetInputCodec.parse(new LocalInputFile(multipleRowGroupsFile), new NoneDecompressionEngine(), mockConsumer);
+
+        final ArgumentCaptor<Record<Event>> recordArgumentCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(mockConsumer, times(numberOfRecords)).accept(recordArgumentCaptor.capture());
+        final List<String> actualIds = recordArgumentCaptor.getAllValues().stream()
+                .map(record -> record.getData().get("id", String.class))
+                .collect(Collectors.toList());
+        final String[] expectedIds = IntStream.range(0, numberOfRecords).mapToObj(i -> "id" + i).toArray(String[]::new);
+        assertThat(actualIds, containsInAnyOrder(expectedIds));
+    }
+
+    @Test
+    public void parseInputFile_with_row_group_parallelism_throws_when_the_file_is_not_parquet() throws IOException, NoSuchFieldException, IllegalAccessException {
+        final ParquetInputCodecConfig config = new ParquetInputCodecConfig();
+        ReflectivelySetField.setField(ParquetInputCodecConfig.class, config, "rowGroupParallelism", 4);
+        parquetInputCodec = new ParquetInputCodec(config, testEventFactory);
+        final File invalidFile = File.createTempFile(FILE_PREFIX + "-invalid-", FILE_SUFFIX);
+        invalidFile.deleteOnExit();
+
+        assertThrows(IOException.class, () ->
+                parquetInputCodec.parse(new LocalInputFile(invalidFile), new NoneDecompressionEngine(), mockConsumer));
+        verifyNoInteractions(mockConsumer);
+    }
+
     private static void generateTestData(final File file) throws IOException {
+        generateTestData(file, 10, ParquetWriter.DEFAULT_BLOCK_SIZE);
+    }
+
+    private static void generateTestData(final File file, final int numberOfRecords, final long rowGroupSize) throws IOException {
         Schema schema = new Schema.Parser().parse(SCHEMA_JSON);
 
         final ParquetWriter<GenericRecord> writer = AvroParquetWriter.<GenericRecord>builder(new LocalOutputFile(file))
                 .withSchema(schema)
                 .withConf(new PlainParquetConfiguration())
                 .withEncryption(null)
+                .withRowGroupSize(rowGroupSize)
                 .build();
 
-        for (int i = 0; i < 10; i++) {
+        for (int i = 0; i < numberOfRecords; i++) {
             GenericData.Record record = new GenericData.Record(schema);
             record.put("id", "id" + i);
             record.put("value", i);
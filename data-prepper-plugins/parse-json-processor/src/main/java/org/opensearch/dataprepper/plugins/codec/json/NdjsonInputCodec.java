@@ -5,10 +5,12 @@
 
 package org.opensearch.dataprepper.plugins.codec.json;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -19,6 +21,7 @@ import org.opensearch.dataprepper.model.event.LogEventBuilder;
 import org.opensearch.dataprepper.model.log.Log;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Map;
@@ -28,6 +31,9 @@ import java.util.function.Consumer;
 /**
  * A Data Prepper {@link InputCodec} which reads ND-JSON and other similar
  * formats which have JSON objects together.
+ * <p>
+ * Each object is copied token by token as compact UTF-8 JSON and the events are created
+ * from those bytes, so values are only parsed when they are read from the event.
  */
 @DataPrepperPlugin(name = "ndjson", pluginType = InputCodec.class, pluginConfigurationType = NdjsonInputConfig.class)
 public class NdjsonInputCodec implements InputCodec {
@@ -50,20 +56,36 @@ public class NdjsonInputCodec implements InputCodec {
         Objects.requireNonNull(eventConsumer, "Parameter eventConsumer must not be null.");
 
         final JsonParser parser = jsonFactory.createParser(inputStream);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-        final MappingIterator<Map<String, Object>> mapMappingIterator = objectMapper.readValues(parser, MAP_TYPE_REFERENCE);
-        while (mapMappingIterator.hasNext()) {
-            final Map<String, Object> json = mapMappingIterator.next();
+        while (parser.nextToken() != null) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                // Fails with the same error as other values which are not objects
+                final Map<String, Object> json = objectMapper.readValue(parser, MAP_TYPE_REFERENCE);
+                if(!ndjsonInputConfig.isIncludeEmptyObjects() && json.isEmpty())
+                    continue;
+                eventConsumer.accept(createRecord(json));
+                continue;
+            }
+
+            outputStream.reset();
+            try (final JsonGenerator generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.copyCurrentStructure(parser);
+            }
 
-            if(!ndjsonInputConfig.isIncludeEmptyObjects() && json.isEmpty())
+            if(!ndjsonInputConfig.isIncludeEmptyObjects() && isEmptyObject(outputStream))
                 continue;
 
-            final Record<Event> record = createRecord(json);
+            final Record<Event> record = createRecord(outputStream.toByteArray());
             eventConsumer.accept(record);
         }
     }
 
-    private Record<Event> createRecord(final Map<String, Object> json) {
+    private static boolean isEmptyObject(final ByteArrayOutputStream compactJson) {
+        return compactJson.size() == 2;
+    }
+
+    private Record<Event> createRecord(final Object json) {
         final Log event = eventFactory.eventBuilder(LogEventBuilder.class)
                 .withData(json)
                 .build();
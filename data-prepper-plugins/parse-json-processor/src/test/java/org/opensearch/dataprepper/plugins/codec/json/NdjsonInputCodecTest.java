@@ -27,6 +27,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -204,6 +205,28 @@ class NdjsonInputCodecTest {
         }
     }
 
+    @Test
+    void parse_creates_events_which_write_out_each_object_as_compact_json() throws IOException {
+        final String json = "{\"a\": 1,\n \"b\": {\"c\": [true, null, \"d\"]}}\n{\"e\": \"f\"} ";
+
+        createObjectUnderTest().parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), eventConsumer);
+
+        final ArgumentCaptor<Record<Event>> eventConsumerCaptor = ArgumentCaptor.forClass(Record.class);
+        verify(eventConsumer, times(2)).accept(eventConsumerCaptor.capture());
+        final List<Record<Event>> capturedRecords = eventConsumerCaptor.getAllValues();
+
+        assertThat(capturedRecords.get(0).getData().toJsonString(), equalTo("{\"a\":1,\"b\":{\"c\":[true,null,\"d\"]}}"));
+        assertThat(capturedRecords.get(0).getData().get("b/c/2", String.class), equalTo("d"));
+        assertThat(capturedRecords.get(1).getData().toJsonString(), equalTo("{\"e\":\"f\"}"));
+    }
+
+    @Test
+    void parse_throws_for_values_which_are_not_objects() {
+        final InputStream inputStream = new ByteArrayInputStream("{\"a\": 1} [1, 2]".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IOException.class, () -> createObjectUnderTest().parse(inputStream, eventConsumer));
+    }
+
     static class ValidInputStreamFormatsArgumentsProvider implements ArgumentsProvider {
         @Override
         public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) throws Exception {
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.apache.avro.Schema;
 import org.apache.avro.SchemaBuilder;
 import org.apache.commons.io.IOUtils;
@@ -136,6 +137,8 @@ class S3SinkServiceIT {
     private Counter numberOfRecordsFailedCounter;
     @Mock
     private DistributionSummary s3ObjectSizeSummary;
+    @Mock
+    private Timer s3ObjectUploadTimer;
 
     @Mock
     private ExpressionEvaluator expressionEvaluator;
@@ -178,6 +181,7 @@ class S3SinkServiceIT {
         lenient().when(pluginMetrics.counter(S3SinkService.NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED)).
                 thenReturn(numberOfRecordsFailedCounter);
         lenient().when(pluginMetrics.summary(S3SinkService.S3_OBJECTS_SIZE)).thenReturn(s3ObjectSizeSummary);
+        lenient().when(pluginMetrics.timer(S3SinkService.S3_OBJECT_UPLOAD_TIME)).thenReturn(s3ObjectUploadTimer);
 
         when(expressionEvaluator.extractDynamicExpressionsFromFormatExpression(anyString()))
                 .thenReturn(Collections.emptyList());
@@ -0,0 +1,152 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Provides the buffers which multipart parts are staged in and bounds the number of bytes being uploaded at the same
+ * time. A buffer is taken for staging, passed to {@link #beginUpload(ByteBuffer)} once the part is complete, which
+ * blocks while the in-flight budget is used up, and returned with {@link #endUpload(ByteBuffer)} when the part upload
+ * finishes. Returned buffers are kept for reuse up to the size of the in-flight budget.
+ * <p>
+ * Buffers are allocated as direct buffers up to the direct byte budget, which covers the buffers being staged, the
+ * buffers being uploaded and the buffers kept for reuse. Once it is used up, for instance when many objects are open
+ * at the same time, parts are staged in heap buffers of {@link #HEAP_BUFFER_CAPACITY} bytes instead. The JVM must
+ * allow at least the direct byte budget of direct memory, see <code>-XX:MaxDirectMemorySize</code>.
+ */
+public class PartBufferPool {
+    static final int HEAP_BUFFER_CAPACITY = PartSizeTuner.MINIMUM_PART_SIZE;
+
+    private final int inFlightByteBudget;
+    private final long directByteBudget;
+    private final Semaphore inFlightBytes;
+    private final Map<Integer, Deque<ByteBuffer>> freeBuffers = new HashMap<>();
+    private long freeBytes;
+    private long directBytes;
+
+    /**
+     * Creates a pool with a direct byte budget of twice the in-flight budget.
+     *
+     * @param inFlightByteBudget the maximum number of bytes in parts which are being uploaded at the same time
+     */
+    public PartBufferPool(final int inFlightByteBudget) {
+        this(inFlightByteBudget, 2L * inFlightByteBudget);
+    }
+
+    /**
+     * @param inFlightByteBudget the maximum number of bytes in parts which are being uploaded at the same time
+     * @param directByteBudget the maximum number of bytes in direct buffers allocated by the pool
+     */
+    public PartBufferPool(final int inFlightByteBudget, final long directByteBudget) {
+        if (inFlightByteBudget <= 0) {
+            throw new IllegalArgumentException("The in-flight byte budget must be positive.");
+        }
+        if (directByteBudget < 0) {
+            throw new IllegalArgumentException("The direct byte budget must not be negative.");
+        }
+        this.inFlightByteBudget = inFlightByteBudget;
+        this.directByteBudget = directByteBudget;
+        this.inFlightBytes = new Semaphore(inFlightByteBudget, true);
+    }
+
+    /**
+     * @param capacity the capacity of the buffer
+     * @return a cleared direct buffer with the given capacity, or a heap buffer of {@link #HEAP_BUFFER_CAPACITY}
+     * bytes if the direct byte budget is used up
+     */
+    public synchronized ByteBuffer take(final int capacity) {
+        final Deque<ByteBuffer> buffers = freeBuffers.get(capacity);
+        if (buffers != null && !buffers.isEmpty()) {
+            freeBytes -= capacity;
+            return buffers.pop();
+        }
+        evictFreeBuffersFor(capacity);
+        if (directBytes + capacity > directByteBudget) {
+            return ByteBuffer.allocate(Math.min(capacity, HEAP_BUFFER_CAPACITY));
+        }
+        directBytes += capacity;
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Returns a buffer which was taken but not uploaded.
+     *
+     * @param buffer a buffer from {@link #take(int)}
+     */
+    public synchronized void release(final ByteBuffer buffer) {
+        if (!buffer.isDirect()) {
+            return;
+        }
+        if (freeBytes + buffer.capacity() > inFlightByteBudget) {
+            directBytes = Math.max(0, directBytes - buffer.capacity());
+            return;
+        }
+        buffer.clear();
+        freeBuffers.computeIfAbsent(buffer.capacity(), capacity -> new ArrayDeque<>()).push(buffer);
+        freeBytes += buffer.capacity();
+    }
+
+    /**
+     * Waits until the part held by the buffer fits into the in-flight budget.
+     *
+     * @param buffer the buffer about to be uploaded
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void beginUpload(final ByteBuffer buffer) throws InterruptedException {
+        inFlightBytes.acquire(permitsFor(buffer));
+    }
+
+    /**
+     * Frees the in-flight budget held by the buffer and returns it for reuse.
+     *
+     * @param buffer a buffer passed to {@link #beginUpload(ByteBuffer)}
+     */
+    public void endUpload(final ByteBuffer buffer) {
+        inFlightBytes.release(permitsFor(buffer));
+        release(buffer);
+    }
+
+    int getAvailableInFlightBytes() {
+        return inFlightBytes.availablePermits();
+    }
+
+    synchronized long getFreeBytes() {
+        return freeBytes;
+    }
+
+    synchronized long getDirectBytes() {
+        return directBytes;
+    }
+
+    /**
+     * Drops free buffers of other capacities while they keep a buffer of the given capacity from being allocated
+     */
+    private void evictFreeBuffersFor(final int capacity) {
+        final Iterator<Deque<ByteBuffer>> iterator = freeBuffers.values().iterator();
+        while (directBytes + capacity > directByteBudget && iterator.hasNext()) {
+            final Deque<ByteBuffer> buffers = iterator.next();
+            while (directBytes + capacity > directByteBudget && !buffers.isEmpty()) {
+                final int evictedCapacity = buffers.pop().capacity();
+                freeBytes -= evictedCapacity;
+                directBytes -= evictedCapacity;
+            }
+            if (buffers.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private int permitsFor(final ByteBuffer buffer) {
+        return Math.min(buffer.capacity(), inFlightByteBudget);
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses the size of multipart parts from the throughput observed for earlier parts. Each part should take about
+ * {@link #TARGET_PART_UPLOAD_NANOS} to upload, so fast connections use fewer, larger requests while slow connections
+ * keep more parts in flight. Sizes are powers of two so that staging buffers can be reused across parts.
+ */
+public class PartSizeTuner {
+    static final int MINIMUM_PART_SIZE = 8 * 1024 * 1024;
+    static final int MAXIMUM_PART_SIZE = 64 * 1024 * 1024;
+    static final long TARGET_PART_UPLOAD_NANOS = TimeUnit.SECONDS.toNanos(2);
+    private static final double SMOOTHING_FACTOR = 0.2;
+
+    private double bytesPerSecond;
+    private boolean measured;
+
+    /**
+     * Records a completed part upload.
+     *
+     * @param bytes the size of the part
+     * @param elapsedNanos the time it took to upload the part
+     */
+    public synchronized void recordPartUpload(final long bytes, final long elapsedNanos) {
+        if (bytes <= 0 || elapsedNanos <= 0) {
+            return;
+        }
+        final double partBytesPerSecond = bytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        bytesPerSecond = measured ? bytesPerSecond + SMOOTHING_FACTOR * (partBytesPerSecond - bytesPerSecond) : partBytesPerSecond;
+        measured = true;
+    }
+
+    /**
+     * @return the size to use for the next part
+     */
+    public synchronized int getPartSize() {
+        if (!measured) {
+            return MINIMUM_PART_SIZE;
+        }
+        final double targetBytes = bytesPerSecond * TARGET_PART_UPLOAD_NANOS / TimeUnit.SECONDS.toNanos(1);
+        int partSize = MINIMUM_PART_SIZE;
+        while (partSize < MAXIMUM_PART_SIZE && partSize < targetBytes) {
+            partSize <<= 1;
+        }
+        return partSize;
+    }
+}
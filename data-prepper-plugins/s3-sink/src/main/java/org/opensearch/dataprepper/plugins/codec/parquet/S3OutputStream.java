@@ -11,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
@@ -19,30 +20,30 @@ import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
-import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+/**
+ * Writes to an S3 object with a multipart upload. Parts are staged in buffers from a {@link PartBufferPool} and
+ * uploaded as soon as they are full, without waiting for earlier parts, so several parts can be in flight while
+ * the codec keeps writing. The size of each part comes from a {@link PartSizeTuner}.
+ */
 public class S3OutputStream extends PositionOutputStream {
     private static final Logger LOG = LoggerFactory.getLogger(S3OutputStream.class);
 
     static final String ACCESS_DENIED = "Access Denied";
 
     /**
-     * Default chunk size is 10MB
+     * Default budget for the bytes of parts being uploaded at the same time is 128MB
      */
-    protected static final int BUFFER_SIZE = 10 * 1024 * 1024;
+    public static final int DEFAULT_IN_FLIGHT_BYTE_BUDGET = 128 * 1024 * 1024;
 
     /**
      * The bucket-name on Amazon S3
@@ -55,22 +56,33 @@ public class S3OutputStream extends PositionOutputStream {
     private final String key;
 
     /**
-     * The temporary buffer used for storing the chunks
+     * The buffer the current part is staged in, taken from the pool when the part is first written to
      */
-    private final byte[] buf;
+    private ByteBuffer buffer;
 
     private final S3AsyncClient s3Client;
 
     private final BucketOwnerProvider bucketOwnerProvider;
 
+    private final PartBufferPool partBufferPool;
+
+    private final PartSizeTuner partSizeTuner;
+
+    /**
+     * The uploads of the parts which have been started, in part number order
+     */
+    private final List<CompletableFuture<CompletedPart>> partFutures;
+
     /**
-     * Collection of the etags for the parts that have been uploaded
+     * The number of bytes in the parts which have been started
      */
-    private final List<String> etags;
+    private long uploadedBytes;
+
     /**
-     * The position in the buffer
+     * The first failure of a part upload
      */
-    private int position;
+    private volatile Throwable partUploadFailure;
+
     /**
      * The unique id for this upload
      */
@@ -85,7 +97,23 @@ public class S3OutputStream extends PositionOutputStream {
      */
     private final String defaultBucket;
 
-    private final ExecutorService executorService;
+    /**
+     * Creates a new S3 OutputStream with its own buffer pool and part size tuner
+     *
+     * @param s3Client the AmazonS3 client
+     * @param bucketSupplier  name of the bucket
+     * @param keySupplier     path within the bucket
+     * @param defaultBucket default bucket
+     * @param bucketOwnerProvider bucket owner provider
+     */
+    public S3OutputStream(final S3AsyncClient s3Client,
+                          final Supplier<String> bucketSupplier,
+                          final Supplier<String> keySupplier,
+                          final String defaultBucket,
+                          final BucketOwnerProvider bucketOwnerProvider) {
+        this(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider,
+                new PartBufferPool(DEFAULT_IN_FLIGHT_BYTE_BUDGET), new PartSizeTuner());
+    }
 
     /**
      * Creates a new S3 OutputStream
@@ -95,35 +123,35 @@ public class S3OutputStream extends PositionOutputStream {
      * @param keySupplier     path within the bucket
      * @param defaultBucket default bucket
      * @param bucketOwnerProvider bucket owner provider
+     * @param partBufferPool the pool of part buffers, which may be shared between streams
+     * @param partSizeTuner the part size tuner, which may be shared between streams
      */
     public S3OutputStream(final S3AsyncClient s3Client,
                           final Supplier<String> bucketSupplier,
                           final Supplier<String> keySupplier,
                           final String defaultBucket,
-                          final BucketOwnerProvider bucketOwnerProvider) {
+                          final BucketOwnerProvider bucketOwnerProvider,
+                          final PartBufferPool partBufferPool,
+                          final PartSizeTuner partSizeTuner) {
         this.s3Client = s3Client;
         this.bucket = bucketSupplier.get();
         this.key = keySupplier.get();
-        buf = new byte[BUFFER_SIZE];
-        position = 0;
-        etags = new ArrayList<>();
+        partFutures = new ArrayList<>();
         open = true;
         this.defaultBucket = defaultBucket;
-        this.executorService = Executors.newSingleThreadExecutor();
         this.bucketOwnerProvider = bucketOwnerProvider;
+        this.partBufferPool = partBufferPool;
+        this.partSizeTuner = partSizeTuner;
     }
 
     @Override
     public void write(int b) {
         assertOpen();
-        if (position >= buf.length) {
-            try {
-                flushBufferAndRewind();
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+        takeBufferIfNeeded();
+        if (!buffer.hasRemaining()) {
+            flushBufferAndRewind();
         }
-        buf[position++] = (byte) b;
+        buffer.put((byte) b);
     }
 
 
@@ -151,72 +179,67 @@ public class S3OutputStream extends PositionOutputStream {
         int ofs = o;
         int len = l;
         int size;
-        while (len > (size = buf.length - position)) {
-            System.arraycopy(byteArray, ofs, buf, position, size);
-            position += size;
-            try {
-                flushBufferAndRewind();
-            } catch (ExecutionException | InterruptedException e) {
-                throw new RuntimeException(e);
-            }
+        takeBufferIfNeeded();
+        while (len > (size = buffer.remaining())) {
+            buffer.put(byteArray, ofs, size);
+            flushBufferAndRewind();
 
             ofs += size;
             len -= size;
         }
-        System.arraycopy(byteArray, ofs, buf, position, len);
-        position += len;
+        buffer.put(byteArray, ofs, len);
     }
 
     /**
-     * Flushing is not available because the parts must be of the same size.
+     * Flushing is not available because every part but the last must be at least 5MB.
      */
     @Override
     public void flush() {
     }
 
+    /**
+     * Uploads the last part and completes the multipart upload once every part has been uploaded. This does not
+     * wait for the uploads, the callbacks run when the upload completes.
+     *
+     * @param runOnCompletion called with whether the object was uploaded
+     * @param runOnError called with the failure if the object could not be uploaded
+     * @return the completion of the upload, or null if the upload could not be started
+     */
     public CompletableFuture<?> close(final Consumer<Boolean> runOnCompletion, final Consumer<Throwable> runOnError) {
-        if (open) {
-            open = false;
-            try {
-                possiblyStartMultipartUpload();
-
-                if (position > 0) {
-                    uploadPart();
-                }
-
-                CompletedPart[] completedParts = new CompletedPart[etags.size()];
-                for (int i = 0; i < etags.size(); i++) {
-                    completedParts[i] = CompletedPart.builder()
-                            .eTag(etags.get(i))
-                            .partNumber(i + 1)
-                            .build();
-                }
+        if (!open) {
+            return null;
+        }
+        open = false;
 
-                LOG.debug("Completing S3 multipart upload with {} parts.", completedParts.length);
+        final CompletableFuture<CompleteMultipartUploadResponse> multipartUploadResponseCompletableFuture;
+        try {
+            possiblyStartMultipartUpload();
 
-                CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
-                        .parts(completedParts)
-                        .build();
-                CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
-                        .bucket(bucket)
-                        .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
-                        .key(key)
-                        .uploadId(uploadId)
-                        .multipartUpload(completedMultipartUpload)
-                        .build();
-                CompletableFuture<CompleteMultipartUploadResponse> multipartUploadResponseCompletableFuture = s3Client.completeMultipartUpload(completeMultipartUploadRequest);
+            if (buffer != null && buffer.position() > 0) {
+                uploadPart();
+            } else {
+                releaseBuffer();
+            }
 
-                multipartUploadResponseCompletableFuture.join();
+            multipartUploadResponseCompletableFuture = CompletableFuture.allOf(partFutures.toArray(new CompletableFuture[0]))
+                    .thenCompose(ignored -> completeMultipartUpload());
+        } catch (final Exception e) {
+            releaseBuffer();
+            abortMultipartUploadAfterParts();
+            runOnError.accept(e);
+            runOnCompletion.accept(false);
+            return null;
+        }
 
+        return multipartUploadResponseCompletableFuture.whenComplete((response, throwable) -> {
+            if (throwable == null) {
                 runOnCompletion.accept(true);
-                return multipartUploadResponseCompletableFuture;
-            } catch (final Exception e) {
-                runOnError.accept(e);
+            } else {
+                runOnError.accept(throwable);
                 runOnCompletion.accept(false);
+                abortMultipartUpload();
             }
-        }
-
-        return null;
+        });
     }
 
     public String getKey() {
@@ -229,10 +252,23 @@ public class S3OutputStream extends PositionOutputStream {
         }
     }
 
-    private void flushBufferAndRewind() throws ExecutionException, InterruptedException {
+    private void takeBufferIfNeeded() {
+        if (buffer == null) {
+            buffer = partBufferPool.take(partSizeTuner.getPartSize());
+        }
+    }
+
+    private void releaseBuffer() {
+        if (buffer != null) {
+            partBufferPool.release(buffer);
+            buffer = null;
+        }
+    }
+
+    private void flushBufferAndRewind() {
         possiblyStartMultipartUpload();
         uploadPart();
-        position = 0;
+        takeBufferIfNeeded();
     }
 
     private void possiblyStartMultipartUpload() {
@@ -255,33 +291,111 @@ public class S3OutputStream extends PositionOutputStream {
         }
     }
 
+    /**
+     * Starts the upload of the staged part. This only waits while the in-flight byte budget of the pool is used up.
+     * The buffer goes back to the pool when the upload of the part finishes.
+     */
     private void uploadPart() {
-        int partNumber = etags.size() + 1;
+        if (partUploadFailure != null) {
+            throw new CompletionException(partUploadFailure);
+        }
+
+        final ByteBuffer partBuffer = buffer;
+        buffer = null;
+        partBuffer.flip();
+        final int partLength = partBuffer.remaining();
+        final int partNumber = partFutures.size() + 1;
+
+        try {
+            partBufferPool.beginUpload(partBuffer);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            partBufferPool.release(partBuffer);
+            throw new RuntimeException(e);
+        }
+
         UploadPartRequest uploadRequest = UploadPartRequest.builder()
                 .bucket(bucket)
                 .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
                 .key(key)
                 .uploadId(uploadId)
                 .partNumber(partNumber)
-                .contentLength((long) position)
+                .contentLength((long) partLength)
                 .build();
 
-        final InputStream inputStream = new ByteArrayInputStream(buf, 0, position);
+        LOG.debug("Writing {} bytes to S3 multipart part number {}.", partLength, partNumber);
+
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<CompletedPart> completedPartFuture;
+        try {
+            completedPartFuture = s3Client.uploadPart(uploadRequest, AsyncRequestBody.fromRemainingByteBufferUnsafe(partBuffer))
+                    .thenApply(uploadPartResponse -> CompletedPart.builder()
+                            .eTag(uploadPartResponse.eTag())
+                            .partNumber(partNumber)
+                            .build());
+        } catch (final RuntimeException e) {
+            partBufferPool.endUpload(partBuffer);
+            throw e;
+        }
 
-        AsyncRequestBody asyncRequestBody = AsyncRequestBody.fromInputStream(inputStream, (long) position, executorService);
+        partFutures.add(completedPartFuture.whenComplete((completedPart, throwable) -> {
+            partBufferPool.endUpload(partBuffer);
+            if (throwable == null) {
+                partSizeTuner.recordPartUpload(partLength, System.nanoTime() - startNanos);
+            } else if (partUploadFailure == null) {
+                partUploadFailure = throwable;
+            }
+        }));
+        uploadedBytes += partLength;
+    }
 
-        LOG.debug("Writing {} bytes to S3 multipart part number {}.", buf.length, partNumber);
+    private CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload() {
+        final CompletedPart[] completedParts = new CompletedPart[partFutures.size()];
+        for (int i = 0; i < partFutures.size(); i++) {
+            completedParts[i] = partFutures.get(i).join();
+        }
+
+        LOG.debug("Completing S3 multipart upload with {} parts.", completedParts.length);
 
-        CompletableFuture<UploadPartResponse> uploadPartResponseFuture = s3Client.uploadPart(uploadRequest, asyncRequestBody);
+        CompletedMultipartUpload completedMultipartUpload = CompletedMultipartUpload.builder()
+                .parts(completedParts)
+                .build();
+        CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(completedMultipartUpload)
+                .build();
+        return s3Client.completeMultipartUpload(completeMultipartUploadRequest);
+    }
 
-        final UploadPartResponse uploadPartResponse = uploadPartResponseFuture.join();
+    private void abortMultipartUploadAfterParts() {
+        if (uploadId == null) {
+            return;
+        }
+        CompletableFuture.allOf(partFutures.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, throwable) -> abortMultipartUpload());
+    }
 
-        etags.add(uploadPartResponse.eTag());
+    private void abortMultipartUpload() {
+        final AbortMultipartUploadRequest abortMultipartUploadRequest = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .expectedBucketOwner(bucketOwnerProvider.getBucketOwner(defaultBucket).orElse(null))
+                .key(key)
+                .uploadId(uploadId)
+                .build();
+        s3Client.abortMultipartUpload(abortMultipartUploadRequest)
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null) {
+                        LOG.warn("Failed to abort S3 multipart upload {} for key '{}'.", uploadId, key, throwable);
+                    }
+                });
     }
 
     @Override
     public long getPos() throws IOException {
-        return position + (long) etags.size() * (long) BUFFER_SIZE;
+        return uploadedBytes + (buffer == null ? 0 : buffer.position());
     }
 
     private void createMultipartUpload() {
@@ -297,4 +411,3 @@ public class S3OutputStream extends PositionOutputStream {
         uploadId = response.uploadId();
     }
 }
-
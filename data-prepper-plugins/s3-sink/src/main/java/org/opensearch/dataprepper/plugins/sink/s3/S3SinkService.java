@@ -5,8 +5,10 @@
 
 package org.opensearch.dataprepper.plugins.sink.s3;
 
+import com.google.common.collect.MapMaker;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.codec.OutputCodec;
 import org.opensearch.dataprepper.model.event.Event;
@@ -14,6 +16,8 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateFlushPolicy;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateThresholdOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3Group;
 import org.opensearch.dataprepper.plugins.sink.s3.grouping.S3GroupManager;
 import org.slf4j.Logger;
@@ -24,9 +28,13 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
@@ -47,8 +55,11 @@ public class S3SinkService {
 
     static final String NUMBER_OF_GROUPS_FORCE_FLUSHED = "s3SinkObjectsForceFlushed";
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
+    static final String NUMBER_OF_GROUPS_SPILLED = "s3SinkObjectsSpilledToLocalFile";
+    static final String S3_OBJECT_UPLOAD_TIME = "s3SinkObjectUploadTime";
     private final S3SinkConfig s3SinkConfig;
-    private final Lock reentrantLock;
+    private final Map<S3Group, Lock> groupLocks;
+    private final AtomicBoolean aggregateFlushInProgress;
     private final int maxEvents;
     private final ByteCount maxBytes;
     private final Duration maxCollectionDuration;
@@ -60,6 +71,8 @@ public class S3SinkService {
     private final DistributionSummary s3ObjectSizeSummary;
 
     private final Counter numberOfObjectsForceFlushed;
+    private final Counter numberOfGroupsSpilled;
+    private final Timer s3ObjectUploadTimer;
     private final OutputCodecContext codecContext;
     private final Duration retrySleepTime;
 
@@ -80,7 +93,9 @@ public class S3SinkService {
         this.s3SinkConfig = s3SinkConfig;
         this.codecContext = codecContext;
         this.retrySleepTime = retrySleepTime;
-        reentrantLock = new ReentrantLock();
+        // Weak keys compare groups by identity and drop the lock once a flushed group is no longer referenced
+        groupLocks = new MapMaker().weakKeys().makeMap();
+        aggregateFlushInProgress = new AtomicBoolean(false);
 
         maxEvents = s3SinkConfig.getThresholdOptions().getEventCount();
         maxBytes = s3SinkConfig.getThresholdOptions().getMaximumSize();
@@ -94,6 +109,8 @@ public class S3SinkService {
         numberOfRecordsFailedCounter = pluginMetrics.counter(NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED);
         s3ObjectSizeSummary = pluginMetrics.summary(S3_OBJECTS_SIZE);
         numberOfObjectsForceFlushed = pluginMetrics.counter(NUMBER_OF_GROUPS_FORCE_FLUSHED);
+        numberOfGroupsSpilled = pluginMetrics.counter(NUMBER_OF_GROUPS_SPILLED);
+        s3ObjectUploadTimer = pluginMetrics.timer(S3_OBJECT_UPLOAD_TIME);
         pluginMetrics.gauge(CURRENT_S3_GROUPS, s3GroupManager, S3GroupManager::getNumberOfGroups);
 
 
@@ -101,77 +118,149 @@ public class S3SinkService {
     }
 
     /**
+     * Writes the records into their groups. Records are partitioned by group first and each group is locked only
+     * while its own events are encoded, so workers writing to different groups run in parallel.
+     *
      * @param records received records and add into buffer.
      */
     void output(Collection<Record<Event>> records) {
-        // Don't acquire the lock if there's no work to be done
+        // Don't lock any group if there's no work to be done
         if (records.isEmpty() && s3GroupManager.hasNoGroups()) {
             return;
         }
 
-        List<Event> failedEvents = new ArrayList<>();
-        Exception sampleException = null;
-        reentrantLock.lock();
-        try {
-            final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
-            for (Record<Event> record : records) {
-                final Event event = record.getData();
-                try {
-                    final S3Group s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
-                    final Buffer currentBuffer = s3Group.getBuffer();
-                    final OutputCodec codec = s3Group.getOutputCodec();
+        final FailedEvents failedEvents = new FailedEvents();
+        final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
 
-                    if (currentBuffer.getEventCount() == 0) {
-                        codec.start(currentBuffer.getOutputStream(), event, codecContext);
-                    }
+        final Map<S3Group, List<Event>> eventsByGroup = new LinkedHashMap<>();
+        for (Record<Event> record : records) {
+            final Event event = record.getData();
+            try {
+                eventsByGroup.computeIfAbsent(s3GroupManager.getOrCreateGroupForEvent(event), s3Group -> new ArrayList<>())
+                        .add(event);
+            } catch (Exception ex) {
+                failedEvents.add(event, ex);
+            }
+        }
 
-                    codec.writeEvent(event, currentBuffer.getOutputStream());
-                    int count = currentBuffer.getEventCount() + 1;
-                    currentBuffer.setEventCount(count);
-                    s3Group.addEventHandle(event.getEventHandle());
+        for (final Map.Entry<S3Group, List<Event>> groupEvents : eventsByGroup.entrySet()) {
+            writeEventsToGroup(groupEvents.getKey(), groupEvents.getValue(), completableFutures, failedEvents);
+        }
 
-                    flushToS3IfNeeded(completableFutures, s3Group, false);
-                } catch (Exception ex) {
-                    if(sampleException == null) {
-                        sampleException = ex;
+        for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
+            // A group locked by another worker is checked by that worker once it finishes writing
+            final Lock groupLock = getGroupLock(s3Group);
+            if (groupLock.tryLock()) {
+                try {
+                    if (!s3Group.isClosed()) {
+                        flushToS3IfNeeded(completableFutures, s3Group, false);
                     }
-
-                    failedEvents.add(event);
+                } finally {
+                    groupLock.unlock();
                 }
             }
+        }
 
-            for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
-                flushToS3IfNeeded(completableFutures, s3Group, false);
+        if (s3SinkConfig.getAggregateThresholdOptions() != null && aggregateFlushInProgress.compareAndSet(false, true)) {
+            try {
+                checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
+            } finally {
+                aggregateFlushInProgress.set(false);
             }
+        }
 
-            if (s3SinkConfig.getAggregateThresholdOptions() != null) {
-                checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
+        if (!completableFutures.isEmpty()) {
+            try {
+                CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
+                        .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
+                        .join();
+            } catch (final Exception e) {
+                LOG.warn("There was an exception while waiting for all requests to complete", e);
             }
 
-            if (!completableFutures.isEmpty()) {
-                try {
-                    CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
-                            .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
-                            .join();
-                } catch (final Exception e) {
-                    LOG.warn("There was an exception while waiting for all requests to complete", e);
+        }
+
+        failedEvents.release();
+    }
+
+    /**
+     * Writes events which belong to the same group while holding that group's lock. When the group is flushed part
+     * way through, by this worker or by another one, the remaining events are written to the group which replaced it.
+     */
+    private void writeEventsToGroup(final S3Group firstS3Group,
+                                    final List<Event> events,
+                                    final List<CompletableFuture<?>> completableFutures,
+                                    final FailedEvents failedEvents) {
+        S3Group s3Group = firstS3Group;
+        int written = 0;
+        while (written < events.size()) {
+            final Lock groupLock = getGroupLock(s3Group);
+            groupLock.lock();
+            try {
+                final int writtenBefore = written;
+                while (written < events.size() && !s3Group.isClosed()) {
+                    final Event event = events.get(written++);
+                    try {
+                        writeEvent(s3Group, event);
+                        flushToS3IfNeeded(completableFutures, s3Group, false);
+                    } catch (Exception ex) {
+                        failedEvents.add(event, ex);
+                    }
                 }
+                if (written > writtenBefore && !s3Group.isClosed()) {
+                    s3GroupManager.updateGroupSize(s3Group);
+                    writeSpilledDataToLocalFile(s3Group);
+                }
+            } finally {
+                groupLock.unlock();
+            }
 
+            if (written < events.size()) {
+                try {
+                    s3Group = s3GroupManager.getOrCreateGroupForEvent(events.get(written));
+                } catch (Exception ex) {
+                    for (final Event event : events.subList(written, events.size())) {
+                        failedEvents.add(event, ex);
+                    }
+                    return;
+                }
             }
-        } finally {
-            reentrantLock.unlock();
         }
+    }
+
+    /**
+     * Spilled groups no longer count towards the total size of the groups, so the data written to them is moved to
+     * their local file after each batch instead of staying in memory. Must be called while holding the lock of the group.
+     */
+    private void writeSpilledDataToLocalFile(final S3Group s3Group) {
+        try {
+            s3Group.getBuffer().writeSpilledDataToLocalFile();
+        } catch (final IOException e) {
+            LOG.warn("Unable to write data of the object with key {} to its local file", s3Group.getBuffer().getKey(), e);
+        }
+    }
+
+    private Lock getGroupLock(final S3Group s3Group) {
+        return groupLocks.computeIfAbsent(s3Group, group -> new ReentrantLock());
+    }
+
+    private void writeEvent(final S3Group s3Group, final Event event) throws IOException {
+        final Buffer currentBuffer = s3Group.getBuffer();
+        final OutputCodec codec = s3Group.getOutputCodec();
 
-        if(!failedEvents.isEmpty()) {
-            failedEvents
-                    .stream()
-                    .map(Event::getEventHandle)
-                    .forEach(eventHandle -> eventHandle.release(false));
-            LOG.error("Unable to add {} events to buffer. Dropping these events. Sample exception provided.", failedEvents.size(), sampleException);
+        if (currentBuffer.getEventCount() == 0) {
+            codec.start(currentBuffer.getOutputStream(), event, codecContext);
         }
+
+        codec.writeEvent(event, currentBuffer.getOutputStream());
+        int count = currentBuffer.getEventCount() + 1;
+        currentBuffer.setEventCount(count);
+        s3Group.addEventHandle(event.getEventHandle());
     }
 
     /**
+     * Must be called while holding the lock of the group.
+     *
      * @param completableFutures completableFutures
      * @param s3Group s3 group
      * @param forceFlush force flush flag
@@ -182,6 +271,7 @@ public class S3SinkService {
                 s3Group.getBuffer().getSize(), s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getDuration());
         if (forceFlush || ThresholdCheck.checkThresholdExceed(s3Group.getBuffer(), maxEvents, maxBytes, maxCollectionDuration)) {
 
+            s3Group.markClosed();
             s3GroupManager.removeGroup(s3Group);
             try {
 
@@ -190,10 +280,12 @@ public class S3SinkService {
                 LOG.info("Writing {} to S3 with {} events and size of {} bytes.",
                         s3Key, s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getSize());
 
+                final long uploadStartNanos = System.nanoTime();
                 final Consumer<Boolean> consumeOnGroupCompletion = (success) -> {
                     if (success) {
 
                         LOG.info("Successfully saved {} to S3.", s3Key);
+                        s3ObjectUploadTimer.record(System.nanoTime() - uploadStartNanos, TimeUnit.NANOSECONDS);
                         numberOfRecordsSuccessCounter.increment(s3Group.getBuffer().getEventCount());
                         objectsSucceededCounter.increment();
                         s3ObjectSizeSummary.record(s3Group.getBuffer().getSize());
@@ -222,29 +314,125 @@ public class S3SinkService {
         LOG.error("Exception occurred while uploading records to s3 bucket: {}", e.getMessage());
     }
 
+    /**
+     * Only one worker evicts groups at a time. Other workers skip the check while an eviction is in progress since
+     * it will already bring the total size down. Groups are found through the size index kept by the
+     * {@link S3GroupManager}, so eviction does not sort every group.
+     */
     private void checkAggregateThresholdsAndFlushIfNeeded(final List<CompletableFuture<?>> completableFutures) {
-        long currentTotalGroupSize = s3GroupManager.recalculateAndGetGroupSize();
+        final AggregateThresholdOptions aggregateThresholdOptions = s3SinkConfig.getAggregateThresholdOptions();
+        long currentTotalGroupSize = s3GroupManager.getTotalGroupSize();
         LOG.debug("Total groups size is {} bytes", currentTotalGroupSize);
 
-        final long aggregateThresholdBytes = s3SinkConfig.getAggregateThresholdOptions().getMaximumSize().getBytes();
-        final double aggregateThresholdFlushRatio = s3SinkConfig.getAggregateThresholdOptions().getFlushCapacityRatio();
+        final long aggregateThresholdBytes = aggregateThresholdOptions.getMaximumSize().getBytes();
+        final double aggregateThresholdFlushRatio = aggregateThresholdOptions.getFlushCapacityRatio();
+        final double targetTotalGroupSize = aggregateThresholdBytes * aggregateThresholdFlushRatio;
+
+        if (currentTotalGroupSize < aggregateThresholdBytes) {
+            return;
+        }
+
+        final Duration spillColdGroupsAfter = aggregateThresholdOptions.getSpillColdGroupsAfter();
+        if (spillColdGroupsAfter != null) {
+            LOG.info("aggregate_threshold reached, groups which were not written to for {} will be spilled to local files until {} percent of the maximum size {} is remaining",
+                    spillColdGroupsAfter, aggregateThresholdFlushRatio * 100, aggregateThresholdBytes);
+            Optional<S3Group> coldGroup;
+            while (currentTotalGroupSize > targetTotalGroupSize
+                    && (coldGroup = s3GroupManager.getLeastRecentlyWrittenGroup(spillColdGroupsAfter)).isPresent()) {
+                final long spilledSize = spillToLocalFile(coldGroup.get());
+                if (spilledSize < 0) {
+                    break;
+                }
+                currentTotalGroupSize -= spilledSize;
+            }
+
+            if (currentTotalGroupSize <= targetTotalGroupSize) {
+                return;
+            }
+        }
 
-        if (currentTotalGroupSize >= aggregateThresholdBytes) {
-            LOG.info("aggregate_threshold reached, the largest groups will be flushed until {} percent of the maximum size {} is remaining", aggregateThresholdFlushRatio * 100, aggregateThresholdBytes);
+        final AggregateFlushPolicy flushPolicy = aggregateThresholdOptions.getFlushPolicy();
+        LOG.info("aggregate_threshold reached, groups will be flushed with the {} policy until {} percent of the maximum size {} is remaining",
+                flushPolicy, aggregateThresholdFlushRatio * 100, aggregateThresholdBytes);
 
-            for (final S3Group s3Group : s3GroupManager.getS3GroupsSortedBySize()) {
+        Optional<S3Group> nextGroup;
+        while ((nextGroup = getNextGroupToFlush(flushPolicy)).isPresent()) {
+            final S3Group s3Group = nextGroup.get();
+            // Groups are locked one at a time so that eviction never waits on a lock while holding another
+            final Lock groupLock = getGroupLock(s3Group);
+            groupLock.lock();
+            try {
+                if (s3Group.isClosed()) {
+                    continue;
+                }
                 LOG.info("Forcing a flush of object with key {} due to aggregate_threshold of {} bytes being reached", s3Group.getBuffer().getKey(), aggregateThresholdBytes);
 
+                final long groupSize = s3Group.getBuffer().getSize();
                 final boolean flushed = flushToS3IfNeeded(completableFutures, s3Group, true);
                 numberOfObjectsForceFlushed.increment();
 
                 if (flushed) {
-                    currentTotalGroupSize -= s3Group.getBuffer().getSize();
+                    currentTotalGroupSize -= groupSize;
                 }
+            } finally {
+                groupLock.unlock();
+            }
 
-                if (currentTotalGroupSize <= aggregateThresholdBytes * aggregateThresholdFlushRatio) {
-                    break;
-                }
+            if (currentTotalGroupSize <= targetTotalGroupSize) {
+                break;
+            }
+        }
+    }
+
+    private Optional<S3Group> getNextGroupToFlush(final AggregateFlushPolicy flushPolicy) {
+        if (flushPolicy == AggregateFlushPolicy.LEAST_RECENTLY_WRITTEN_FIRST) {
+            return s3GroupManager.getLeastRecentlyWrittenGroup();
+        }
+        return s3GroupManager.getLargestGroup();
+    }
+
+    /**
+     * @return the number of bytes moved out of memory, or -1 if the group's buffer cannot be spilled
+     */
+    private long spillToLocalFile(final S3Group s3Group) {
+        final Lock groupLock = getGroupLock(s3Group);
+        groupLock.lock();
+        try {
+            if (s3Group.isClosed()) {
+                return 0;
+            }
+            final long groupSize = s3Group.getBuffer().getSize();
+            if (!s3GroupManager.spillToLocalFile(s3Group)) {
+                return -1;
+            }
+            numberOfGroupsSpilled.increment();
+            return groupSize;
+        } catch (final IOException e) {
+            LOG.warn("Unable to spill the object with key {} to a local file", s3Group.getBuffer().getKey(), e);
+            return -1;
+        } finally {
+            groupLock.unlock();
+        }
+    }
+
+    private static class FailedEvents {
+        private final List<Event> events = new ArrayList<>();
+        private Exception sampleException;
+
+        void add(final Event event, final Exception exception) {
+            if (sampleException == null) {
+                sampleException = exception;
+            }
+            events.add(event);
+        }
+
+        void release() {
+            if (!events.isEmpty()) {
+                events
+                        .stream()
+                        .map(Event::getEventHandle)
+                        .forEach(eventHandle -> eventHandle.release(false));
+                LOG.error("Unable to add {} events to buffer. Dropping these events. Sample exception provided.", events.size(), sampleException);
             }
         }
     }
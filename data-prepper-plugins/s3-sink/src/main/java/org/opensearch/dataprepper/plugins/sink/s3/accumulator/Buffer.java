@@ -5,7 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
-
+import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Duration;
 import java.util.Optional;
@@ -32,4 +32,22 @@ public interface Buffer {
     void setEventCount(int eventCount);
 
     String getKey();
+
+    /**
+     * Moves the data held in memory to a local file, if the buffer supports it. Data written afterwards also goes to
+     * the file. Buffers which do not hold their data in memory return false.
+     * @return true if the data was moved out of memory.
+     * @throws IOException if the data could not be written to a local file.
+     */
+    default boolean spillToLocalFile() throws IOException {
+        return false;
+    }
+
+    /**
+     * Writes the data which was written since the buffer was spilled and is still held in memory to the local file.
+     * Buffers which were not spilled do nothing.
+     * @throws IOException if the data could not be written to the local file.
+     */
+    default void writeSpilledDataToLocalFile() throws IOException {
+    }
 }
@@ -2,6 +2,7 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.opensearch.dataprepper.plugins.sink.s3.codec.BufferedCodec;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.time.Duration;
 import java.util.Optional;
@@ -52,4 +53,14 @@ public class CodecBuffer implements Buffer {
     public String getKey() {
         return innerBuffer.getKey();
     }
+
+    @Override
+    public boolean spillToLocalFile() throws IOException {
+        return innerBuffer.spillToLocalFile();
+    }
+
+    @Override
+    public void writeSpilledDataToLocalFile() throws IOException {
+        innerBuffer.writeSpilledDataToLocalFile();
+    }
 }
@@ -71,4 +71,14 @@ class CompressionBuffer implements Buffer {
     public String getKey() {
         return innerBuffer.getKey();
     }
+
+    @Override
+    public boolean spillToLocalFile() throws IOException {
+        return innerBuffer.spillToLocalFile();
+    }
+
+    @Override
+    public void writeSpilledDataToLocalFile() throws IOException {
+        innerBuffer.writeSpilledDataToLocalFile();
+    }
 }
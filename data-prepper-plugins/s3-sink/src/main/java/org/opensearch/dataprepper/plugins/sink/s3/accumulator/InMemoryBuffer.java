@@ -7,11 +7,15 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.apache.commons.lang3.time.StopWatch;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
-import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
@@ -26,8 +30,8 @@ import java.util.function.Function;
  */
 public class InMemoryBuffer implements Buffer {
 
-    private final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-    private final ByteArrayPositionOutputStream byteArrayPositionOutputStream = new ByteArrayPositionOutputStream(byteArrayOutputStream);
+    private static final Logger LOG = LoggerFactory.getLogger(InMemoryBuffer.class);
+    private final SpillablePositionOutputStream outputStream = new SpillablePositionOutputStream();
     private final S3AsyncClient s3Client;
     private final Supplier<String> bucketSupplier;
     private final Supplier<String> keySupplier;
@@ -52,7 +56,6 @@ public class InMemoryBuffer implements Buffer {
         this.bucketSupplier = bucketSupplier;
         this.keySupplier = keySupplier;
         this.metadataSupplier = metadataSupplier;
-        byteArrayOutputStream.reset();
         eventCount = 0;
         watch = new StopWatch();
         watch.start();
@@ -63,7 +66,7 @@ public class InMemoryBuffer implements Buffer {
 
     @Override
     public long getSize() {
-        return byteArrayOutputStream.size();
+        return outputStream.getPos();
     }
 
     @Override
@@ -80,12 +83,66 @@ public class InMemoryBuffer implements Buffer {
      */
     @Override
     public Optional<CompletableFuture<?>> flushToS3(final Consumer<Boolean> consumeOnCompletion, final Consumer<Throwable> consumeOnException) {
-        final byte[] byteArray = byteArrayOutputStream.toByteArray();
+        if (outputStream.isSpilled()) {
+            return flushSpillFileToS3(consumeOnCompletion, consumeOnException);
+        }
+        final byte[] byteArray = outputStream.toByteArray();
         return Optional.ofNullable(BufferUtilities.putObjectOrSendToDefaultBucket(s3Client, AsyncRequestBody.fromBytes(byteArray),
                 consumeOnCompletion, consumeOnException,
                 getKey(), getBucket(), defaultBucket, getMetadata(getEventCount()), bucketOwnerProvider));
     }
 
+    private Optional<CompletableFuture<?>> flushSpillFileToS3(final Consumer<Boolean> consumeOnCompletion, final Consumer<Throwable> consumeOnException) {
+        final File spillFile = outputStream.getSpillFile();
+        try {
+            outputStream.close();
+        } catch (final IOException e) {
+            LOG.error("An exception occurred while flushing data to the spill file {}", spillFile, e);
+        }
+        final CompletableFuture<?> completableFuture = BufferUtilities.putObjectOrSendToDefaultBucket(s3Client, AsyncRequestBody.fromFile(spillFile),
+                consumeOnCompletion, consumeOnException,
+                getKey(), getBucket(), defaultBucket, getMetadata(getEventCount()), bucketOwnerProvider);
+        if (completableFuture == null) {
+            deleteSpillFile(spillFile);
+            return Optional.empty();
+        }
+        return Optional.of(completableFuture.whenComplete((response, throwable) -> deleteSpillFile(spillFile)));
+    }
+
+    /**
+     * Moves the data buffered so far to a local file. The same output stream keeps accepting data and writes it to
+     * the file from then on, so the codec writing to this buffer is not affected.
+     */
+    @Override
+    public boolean spillToLocalFile() throws IOException {
+        if (outputStream.isSpilled()) {
+            return false;
+        }
+        final File spillFile = File.createTempFile(LocalFileBufferFactory.PREFIX, LocalFileBufferFactory.SUFFIX);
+        try {
+            outputStream.spillTo(spillFile);
+        } catch (final IOException e) {
+            deleteSpillFile(spillFile);
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public void writeSpilledDataToLocalFile() throws IOException {
+        if (outputStream.isSpilled()) {
+            outputStream.flush();
+        }
+    }
+
+    private void deleteSpillFile(final File spillFile) {
+        try {
+            Files.deleteIfExists(spillFile.toPath());
+        } catch (final IOException e) {
+            LOG.error("Unable to delete spill file {}", spillFile, e);
+        }
+    }
+
     private String getBucket() {
         if(bucket == null)
             bucket = bucketSupplier.get();
@@ -114,6 +171,6 @@ public class InMemoryBuffer implements Buffer {
 
     @Override
     public OutputStream getOutputStream() {
-        return byteArrayPositionOutputStream;
+        return outputStream;
     }
 }
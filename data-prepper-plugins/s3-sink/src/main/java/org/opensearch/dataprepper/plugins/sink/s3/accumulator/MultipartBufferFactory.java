@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
+import org.opensearch.dataprepper.plugins.codec.parquet.PartBufferPool;
+import org.opensearch.dataprepper.plugins.codec.parquet.PartSizeTuner;
 import org.opensearch.dataprepper.plugins.codec.parquet.S3OutputStream;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
@@ -14,7 +16,14 @@ import java.util.function.Supplier;
 import java.util.function.Function;
 
 
+/**
+ * Creates multipart buffers which share one pool of part buffers and one part size tuner, so the in-flight byte
+ * budget applies to all multipart uploads together and part sizes are learned from every upload.
+ */
 public class MultipartBufferFactory implements BufferFactory {
+    private final PartBufferPool partBufferPool = new PartBufferPool(S3OutputStream.DEFAULT_IN_FLIGHT_BYTE_BUDGET);
+    private final PartSizeTuner partSizeTuner = new PartSizeTuner();
+
     @Override
     public Buffer getBuffer(final S3AsyncClient s3Client,
                             final Supplier<String> bucketSupplier,
@@ -22,6 +31,7 @@ public class MultipartBufferFactory implements BufferFactory {
                             final String defaultBucket,
                             final Function<Integer, Map<String, String>> metadataSupplier,
                             final BucketOwnerProvider bucketOwnerProvider) {
-        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider));
+        return new MultipartBuffer(new S3OutputStream(s3Client, bucketSupplier, keySupplier, defaultBucket, bucketOwnerProvider,
+                partBufferPool, partSizeTuner));
     }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
+
+import org.apache.parquet.io.PositionOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An output stream which keeps its data in memory until it is spilled to a local file. Codecs hold on to the
+ * stream they were started with, so spilling swaps where the data goes instead of the stream given to the codec.
+ * <p>
+ * Once spilled, the file is only open while data is appended to it. Data written afterwards is collected in a small
+ * buffer, which is appended to the file when it fills up and on {@link #flush()}, so that a spilled stream holds
+ * neither an open file nor data in memory after it was flushed.
+ */
+class SpillablePositionOutputStream extends PositionOutputStream {
+    static final int SPILL_BUFFER_SIZE = 8 * 1024;
+
+    private ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    private File spillFile;
+    private long position;
+
+    @Override
+    public long getPos() {
+        return position;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        if (isSpilled() && byteArrayOutputStream == null) {
+            byteArrayOutputStream = new ByteArrayOutputStream(SPILL_BUFFER_SIZE);
+        }
+        byteArrayOutputStream.write(b);
+        position++;
+        if (isSpilled() && byteArrayOutputStream.size() >= SPILL_BUFFER_SIZE) {
+            appendToSpillFile();
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (!isSpilled()) {
+            byteArrayOutputStream.write(b, off, len);
+        } else if (len >= SPILL_BUFFER_SIZE) {
+            appendToSpillFile();
+            try (final OutputStream fileOutputStream = new FileOutputStream(spillFile, true)) {
+                fileOutputStream.write(b, off, len);
+            }
+        } else {
+            if (byteArrayOutputStream == null) {
+                byteArrayOutputStream = new ByteArrayOutputStream(SPILL_BUFFER_SIZE);
+            }
+            byteArrayOutputStream.write(b, off, len);
+            if (byteArrayOutputStream.size() >= SPILL_BUFFER_SIZE) {
+                appendToSpillFile();
+            }
+        }
+        position += len;
+    }
+
+    /**
+     * Appends the data collected in memory to the file once spilled.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (isSpilled()) {
+            appendToSpillFile();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+    boolean isSpilled() {
+        return spillFile != null;
+    }
+
+    /**
+     * @return the file holding the data once spilled, or null while the data is in memory
+     */
+    File getSpillFile() {
+        return spillFile;
+    }
+
+    /**
+     * @return the data written so far. Only valid while the data is in memory.
+     */
+    byte[] toByteArray() {
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Moves the data written so far to the file and writes any further data to it.
+     *
+     * @param file an empty file to write to
+     * @throws IOException if the file cannot be written
+     */
+    void spillTo(final File file) throws IOException {
+        if (isSpilled()) {
+            throw new IllegalStateException("The stream was already spilled to " + spillFile);
+        }
+        try (final OutputStream fileOutputStream = new FileOutputStream(file)) {
+            byteArrayOutputStream.writeTo(fileOutputStream);
+        }
+        spillFile = file;
+        byteArrayOutputStream = null;
+    }
+
+    private void appendToSpillFile() throws IOException {
+        if (byteArrayOutputStream == null) {
+            return;
+        }
+        try (final OutputStream fileOutputStream = new FileOutputStream(spillFile, true)) {
+            byteArrayOutputStream.writeTo(fileOutputStream);
+        }
+        byteArrayOutputStream = null;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Defines which groups are flushed first when the aggregate_threshold is reached.
+ */
+public enum AggregateFlushPolicy {
+    LARGEST_FIRST("largest_first"),
+    LEAST_RECENTLY_WRITTEN_FIRST("least_recently_written_first");
+
+    private static final Map<String, AggregateFlushPolicy> OPTIONS_MAP = Arrays.stream(AggregateFlushPolicy.values())
+            .collect(Collectors.toMap(value -> value.option, value -> value));
+
+    private final String option;
+
+    AggregateFlushPolicy(final String option) {
+        this.option = option;
+    }
+
+    @JsonCreator
+    static AggregateFlushPolicy fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option);
+    }
+}
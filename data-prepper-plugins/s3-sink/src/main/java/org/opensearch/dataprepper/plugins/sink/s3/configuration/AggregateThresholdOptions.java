@@ -9,8 +9,11 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.time.DurationMin;
 import org.opensearch.dataprepper.model.types.ByteCount;
 
+import java.time.Duration;
+
 
 /**
  * An implementation class of s3 index configuration Options
@@ -30,6 +33,21 @@ public class AggregateThresholdOptions {
     @Max(value = 1, message = "flush_capacity_ratio must be between 0.0 and 1.0")
     private double flushCapacityRatio = 0.5;
 
+    /**
+     * Controls which groups are flushed first when the maximum_size is reached.
+     */
+    @JsonProperty("flush_policy")
+    @NotNull
+    private AggregateFlushPolicy flushPolicy = AggregateFlushPolicy.LARGEST_FIRST;
+
+    /**
+     * When the maximum_size is reached, groups which were not written to for this long are moved from memory to a
+     * local file instead of being flushed to S3. They are flushed once they reach the threshold.
+     */
+    @JsonProperty("spill_cold_groups_after")
+    @DurationMin(seconds = 1)
+    private Duration spillColdGroupsAfter;
+
     /**
      * Read byte capacity configuration.
      * @return maximum byte count.
@@ -39,4 +57,11 @@ public class AggregateThresholdOptions {
     }
 
     public double getFlushCapacityRatio() { return flushCapacityRatio; }
+
+    public AggregateFlushPolicy getFlushPolicy() { return flushPolicy; }
+
+    /**
+     * @return how long a group must not have been written to before it is spilled to a local file, or null if groups are never spilled
+     */
+    public Duration getSpillColdGroupsAfter() { return spillColdGroupsAfter; }
 }
\ No newline at end of file
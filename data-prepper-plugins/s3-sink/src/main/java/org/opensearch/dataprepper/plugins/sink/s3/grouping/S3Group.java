@@ -12,7 +12,7 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 import java.util.Collection;
 import java.util.LinkedList;
 
-public class S3Group implements Comparable<S3Group> {
+public class S3Group {
 
     private final Buffer buffer;
 
@@ -22,6 +22,15 @@ public class S3Group implements Comparable<S3Group> {
 
     private final Collection<EventHandle> groupEventHandles;
 
+    private volatile boolean closed;
+
+    /*
+     * Maintained by S3GroupSizeIndex while holding its lock.
+     */
+    final int[] indexPositions = {-1, -1};
+    long indexedSize;
+    long lastWriteNanos;
+
     public S3Group(final S3GroupIdentifier s3GroupIdentifier,
                    final Buffer buffer,
                    final OutputCodec outputCodec) {
@@ -41,6 +50,18 @@ public class S3Group implements Comparable<S3Group> {
 
     S3GroupIdentifier getS3GroupIdentifier() { return s3GroupIdentifier; }
 
+    /**
+     * Marks this group as closed once its buffer has been handed off to be flushed. A closed group accepts no more
+     * events; writers holding a reference to it must resolve the group which replaced it.
+     */
+    public void markClosed() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
     public void addEventHandle(final EventHandle eventHandle) {
         groupEventHandles.add(eventHandle);
     }
@@ -52,9 +73,4 @@ public class S3Group implements Comparable<S3Group> {
 
         groupEventHandles.clear();
     }
-
-    @Override
-    public int compareTo(final S3Group o) {
-        return Long.compare(buffer.getSize(), o.getBuffer().getSize());
-    }
 }
@@ -17,15 +17,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
+import java.io.IOException;
+import java.time.Duration;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 public class S3GroupManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(S3GroupManager.class);
     private final Map<S3GroupIdentifier, S3Group> allGroups = Maps.newConcurrentMap();
+    private final S3GroupSizeIndex s3GroupSizeIndex = new S3GroupSizeIndex();
     private final S3SinkConfig s3SinkConfig;
     private final S3GroupIdentifierFactory s3GroupIdentifierFactory;
     private final BufferFactory bufferFactory;
@@ -36,8 +38,6 @@ public class S3GroupManager {
 
     private final BucketOwnerProvider bucketOwnerProvider;
 
-    private long totalGroupSize;
-
 
     public S3GroupManager(final S3SinkConfig s3SinkConfig,
                           final S3GroupIdentifierFactory s3GroupIdentifierFactory,
@@ -50,7 +50,6 @@ public class S3GroupManager {
         this.bufferFactory = bufferFactory;
         this.codecFactory = codecFactory;
         this.s3Client = s3Client;
-        totalGroupSize = 0;
         this.bucketOwnerProvider = bucketOwnerProvider;
     }
 
@@ -60,41 +59,88 @@ public class S3GroupManager {
 
     public int getNumberOfGroups() { return allGroups.size(); }
 
+    /**
+     * Removes the group unless it was already replaced by a newer group for the same identifier.
+     *
+     * @param s3Group the group to remove
+     */
     public void removeGroup(final S3Group s3Group) {
-        allGroups.remove(s3Group.getS3GroupIdentifier());
+        if (allGroups.remove(s3Group.getS3GroupIdentifier(), s3Group)) {
+            s3GroupSizeIndex.remove(s3Group);
+        }
     }
 
     public Collection<S3Group> getS3GroupEntries() {
         return allGroups.values();
     }
 
-    public Collection<S3Group> getS3GroupsSortedBySize() {
-        return allGroups.values().stream().sorted(Collections.reverseOrder()).collect(Collectors.toList());
-    }
-
     public S3Group getOrCreateGroupForEvent(final Event event) {
 
         final S3GroupIdentifier s3GroupIdentifier = s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event);
 
-        if (allGroups.containsKey(s3GroupIdentifier)) {
-            return allGroups.get(s3GroupIdentifier);
-        } else {
-            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), s3GroupIdentifier::getMetadata,  bucketOwnerProvider);
+        return allGroups.computeIfAbsent(s3GroupIdentifier, identifier -> {
+            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, identifier::getFullBucketName, identifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), identifier::getMetadata,  bucketOwnerProvider);
             final OutputCodec outputCodec = codecFactory.provideCodec();
-            final S3Group s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
-            allGroups.put(s3GroupIdentifier, s3Group);
-            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size());
+            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size() + 1);
+            final S3Group s3Group = new S3Group(identifier, bufferForNewGroup, outputCodec);
+            s3GroupSizeIndex.add(s3Group, 0, System.nanoTime());
             return s3Group;
-        }
+        });
     }
 
-    public long recalculateAndGetGroupSize() {
-        long totalSize = 0;
+    /**
+     * Records the current size of the group's buffer after it was written to. Must be called while no other thread
+     * writes to the group.
+     *
+     * @param s3Group the group which was written to
+     */
+    public void updateGroupSize(final S3Group s3Group) {
+        s3GroupSizeIndex.update(s3Group, s3Group.getBuffer().getSize(), System.nanoTime());
+    }
 
-        for (final S3Group s3Group : allGroups.values()) {
-            totalSize += s3Group.getBuffer().getSize();
-        }
+    /**
+     * @return the total size of the groups which hold their data in memory, as of their last write
+     */
+    public long getTotalGroupSize() {
+        return s3GroupSizeIndex.getTotalSize();
+    }
 
-        return totalSize;
+    /**
+     * @return the group holding the most data in memory, as of its last write
+     */
+    public Optional<S3Group> getLargestGroup() {
+        return s3GroupSizeIndex.peekLargest();
+    }
+
+    /**
+     * @return the group holding data in memory which was written to least recently
+     */
+    public Optional<S3Group> getLeastRecentlyWrittenGroup() {
+        return s3GroupSizeIndex.peekLeastRecentlyWritten();
+    }
+
+    /**
+     * @param idleTime how long the group must not have been written to
+     * @return the group holding data in memory which was written to least recently, if it was idle for at least the given time
+     */
+    public Optional<S3Group> getLeastRecentlyWrittenGroup(final Duration idleTime) {
+        return s3GroupSizeIndex.peekLeastRecentlyWrittenBefore(System.nanoTime() - idleTime.toNanos());
+    }
+
+    /**
+     * Moves the data of the group to a local file. The group keeps accepting events, but no longer counts towards
+     * the total size of the groups in memory. Must be called while no other thread writes to the group.
+     *
+     * @param s3Group the group to spill
+     * @return true if the group's buffer was spilled to a local file
+     * @throws IOException if the data could not be written to a local file
+     */
+    public boolean spillToLocalFile(final S3Group s3Group) throws IOException {
+        if (!s3Group.getBuffer().spillToLocalFile()) {
+            return false;
+        }
+        s3GroupSizeIndex.remove(s3Group);
+        LOG.debug("Spilled the S3 group with key {} to a local file", s3Group.getBuffer().getKey());
+        return true;
     }
 }
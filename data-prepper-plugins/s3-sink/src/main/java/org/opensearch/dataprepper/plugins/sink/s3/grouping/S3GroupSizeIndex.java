@@ -0,0 +1,179 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.grouping;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the groups ordered by their buffered size and by the time they were last written to, so that the largest and
+ * the least recently written group are found without sorting every group. Each group holds its own position in both
+ * heaps, which makes adding, updating and removing a group O(log n).
+ */
+class S3GroupSizeIndex {
+    private static final int LARGEST_FIRST = 0;
+    private static final int LEAST_RECENTLY_WRITTEN_FIRST = 1;
+
+    private final IndexedHeap largestFirst = new IndexedHeap(LARGEST_FIRST,
+            Comparator.comparingLong((S3Group s3Group) -> s3Group.indexedSize).reversed());
+    private final IndexedHeap leastRecentlyWrittenFirst = new IndexedHeap(LEAST_RECENTLY_WRITTEN_FIRST,
+            Comparator.comparingLong((S3Group s3Group) -> s3Group.lastWriteNanos));
+    private long totalSize;
+
+    synchronized void add(final S3Group s3Group, final long size, final long writeNanos) {
+        if (contains(s3Group)) {
+            return;
+        }
+        s3Group.indexedSize = size;
+        s3Group.lastWriteNanos = writeNanos;
+        totalSize += size;
+        largestFirst.add(s3Group);
+        leastRecentlyWrittenFirst.add(s3Group);
+    }
+
+    /**
+     * Updates the size of a group. Groups which are not in the index are ignored, so that a group which was removed
+     * is not added back by a late update.
+     */
+    synchronized void update(final S3Group s3Group, final long size, final long writeNanos) {
+        if (!contains(s3Group)) {
+            return;
+        }
+        totalSize += size - s3Group.indexedSize;
+        s3Group.indexedSize = size;
+        s3Group.lastWriteNanos = writeNanos;
+        largestFirst.reposition(s3Group);
+        leastRecentlyWrittenFirst.reposition(s3Group);
+    }
+
+    synchronized void remove(final S3Group s3Group) {
+        if (!contains(s3Group)) {
+            return;
+        }
+        totalSize -= s3Group.indexedSize;
+        largestFirst.remove(s3Group);
+        leastRecentlyWrittenFirst.remove(s3Group);
+    }
+
+    synchronized boolean contains(final S3Group s3Group) {
+        return s3Group.indexPositions[LARGEST_FIRST] >= 0;
+    }
+
+    synchronized Optional<S3Group> peekLargest() {
+        return largestFirst.peek();
+    }
+
+    synchronized Optional<S3Group> peekLeastRecentlyWritten() {
+        return leastRecentlyWrittenFirst.peek();
+    }
+
+    /**
+     * @param writtenBeforeNanos the {@link System#nanoTime()} the last write must not be after
+     * @return the least recently written group, if it was last written no later than the given time
+     */
+    synchronized Optional<S3Group> peekLeastRecentlyWrittenBefore(final long writtenBeforeNanos) {
+        return leastRecentlyWrittenFirst.peek()
+                .filter(s3Group -> s3Group.lastWriteNanos - writtenBeforeNanos <= 0);
+    }
+
+    synchronized long getTotalSize() {
+        return totalSize;
+    }
+
+    synchronized int size() {
+        return largestFirst.elements.size();
+    }
+
+    /**
+     * A binary heap which records the position of each group in the group itself.
+     */
+    private static class IndexedHeap {
+        private final int positionSlot;
+        private final Comparator<S3Group> comparator;
+        private final List<S3Group> elements = new ArrayList<>();
+
+        private IndexedHeap(final int positionSlot, final Comparator<S3Group> comparator) {
+            this.positionSlot = positionSlot;
+            this.comparator = comparator;
+        }
+
+        Optional<S3Group> peek() {
+            return elements.isEmpty() ? Optional.empty() : Optional.of(elements.get(0));
+        }
+
+        void add(final S3Group s3Group) {
+            elements.add(s3Group);
+            setPosition(s3Group, elements.size() - 1);
+            siftUp(elements.size() - 1);
+        }
+
+        void reposition(final S3Group s3Group) {
+            final int position = s3Group.indexPositions[positionSlot];
+            if (!siftUp(position)) {
+                siftDown(position);
+            }
+        }
+
+        void remove(final S3Group s3Group) {
+            final int position = s3Group.indexPositions[positionSlot];
+            final int lastPosition = elements.size() - 1;
+            final S3Group last = elements.remove(lastPosition);
+            s3Group.indexPositions[positionSlot] = -1;
+            if (position != lastPosition) {
+                elements.set(position, last);
+                setPosition(last, position);
+                reposition(last);
+            }
+        }
+
+        private boolean siftUp(int position) {
+            final int startPosition = position;
+            final S3Group s3Group = elements.get(position);
+            while (position > 0) {
+                final int parentPosition = (position - 1) >>> 1;
+                final S3Group parent = elements.get(parentPosition);
+                if (comparator.compare(s3Group, parent) >= 0) {
+                    break;
+                }
+                elements.set(position, parent);
+                setPosition(parent, position);
+                position = parentPosition;
+            }
+            elements.set(position, s3Group);
+            setPosition(s3Group, position);
+            return position != startPosition;
+        }
+
+        private void siftDown(int position) {
+            final int size = elements.size();
+            final S3Group s3Group = elements.get(position);
+            while (true) {
+                int childPosition = 2 * position + 1;
+                if (childPosition >= size) {
+                    break;
+                }
+                if (childPosition + 1 < size && comparator.compare(elements.get(childPosition + 1), elements.get(childPosition)) < 0) {
+                    childPosition++;
+                }
+                final S3Group child = elements.get(childPosition);
+                if (comparator.compare(child, s3Group) >= 0) {
+                    break;
+                }
+                elements.set(position, child);
+                setPosition(child, position);
+                position = childPosition;
+            }
+            elements.set(position, s3Group);
+            setPosition(s3Group, position);
+        }
+
+        private void setPosition(final S3Group s3Group, final int position) {
+            s3Group.indexPositions[positionSlot] = position;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PartBufferPoolTest {
+    private static final int CAPACITY = 1024;
+
+    @Test
+    void constructor_throws_with_non_positive_budget() {
+        assertThrows(IllegalArgumentException.class, () -> new PartBufferPool(0));
+        assertThrows(IllegalArgumentException.class, () -> new PartBufferPool(CAPACITY, -1));
+    }
+
+    @Test
+    void take_returns_cleared_direct_buffer_with_capacity() {
+        final ByteBuffer buffer = new PartBufferPool(4 * CAPACITY).take(CAPACITY);
+
+        assertThat(buffer.isDirect(), equalTo(true));
+        assertThat(buffer.capacity(), equalTo(CAPACITY));
+        assertThat(buffer.position(), equalTo(0));
+        assertThat(buffer.limit(), equalTo(CAPACITY));
+    }
+
+    @Test
+    void take_reuses_released_buffer_of_the_same_capacity() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(4 * CAPACITY);
+        final ByteBuffer buffer = objectUnderTest.take(CAPACITY);
+        buffer.put(new byte[10]);
+
+        objectUnderTest.release(buffer);
+        assertThat(objectUnderTest.getFreeBytes(), equalTo((long) CAPACITY));
+
+        assertThat(objectUnderTest.take(2 * CAPACITY), not(sameInstance(buffer)));
+        final ByteBuffer reusedBuffer = objectUnderTest.take(CAPACITY);
+        assertThat(reusedBuffer, sameInstance(buffer));
+        assertThat(reusedBuffer.position(), equalTo(0));
+        assertThat(objectUnderTest.getFreeBytes(), equalTo(0L));
+    }
+
+    @Test
+    void release_does_not_keep_more_than_the_budget() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(CAPACITY);
+
+        objectUnderTest.release(objectUnderTest.take(CAPACITY));
+        objectUnderTest.release(objectUnderTest.take(CAPACITY));
+        objectUnderTest.release(ByteBuffer.allocateDirect(CAPACITY));
+
+        assertThat(objectUnderTest.getFreeBytes(), equalTo((long) CAPACITY));
+    }
+
+    @Test
+    void take_returns_heap_buffer_once_the_direct_byte_budget_is_used_up() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(4 * CAPACITY, 2 * CAPACITY);
+        objectUnderTest.take(CAPACITY);
+        objectUnderTest.take(CAPACITY);
+
+        final ByteBuffer buffer = objectUnderTest.take(CAPACITY);
+
+        assertThat(buffer.isDirect(), equalTo(false));
+        assertThat(buffer.capacity(), equalTo(CAPACITY));
+        assertThat(objectUnderTest.getDirectBytes(), equalTo(2L * CAPACITY));
+        objectUnderTest.release(buffer);
+        assertThat(objectUnderTest.getFreeBytes(), equalTo(0L));
+    }
+
+    @Test
+    void take_does_not_stage_more_than_the_heap_buffer_capacity_on_the_heap() {
+        final ByteBuffer buffer = new PartBufferPool(CAPACITY, 0).take(PartSizeTuner.MAXIMUM_PART_SIZE);
+
+        assertThat(buffer.isDirect(), equalTo(false));
+        assertThat(buffer.capacity(), equalTo(PartBufferPool.HEAP_BUFFER_CAPACITY));
+    }
+
+    @Test
+    void take_drops_free_buffers_of_other_capacities_to_stay_within_the_direct_byte_budget() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(4 * CAPACITY, 2 * CAPACITY);
+        objectUnderTest.release(objectUnderTest.take(CAPACITY));
+        objectUnderTest.release(objectUnderTest.take(CAPACITY / 2));
+
+        final ByteBuffer buffer = objectUnderTest.take(2 * CAPACITY);
+
+        assertThat(buffer.isDirect(), equalTo(true));
+        assertThat(objectUnderTest.getFreeBytes(), equalTo(0L));
+        assertThat(objectUnderTest.getDirectBytes(), equalTo(2L * CAPACITY));
+    }
+
+    @Test
+    void release_of_a_buffer_which_is_not_kept_frees_direct_byte_budget() {
+        final PartBufferPool objectUnderTest = new PartBufferPool(CAPACITY, 2 * CAPACITY);
+        final ByteBuffer firstBuffer = objectUnderTest.take(CAPACITY);
+        final ByteBuffer secondBuffer = objectUnderTest.take(CAPACITY);
+        objectUnderTest.release(firstBuffer);
+
+        objectUnderTest.release(secondBuffer);
+
+        assertThat(objectUnderTest.getFreeBytes(), equalTo((long) CAPACITY));
+        assertThat(objectUnderTest.getDirectBytes(), equalTo((long) CAPACITY));
+        assertThat(objectUnderTest.take(CAPACITY).isDirect(), equalTo(true));
+        assertThat(objectUnderTest.take(CAPACITY).isDirect(), equalTo(true));
+    }
+
+    @Test
+    void endUpload_frees_budget_and_returns_buffer() throws InterruptedException {
+        final PartBufferPool objectUnderTest = new PartBufferPool(4 * CAPACITY);
+        final ByteBuffer buffer = objectUnderTest.take(CAPACITY);
+
+        objectUnderTest.beginUpload(buffer);
+        assertThat(objectUnderTest.getAvailableInFlightBytes(), equalTo(3 * CAPACITY));
+
+        objectUnderTest.endUpload(buffer);
+        assertThat(objectUnderTest.getAvailableInFlightBytes(), equalTo(4 * CAPACITY));
+        assertThat(objectUnderTest.take(CAPACITY), sameInstance(buffer));
+    }
+
+    @Test
+    void beginUpload_allows_a_buffer_larger_than_the_budget() throws InterruptedException {
+        final PartBufferPool objectUnderTest = new PartBufferPool(CAPACITY);
+        final ByteBuffer buffer = objectUnderTest.take(2 * CAPACITY);
+
+        objectUnderTest.beginUpload(buffer);
+        assertThat(objectUnderTest.getAvailableInFlightBytes(), equalTo(0));
+
+        objectUnderTest.endUpload(buffer);
+        assertThat(objectUnderTest.getAvailableInFlightBytes(), equalTo(CAPACITY));
+    }
+
+    @Test
+    void beginUpload_waits_until_the_budget_is_available() throws Exception {
+        final PartBufferPool objectUnderTest = new PartBufferPool(2 * CAPACITY);
+        final ByteBuffer firstBuffer = objectUnderTest.take(CAPACITY);
+        final ByteBuffer secondBuffer = objectUnderTest.take(CAPACITY);
+        final ByteBuffer thirdBuffer = objectUnderTest.take(CAPACITY);
+        objectUnderTest.beginUpload(firstBuffer);
+        objectUnderTest.beginUpload(secondBuffer);
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final CountDownLatch started = new CountDownLatch(1);
+            final Future<?> thirdUpload = executorService.submit(() -> {
+                started.countDown();
+                objectUnderTest.beginUpload(thirdBuffer);
+                return null;
+            });
+            started.await();
+            Thread.sleep(100);
+            assertThat(thirdUpload.isDone(), equalTo(false));
+
+            objectUnderTest.endUpload(firstBuffer);
+            thirdUpload.get(5, TimeUnit.SECONDS);
+            assertThat(objectUnderTest.getAvailableInFlightBytes(), equalTo(0));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.codec.parquet;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+
+class PartSizeTunerTest {
+    private static final int MEGABYTE = 1024 * 1024;
+
+    @Test
+    void getPartSize_returns_minimum_before_any_upload() {
+        assertThat(new PartSizeTuner().getPartSize(), equalTo(PartSizeTuner.MINIMUM_PART_SIZE));
+    }
+
+    @Test
+    void getPartSize_returns_minimum_for_slow_uploads() {
+        final PartSizeTuner objectUnderTest = new PartSizeTuner();
+
+        objectUnderTest.recordPartUpload(PartSizeTuner.MINIMUM_PART_SIZE, TimeUnit.SECONDS.toNanos(30));
+
+        assertThat(objectUnderTest.getPartSize(), equalTo(PartSizeTuner.MINIMUM_PART_SIZE));
+    }
+
+    @Test
+    void getPartSize_returns_power_of_two_which_uploads_in_the_target_time() {
+        final PartSizeTuner objectUnderTest = new PartSizeTuner();
+
+        objectUnderTest.recordPartUpload(10L * MEGABYTE, TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(objectUnderTest.getPartSize(), equalTo(32 * MEGABYTE));
+    }
+
+    @Test
+    void getPartSize_does_not_exceed_maximum_for_fast_uploads() {
+        final PartSizeTuner objectUnderTest = new PartSizeTuner();
+
+        objectUnderTest.recordPartUpload(PartSizeTuner.MAXIMUM_PART_SIZE, TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThat(objectUnderTest.getPartSize(), equalTo(PartSizeTuner.MAXIMUM_PART_SIZE));
+    }
+
+    @Test
+    void getPartSize_follows_a_change_in_throughput_gradually() {
+        final PartSizeTuner objectUnderTest = new PartSizeTuner();
+        objectUnderTest.recordPartUpload(PartSizeTuner.MAXIMUM_PART_SIZE, TimeUnit.MILLISECONDS.toNanos(10));
+
+        objectUnderTest.recordPartUpload(PartSizeTuner.MINIMUM_PART_SIZE, TimeUnit.SECONDS.toNanos(30));
+        assertThat(objectUnderTest.getPartSize(), greaterThan(PartSizeTuner.MINIMUM_PART_SIZE));
+
+        for (int i = 0; i < 50; i++) {
+            objectUnderTest.recordPartUpload(PartSizeTuner.MINIMUM_PART_SIZE, TimeUnit.SECONDS.toNanos(30));
+        }
+        assertThat(objectUnderTest.getPartSize(), equalTo(PartSizeTuner.MINIMUM_PART_SIZE));
+    }
+
+    @Test
+    void recordPartUpload_ignores_empty_parts() {
+        final PartSizeTuner objectUnderTest = new PartSizeTuner();
+
+        objectUnderTest.recordPartUpload(0, TimeUnit.SECONDS.toNanos(1));
+        objectUnderTest.recordPartUpload(PartSizeTuner.MAXIMUM_PART_SIZE, 0);
+
+        assertThat(objectUnderTest.getPartSize(), equalTo(PartSizeTuner.MINIMUM_PART_SIZE));
+    }
+}
@@ -14,14 +14,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -32,8 +37,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,6 +79,11 @@ public class S3OutputStreamTest {
         return new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider);
     }
 
+    private S3OutputStream createObjectUnderTest(final PartBufferPool partBufferPool) {
+        return new S3OutputStream(s3Client, () -> bucket, () -> objectKey, defaultBucket, bucketOwnerProvider,
+                partBufferPool, new PartSizeTuner());
+    }
+
     @Test
     void close_creates_and_completes_multi_part_upload() {
 
@@ -196,7 +209,7 @@ public class S3OutputStreamTest {
     }
 
     @Test
-    void close_with_upload_part_exception_completes_with_failure_and_returns_null() {
+    void close_with_upload_part_exception_completes_with_failure_and_aborts_upload() {
         final byte[] bytes = new byte[25];
         final String uploadId = UUID.randomUUID().toString();
         final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
@@ -207,13 +220,22 @@ public class S3OutputStreamTest {
         final RuntimeException mockException = mock(RuntimeException.class);
         final CompletableFuture<UploadPartResponse> uploadPartResponseCompletableFuture = CompletableFuture.failedFuture(mockException);
         when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(uploadPartResponseCompletableFuture);
+        when(s3Client.abortMultipartUpload(any(AbortMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(AbortMultipartUploadResponse.class)));
 
         final S3OutputStream s3OutputStream = createObjectUnderTest();
 
         s3OutputStream.write(bytes);
 
         final CompletableFuture<?> completableFuture = s3OutputStream.close(runOnCompletion, runOnError);
-        assertThat(completableFuture, equalTo(null));
+        assertThat(completableFuture, notNullValue());
+        assertThat(completableFuture.isCompletedExceptionally(), equalTo(true));
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+
+        final ArgumentCaptor<AbortMultipartUploadRequest> abortMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+        verify(s3Client).abortMultipartUpload(abortMultipartUploadRequestArgumentCaptor.capture());
+        assertThat(abortMultipartUploadRequestArgumentCaptor.getValue().bucket(), equalTo(bucket));
+        assertThat(abortMultipartUploadRequestArgumentCaptor.getValue().key(), equalTo(objectKey));
+        assertThat(abortMultipartUploadRequestArgumentCaptor.getValue().uploadId(), equalTo(uploadId));
 
         final ArgumentCaptor<CreateMultipartUploadRequest> createMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
         verify(s3Client).createMultipartUpload(createMultipartUploadRequestArgumentCaptor.capture());
@@ -242,4 +264,108 @@ public class S3OutputStreamTest {
         assertThat(exception, instanceOf(CompletionException.class));
         assertThat(exception.getCause(), equalTo(mockException));
     }
+
+    @Test
+    void write_uploads_full_parts_without_waiting_for_earlier_parts_and_completes_them_in_order() throws IOException {
+        final String uploadId = UUID.randomUUID().toString();
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(uploadId);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+
+        final List<CompletableFuture<UploadPartResponse>> uploadPartFutures = new ArrayList<>();
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenAnswer(invocation -> {
+            final CompletableFuture<UploadPartResponse> uploadPartFuture = new CompletableFuture<>();
+            uploadPartFutures.add(uploadPartFuture);
+            return uploadPartFuture;
+        });
+        when(s3Client.completeMultipartUpload(any(CompleteMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(mock(CompleteMultipartUploadResponse.class)));
+
+        final PartBufferPool partBufferPool = new PartBufferPool(S3OutputStream.DEFAULT_IN_FLIGHT_BYTE_BUDGET);
+        final S3OutputStream s3OutputStream = createObjectUnderTest(partBufferPool);
+
+        final int length = 2 * PartSizeTuner.MINIMUM_PART_SIZE + 25;
+        s3OutputStream.write(new byte[length]);
+
+        assertThat(uploadPartFutures.size(), equalTo(2));
+        assertThat(s3OutputStream.getPos(), equalTo((long) length));
+        assertThat(partBufferPool.getAvailableInFlightBytes(), equalTo(S3OutputStream.DEFAULT_IN_FLIGHT_BYTE_BUDGET - 2 * PartSizeTuner.MINIMUM_PART_SIZE));
+
+        final CompletableFuture<?> completableFuture = s3OutputStream.close(runOnCompletion, runOnError);
+        assertThat(completableFuture, notNullValue());
+        assertThat(completableFuture.isDone(), equalTo(false));
+        assertThat(uploadPartFutures.size(), equalTo(3));
+
+        final List<String> eTags = new ArrayList<>();
+        for (int i = 0; i < uploadPartFutures.size(); i++) {
+            eTags.add(UUID.randomUUID().toString());
+        }
+        for (int i = uploadPartFutures.size() - 1; i >= 0; i--) {
+            verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+            final UploadPartResponse uploadPartResponse = mock(UploadPartResponse.class);
+            when(uploadPartResponse.eTag()).thenReturn(eTags.get(i));
+            uploadPartFutures.get(i).complete(uploadPartResponse);
+        }
+
+        assertThat(completableFuture.isDone(), equalTo(true));
+        assertThat(completableFuture.isCompletedExceptionally(), equalTo(false));
+        assertThat(partBufferPool.getAvailableInFlightBytes(), equalTo(S3OutputStream.DEFAULT_IN_FLIGHT_BYTE_BUDGET));
+
+        final ArgumentCaptor<UploadPartRequest> uploadPartRequestArgumentCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(uploadPartRequestArgumentCaptor.capture(), any(AsyncRequestBody.class));
+        final List<UploadPartRequest> uploadPartRequests = uploadPartRequestArgumentCaptor.getAllValues();
+        assertThat(uploadPartRequests.get(0).partNumber(), equalTo(1));
+        assertThat(uploadPartRequests.get(0).contentLength(), equalTo((long) PartSizeTuner.MINIMUM_PART_SIZE));
+        assertThat(uploadPartRequests.get(1).partNumber(), equalTo(2));
+        assertThat(uploadPartRequests.get(1).contentLength(), equalTo((long) PartSizeTuner.MINIMUM_PART_SIZE));
+        assertThat(uploadPartRequests.get(2).partNumber(), equalTo(3));
+        assertThat(uploadPartRequests.get(2).contentLength(), equalTo(25L));
+
+        final ArgumentCaptor<CompleteMultipartUploadRequest> completeMultipartUploadRequestArgumentCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3Client).completeMultipartUpload(completeMultipartUploadRequestArgumentCaptor.capture());
+        final List<CompletedPart> completedParts = completeMultipartUploadRequestArgumentCaptor.getValue().multipartUpload().parts();
+        assertThat(completedParts.size(), equalTo(3));
+        for (int i = 0; i < completedParts.size(); i++) {
+            assertThat(completedParts.get(i).partNumber(), equalTo(i + 1));
+            assertThat(completedParts.get(i).eTag(), equalTo(eTags.get(i)));
+        }
+
+        verify(runOnCompletion).accept(true);
+    }
+
+    @Test
+    void write_after_a_part_upload_failed_throws() {
+        final CreateMultipartUploadResponse createMultipartUploadResponse = mock(CreateMultipartUploadResponse.class);
+        when(createMultipartUploadResponse.uploadId()).thenReturn(UUID.randomUUID().toString());
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.completedFuture(createMultipartUploadResponse));
+
+        final RuntimeException mockException = mock(RuntimeException.class);
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class))).thenReturn(CompletableFuture.failedFuture(mockException));
+
+        final S3OutputStream s3OutputStream = createObjectUnderTest();
+
+        s3OutputStream.write(new byte[PartSizeTuner.MINIMUM_PART_SIZE + 1]);
+
+        final CompletionException exception = assertThrows(CompletionException.class,
+                () -> s3OutputStream.write(new byte[PartSizeTuner.MINIMUM_PART_SIZE]));
+        assertThat(exception.getCause(), notNullValue());
+        verify(s3Client, times(1)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @Test
+    void close_when_create_multipart_upload_fails_returns_null() {
+        final RuntimeException mockException = mock(RuntimeException.class);
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class))).thenReturn(CompletableFuture.failedFuture(mockException));
+
+        final PartBufferPool partBufferPool = new PartBufferPool(S3OutputStream.DEFAULT_IN_FLIGHT_BYTE_BUDGET);
+        final S3OutputStream s3OutputStream = createObjectUnderTest(partBufferPool);
+
+        s3OutputStream.write(new byte[25]);
+
+        assertThat(s3OutputStream.close(runOnCompletion, runOnError), nullValue());
+
+        verify(runOnError).accept(any(CompletionException.class));
+        verify(runOnCompletion).accept(false);
+        verify(s3Client, never()).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(partBufferPool.getFreeBytes(), equalTo((long) PartSizeTuner.MINIMUM_PART_SIZE));
+    }
 }
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,7 @@ import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.BufferTypeOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.InMemoryBuffer;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateFlushPolicy;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AggregateThresholdOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.AwsAuthenticationOptions;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
@@ -49,6 +51,12 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -59,6 +67,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -70,6 +79,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.sink.s3.S3SinkService.NUMBER_OF_GROUPS_FORCE_FLUSHED;
+import static org.opensearch.dataprepper.plugins.sink.s3.S3SinkService.NUMBER_OF_GROUPS_SPILLED;
 
 class S3SinkServiceTest {
 
@@ -92,7 +102,9 @@ class S3SinkServiceTest {
     private Counter numberOfRecordsSuccessCounter;
 
     private Counter s3ObjectsForceFlushedCounter;
+    private Counter s3ObjectsSpilledCounter;
     private DistributionSummary s3ObjectSizeSummary;
+    private Timer s3ObjectUploadTimer;
     private Random random;
     private String tagsTargetKey;
     private AcknowledgementSet acknowledgementSet;
@@ -121,7 +133,9 @@ class S3SinkServiceTest {
         Counter snapshotFailedCounter = mock(Counter.class);
         Counter numberOfRecordsFailedCounter = mock(Counter.class);
         s3ObjectSizeSummary = mock(DistributionSummary.class);
+        s3ObjectUploadTimer = mock(Timer.class);
         s3ObjectsForceFlushedCounter = mock(Counter.class);
+        s3ObjectsSpilledCounter = mock(Counter.class);
 
         s3GroupManager = mock(S3GroupManager.class);
 
@@ -148,13 +162,15 @@ class S3SinkServiceTest {
         lenient().when(pluginMetrics.counter(S3SinkService.NUMBER_OF_RECORDS_FLUSHED_TO_S3_FAILED)).
                 thenReturn(numberOfRecordsFailedCounter);
         lenient().when(pluginMetrics.summary(S3SinkService.S3_OBJECTS_SIZE)).thenReturn(s3ObjectSizeSummary);
+        lenient().when(pluginMetrics.timer(S3SinkService.S3_OBJECT_UPLOAD_TIME)).thenReturn(s3ObjectUploadTimer);
 
         lenient().when(pluginMetrics.counter(NUMBER_OF_GROUPS_FORCE_FLUSHED)).thenReturn(s3ObjectsForceFlushedCounter);
+        lenient().when(pluginMetrics.counter(NUMBER_OF_GROUPS_SPILLED)).thenReturn(s3ObjectsSpilledCounter);
 
         final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
         when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(Integer.MAX_VALUE));
         when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
-        when(s3GroupManager.recalculateAndGetGroupSize()).thenReturn(100_000L);
+        when(s3GroupManager.getTotalGroupSize()).thenReturn(100_000L);
     }
 
     private DefaultEventHandle castToDefaultHandle(EventHandle eventHandle) {
@@ -215,6 +231,7 @@ class S3SinkServiceTest {
 
         // only ran one of the completion consumers
         verify(snapshotSuccessCounter, times(1)).increment();
+        verify(s3ObjectUploadTimer, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
         verify(numberOfRecordsSuccessCounter).increment(s3Group.getBuffer().getEventCount());
         verify(s3Group).releaseEventHandles(true);
     }
@@ -413,6 +430,7 @@ class S3SinkServiceTest {
         completionConsumer.accept(false);
 
         verify(s3ObjectSizeSummary, never()).record(anyLong());
+        verify(s3ObjectUploadTimer, never()).record(anyLong(), any(TimeUnit.class));
         verify(s3Group).releaseEventHandles(false);
     }
 
@@ -602,7 +620,7 @@ class S3SinkServiceTest {
         when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(bytesThreshold));
         when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
         when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
-        when(s3GroupManager.recalculateAndGetGroupSize()).thenReturn(bufferOneSize + bufferTwoSize + bufferThreeSize);
+        when(s3GroupManager.getTotalGroupSize()).thenReturn(bufferOneSize + bufferTwoSize + bufferThreeSize);
 
         when(s3SinkConfig.getThresholdOptions().getMaximumSize()).thenReturn(ByteCount.parse("1gb"));
 
@@ -636,7 +654,7 @@ class S3SinkServiceTest {
         when(s3GroupManager.getOrCreateGroupForEvent(thirdGroupEvent)).thenReturn(thirdGroup);
 
         when(s3GroupManager.getS3GroupEntries()).thenReturn(List.of(firstGroup, secondGroup, thirdGroup));
-        when(s3GroupManager.getS3GroupsSortedBySize()).thenReturn(List.of(thirdGroup, firstGroup, secondGroup));
+        when(s3GroupManager.getLargestGroup()).thenReturn(Optional.of(thirdGroup), Optional.of(firstGroup), Optional.of(secondGroup));
 
         doNothing().when(codec).start(any(OutputStream.class), any(Event.class), any(OutputCodecContext.class));
         doNothing().when(codec).writeEvent(any(Event.class), any(OutputStream.class));
@@ -665,6 +683,211 @@ class S3SinkServiceTest {
         verify(s3ObjectsForceFlushedCounter, times(2)).increment();
     }
 
+    @Test
+    void output_writes_to_different_groups_in_parallel() throws Exception {
+        final Event firstGroupEvent = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+        final S3Group firstGroup = mock(S3Group.class);
+        final OutputCodec firstCodec = mock(OutputCodec.class);
+        when(firstGroup.getBuffer()).thenReturn(mock(Buffer.class));
+        when(firstGroup.getOutputCodec()).thenReturn(firstCodec);
+        when(s3GroupManager.getOrCreateGroupForEvent(firstGroupEvent)).thenReturn(firstGroup);
+
+        final Event secondGroupEvent = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+        final S3Group secondGroup = mock(S3Group.class);
+        final OutputCodec secondCodec = mock(OutputCodec.class);
+        when(secondGroup.getBuffer()).thenReturn(mock(Buffer.class));
+        when(secondGroup.getOutputCodec()).thenReturn(secondCodec);
+        when(s3GroupManager.getOrCreateGroupForEvent(secondGroupEvent)).thenReturn(secondGroup);
+
+        final CountDownLatch firstGroupWriting = new CountDownLatch(1);
+        final CountDownLatch secondGroupWritten = new CountDownLatch(1);
+        final AtomicBoolean secondGroupWrittenDuringFirstWrite = new AtomicBoolean(false);
+        doAnswer(invocation -> {
+            firstGroupWriting.countDown();
+            secondGroupWrittenDuringFirstWrite.set(secondGroupWritten.await(10, TimeUnit.SECONDS));
+            return null;
+        }).when(firstCodec).writeEvent(eq(firstGroupEvent), any());
+        doAnswer(invocation -> {
+            secondGroupWritten.countDown();
+            return null;
+        }).when(secondCodec).writeEvent(eq(secondGroupEvent), any());
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> firstOutput = executorService.submit(() -> s3SinkService.output(List.of(new Record<>(firstGroupEvent))));
+            assertThat(firstGroupWriting.await(10, TimeUnit.SECONDS), equalTo(true));
+            final Future<?> secondOutput = executorService.submit(() -> s3SinkService.output(List.of(new Record<>(secondGroupEvent))));
+
+            secondOutput.get(10, TimeUnit.SECONDS);
+            firstOutput.get(10, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(secondGroupWrittenDuringFirstWrite.get(), equalTo(true));
+        verify(firstGroup).addEventHandle(firstGroupEvent.getEventHandle());
+        verify(secondGroup).addEventHandle(secondGroupEvent.getEventHandle());
+    }
+
+    @Test
+    void output_writes_to_the_replacing_group_when_the_group_was_closed_by_another_worker() throws IOException {
+        final Event event = JacksonEvent.fromMessage(UUID.randomUUID().toString());
+
+        final S3Group closedGroup = mock(S3Group.class);
+        when(closedGroup.isClosed()).thenReturn(true);
+
+        final S3Group replacingGroup = mock(S3Group.class);
+        final Buffer buffer = mock(Buffer.class);
+        final OutputStream outputStream = mock(OutputStream.class);
+        when(buffer.getOutputStream()).thenReturn(outputStream);
+        when(replacingGroup.getBuffer()).thenReturn(buffer);
+        when(replacingGroup.getOutputCodec()).thenReturn(codec);
+
+        when(s3GroupManager.getOrCreateGroupForEvent(event))
+                .thenReturn(closedGroup)
+                .thenReturn(replacingGroup);
+
+        createObjectUnderTest().output(List.of(new Record<>(event)));
+
+        verify(codec).writeEvent(event, outputStream);
+        verify(replacingGroup).addEventHandle(event.getEventHandle());
+        verify(closedGroup, never()).getBuffer();
+        verify(closedGroup, never()).addEventHandle(any(EventHandle.class));
+    }
+
+    @Test
+    void output_does_not_force_flush_groups_which_are_already_closed() throws IOException {
+        final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
+        when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(100L));
+        when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
+        when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
+        when(s3GroupManager.getTotalGroupSize()).thenReturn(1000L);
+
+        final S3Group closedGroup = mock(S3Group.class);
+        when(closedGroup.isClosed()).thenReturn(true);
+        when(s3GroupManager.getLargestGroup()).thenReturn(Optional.of(closedGroup), Optional.empty());
+
+        createObjectUnderTest().output(Collections.emptyList());
+
+        verify(closedGroup, never()).getBuffer();
+        verify(s3GroupManager, never()).removeGroup(any(S3Group.class));
+        verify(s3ObjectsForceFlushedCounter, never()).increment();
+    }
+
+    @Test
+    void output_updates_the_group_size_after_writing_to_a_group() throws IOException {
+        final S3Group s3Group = mock(S3Group.class);
+        when(s3Group.getBuffer()).thenReturn(mock(Buffer.class));
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+
+        createObjectUnderTest().output(generateLessRandomStringEventRecord());
+
+        verify(s3GroupManager).updateGroupSize(s3Group);
+    }
+
+    @Test
+    void output_writes_spilled_data_to_the_local_file_after_writing_to_a_group() throws IOException {
+        final S3Group s3Group = mock(S3Group.class);
+        final Buffer buffer = mock(Buffer.class);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(s3Group);
+
+        createObjectUnderTest().output(generateLessRandomStringEventRecord());
+
+        verify(buffer).writeSpilledDataToLocalFile();
+    }
+
+    @Test
+    void output_flushes_the_least_recently_written_groups_when_aggregate_threshold_is_reached_with_least_recently_written_first_policy() throws IOException {
+        final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
+        when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(1000L));
+        when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
+        when(aggregateThresholdOptions.getFlushPolicy()).thenReturn(AggregateFlushPolicy.LEAST_RECENTLY_WRITTEN_FIRST);
+        when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
+        when(s3GroupManager.getTotalGroupSize()).thenReturn(1200L);
+
+        final S3Group leastRecentlyWrittenGroup = mock(S3Group.class);
+        final Buffer leastRecentlyWrittenBuffer = mock(Buffer.class);
+        when(leastRecentlyWrittenBuffer.getSize()).thenReturn(300L);
+        when(leastRecentlyWrittenGroup.getBuffer()).thenReturn(leastRecentlyWrittenBuffer);
+        when(leastRecentlyWrittenGroup.getOutputCodec()).thenReturn(codec);
+
+        final S3Group nextLeastRecentlyWrittenGroup = mock(S3Group.class);
+        final Buffer nextLeastRecentlyWrittenBuffer = mock(Buffer.class);
+        when(nextLeastRecentlyWrittenBuffer.getSize()).thenReturn(500L);
+        when(nextLeastRecentlyWrittenGroup.getBuffer()).thenReturn(nextLeastRecentlyWrittenBuffer);
+        when(nextLeastRecentlyWrittenGroup.getOutputCodec()).thenReturn(codec);
+
+        when(s3GroupManager.getLeastRecentlyWrittenGroup())
+                .thenReturn(Optional.of(leastRecentlyWrittenGroup), Optional.of(nextLeastRecentlyWrittenGroup));
+
+        createObjectUnderTest().output(Collections.emptyList());
+
+        verify(leastRecentlyWrittenBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(nextLeastRecentlyWrittenBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(s3GroupManager).removeGroup(leastRecentlyWrittenGroup);
+        verify(s3GroupManager).removeGroup(nextLeastRecentlyWrittenGroup);
+        verify(s3GroupManager, never()).getLargestGroup();
+        verify(s3ObjectsForceFlushedCounter, times(2)).increment();
+    }
+
+    @Test
+    void output_spills_cold_groups_instead_of_flushing_when_aggregate_threshold_is_reached() throws IOException {
+        final Duration spillColdGroupsAfter = Duration.ofMinutes(1);
+        final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
+        when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(1000L));
+        when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
+        when(aggregateThresholdOptions.getSpillColdGroupsAfter()).thenReturn(spillColdGroupsAfter);
+        when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
+        when(s3GroupManager.getTotalGroupSize()).thenReturn(1000L);
+
+        final S3Group coldGroup = mock(S3Group.class);
+        final Buffer coldGroupBuffer = mock(Buffer.class);
+        when(coldGroupBuffer.getSize()).thenReturn(600L);
+        when(coldGroup.getBuffer()).thenReturn(coldGroupBuffer);
+        when(s3GroupManager.getLeastRecentlyWrittenGroup(spillColdGroupsAfter)).thenReturn(Optional.of(coldGroup));
+        when(s3GroupManager.spillToLocalFile(coldGroup)).thenReturn(true);
+
+        createObjectUnderTest().output(Collections.emptyList());
+
+        verify(s3GroupManager).spillToLocalFile(coldGroup);
+        verify(s3ObjectsSpilledCounter).increment();
+        verify(coldGroupBuffer, never()).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(s3GroupManager, never()).removeGroup(any(S3Group.class));
+        verify(s3GroupManager, never()).getLargestGroup();
+        verify(s3ObjectsForceFlushedCounter, never()).increment();
+    }
+
+    @Test
+    void output_flushes_groups_when_cold_groups_cannot_be_spilled() throws IOException {
+        final Duration spillColdGroupsAfter = Duration.ofMinutes(1);
+        final AggregateThresholdOptions aggregateThresholdOptions = mock(AggregateThresholdOptions.class);
+        when(aggregateThresholdOptions.getMaximumSize()).thenReturn(ByteCount.ofBytes(1000L));
+        when(aggregateThresholdOptions.getFlushCapacityRatio()).thenReturn(0.5);
+        when(aggregateThresholdOptions.getSpillColdGroupsAfter()).thenReturn(spillColdGroupsAfter);
+        when(s3SinkConfig.getAggregateThresholdOptions()).thenReturn(aggregateThresholdOptions);
+        when(s3GroupManager.getTotalGroupSize()).thenReturn(1000L);
+
+        final S3Group s3Group = mock(S3Group.class);
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getSize()).thenReturn(600L);
+        when(s3Group.getBuffer()).thenReturn(buffer);
+        when(s3Group.getOutputCodec()).thenReturn(codec);
+        when(s3GroupManager.getLeastRecentlyWrittenGroup(spillColdGroupsAfter)).thenReturn(Optional.of(s3Group));
+        when(s3GroupManager.spillToLocalFile(s3Group)).thenReturn(false);
+        when(s3GroupManager.getLargestGroup()).thenReturn(Optional.of(s3Group));
+
+        createObjectUnderTest().output(Collections.emptyList());
+
+        verify(s3ObjectsSpilledCounter, never()).increment();
+        verify(buffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(s3GroupManager).removeGroup(s3Group);
+        verify(s3ObjectsForceFlushedCounter).increment();
+    }
+
     private Collection<Record<Event>> generateRandomStringEventRecord() {
         return generateEventRecords(50);
     }
@@ -18,8 +18,10 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -35,6 +37,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -190,6 +193,99 @@ class InMemoryBufferTest {
     }
 
 
+    @Test
+    void spillToLocalFile_moves_data_to_a_file_and_keeps_accepting_data() throws IOException {
+        inMemoryBuffer = new InMemoryBuffer(s3Client, bucketSupplier, keySupplier, null, null, bucketOwnerProvider);
+        final OutputStream outputStream = inMemoryBuffer.getOutputStream();
+        outputStream.write(generateByteArray());
+
+        assertThat(inMemoryBuffer.spillToLocalFile(), equalTo(true));
+
+        outputStream.write(generateByteArray());
+        outputStream.flush();
+
+        final File spillFile = ((SpillablePositionOutputStream) outputStream).getSpillFile();
+        try {
+            assertThat(inMemoryBuffer.getOutputStream(), sameInstance(outputStream));
+            assertThat(inMemoryBuffer.getSize(), equalTo(2000L));
+            assertThat(((PositionOutputStream) outputStream).getPos(), equalTo(2000L));
+            assertThat(spillFile.length(), equalTo(2000L));
+            assertThat(inMemoryBuffer.spillToLocalFile(), equalTo(false));
+        } finally {
+            outputStream.close();
+            Files.deleteIfExists(spillFile.toPath());
+        }
+    }
+
+    @Test
+    void spillToLocalFile_writes_the_data_to_the_file_and_later_data_once_written_to_the_file() throws IOException {
+        inMemoryBuffer = new InMemoryBuffer(s3Client, bucketSupplier, keySupplier, null, null, bucketOwnerProvider);
+        final OutputStream outputStream = inMemoryBuffer.getOutputStream();
+        outputStream.write(generateByteArray());
+
+        inMemoryBuffer.spillToLocalFile();
+
+        final File spillFile = ((SpillablePositionOutputStream) outputStream).getSpillFile();
+        try {
+            assertThat(spillFile.length(), equalTo(1000L));
+
+            outputStream.write(generateByteArray());
+            assertThat(spillFile.length(), equalTo(1000L));
+
+            inMemoryBuffer.writeSpilledDataToLocalFile();
+            assertThat(spillFile.length(), equalTo(2000L));
+
+            outputStream.write(new byte[SpillablePositionOutputStream.SPILL_BUFFER_SIZE]);
+            assertThat(spillFile.length(), equalTo(2000L + SpillablePositionOutputStream.SPILL_BUFFER_SIZE));
+            assertThat(inMemoryBuffer.getSize(), equalTo(2000L + SpillablePositionOutputStream.SPILL_BUFFER_SIZE));
+        } finally {
+            Files.deleteIfExists(spillFile.toPath());
+        }
+    }
+
+    @Test
+    void writeSpilledDataToLocalFile_does_nothing_before_the_buffer_is_spilled() throws IOException {
+        inMemoryBuffer = new InMemoryBuffer(s3Client, bucketSupplier, keySupplier, null, null, bucketOwnerProvider);
+        inMemoryBuffer.getOutputStream().write(generateByteArray());
+
+        inMemoryBuffer.writeSpilledDataToLocalFile();
+
+        assertThat(((SpillablePositionOutputStream) inMemoryBuffer.getOutputStream()).isSpilled(), equalTo(false));
+        assertThat(inMemoryBuffer.getSize(), equalTo(1000L));
+    }
+
+    @Test
+    void flushToS3_after_spillToLocalFile_uploads_the_file_and_deletes_it_on_completion() throws IOException {
+        final String key = UUID.randomUUID().toString();
+        final String bucket = UUID.randomUUID().toString();
+        when(keySupplier.get()).thenReturn(key);
+        when(bucketSupplier.get()).thenReturn(bucket);
+
+        inMemoryBuffer = new InMemoryBuffer(s3Client, bucketSupplier, keySupplier, null, null, bucketOwnerProvider);
+        inMemoryBuffer.getOutputStream().write(generateByteArray());
+        inMemoryBuffer.spillToLocalFile();
+        final File spillFile = ((SpillablePositionOutputStream) inMemoryBuffer.getOutputStream()).getSpillFile();
+        assertThat(spillFile.exists(), equalTo(true));
+
+        final CompletableFuture<PutObjectResponse> uploadFuture = new CompletableFuture<>();
+
+        try (final MockedStatic<BufferUtilities> bufferUtilitiesMockedStatic = mockStatic(BufferUtilities.class)) {
+            bufferUtilitiesMockedStatic.when(() ->
+                            BufferUtilities.putObjectOrSendToDefaultBucket(eq(s3Client), any(AsyncRequestBody.class),
+                                    eq(mockRunOnCompletion), eq(mockRunOnFailure), eq(key), eq(bucket), eq(null), eq(null), eq(bucketOwnerProvider)))
+                    .thenReturn(uploadFuture);
+
+            final Optional<CompletableFuture<?>> result = inMemoryBuffer.flushToS3(mockRunOnCompletion, mockRunOnFailure);
+            assertThat(result.isPresent(), equalTo(true));
+            assertThat(spillFile.exists(), equalTo(true));
+
+            uploadFuture.complete(mock(PutObjectResponse.class));
+
+            assertThat(result.get().isDone(), equalTo(true));
+            assertThat(spillFile.exists(), equalTo(false));
+        }
+    }
+
     private byte[] generateByteArray() {
         byte[] bytes = new byte[1000];
         for (int i = 0; i < 1000; i++) {
@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.configuration;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class AggregateFlushPolicyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "largest_first, LARGEST_FIRST",
+            "least_recently_written_first, LEAST_RECENTLY_WRITTEN_FIRST"
+    })
+    void fromOptionValue_returns_expected_policy(final String option, final AggregateFlushPolicy expectedPolicy) {
+        assertThat(AggregateFlushPolicy.fromOptionValue(option), equalTo(expectedPolicy));
+    }
+}
@@ -18,7 +18,12 @@ import org.opensearch.dataprepper.plugins.sink.s3.codec.CodecFactory;
 import org.opensearch.dataprepper.plugins.sink.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.function.Function;
@@ -26,7 +31,9 @@ import java.util.function.Function;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -55,6 +62,8 @@ public class S3GroupManagerTest {
     @Mock
     private BucketOwnerProvider bucketOwnerProvider;
 
+    private List<Event> events;
+
     private S3GroupManager createObjectUnderTest() {
         return new S3GroupManager(s3SinkConfig, s3GroupIdentifierFactory, bufferFactory, codecFactory, s3Client,  bucketOwnerProvider);
     }
@@ -150,7 +159,7 @@ public class S3GroupManagerTest {
     }
 
     @Test
-    void recalculateAndGetGroupSize_returns_expected_size() {
+    void getTotalGroupSize_returns_sum_of_sizes_recorded_by_updateGroupSize() {
         long bufferSizeBase = 100;
         long bufferSizeTotal = 100 + 200 + 300;
 
@@ -186,17 +195,27 @@ public class S3GroupManagerTest {
 
         final S3GroupManager objectUnderTest = createObjectUnderTest();
 
-        objectUnderTest.getOrCreateGroupForEvent(event);
-        objectUnderTest.getOrCreateGroupForEvent(secondEvent);
-        objectUnderTest.getOrCreateGroupForEvent(thirdEvent);
+        final S3Group firstGroup = objectUnderTest.getOrCreateGroupForEvent(event);
+        final S3Group secondGroup = objectUnderTest.getOrCreateGroupForEvent(secondEvent);
+        final S3Group thirdGroup = objectUnderTest.getOrCreateGroupForEvent(thirdEvent);
 
-        final long totalGroupSize = objectUnderTest.recalculateAndGetGroupSize();
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(0L));
+
+        objectUnderTest.updateGroupSize(firstGroup);
+        objectUnderTest.updateGroupSize(secondGroup);
+        objectUnderTest.updateGroupSize(thirdGroup);
+
+        final long totalGroupSize = objectUnderTest.getTotalGroupSize();
 
         assertThat(totalGroupSize, equalTo(bufferSizeTotal));
+
+        objectUnderTest.removeGroup(secondGroup);
+
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(bufferSizeTotal - bufferSizeBase * 2));
     }
 
     @Test
-    void getGroupsOrderedBySize_returns_groups_in_expected_order() {
+    void getLargestGroup_returns_groups_in_expected_order() {
 
         long bufferSizeBase = 100;
 
@@ -245,17 +264,112 @@ public class S3GroupManagerTest {
         assertThat(secondGroup.getOutputCodec(), equalTo(secondOutputCodec));
         assertThat(thirdGroup.getOutputCodec(), equalTo(thirdOutputCodec));
 
-        final Collection<S3Group> sortedGroups = objectUnderTest.getS3GroupsSortedBySize();
+        objectUnderTest.updateGroupSize(firstGroup);
+        objectUnderTest.updateGroupSize(secondGroup);
+        objectUnderTest.updateGroupSize(thirdGroup);
+
+        assertThat(objectUnderTest.getLargestGroup(), equalTo(Optional.of(thirdGroup)));
 
-        assertThat(sortedGroups.size(), equalTo(3));
-        assertThat(sortedGroups, contains(thirdGroup, secondGroup, firstGroup));
+        objectUnderTest.removeGroup(thirdGroup);
+
+        assertThat(objectUnderTest.getNumberOfGroups(), equalTo(2));
+        assertThat(objectUnderTest.getLargestGroup(), equalTo(Optional.of(secondGroup)));
 
         objectUnderTest.removeGroup(secondGroup);
 
-        final Collection<S3Group> sortedGroupsAfterRemoval = objectUnderTest.getS3GroupsSortedBySize();
+        assertThat(objectUnderTest.getNumberOfGroups(), equalTo(1));
+        assertThat(objectUnderTest.getLargestGroup(), equalTo(Optional.of(firstGroup)));
+    }
+
+    @Test
+    void removeGroup_does_not_remove_the_group_which_replaced_it() {
+        final Event event = mock(Event.class);
+        final S3GroupIdentifier s3GroupIdentifier = mock(S3GroupIdentifier.class);
+        when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event)).thenReturn(s3GroupIdentifier);
 
-        assertThat(sortedGroupsAfterRemoval.size(), equalTo(2));
-        assertThat(objectUnderTest.getNumberOfGroups(), equalTo(2));
-        assertThat(sortedGroupsAfterRemoval, contains(thirdGroup, firstGroup));
+        final String defaultBucket = UUID.randomUUID().toString();
+        when(s3SinkConfig.getDefaultBucket()).thenReturn(defaultBucket);
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), eq(defaultBucket), any(Function.class), eq(bucketOwnerProvider)))
+                .thenReturn(mock(Buffer.class)).thenReturn(mock(Buffer.class));
+        when(codecFactory.provideCodec()).thenReturn(mock(OutputCodec.class));
+
+        final S3GroupManager objectUnderTest = createObjectUnderTest();
+
+        final S3Group firstGroup = objectUnderTest.getOrCreateGroupForEvent(event);
+        objectUnderTest.removeGroup(firstGroup);
+        final S3Group replacingGroup = objectUnderTest.getOrCreateGroupForEvent(event);
+
+        objectUnderTest.removeGroup(firstGroup);
+
+        assertThat(replacingGroup, not(sameInstance(firstGroup)));
+        assertThat(objectUnderTest.getS3GroupEntries(), contains(replacingGroup));
+    }
+
+    @Test
+    void getLeastRecentlyWrittenGroup_returns_the_group_which_was_updated_least_recently() throws InterruptedException {
+        final S3GroupManager objectUnderTest = createObjectUnderTestWithGroups(2);
+        final S3Group firstGroup = objectUnderTest.getOrCreateGroupForEvent(events.get(0));
+        final S3Group secondGroup = objectUnderTest.getOrCreateGroupForEvent(events.get(1));
+
+        objectUnderTest.updateGroupSize(secondGroup);
+        Thread.sleep(2);
+        objectUnderTest.updateGroupSize(firstGroup);
+
+        assertThat(objectUnderTest.getLeastRecentlyWrittenGroup(), equalTo(Optional.of(secondGroup)));
+        assertThat(objectUnderTest.getLeastRecentlyWrittenGroup(Duration.ZERO), equalTo(Optional.of(secondGroup)));
+        assertThat(objectUnderTest.getLeastRecentlyWrittenGroup(Duration.ofHours(1)), equalTo(Optional.empty()));
+
+        Thread.sleep(2);
+        objectUnderTest.updateGroupSize(secondGroup);
+
+        assertThat(objectUnderTest.getLeastRecentlyWrittenGroup(), equalTo(Optional.of(firstGroup)));
+    }
+
+    @Test
+    void spillToLocalFile_removes_the_group_from_the_total_size_when_the_buffer_was_spilled() throws IOException {
+        final S3GroupManager objectUnderTest = createObjectUnderTestWithGroups(1);
+        final S3Group s3Group = objectUnderTest.getOrCreateGroupForEvent(events.get(0));
+        when(s3Group.getBuffer().getSize()).thenReturn(100L);
+        when(s3Group.getBuffer().spillToLocalFile()).thenReturn(true);
+        objectUnderTest.updateGroupSize(s3Group);
+
+        assertThat(objectUnderTest.spillToLocalFile(s3Group), equalTo(true));
+
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(0L));
+        assertThat(objectUnderTest.getLargestGroup(), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.getS3GroupEntries(), contains(s3Group));
+
+        objectUnderTest.updateGroupSize(s3Group);
+
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(0L));
+    }
+
+    @Test
+    void spillToLocalFile_keeps_the_group_in_the_total_size_when_the_buffer_cannot_be_spilled() throws IOException {
+        final S3GroupManager objectUnderTest = createObjectUnderTestWithGroups(1);
+        final S3Group s3Group = objectUnderTest.getOrCreateGroupForEvent(events.get(0));
+        when(s3Group.getBuffer().getSize()).thenReturn(100L);
+        objectUnderTest.updateGroupSize(s3Group);
+
+        assertThat(objectUnderTest.spillToLocalFile(s3Group), equalTo(false));
+
+        assertThat(objectUnderTest.getTotalGroupSize(), equalTo(100L));
+        assertThat(objectUnderTest.getLargestGroup(), equalTo(Optional.of(s3Group)));
+    }
+
+    private S3GroupManager createObjectUnderTestWithGroups(final int numberOfGroups) {
+        final String defaultBucket = UUID.randomUUID().toString();
+        when(s3SinkConfig.getDefaultBucket()).thenReturn(defaultBucket);
+        when(codecFactory.provideCodec()).thenReturn(mock(OutputCodec.class));
+        when(bufferFactory.getBuffer(eq(s3Client), any(Supplier.class), any(Supplier.class), eq(defaultBucket), any(Function.class), eq(bucketOwnerProvider)))
+                .thenAnswer(invocation -> mock(Buffer.class));
+
+        events = new ArrayList<>();
+        for (int i = 0; i < numberOfGroups; i++) {
+            final Event event = mock(Event.class);
+            when(s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event)).thenReturn(mock(S3GroupIdentifier.class));
+            events.add(event);
+        }
+        return createObjectUnderTest();
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.s3.grouping;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.codec.OutputCodec;
+import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+
+class S3GroupSizeIndexTest {
+
+    private S3GroupSizeIndex objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new S3GroupSizeIndex();
+    }
+
+    @Test
+    void empty_index_has_no_groups() {
+        assertThat(objectUnderTest.peekLargest(), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.peekLeastRecentlyWritten(), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.getTotalSize(), equalTo(0L));
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void peek_returns_largest_and_least_recently_written_groups() {
+        final S3Group small = createGroup();
+        final S3Group large = createGroup();
+        final S3Group medium = createGroup();
+
+        objectUnderTest.add(small, 10, 3);
+        objectUnderTest.add(large, 1000, 1);
+        objectUnderTest.add(medium, 100, 2);
+
+        assertThat(objectUnderTest.peekLargest(), equalTo(Optional.of(large)));
+        assertThat(objectUnderTest.peekLeastRecentlyWritten(), equalTo(Optional.of(large)));
+        assertThat(objectUnderTest.getTotalSize(), equalTo(1110L));
+
+        objectUnderTest.update(large, 1, 4);
+
+        assertThat(objectUnderTest.peekLargest(), equalTo(Optional.of(medium)));
+        assertThat(objectUnderTest.peekLeastRecentlyWritten(), equalTo(Optional.of(medium)));
+        assertThat(objectUnderTest.getTotalSize(), equalTo(111L));
+    }
+
+    @Test
+    void peekLeastRecentlyWrittenBefore_only_returns_groups_written_no_later_than_the_given_time() {
+        final S3Group s3Group = createGroup();
+        objectUnderTest.add(s3Group, 10, 100);
+
+        assertThat(objectUnderTest.peekLeastRecentlyWrittenBefore(99), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.peekLeastRecentlyWrittenBefore(100), equalTo(Optional.of(s3Group)));
+        assertThat(objectUnderTest.peekLeastRecentlyWrittenBefore(101), equalTo(Optional.of(s3Group)));
+    }
+
+    @Test
+    void update_and_remove_ignore_groups_which_are_not_in_the_index() {
+        final S3Group s3Group = createGroup();
+        objectUnderTest.add(s3Group, 10, 1);
+        objectUnderTest.remove(s3Group);
+
+        objectUnderTest.update(s3Group, 100, 2);
+        objectUnderTest.remove(s3Group);
+
+        assertThat(objectUnderTest.contains(s3Group), equalTo(false));
+        assertThat(objectUnderTest.getTotalSize(), equalTo(0L));
+        assertThat(objectUnderTest.peekLargest(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void add_ignores_groups_which_are_already_in_the_index() {
+        final S3Group s3Group = createGroup();
+        objectUnderTest.add(s3Group, 10, 1);
+        objectUnderTest.add(s3Group, 100, 2);
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(objectUnderTest.getTotalSize(), equalTo(10L));
+    }
+
+    @Test
+    void random_operations_keep_the_index_consistent() {
+        final Random random = new Random(42);
+        final List<S3Group> groupsInIndex = new ArrayList<>();
+        long writeNanos = 0;
+
+        for (int i = 0; i < 5000; i++) {
+            final int operation = random.nextInt(3);
+            if (operation == 0 || groupsInIndex.isEmpty()) {
+                final S3Group s3Group = createGroup();
+                objectUnderTest.add(s3Group, random.nextInt(10_000), ++writeNanos);
+                groupsInIndex.add(s3Group);
+            } else if (operation == 1) {
+                final S3Group s3Group = groupsInIndex.get(random.nextInt(groupsInIndex.size()));
+                objectUnderTest.update(s3Group, random.nextInt(10_000), ++writeNanos);
+            } else {
+                final S3Group s3Group = groupsInIndex.remove(random.nextInt(groupsInIndex.size()));
+                objectUnderTest.remove(s3Group);
+            }
+
+            assertThat(objectUnderTest.size(), equalTo(groupsInIndex.size()));
+            assertThat(objectUnderTest.getTotalSize(), equalTo(groupsInIndex.stream().mapToLong(s3Group -> s3Group.indexedSize).sum()));
+            assertThat(objectUnderTest.peekLargest().map(s3Group -> s3Group.indexedSize),
+                    equalTo(groupsInIndex.stream().map(s3Group -> s3Group.indexedSize).max(Comparator.naturalOrder())));
+            assertThat(objectUnderTest.peekLeastRecentlyWritten(),
+                    equalTo(groupsInIndex.stream().min(Comparator.comparingLong(s3Group -> s3Group.lastWriteNanos))));
+        }
+    }
+
+    private static S3Group createGroup() {
+        return new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
+    }
+}
@@ -14,7 +14,6 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
-import static org.mockito.Mockito.when;
 
 public class S3GroupTest {
 
@@ -39,22 +38,13 @@ public class S3GroupTest {
     }
 
     @Test
-    void comparingS3GroupsReturns_expected_result_based_on_buffer_size() {
-        final Buffer smallBuffer = mock(Buffer.class);
-        when(smallBuffer.getSize()).thenReturn(100L);
+    void markClosed_closes_the_group() {
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
 
-        final Buffer largeBuffer = mock(Buffer.class);
-        when(largeBuffer.getSize()).thenReturn(1000L);
+        assertThat(objectUnderTest.isClosed(), equalTo(false));
 
-        final Buffer equalBuffer = mock(Buffer.class);
-        when(equalBuffer.getSize()).thenReturn(1000L);
+        objectUnderTest.markClosed();
 
-        final S3Group smallGroup = new S3Group(mock(S3GroupIdentifier.class), smallBuffer, mock(OutputCodec.class));
-        final S3Group largeGroup = new S3Group(mock(S3GroupIdentifier.class), largeBuffer, mock(OutputCodec.class));
-        final S3Group anotherLargeGroup = new S3Group(mock(S3GroupIdentifier.class), equalBuffer, mock(OutputCodec.class));
-
-        assertThat(smallGroup.compareTo(largeGroup), equalTo(-1));
-        assertThat(largeGroup.compareTo(smallGroup), equalTo(1));
-        assertThat(largeGroup.compareTo(anotherLargeGroup), equalTo(0));
+        assertThat(objectUnderTest.isClosed(), equalTo(true));
     }
 }
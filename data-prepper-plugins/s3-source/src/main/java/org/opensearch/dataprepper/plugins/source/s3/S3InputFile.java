@@ -2,6 +2,7 @@ package org.opensearch.dataprepper.plugins.source.s3;
 
 import org.apache.parquet.io.SeekableInputStream;
 import org.opensearch.dataprepper.model.io.InputFile;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ParallelReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
@@ -9,6 +10,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.ExecutorService;
 
 public class S3InputFile implements InputFile {
 
@@ -23,6 +25,10 @@ public class S3InputFile implements InputFile {
     private final BucketOwnerProvider bucketOwnerProvider;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
 
+    private final ParallelReadOptions parallelReadOptions;
+
+    private final ExecutorService parallelReadExecutorService;
+
     private HeadObjectResponse metadata;
 
     public S3InputFile(
@@ -30,11 +36,29 @@ public class S3InputFile implements InputFile {
             final S3ObjectReference s3ObjectReference,
             final BucketOwnerProvider bucketOwnerProvider,
             final S3ObjectPluginMetrics s3ObjectPluginMetrics
+    ) {
+        this(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics, null, null);
+    }
+
+    /**
+     * @param parallelReadOptions the options for reading large objects as parallel byte ranges, or null to always
+     *                            read objects with a single request
+     * @param parallelReadExecutorService the executor which fetches the byte ranges when reading in parallel
+     */
+    public S3InputFile(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final ParallelReadOptions parallelReadOptions,
+            final ExecutorService parallelReadExecutorService
     ) {
         this.s3Client = s3Client;
         this.s3ObjectReference = s3ObjectReference;
         this.bucketOwnerProvider = bucketOwnerProvider;
         this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+        this.parallelReadOptions = parallelReadOptions;
+        this.parallelReadExecutorService = parallelReadExecutorService;
     }
 
     public S3ObjectReference getObjectReference() {
@@ -61,11 +85,18 @@ public class S3InputFile implements InputFile {
     }
 
     /**
-     * Create an input stream from the input file
+     * Create an input stream from the input file. Objects of at least the minimum size for parallel reads, if
+     * configured, are read as byte ranges fetched in parallel.
      * @return an implementation of a SeekableInputStream into the S3 object.
      */
     @Override
     public SeekableInputStream newStream() {
+        if (parallelReadOptions != null && getLength() >= parallelReadOptions.getMinimumObjectSize().getBytes()) {
+            return new S3ParallelRangeInputStream(
+                s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, parallelReadExecutorService,
+                (int) parallelReadOptions.getPartSize().getBytes(), parallelReadOptions.getPartsInFlight(), parallelReadOptions.getCachedParts(),
+                DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
+        }
         return new S3InputStream(
             s3Client, s3ObjectReference, bucketOwnerProvider, getMetadata(), s3ObjectPluginMetrics, DEFAULT_RETRY_DELAY, DEFAULT_RETRIES);
     }
@@ -36,4 +36,10 @@ public interface S3ObjectHandler {
      */
     void deleteS3Object(final S3ObjectReference s3ObjectReference);
 
+    /**
+     * Releases the resources of the handler once no more objects are processed
+     */
+    default void stop() {
+    }
+
 }
@@ -20,6 +20,10 @@ public class S3ObjectPluginMetrics {
     static final String S3_OBJECTS_TIME_ELAPSED_METRIC_NAME = "s3ObjectReadTimeElapsed";
     static final String S3_OBJECTS_SIZE = "s3ObjectSizeBytes";
     static final String S3_OBJECTS_NO_RECORDS_FOUND = "s3ObjectNoRecordsFound";
+    static final String S3_OBJECT_PART_READ_TIME_ELAPSED_METRIC_NAME = "s3ObjectPartReadTimeElapsed";
+    static final String S3_OBJECT_PART_SIZE = "s3ObjectPartSizeBytes";
+    static final String S3_OBJECT_PART_CACHE_HITS = "s3ObjectPartCacheHits";
+    static final String S3_OBJECT_PART_CACHE_MISSES = "s3ObjectPartCacheMisses";
     private final Counter s3ObjectsFailedCounter;
     private final Counter s3ObjectsFailedNotFoundCounter;
     private final Counter s3ObjectsFailedAccessDeniedCounter;
@@ -31,6 +35,10 @@ public class S3ObjectPluginMetrics {
     private final Counter s3ObjectNoRecordsFound;
 
     private final Counter s3ObjectsDeleteFailed;
+    private final Timer s3ObjectPartReadTimer;
+    private final DistributionSummary s3ObjectPartSizeSummary;
+    private final Counter s3ObjectPartCacheHitsCounter;
+    private final Counter s3ObjectPartCacheMissesCounter;
 
     public S3ObjectPluginMetrics(final PluginMetrics pluginMetrics){
         s3ObjectsFailedCounter = pluginMetrics.counter(S3_OBJECTS_FAILED_METRIC_NAME);
@@ -43,6 +51,10 @@ public class S3ObjectPluginMetrics {
         s3ObjectEventsSummary = pluginMetrics.summary(S3_OBJECTS_EVENTS);
         s3ObjectNoRecordsFound = pluginMetrics.counter(S3_OBJECTS_NO_RECORDS_FOUND);
         s3ObjectsDeleteFailed = pluginMetrics.counter(S3_OBJECTS_DELETE_FAILED_METRIC_NAME);
+        s3ObjectPartReadTimer = pluginMetrics.timer(S3_OBJECT_PART_READ_TIME_ELAPSED_METRIC_NAME);
+        s3ObjectPartSizeSummary = pluginMetrics.summary(S3_OBJECT_PART_SIZE);
+        s3ObjectPartCacheHitsCounter = pluginMetrics.counter(S3_OBJECT_PART_CACHE_HITS);
+        s3ObjectPartCacheMissesCounter = pluginMetrics.counter(S3_OBJECT_PART_CACHE_MISSES);
     }
 
     public Counter getS3ObjectsFailedCounter() {
@@ -81,4 +93,20 @@ public class S3ObjectPluginMetrics {
     }
 
     public Counter getS3ObjectsDeleteFailed() { return s3ObjectsDeleteFailed; }
+
+    public Timer getS3ObjectPartReadTimer() {
+        return s3ObjectPartReadTimer;
+    }
+
+    public DistributionSummary getS3ObjectPartSizeSummary() {
+        return s3ObjectPartSizeSummary;
+    }
+
+    public Counter getS3ObjectPartCacheHitsCounter() {
+        return s3ObjectPartCacheHitsCounter;
+    }
+
+    public Counter getS3ObjectPartCacheMissesCounter() {
+        return s3ObjectPartCacheMissesCounter;
+    }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.model.codec.InputCodec;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ParallelReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectCSVOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectJsonOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectSerializationFormatOption;
@@ -38,6 +39,7 @@ public class S3ObjectRequest {
     private final S3SelectCSVOption s3SelectCSVOption;
     private final S3SelectJsonOption s3SelectJsonOption;
     private final String expressionType;
+    private final ParallelReadOptions parallelReadOptions;
 
 
     private S3ObjectRequest(Builder builder) {
@@ -59,6 +61,7 @@ public class S3ObjectRequest {
         this.s3SelectCSVOption = builder.s3SelectCSVOption;
         this.s3SelectJsonOption = builder.s3SelectJsonOption;
         this.expressionType = builder.expressionType;
+        this.parallelReadOptions = builder.parallelReadOptions;
     }
 
     public Buffer<Record<Event>> getBuffer() {
@@ -129,6 +132,10 @@ public class S3ObjectRequest {
         return expressionType;
     }
 
+    public ParallelReadOptions getParallelReadOptions() {
+        return parallelReadOptions;
+    }
+
     public static class Builder {
         private final Buffer<Record<Event>> buffer;
         private final int numberOfRecordsToAccumulate;
@@ -147,6 +154,7 @@ public class S3ObjectRequest {
         private S3SelectCSVOption s3SelectCSVOption;
         private S3SelectJsonOption s3SelectJsonOption;
         private String expressionType;
+        private ParallelReadOptions parallelReadOptions;
 
         public Builder(final Buffer<Record<Event>> buffer,
                        final int numberOfRecordsToAccumulate,
@@ -226,5 +234,10 @@ public class S3ObjectRequest {
             return this;
         }
 
+        public Builder parallelReadOptions(ParallelReadOptions parallelReadOptions) {
+            this.parallelReadOptions = parallelReadOptions;
+            return this;
+        }
+
     }
 }
\ No newline at end of file
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.s3;
 
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.codec.InputCodec;
@@ -16,6 +17,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ParallelReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3DataSelection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +31,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
@@ -58,6 +62,8 @@ class S3ObjectWorker implements S3ObjectHandler {
     private final int numberOfRecordsToAccumulate;
     private final BiConsumer<Event, S3ObjectReference> eventConsumer;
     private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final ParallelReadOptions parallelReadOptions;
+    private final ExecutorService parallelReadExecutorService;
     private Instant lastModified;
 
     public S3ObjectWorker(final S3ObjectRequest s3ObjectRequest) {
@@ -71,6 +77,21 @@ class S3ObjectWorker implements S3ObjectHandler {
         this.s3Client = s3ObjectRequest.getS3Client();
         this.lastModified = Instant.now();
         this.s3ObjectPluginMetrics = s3ObjectRequest.getS3ObjectPluginMetrics();
+        this.parallelReadOptions = s3ObjectRequest.getParallelReadOptions();
+        // Shared by all objects which this worker reads, each of which has at most parts_in_flight ranges requested at a time
+        this.parallelReadExecutorService = parallelReadOptions != null ?
+                Executors.newCachedThreadPool(BackgroundThreadFactory.defaultExecutorThreadFactory("s3-source-parallel-read")) : null;
+    }
+
+    @Override
+    public void stop() {
+        if (parallelReadExecutorService != null) {
+            parallelReadExecutorService.shutdownNow();
+        }
+    }
+
+    ExecutorService getParallelReadExecutorService() {
+        return parallelReadExecutorService;
     }
 
     public void processS3Object(final S3ObjectReference s3ObjectReference,
@@ -174,7 +195,8 @@ class S3ObjectWorker implements S3ObjectHandler {
         LOG.info("Read S3 object: {}", s3ObjectReference);
         AtomicLong lastCheckpointTime = new AtomicLong(System.currentTimeMillis());
 
-        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics);
+        final S3InputFile inputFile = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider, s3ObjectPluginMetrics,
+                parallelReadOptions, parallelReadExecutorService);
 
         final AtomicInteger saveStateCounter = new AtomicInteger();
         try {
@@ -0,0 +1,368 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import com.google.common.base.Preconditions;
+import dev.failsafe.Failsafe;
+import dev.failsafe.FailsafeException;
+import dev.failsafe.RetryPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.apache.parquet.io.SeekableInputStream;
+import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A {@link SeekableInputStream} over an S3 object which fetches the object as fixed-size byte ranges in parallel.
+ * <p>
+ * The object is divided into parts of the part size, aligned to the start of the object. Whenever the reader moves to
+ * a part, the parts following it are requested ahead of the reader, up to a fixed number at a time. The reader, such
+ * as a codec parsing the object, sees the same sequence of bytes as with {@link S3InputStream}, so compressed objects
+ * and records which cross a part boundary are read as before, while the object is downloaded over several connections.
+ * Every range request is conditional on the ETag of the object, so that a part is never read from a different version
+ * of the object than the ones before it.
+ * <p>
+ * A number of recently read parts are kept in addition to the parts ahead of the reader, and the least recently used
+ * are dropped first. Seeking back to a kept part, such as to the footer of a Parquet file after reading its last
+ * bytes, does not request it again. This class is not thread-safe.
+ */
+class S3ParallelRangeInputStream extends SeekableInputStream {
+    private static final Logger LOG = LoggerFactory.getLogger(S3ParallelRangeInputStream.class);
+
+    private final S3Client s3Client;
+    private final S3ObjectReference s3ObjectReference;
+    private final Optional<String> bucketOwner;
+    private final String eTag;
+    private final long contentLength;
+    private final S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private final ExecutorService executorService;
+    private final int partSize;
+    private final int partsInFlight;
+    private final int maximumParts;
+    private final RetryPolicy<byte[]> retryPolicy;
+    private final Timer partReadTimer;
+    private final DistributionSummary partSizeSummary;
+    private final Counter partCacheHitsCounter;
+    private final Counter partCacheMissesCounter;
+
+    /**
+     * The requested parts by index, from least to most recently used.
+     */
+    private final LinkedHashMap<Long, Future<byte[]>> parts = new LinkedHashMap<>(16, 0.75f, true);
+
+    private byte[] currentPart;
+    private long currentPartStart;
+    private int currentOffset;
+
+    private long pos = 0;
+    private long bytesRead = 0;
+    private boolean closed = false;
+
+    S3ParallelRangeInputStream(
+            final S3Client s3Client,
+            final S3ObjectReference s3ObjectReference,
+            final BucketOwnerProvider bucketOwnerProvider,
+            final HeadObjectResponse metadata,
+            final S3ObjectPluginMetrics s3ObjectPluginMetrics,
+            final ExecutorService executorService,
+            final int partSize,
+            final int partsInFlight,
+            final int cachedParts,
+            final Duration retryDelay,
+            final int retries
+    ) {
+        Preconditions.checkArgument(partSize > 0, "partSize must be positive: %s", partSize);
+        Preconditions.checkArgument(partsInFlight > 0, "partsInFlight must be positive: %s", partsInFlight);
+        Preconditions.checkArgument(cachedParts >= 0, "cachedParts must not be negative: %s", cachedParts);
+        this.s3Client = s3Client;
+        this.s3ObjectReference = s3ObjectReference;
+        this.bucketOwner = bucketOwnerProvider.getBucketOwner(s3ObjectReference.getBucketName());
+        this.eTag = metadata.eTag();
+        this.contentLength = metadata.contentLength();
+        this.s3ObjectPluginMetrics = s3ObjectPluginMetrics;
+        this.executorService = Objects.requireNonNull(executorService);
+        this.partSize = partSize;
+        this.partsInFlight = partsInFlight;
+        this.maximumParts = 1 + partsInFlight + cachedParts;
+        this.partReadTimer = s3ObjectPluginMetrics.getS3ObjectPartReadTimer();
+        this.partSizeSummary = s3ObjectPluginMetrics.getS3ObjectPartSizeSummary();
+        this.partCacheHitsCounter = s3ObjectPluginMetrics.getS3ObjectPartCacheHitsCounter();
+        this.partCacheMissesCounter = s3ObjectPluginMetrics.getS3ObjectPartCacheMissesCounter();
+
+        this.retryPolicy = RetryPolicy.<byte[]>builder()
+                .handle(S3InputStream.RETRYABLE_EXCEPTIONS)
+                .withDelay(retryDelay)
+                .withMaxRetries(retries)
+                .build();
+    }
+
+    @Override
+    public int available() {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        return currentPart == null ? 0 : currentPart.length - currentOffset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (final Future<byte[]> part : parts.values()) {
+            part.cancel(true);
+        }
+        parts.clear();
+        currentPart = null;
+        s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary().record(bytesRead);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureCurrentPart()) {
+            return -1;
+        }
+        final int value = currentPart[currentOffset] & 0xFF;
+        advance(1);
+        return value;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int off, final int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, bytes.length);
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureCurrentPart()) {
+            return -1;
+        }
+        final int length = Math.min(len, currentPart.length - currentOffset);
+        System.arraycopy(currentPart, currentOffset, bytes, off, length);
+        advance(length);
+        return length;
+    }
+
+    @Override
+    public long skip(final long n) {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        if (n <= 0 || pos >= contentLength) {
+            return 0;
+        }
+        final long toSkip = Math.min(n, contentLength - pos);
+        seek(pos + toSkip);
+        return toSkip;
+    }
+
+    @Override
+    public long getPos() {
+        return pos;
+    }
+
+    /**
+     * Seek the specified offset into the input stream. Parts which have already been requested are kept, so seeking
+     * does not request anything until the next read.
+     *
+     * @param newPos the new position to seek to
+     */
+    @Override
+    public void seek(final long newPos) {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        Preconditions.checkArgument(newPos >= 0, "position is negative: %s", newPos);
+
+        if (currentPart != null && newPos >= currentPartStart && newPos < currentPartStart + currentPart.length) {
+            currentOffset = (int) (newPos - currentPartStart);
+        } else {
+            currentPart = null;
+        }
+        pos = newPos;
+    }
+
+    @Override
+    public void readFully(final byte[] bytes) throws IOException {
+        readFully(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public void readFully(final byte[] bytes, final int start, final int len) throws IOException {
+        int offset = start;
+        int remaining = len;
+        while (remaining > 0) {
+            final int length = read(bytes, offset, remaining);
+            if (length < 0) {
+                throw new EOFException("Reached the end of stream with " + remaining + " bytes left to read");
+            }
+            offset += length;
+            remaining -= length;
+        }
+    }
+
+    @Override
+    public int read(final ByteBuffer buf) throws IOException {
+        if (!buf.hasRemaining()) {
+            return 0;
+        }
+        if (!ensureCurrentPart()) {
+            return -1;
+        }
+        final int length = Math.min(buf.remaining(), currentPart.length - currentOffset);
+        buf.put(currentPart, currentOffset, length);
+        advance(length);
+        return length;
+    }
+
+    @Override
+    public void readFully(final ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (read(buf) < 0) {
+                throw new EOFException("Reached the end of stream with " + buf.remaining() + " bytes left to read");
+            }
+        }
+    }
+
+    private void advance(final int length) {
+        currentOffset += length;
+        pos += length;
+        bytesRead += length;
+    }
+
+    /**
+     * Makes the part containing the current position the current part, waiting for it if it has not been fetched.
+     *
+     * @return false if the current position is at or after the end of the object
+     */
+    private boolean ensureCurrentPart() throws IOException {
+        Preconditions.checkState(!closed, "Cannot read: already closed");
+        if (currentPart != null && currentOffset < currentPart.length) {
+            return true;
+        }
+        if (pos >= contentLength) {
+            return false;
+        }
+
+        final long partIndex = pos / partSize;
+        Future<byte[]> part = parts.get(partIndex);
+        if (part != null) {
+            partCacheHitsCounter.increment();
+        } else {
+            partCacheMissesCounter.increment();
+            part = requestPart(partIndex);
+        }
+        final long lastPartIndex = (contentLength - 1) / partSize;
+        for (long nextPartIndex = partIndex + 1; nextPartIndex <= Math.min(partIndex + partsInFlight, lastPartIndex); nextPartIndex++) {
+            if (parts.get(nextPartIndex) == null) {
+                requestPart(nextPartIndex);
+            }
+        }
+        evictParts(partIndex);
+
+        currentPart = awaitPart(partIndex, part);
+        currentPartStart = partIndex * partSize;
+        currentOffset = (int) (pos - currentPartStart);
+        return true;
+    }
+
+    private Future<byte[]> requestPart(final long partIndex) {
+        final long start = partIndex * partSize;
+        final long end = Math.min(start + partSize, contentLength);
+        final Future<byte[]> part = executorService.submit(() -> fetchPart(start, end));
+        parts.put(partIndex, part);
+        return part;
+    }
+
+    /**
+     * Drops the least recently used parts, other than the current part and the parts ahead of it, until no more than
+     * the maximum number of parts are kept.
+     */
+    private void evictParts(final long currentPartIndex) {
+        final Iterator<Map.Entry<Long, Future<byte[]>>> leastRecentlyUsed = parts.entrySet().iterator();
+        while (parts.size() > maximumParts && leastRecentlyUsed.hasNext()) {
+            final Map.Entry<Long, Future<byte[]>> entry = leastRecentlyUsed.next();
+            final long partIndex = entry.getKey();
+            if (partIndex < currentPartIndex || partIndex > currentPartIndex + partsInFlight) {
+                entry.getValue().cancel(true);
+                leastRecentlyUsed.remove();
+            }
+        }
+    }
+
+    private byte[] awaitPart(final long partIndex, final Future<byte[]> part) throws IOException {
+        try {
+            return part.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a range of the S3 object " + s3ObjectReference);
+        } catch (final ExecutionException e) {
+            parts.remove(partIndex);
+            final Throwable cause = e.getCause();
+            LOG.error("Error reading from S3 object: s3ObjectReference={}", s3ObjectReference);
+            if (cause instanceof S3Exception) {
+                recordS3Exception((S3Exception) cause);
+                throw new IOException(cause.getMessage());
+            }
+            if (cause instanceof FailsafeException && cause.getCause() != null) {
+                throw new IOException(cause.getCause());
+            }
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private byte[] fetchPart(final long start, final long end) {
+        final GetObjectRequest.Builder requestBuilder = GetObjectRequest.builder()
+                .bucket(s3ObjectReference.getBucketName())
+                .key(s3ObjectReference.getKey())
+                .range(String.format("bytes=%s-%s", start, end - 1));
+        bucketOwner.ifPresent(requestBuilder::expectedBucketOwner);
+        if (eTag != null) {
+            requestBuilder.ifMatch(eTag);
+        }
+        final GetObjectRequest request = requestBuilder.build();
+
+        return Failsafe.with(retryPolicy).get(() -> {
+            final long startTime = System.nanoTime();
+            final byte[] bytes = s3Client.getObjectAsBytes(request).asByteArrayUnsafe();
+            partReadTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            partSizeSummary.record(bytes.length);
+            if (bytes.length != end - start) {
+                throw new EOFException("Expected " + (end - start) + " bytes for range " + start + "-" + (end - 1) +
+                        " but received " + bytes.length);
+            }
+            return bytes;
+        });
+    }
+
+    private void recordS3Exception(final S3Exception ex) {
+        if (ex.statusCode() == HttpStatusCode.NOT_FOUND) {
+            s3ObjectPluginMetrics.getS3ObjectsFailedNotFoundCounter().increment();
+        } else if (ex.statusCode() == HttpStatusCode.FORBIDDEN) {
+            s3ObjectPluginMetrics.getS3ObjectsFailedAccessDeniedCounter().increment();
+        }
+    }
+}
@@ -40,6 +40,7 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
     private final S3SourceConfig s3SourceConfig;
     private SqsService sqsService;
     private S3ScanService s3ScanService;
+    private S3ObjectHandler s3Handler;
     private final PluginFactory pluginFactory;
     private final Optional<S3ScanScanOptions> s3ScanScanOptional;
     private final AcknowledgementSetManager acknowledgementSetManager;
@@ -82,7 +83,6 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
         S3ObjectPluginMetrics s3ObjectPluginMetrics = new S3ObjectPluginMetrics(pluginMetrics);
 
         S3ClientBuilderFactory s3ClientBuilderFactory = new S3ClientBuilderFactory(s3SourceConfig, credentialsProvider);
-        final S3ObjectHandler s3Handler;
         final S3ObjectRequest.Builder s3ObjectRequestBuilder = new S3ObjectRequest.Builder(buffer, s3SourceConfig.getNumberOfRecordsToAccumulate(),
                 s3SourceConfig.getBufferTimeout(), s3ObjectPluginMetrics);
         final BiConsumer<Event, S3ObjectReference> eventMetadataModifier = new EventMetadataModifier(
@@ -115,6 +115,7 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
                     .eventConsumer(eventMetadataModifier)
                     .s3Client(s3ClientBuilderFactory.getS3Client())
                     .compressionOption(s3SourceConfig.getCompression())
+                    .parallelReadOptions(s3SourceConfig.getParallelReadOptions())
                     .build();
             s3Handler = new S3ObjectWorker(s3ObjectRequest);
         }
@@ -139,6 +140,11 @@ public class S3Source implements Source<Record<Event>>, UsesSourceCoordination {
         if (Objects.nonNull(s3ScanService) && Objects.nonNull(sourceCoordinator)) {
             s3ScanService.stop();
         }
+
+        // The services have stopped their workers, so no object is read with the handler anymore
+        if (Objects.nonNull(s3Handler)) {
+            s3Handler.stop();
+        }
     }
 
     @Override
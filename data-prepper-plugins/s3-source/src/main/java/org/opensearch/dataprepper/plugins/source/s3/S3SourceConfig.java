@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.plugins.source.s3.configuration.AwsAuthenticat
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationSourceOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.NotificationTypeOption;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.OnErrorOption;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ParallelReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3ScanScanOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3SelectOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.SqsOptions;
@@ -100,6 +101,10 @@ public class S3SourceConfig {
     @JsonProperty("disable_s3_metadata_in_event")
     private boolean deleteS3MetadataInEvent = false;
 
+    @JsonProperty("parallel_read")
+    @Valid
+    private ParallelReadOptions parallelReadOptions;
+
     @AssertTrue(message = "A codec is required for reading objects.")
     boolean isCodecProvidedWhenNeeded() {
         if(s3SelectOptions == null)
@@ -214,4 +219,8 @@ public class S3SourceConfig {
     public boolean isDeleteS3MetadataInEvent() {
         return deleteS3MetadataInEvent;
     }
+
+    public ParallelReadOptions getParallelReadOptions() {
+        return parallelReadOptions;
+    }
 }
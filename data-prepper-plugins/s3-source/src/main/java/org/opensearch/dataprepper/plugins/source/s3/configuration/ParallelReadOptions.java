@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+/**
+ * Configures reading large S3 objects as byte ranges which are fetched in parallel, ahead of the codec.
+ */
+public class ParallelReadOptions {
+    static final ByteCount DEFAULT_MINIMUM_OBJECT_SIZE = ByteCount.parse("256mb");
+    static final ByteCount DEFAULT_PART_SIZE = ByteCount.parse("8mb");
+    static final int DEFAULT_PARTS_IN_FLIGHT = 4;
+    static final int DEFAULT_CACHED_PARTS = 2;
+    private static final long MINIMUM_PART_SIZE_BYTES = 64 * 1024;
+
+    @JsonPropertyDescription("Objects at least this large are read as parallel byte ranges. Smaller objects are read with a single request.")
+    @JsonProperty("minimum_object_size")
+    private ByteCount minimumObjectSize = DEFAULT_MINIMUM_OBJECT_SIZE;
+
+    @JsonPropertyDescription("The size of each byte range requested from S3.")
+    @JsonProperty("part_size")
+    private ByteCount partSize = DEFAULT_PART_SIZE;
+
+    @JsonPropertyDescription("The number of byte ranges of an object which are fetched ahead of the codec at a time.")
+    @JsonProperty("parts_in_flight")
+    @Min(1)
+    @Max(64)
+    private int partsInFlight = DEFAULT_PARTS_IN_FLIGHT;
+
+    @JsonPropertyDescription("The number of recently read byte ranges of an object which are kept for seeking back to them, such as to the footer of a Parquet file.")
+    @JsonProperty("cached_parts")
+    @Min(0)
+    @Max(64)
+    private int cachedParts = DEFAULT_CACHED_PARTS;
+
+    @AssertTrue(message = "part_size must be between 64kb and 2gb")
+    boolean isPartSizeValid() {
+        return partSize.getBytes() >= MINIMUM_PART_SIZE_BYTES && partSize.getBytes() < Integer.MAX_VALUE;
+    }
+
+    public ByteCount getMinimumObjectSize() {
+        return minimumObjectSize;
+    }
+
+    public ByteCount getPartSize() {
+        return partSize;
+    }
+
+    public int getPartsInFlight() {
+        return partsInFlight;
+    }
+
+    public int getCachedParts() {
+        return cachedParts;
+    }
+}
@@ -4,6 +4,8 @@ import org.apache.parquet.io.SeekableInputStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ParallelReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
@@ -11,6 +13,7 @@ import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -101,4 +104,34 @@ public class S3InputFileTest {
         assertThat(seekableInputStream.getClass(), equalTo(S3InputStream.class));
     }
 
+    @Test
+    public void newStream_returns_S3ParallelRangeInputStream_when_object_is_at_least_minimum_object_size() {
+        final HeadObjectResponse headObjectResponse = mock(HeadObjectResponse.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(headObjectResponse.contentLength()).thenReturn(1024L);
+        final ParallelReadOptions parallelReadOptions = mock(ParallelReadOptions.class);
+        when(parallelReadOptions.getMinimumObjectSize()).thenReturn(ByteCount.ofBytes(1024));
+        when(parallelReadOptions.getPartSize()).thenReturn(ByteCount.ofBytes(256));
+        when(parallelReadOptions.getPartsInFlight()).thenReturn(2);
+
+        final SeekableInputStream seekableInputStream = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider,
+                s3ObjectPluginMetrics, parallelReadOptions, mock(ExecutorService.class)).newStream();
+
+        assertThat(seekableInputStream.getClass(), equalTo(S3ParallelRangeInputStream.class));
+    }
+
+    @Test
+    public void newStream_returns_S3InputStream_when_object_is_smaller_than_minimum_object_size() {
+        final HeadObjectResponse headObjectResponse = mock(HeadObjectResponse.class);
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(headObjectResponse.contentLength()).thenReturn(1023L);
+        final ParallelReadOptions parallelReadOptions = mock(ParallelReadOptions.class);
+        when(parallelReadOptions.getMinimumObjectSize()).thenReturn(ByteCount.ofBytes(1024));
+
+        final SeekableInputStream seekableInputStream = new S3InputFile(s3Client, s3ObjectReference, bucketOwnerProvider,
+                s3ObjectPluginMetrics, parallelReadOptions, mock(ExecutorService.class)).newStream();
+
+        assertThat(seekableInputStream.getClass(), equalTo(S3InputStream.class));
+    }
+
 }
@@ -36,6 +36,10 @@ public class S3ObjectPluginMetricsTest {
         when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_SIZE)).thenReturn(summary);
         when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_SIZE_PROCESSED)).thenReturn(summary);
         when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECTS_EVENTS)).thenReturn(summary);
+        when(pluginMetrics.timer(S3ObjectPluginMetrics.S3_OBJECT_PART_READ_TIME_ELAPSED_METRIC_NAME)).thenReturn(s3ObjectReadTimer);
+        when(pluginMetrics.summary(S3ObjectPluginMetrics.S3_OBJECT_PART_SIZE)).thenReturn(summary);
+        when(pluginMetrics.counter(S3ObjectPluginMetrics.S3_OBJECT_PART_CACHE_HITS)).thenReturn(counter);
+        when(pluginMetrics.counter(S3ObjectPluginMetrics.S3_OBJECT_PART_CACHE_MISSES)).thenReturn(counter);
         S3ObjectPluginMetrics metrics = new S3ObjectPluginMetrics(pluginMetrics);
         assertThat(metrics.getS3ObjectEventsSummary(),sameInstance(summary));
         assertThat(metrics.getS3ObjectSizeSummary(),sameInstance(summary));
@@ -45,5 +49,9 @@ public class S3ObjectPluginMetricsTest {
         assertThat(metrics.getS3ObjectsSucceededCounter(),sameInstance(counter));
         assertThat(metrics.getS3ObjectsFailedAccessDeniedCounter(),sameInstance(counter));
         assertThat(metrics.getS3ObjectsFailedNotFoundCounter(),sameInstance(counter));
+        assertThat(metrics.getS3ObjectPartReadTimer(),sameInstance(s3ObjectReadTimer));
+        assertThat(metrics.getS3ObjectPartSizeSummary(),sameInstance(summary));
+        assertThat(metrics.getS3ObjectPartCacheHitsCounter(),sameInstance(counter));
+        assertThat(metrics.getS3ObjectPartCacheMissesCounter(),sameInstance(counter));
     }
 }
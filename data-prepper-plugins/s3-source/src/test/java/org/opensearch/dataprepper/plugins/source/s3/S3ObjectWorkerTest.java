@@ -27,9 +27,12 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.io.InputFile;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.coordinator.SourceCoordinator;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
 import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import org.opensearch.dataprepper.plugins.source.s3.configuration.ParallelReadOptions;
 import org.opensearch.dataprepper.plugins.source.s3.configuration.S3DataSelection;
+import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
@@ -45,6 +48,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
@@ -156,8 +160,8 @@ class S3ObjectWorkerTest {
         }).when(acknowledgementSet).add(any(Event.class));
         bucketName = UUID.randomUUID().toString();
         key = UUID.randomUUID().toString();
-        when(s3ObjectReference.getBucketName()).thenReturn(bucketName);
-        when(s3ObjectReference.getKey()).thenReturn(key);
+        lenient().when(s3ObjectReference.getBucketName()).thenReturn(bucketName);
+        lenient().when(s3ObjectReference.getKey()).thenReturn(key);
 
         s3ObjectPluginMetrics = mock(S3ObjectPluginMetrics.class);
         lenient().when(s3ObjectPluginMetrics.getS3ObjectReadTimer()).thenReturn(s3ObjectReadTimer);
@@ -538,6 +542,76 @@ class S3ObjectWorkerTest {
         verify(s3ObjectSizeProcessedSummary).record(inputStringLength);
     }
 
+    @Test
+    void processS3Object_reads_object_as_parallel_ranges_when_parallel_read_is_configured() throws IOException {
+        final byte[] objectBytes = new byte[(int) objectSize];
+        random.nextBytes(objectBytes);
+        final ParallelReadOptions parallelReadOptions = mock(ParallelReadOptions.class);
+        when(parallelReadOptions.getMinimumObjectSize()).thenReturn(ByteCount.ofBytes(objectSize));
+        when(parallelReadOptions.getPartSize()).thenReturn(ByteCount.ofBytes(4096));
+        when(parallelReadOptions.getPartsInFlight()).thenReturn(3);
+
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(headObjectResponse);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenAnswer(a -> {
+            final String[] range = a.getArgument(0, GetObjectRequest.class).range().substring("bytes=".length()).split("-");
+            final byte[] rangeBytes = Arrays.copyOfRange(objectBytes, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+            return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), rangeBytes);
+        });
+        final byte[][] bytesReadByCodec = new byte[1][];
+        doAnswer(a -> {
+            final S3InputFile inputFile = a.getArgument(0);
+            try (InputStream inputStream = inputFile.newStream()) {
+                assertThat(inputStream, instanceOf(S3ParallelRangeInputStream.class));
+                bytesReadByCodec[0] = inputStream.readAllBytes();
+            }
+            return null;
+        }).when(codec).parse(any(InputFile.class), any(DecompressionEngine.class), any(Consumer.class));
+        when(s3ObjectPluginMetrics.getS3ObjectEventsSummary()).thenReturn(s3ObjectEventsSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsSucceededCounter()).thenReturn(s3ObjectsSucceededCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeSummary()).thenReturn(s3ObjectSizeSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectNoRecordsFound()).thenReturn(s3ObjectNoRecordsFound);
+        when(s3ObjectPluginMetrics.getS3ObjectPartReadTimer()).thenReturn(mock(Timer.class));
+        when(s3ObjectPluginMetrics.getS3ObjectPartSizeSummary()).thenReturn(mock(DistributionSummary.class));
+        when(s3ObjectPluginMetrics.getS3ObjectPartCacheHitsCounter()).thenReturn(mock(Counter.class));
+        when(s3ObjectPluginMetrics.getS3ObjectPartCacheMissesCounter()).thenReturn(mock(Counter.class));
+
+        final S3ObjectRequest request = new S3ObjectRequest
+                .Builder(buffer, recordsToAccumulate, bufferTimeout, s3ObjectPluginMetrics)
+                .bucketOwnerProvider(bucketOwnerProvider)
+                .eventConsumer(eventConsumer).codec(codec).s3Client(s3Client)
+                .compressionOption(CompressionOption.NONE)
+                .parallelReadOptions(parallelReadOptions)
+                .build();
+        new S3ObjectWorker(request).processS3Object(s3ObjectReference, S3DataSelection.DATA_AND_METADATA, acknowledgementSet, null, null);
+
+        assertThat(bytesReadByCodec[0], equalTo(objectBytes));
+        verify(s3ObjectSizeProcessedSummary).record(objectSize);
+        verify(s3ObjectsSucceededCounter).increment();
+    }
+
+    @Test
+    void stop_shuts_down_the_parallel_read_executor() {
+        final S3ObjectRequest request = new S3ObjectRequest
+                .Builder(buffer, recordsToAccumulate, bufferTimeout, s3ObjectPluginMetrics)
+                .bucketOwnerProvider(bucketOwnerProvider)
+                .eventConsumer(eventConsumer).codec(codec).s3Client(s3Client)
+                .compressionOption(CompressionOption.NONE)
+                .parallelReadOptions(mock(ParallelReadOptions.class))
+                .build();
+        final S3ObjectWorker objectUnderTest = new S3ObjectWorker(request);
+        assertThat(objectUnderTest.getParallelReadExecutorService().isShutdown(), equalTo(false));
+
+        objectUnderTest.stop();
+
+        assertThat(objectUnderTest.getParallelReadExecutorService().isShutdown(), equalTo(true));
+    }
+
+    @Test
+    void stop_without_parallel_read_does_not_throw() {
+        createObjectUnderTest(s3ObjectPluginMetrics).stop();
+    }
+
     @Test
     void deleteS3Object_calls_delete_object_with_expected_request_success() {
         final ArgumentCaptor<DeleteObjectRequest> deleteObjectRequestArgumentCaptor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
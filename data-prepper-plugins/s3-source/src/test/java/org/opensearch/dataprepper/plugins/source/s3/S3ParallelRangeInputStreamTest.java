@@ -0,0 +1,447 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.source.s3.ownership.BucketOwnerProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.http.HttpStatusCode;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.everyItem;
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3ParallelRangeInputStreamTest {
+
+    private static final Duration RETRY_DELAY = Duration.ofMillis(1);
+
+    private static final int RETRIES = 3;
+
+    private static final int PART_SIZE = 100;
+
+    private static final int PARTS_IN_FLIGHT = 2;
+
+    private static final int CACHED_PARTS = 1;
+
+    @Mock(lenient = true)
+    private S3Client s3Client;
+    @Mock(lenient = true)
+    private S3ObjectReference s3ObjectReference;
+    @Mock
+    private BucketOwnerProvider bucketOwnerProvider;
+    @Mock(lenient = true)
+    private HeadObjectResponse metadata;
+    @Mock(lenient = true)
+    private S3ObjectPluginMetrics s3ObjectPluginMetrics;
+    private DistributionSummary s3ObjectSizeProcessedSummary;
+    private Counter s3ObjectsFailedNotFoundCounter;
+    private Counter s3ObjectsFailedAccessDeniedCounter;
+    private Timer s3ObjectPartReadTimer;
+    private DistributionSummary s3ObjectPartSizeSummary;
+    private Counter s3ObjectPartCacheHitsCounter;
+    private Counter s3ObjectPartCacheMissesCounter;
+    private ExecutorService executorService;
+    private String bucketName;
+    private String key;
+    private byte[] objectBytes;
+
+    @BeforeEach
+    void setUp() {
+        s3ObjectSizeProcessedSummary = mock(DistributionSummary.class);
+        s3ObjectsFailedNotFoundCounter = mock(Counter.class);
+        s3ObjectsFailedAccessDeniedCounter = mock(Counter.class);
+        s3ObjectPartReadTimer = mock(Timer.class);
+        s3ObjectPartSizeSummary = mock(DistributionSummary.class);
+        s3ObjectPartCacheHitsCounter = mock(Counter.class);
+        s3ObjectPartCacheMissesCounter = mock(Counter.class);
+        executorService = Executors.newFixedThreadPool(PARTS_IN_FLIGHT);
+
+        bucketName = UUID.randomUUID().toString();
+        key = UUID.randomUUID().toString();
+        objectBytes = new byte[1050];
+        new Random().nextBytes(objectBytes);
+
+        when(s3ObjectReference.getBucketName()).thenReturn(bucketName);
+        when(s3ObjectReference.getKey()).thenReturn(key);
+        when(metadata.contentLength()).thenReturn((long) objectBytes.length);
+        when(s3ObjectPluginMetrics.getS3ObjectSizeProcessedSummary()).thenReturn(s3ObjectSizeProcessedSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectsFailedNotFoundCounter()).thenReturn(s3ObjectsFailedNotFoundCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectsFailedAccessDeniedCounter()).thenReturn(s3ObjectsFailedAccessDeniedCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectPartReadTimer()).thenReturn(s3ObjectPartReadTimer);
+        when(s3ObjectPluginMetrics.getS3ObjectPartSizeSummary()).thenReturn(s3ObjectPartSizeSummary);
+        when(s3ObjectPluginMetrics.getS3ObjectPartCacheHitsCounter()).thenReturn(s3ObjectPartCacheHitsCounter);
+        when(s3ObjectPluginMetrics.getS3ObjectPartCacheMissesCounter()).thenReturn(s3ObjectPartCacheMissesCounter);
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenAnswer(a -> rangeOf(a.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private S3ParallelRangeInputStream createObjectUnderTest() {
+        return new S3ParallelRangeInputStream(s3Client, s3ObjectReference, bucketOwnerProvider, metadata, s3ObjectPluginMetrics,
+                executorService, PART_SIZE, PARTS_IN_FLIGHT, CACHED_PARTS, RETRY_DELAY, RETRIES);
+    }
+
+    private ResponseBytes<GetObjectResponse> rangeOf(final GetObjectRequest request) {
+        final String[] range = request.range().substring("bytes=".length()).split("-");
+        final byte[] rangeBytes = Arrays.copyOfRange(objectBytes, Integer.parseInt(range[0]), Integer.parseInt(range[1]) + 1);
+        return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), rangeBytes);
+    }
+
+    @Test
+    void constructor_throws_when_partSize_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> new S3ParallelRangeInputStream(s3Client, s3ObjectReference,
+                bucketOwnerProvider, metadata, s3ObjectPluginMetrics, executorService, 0, PARTS_IN_FLIGHT, CACHED_PARTS, RETRY_DELAY, RETRIES));
+    }
+
+    @Test
+    void constructor_throws_when_partsInFlight_is_not_positive() {
+        assertThrows(IllegalArgumentException.class, () -> new S3ParallelRangeInputStream(s3Client, s3ObjectReference,
+                bucketOwnerProvider, metadata, s3ObjectPluginMetrics, executorService, PART_SIZE, 0, CACHED_PARTS, RETRY_DELAY, RETRIES));
+    }
+
+    @Test
+    void constructor_throws_when_cachedParts_is_negative() {
+        assertThrows(IllegalArgumentException.class, () -> new S3ParallelRangeInputStream(s3Client, s3ObjectReference,
+                bucketOwnerProvider, metadata, s3ObjectPluginMetrics, executorService, PART_SIZE, PARTS_IN_FLIGHT, -1, RETRY_DELAY, RETRIES));
+    }
+
+    @Test
+    void readAllBytes_returns_the_object_in_order() throws IOException {
+        final byte[] bytesRead;
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            bytesRead = objectUnderTest.readAllBytes();
+            assertThat(objectUnderTest.read(), equalTo(-1));
+            assertThat(objectUnderTest.getPos(), equalTo((long) objectBytes.length));
+        }
+
+        assertThat(bytesRead, equalTo(objectBytes));
+        verify(s3ObjectSizeProcessedSummary).record(objectBytes.length);
+    }
+
+    @Test
+    void read_requests_each_range_once_with_bucket_key_and_no_owner_or_etag() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.readAllBytes();
+        }
+
+        final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(11)).getObjectAsBytes(requestArgumentCaptor.capture());
+        final List<GetObjectRequest> requests = requestArgumentCaptor.getAllValues();
+        assertThat(requests.stream().map(GetObjectRequest::range).collect(Collectors.toList()),
+                containsInAnyOrder("bytes=0-99", "bytes=100-199", "bytes=200-299", "bytes=300-399", "bytes=400-499",
+                        "bytes=500-599", "bytes=600-699", "bytes=700-799", "bytes=800-899", "bytes=900-999", "bytes=1000-1049"));
+        assertThat(requests.stream().map(GetObjectRequest::bucket).collect(Collectors.toList()), everyItem(equalTo(bucketName)));
+        assertThat(requests.stream().map(GetObjectRequest::key).collect(Collectors.toList()), everyItem(equalTo(key)));
+        assertThat(requests.get(0).expectedBucketOwner(), nullValue());
+        assertThat(requests.get(0).ifMatch(), nullValue());
+        verify(s3ObjectPartSizeSummary, times(10)).record(PART_SIZE);
+        verify(s3ObjectPartSizeSummary).record(50);
+        verify(s3ObjectPartReadTimer, times(11)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(s3ObjectPartCacheMissesCounter).increment();
+        verify(s3ObjectPartCacheHitsCounter, times(10)).increment();
+    }
+
+    @Test
+    void read_requests_ranges_with_bucket_owner_and_etag() throws IOException {
+        final String owner = UUID.randomUUID().toString();
+        final String eTag = UUID.randomUUID().toString();
+        when(bucketOwnerProvider.getBucketOwner(bucketName)).thenReturn(Optional.of(owner));
+        when(metadata.eTag()).thenReturn(eTag);
+
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.read();
+
+            final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+            verify(s3Client, timeout(1000).times(3)).getObjectAsBytes(requestArgumentCaptor.capture());
+            assertThat(requestArgumentCaptor.getAllValues().stream().map(GetObjectRequest::expectedBucketOwner).collect(Collectors.toList()),
+                    everyItem(equalTo(owner)));
+            assertThat(requestArgumentCaptor.getAllValues().stream().map(GetObjectRequest::ifMatch).collect(Collectors.toList()),
+                    everyItem(equalTo(eTag)));
+        }
+    }
+
+    @Test
+    void read_requests_at_most_parts_in_flight_ahead_of_the_current_range() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[0] & 0xFF));
+
+            final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+            verify(s3Client, timeout(1000).times(3)).getObjectAsBytes(requestArgumentCaptor.capture());
+            assertThat(requestArgumentCaptor.getAllValues().stream().map(GetObjectRequest::range).collect(Collectors.toList()),
+                    hasItems("bytes=0-99", "bytes=100-199", "bytes=200-299"));
+            assertThat(objectUnderTest.available(), equalTo(PART_SIZE - 1));
+        }
+    }
+
+    @Test
+    void read_single_bytes_returns_the_object_in_order() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            for (final byte expected : objectBytes) {
+                assertThat(objectUnderTest.read(), equalTo(expected & 0xFF));
+            }
+            assertThat(objectUnderTest.read(), equalTo(-1));
+        }
+    }
+
+    @Test
+    void read_with_zero_length_returns_zero() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThat(objectUnderTest.read(new byte[10], 0, 0), equalTo(0));
+            assertThat(objectUnderTest.available(), equalTo(0));
+        }
+    }
+
+    @Test
+    void seek_within_current_range_and_backwards_returns_bytes_at_new_position() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.read();
+            objectUnderTest.seek(50);
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[50] & 0xFF));
+
+            objectUnderTest.seek(450);
+            assertThat(objectUnderTest.getPos(), equalTo(450L));
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[450] & 0xFF));
+
+            objectUnderTest.seek(10);
+            final byte[] bytes = new byte[200];
+            objectUnderTest.readFully(bytes);
+            assertThat(bytes, equalTo(Arrays.copyOfRange(objectBytes, 10, 210)));
+        }
+    }
+
+    @Test
+    void seek_to_a_range_already_requested_reads_from_that_range() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.read();
+            objectUnderTest.seek(150);
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[150] & 0xFF));
+
+            final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+            verify(s3Client, timeout(1000).times(4)).getObjectAsBytes(requestArgumentCaptor.capture());
+            assertThat(requestArgumentCaptor.getAllValues().stream().map(GetObjectRequest::range).collect(Collectors.toList()),
+                    hasItems("bytes=0-99", "bytes=100-199", "bytes=200-299", "bytes=300-399"));
+        }
+        verify(s3ObjectPartCacheMissesCounter).increment();
+        verify(s3ObjectPartCacheHitsCounter).increment();
+    }
+
+    @Test
+    void seek_back_to_a_cached_part_does_not_request_it_again() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.seek(1040);
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[1040] & 0xFF));
+            objectUnderTest.seek(0);
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[0] & 0xFF));
+
+            objectUnderTest.seek(1000);
+            final byte[] footer = new byte[50];
+            objectUnderTest.readFully(footer);
+            assertThat(footer, equalTo(Arrays.copyOfRange(objectBytes, 1000, 1050)));
+        }
+
+        verify(s3Client, times(1)).getObjectAsBytes(argThat((GetObjectRequest request) -> "bytes=1000-1049".equals(request.range())));
+        verify(s3ObjectPartCacheMissesCounter, times(2)).increment();
+        verify(s3ObjectPartCacheHitsCounter).increment();
+    }
+
+    @Test
+    void seek_back_to_an_evicted_part_requests_it_again() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.seek(1040);
+            objectUnderTest.read();
+            objectUnderTest.seek(0);
+            objectUnderTest.read();
+            objectUnderTest.seek(300);
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[300] & 0xFF));
+
+            objectUnderTest.seek(1000);
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[1000] & 0xFF));
+        }
+
+        verify(s3Client, times(2)).getObjectAsBytes(argThat((GetObjectRequest request) -> "bytes=1000-1049".equals(request.range())));
+    }
+
+    @Test
+    void seek_past_the_end_returns_end_of_stream() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.seek(objectBytes.length + 10);
+            assertThat(objectUnderTest.read(), equalTo(-1));
+            assertThat(objectUnderTest.read(new byte[10], 0, 10), equalTo(-1));
+            assertThat(objectUnderTest.read(ByteBuffer.allocate(10)), equalTo(-1));
+        }
+    }
+
+    @Test
+    void seek_throws_when_position_is_negative() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThrows(IllegalArgumentException.class, () -> objectUnderTest.seek(-1));
+        }
+    }
+
+    @Test
+    void skip_moves_the_position_up_to_the_end_of_the_object() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThat(objectUnderTest.skip(0), equalTo(0L));
+            assertThat(objectUnderTest.skip(250), equalTo(250L));
+            assertThat(objectUnderTest.read(), equalTo(objectBytes[250] & 0xFF));
+            assertThat(objectUnderTest.skip(10_000), equalTo((long) objectBytes.length - 251));
+            assertThat(objectUnderTest.skip(1), equalTo(0L));
+        }
+    }
+
+    @Test
+    void readFully_throws_EOFException_when_object_ends_first() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            objectUnderTest.seek(1000);
+            assertThrows(EOFException.class, () -> objectUnderTest.readFully(new byte[100]));
+        }
+    }
+
+    @Test
+    void read_and_readFully_into_byte_buffers() throws IOException {
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            final ByteBuffer heapBuffer = ByteBuffer.allocate(150);
+            assertThat(objectUnderTest.read(heapBuffer), equalTo(PART_SIZE));
+            assertThat(objectUnderTest.read(ByteBuffer.allocate(0)), equalTo(0));
+            objectUnderTest.readFully(heapBuffer);
+
+            final ByteBuffer directBuffer = ByteBuffer.allocateDirect(300);
+            objectUnderTest.readFully(directBuffer);
+
+            final byte[] expectedDirectBytes = new byte[300];
+            directBuffer.flip().get(expectedDirectBytes);
+            assertThat(heapBuffer.array(), equalTo(Arrays.copyOfRange(objectBytes, 0, 150)));
+            assertThat(expectedDirectBytes, equalTo(Arrays.copyOfRange(objectBytes, 150, 450)));
+
+            objectUnderTest.seek(1000);
+            assertThrows(EOFException.class, () -> objectUnderTest.readFully(ByteBuffer.allocate(100)));
+        }
+    }
+
+    @Test
+    void read_retries_a_range_which_is_shorter_than_requested() throws IOException {
+        final AtomicInteger attempts = new AtomicInteger();
+        doAnswer(a -> {
+            if (attempts.getAndIncrement() == 0) {
+                return ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), new byte[1]);
+            }
+            return rangeOf(a.getArgument(0));
+        }).when(s3Client).getObjectAsBytes(any(GetObjectRequest.class));
+
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThat(objectUnderTest.readAllBytes(), equalTo(objectBytes));
+        }
+    }
+
+    @Test
+    void read_throws_IOException_when_range_is_short_after_all_retries() throws IOException {
+        doReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), new byte[1]))
+                .when(s3Client).getObjectAsBytes(any(GetObjectRequest.class));
+
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            final IOException exception = assertThrows(IOException.class, objectUnderTest::read);
+            assertThat(exception.getCause().getClass(), equalTo(EOFException.class));
+        }
+    }
+
+    @Test
+    void read_throws_IOException_and_increments_not_found_counter_when_object_is_missing() throws IOException {
+        doThrow(S3Exception.builder().statusCode(HttpStatusCode.NOT_FOUND).build())
+                .when(s3Client).getObjectAsBytes(any(GetObjectRequest.class));
+
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThrows(IOException.class, objectUnderTest::read);
+        }
+
+        verify(s3ObjectsFailedNotFoundCounter).increment();
+    }
+
+    @Test
+    void read_throws_IOException_and_increments_access_denied_counter_when_access_is_denied() throws IOException {
+        doThrow(S3Exception.builder().statusCode(HttpStatusCode.FORBIDDEN).build())
+                .when(s3Client).getObjectAsBytes(any(GetObjectRequest.class));
+
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            assertThrows(IOException.class, objectUnderTest::read);
+        }
+
+        verify(s3ObjectsFailedAccessDeniedCounter).increment();
+    }
+
+    @Test
+    void read_throws_IOException_wrapping_other_exceptions() throws IOException {
+        final RuntimeException failure = new RuntimeException(UUID.randomUUID().toString());
+        doThrow(failure).when(s3Client).getObjectAsBytes(any(GetObjectRequest.class));
+
+        try (S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest()) {
+            final IOException exception = assertThrows(IOException.class, objectUnderTest::read);
+            assertThat(exception.getCause(), equalTo(failure));
+        }
+    }
+
+    @Test
+    void close_records_bytes_read_once_and_prevents_further_reads() throws IOException {
+        final S3ParallelRangeInputStream objectUnderTest = createObjectUnderTest();
+        objectUnderTest.readNBytes(new byte[150], 0, 150);
+
+        objectUnderTest.close();
+        objectUnderTest.close();
+
+        verify(s3ObjectSizeProcessedSummary).record(150);
+        assertThrows(IllegalStateException.class, objectUnderTest::read);
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.seek(0));
+        assertThrows(IllegalStateException.class, objectUnderTest::available);
+    }
+}
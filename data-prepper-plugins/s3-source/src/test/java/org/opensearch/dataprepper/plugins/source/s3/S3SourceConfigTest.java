@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 import java.util.HashMap;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -67,6 +68,11 @@ class S3SourceConfigTest {
         assertThat(s3SourceConfig.isAcknowledgmentsEnabledWithDeleteS3ObjectsOnRead(), equalTo(true));
     }
 
+    @Test
+    void default_parallel_read_options_test() {
+        assertThat(new S3SourceConfig().getParallelReadOptions(), nullValue());
+    }
+
     @Test
     void default_records_to_accumulate_test() {
         assertThat(new S3SourceConfig().getNumberOfRecordsToAccumulate(), equalTo(DEFAULT_NUMBER_OF_RECORDS_TO_ACCUMULATE));
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.s3.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ParallelReadOptionsTest {
+
+    @Test
+    void default_options_test() {
+        final ParallelReadOptions parallelReadOptions = new ParallelReadOptions();
+
+        assertThat(parallelReadOptions.getMinimumObjectSize(), equalTo(ParallelReadOptions.DEFAULT_MINIMUM_OBJECT_SIZE));
+        assertThat(parallelReadOptions.getPartSize(), equalTo(ParallelReadOptions.DEFAULT_PART_SIZE));
+        assertThat(parallelReadOptions.getPartsInFlight(), equalTo(ParallelReadOptions.DEFAULT_PARTS_IN_FLIGHT));
+        assertThat(parallelReadOptions.getCachedParts(), equalTo(ParallelReadOptions.DEFAULT_CACHED_PARTS));
+        assertThat(parallelReadOptions.isPartSizeValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "64kb, true",
+            "1gb, true",
+            "63kb, false",
+            "2gb, false"
+    })
+    void isPartSizeValid_test(final String partSize, final boolean expected) throws NoSuchFieldException, IllegalAccessException {
+        final ParallelReadOptions parallelReadOptions = new ParallelReadOptions();
+        ReflectivelySetField.setField(ParallelReadOptions.class, parallelReadOptions, "partSize", ByteCount.parse(partSize));
+
+        assertThat(parallelReadOptions.isPartSizeValid(), equalTo(expected));
+    }
+}
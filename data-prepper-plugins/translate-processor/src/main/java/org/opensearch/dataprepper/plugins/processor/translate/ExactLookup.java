@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import java.util.Optional;
+
+/**
+ * Finds the value mapped to an individual key of a map option.
+ */
+@FunctionalInterface
+public interface ExactLookup {
+    Optional<Object> lookup(String key);
+}
@@ -8,10 +8,14 @@ package org.opensearch.dataprepper.plugins.processor.translate;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotNull;
+
+import java.time.Duration;
 import java.util.List;
 
 public class FileParameterConfig {
+    private static final Duration MINIMUM_REFRESH_INTERVAL = Duration.ofSeconds(1);
 
     @JsonProperty("name")
     @JsonPropertyDescription("The full path to a local file or key name for an S3 object.")
@@ -23,6 +27,11 @@ public class FileParameterConfig {
     @Valid
     private S3ObjectConfig awsConfig;
 
+    @JsonProperty("refresh_interval")
+    @JsonPropertyDescription("How often to check the file for changes and reload the mappings when it has changed. " +
+            "The mappings are not reloaded when this is not configured.")
+    private Duration refreshInterval;
+
     public String getFileName(){
         return  fileName;
     }
@@ -31,6 +40,15 @@ public class FileParameterConfig {
         return awsConfig;
     }
 
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    @AssertTrue(message = "refresh_interval must be at least 1 second")
+    public boolean isRefreshIntervalValid() {
+        return refreshInterval == null || refreshInterval.compareTo(MINIMUM_REFRESH_INTERVAL) >= 0;
+    }
+
     public List<MappingsParameterConfig> getFileMappings() {
         MappingsHandler handler = new MappingsHandler();
 
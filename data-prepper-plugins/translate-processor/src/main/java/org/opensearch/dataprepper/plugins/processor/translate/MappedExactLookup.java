@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An {@link ExactLookup} over a read-only table in a memory-mapped file, so that large map options are kept
+ * off the heap and shared by every processor which reads them.
+ * <p>
+ * The table starts with the number of entries, followed by the offset of each entry ordered by the UTF-8 bytes
+ * of its key. Each entry is the length and bytes of its key, a value type and the length and bytes of its value.
+ * String values are stored as UTF-8 and any other value as JSON. Keys are found with a binary search.
+ */
+public class MappedExactLookup implements ExactLookup {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String TABLE_FILE_PREFIX = "translate-mappings";
+    private static final int HEADER_BYTES = Integer.BYTES;
+    private static final byte STRING_VALUE = 0;
+    private static final byte JSON_VALUE = 1;
+
+    private final ByteBuffer table;
+    private final int entryCount;
+
+    private MappedExactLookup(final ByteBuffer table) {
+        this.table = table;
+        this.entryCount = table.getInt(0);
+    }
+
+    /**
+     * Writes the mappings to a table in a temporary file and maps it into memory.
+     *
+     * @param mappings the individual keys of a map option and their values
+     * @return the lookup over the table
+     * @throws IOException if the table cannot be written, or would be larger than 2gb
+     */
+    public static MappedExactLookup build(final Map<String, Object> mappings) throws IOException {
+        final List<Map.Entry<byte[], byte[]>> entries = new ArrayList<>(mappings.size());
+        long tableSize = HEADER_BYTES + (long) Integer.BYTES * mappings.size();
+        for (final Map.Entry<String, Object> mapping : mappings.entrySet()) {
+            final byte[] key = mapping.getKey().getBytes(StandardCharsets.UTF_8);
+            final byte[] value = encodeValue(mapping.getValue());
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value));
+            tableSize += Integer.BYTES + key.length + value.length + Integer.BYTES;
+        }
+        if (tableSize > Integer.MAX_VALUE) {
+            throw new IOException("The mappings require " + tableSize + " bytes, which is more than a single table can hold");
+        }
+        entries.sort((first, second) -> Arrays.compareUnsigned(first.getKey(), second.getKey()));
+
+        final Path tableFile = Files.createTempFile(TABLE_FILE_PREFIX, ".table");
+        try {
+            writeTable(tableFile, entries);
+            try (final FileChannel channel = FileChannel.open(tableFile, StandardOpenOption.READ)) {
+                return new MappedExactLookup(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        } finally {
+            // The mapping stays valid after the file is deleted, and the space is reclaimed once it is unmapped.
+            if (!tableFile.toFile().delete()) {
+                tableFile.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    @Override
+    public Optional<Object> lookup(final String key) {
+        final byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = entryCount - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int entryOffset = table.getInt(HEADER_BYTES + middle * Integer.BYTES);
+            final int comparison = compareKey(entryOffset, keyBytes);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return Optional.ofNullable(readValue(entryOffset + Integer.BYTES + keyBytes.length));
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return entryCount;
+    }
+
+    private int compareKey(final int entryOffset, final byte[] key) {
+        final int entryKeyLength = table.getInt(entryOffset);
+        final int keyStart = entryOffset + Integer.BYTES;
+        final int length = Math.min(entryKeyLength, key.length);
+        for (int i = 0; i < length; i++) {
+            final int comparison = Integer.compare(table.get(keyStart + i) & 0xff, key[i] & 0xff);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Integer.compare(entryKeyLength, key.length);
+    }
+
+    private Object readValue(final int valueOffset) {
+        final byte valueType = table.get(valueOffset);
+        final byte[] value = new byte[table.getInt(valueOffset + 1)];
+        final ByteBuffer valueBuffer = table.duplicate();
+        valueBuffer.position(valueOffset + 1 + Integer.BYTES);
+        valueBuffer.get(value);
+        if (valueType == STRING_VALUE) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        try {
+            return OBJECT_MAPPER.readValue(value, Object.class);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encodeValue(final Object value) throws IOException {
+        final byte[] encoded;
+        final byte valueType;
+        if (value instanceof String) {
+            valueType = STRING_VALUE;
+            encoded = ((String) value).getBytes(StandardCharsets.UTF_8);
+        } else {
+            valueType = JSON_VALUE;
+            encoded = OBJECT_MAPPER.writeValueAsBytes(value);
+        }
+        final byte[] typedValue = new byte[1 + encoded.length];
+        typedValue[0] = valueType;
+        System.arraycopy(encoded, 0, typedValue, 1, encoded.length);
+        return typedValue;
+    }
+
+    private static void writeTable(final Path tableFile, final List<Map.Entry<byte[], byte[]>> entries) throws IOException {
+        try (final DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tableFile)))) {
+            outputStream.writeInt(entries.size());
+            int entryOffset = HEADER_BYTES + Integer.BYTES * entries.size();
+            for (final Map.Entry<byte[], byte[]> entry : entries) {
+                outputStream.writeInt(entryOffset);
+                entryOffset += Integer.BYTES + entry.getKey().length + entry.getValue().length + Integer.BYTES;
+            }
+            for (final Map.Entry<byte[], byte[]> entry : entries) {
+                final byte[] typedValue = entry.getValue();
+                outputStream.writeInt(entry.getKey().length);
+                outputStream.write(entry.getKey());
+                outputStream.writeByte(typedValue[0]);
+                outputStream.writeInt(typedValue.length - 1);
+                outputStream.write(typedValue, 1, typedValue.length - 1);
+            }
+        }
+    }
+}
@@ -17,15 +17,12 @@ import java.util.Objects;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.sts.StsClient;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
-import software.amazon.awssdk.services.sts.model.Credentials;
-import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
+import software.amazon.awssdk.services.sts.auth.StsAssumeRoleCredentialsProvider;
 import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
@@ -38,32 +35,11 @@ public class MappingsHandler {
         if( !isAwsConfigValid(awsConfig) || key == null ) {
             return null;
         }
-        String regionString = awsConfig.getRegion();
-        Region region = Region.of(regionString);
-        String roleARN = awsConfig.getStsRoleArn();
         String bucketName = awsConfig.getBucket();
 
         List<MappingsParameterConfig> s3FileMappings;
-        String roleSessionName = "translate-session";
         try {
-            StsClient stsClient = StsClient.builder()
-                    .credentialsProvider(DefaultCredentialsProvider.create())
-                    .region(region)
-                    .build();
-
-            AssumeRoleResponse response = stsClient.assumeRole(AssumeRoleRequest.builder()
-                    .roleArn(roleARN)
-                    .roleSessionName(roleSessionName)
-                    .build());
-            Credentials temporaryCredentials = response.credentials();
-            AwsSessionCredentials sessionCredentials = AwsSessionCredentials.create(
-                    temporaryCredentials.accessKeyId(),
-                    temporaryCredentials.secretAccessKey(),
-                    temporaryCredentials.sessionToken());
-            S3Client s3Client = S3Client.builder()
-                    .credentialsProvider(StaticCredentialsProvider.create(sessionCredentials))
-                    .region(region)
-                    .build();
+            S3Client s3Client = createS3Client(awsConfig);
             GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucketName)
                     .key(key)
@@ -103,6 +79,28 @@ public class MappingsHandler {
         return s3FileMappings;
     }
 
+    S3Client createS3Client(S3ObjectConfig awsConfig) {
+        Region region = Region.of(awsConfig.getRegion());
+        String roleSessionName = "translate-session";
+        StsClient stsClient = StsClient.builder()
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .region(region)
+                .build();
+
+        // Assumes the role again before the session expires, so a client kept for refreshing the mappings keeps working
+        StsAssumeRoleCredentialsProvider credentialsProvider = StsAssumeRoleCredentialsProvider.builder()
+                .stsClient(stsClient)
+                .refreshRequest(AssumeRoleRequest.builder()
+                        .roleArn(awsConfig.getStsRoleArn())
+                        .roleSessionName(roleSessionName)
+                        .build())
+                .build();
+        return S3Client.builder()
+                .credentialsProvider(credentialsProvider)
+                .region(region)
+                .build();
+    }
+
     public List<MappingsParameterConfig> getMappingsFromFilePath(String fileName){
         try{
             Path filePath = Paths.get(fileName);
@@ -114,7 +112,7 @@ public class MappingsHandler {
         }
     }
 
-    private List<MappingsParameterConfig> getMappingsFromByteArray(byte[] file){
+    List<MappingsParameterConfig> getMappingsFromByteArray(byte[] file){
         ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
         try {
             FileMappingsRef fileParser = mapper.readValue(file, FileMappingsRef.class);
@@ -125,6 +123,10 @@ public class MappingsHandler {
         }
     }
 
+    /**
+     * Combines the inline mappings with the mappings from a file. Neither list nor the configurations in them are
+     * modified, so the same inline mappings can be combined again when the file mappings are reloaded.
+     */
     public List<MappingsParameterConfig> getCombinedMappings(List<MappingsParameterConfig> mappingConfigs, List<MappingsParameterConfig> fileMappingConfigs) {
         if(Objects.isNull(mappingConfigs) || mappingConfigs.isEmpty()){
             return fileMappingConfigs;
@@ -133,19 +135,18 @@ public class MappingsHandler {
             return mappingConfigs;
         }
         try{
+            List<MappingsParameterConfig> combinedMappingConfigs = new ArrayList<>();
+            for (MappingsParameterConfig mappingConfig : mappingConfigs) {
+                combinedMappingConfigs.add(combineTargets(fileMappingConfigs, mappingConfig));
+            }
             for (MappingsParameterConfig fileMappingConfig : fileMappingConfigs) {
-                boolean isDuplicateSource = false;
-                for (MappingsParameterConfig mappingConfig : mappingConfigs) {
-                    if (mappingConfig.getSource().equals(fileMappingConfig.getSource())) {
-                        isDuplicateSource = true;
-                        combineTargets(fileMappingConfig, mappingConfig);
-                    }
-                }
+                boolean isDuplicateSource = mappingConfigs.stream()
+                        .anyMatch(mappingConfig -> mappingConfig.getSource().equals(fileMappingConfig.getSource()));
                 if (!isDuplicateSource) {
-                    mappingConfigs.add(fileMappingConfig);
+                    combinedMappingConfigs.add(fileMappingConfig);
                 }
             }
-            return mappingConfigs;
+            return combinedMappingConfigs;
         } catch (Exception ex){
             Logger LOG = LoggerFactory.getLogger(TranslateProcessor.class);
             LOG.error("Error while combining mappings", ex);
@@ -153,20 +154,21 @@ public class MappingsHandler {
         }
     }
 
-    private void combineTargets(MappingsParameterConfig filePathMapping, MappingsParameterConfig mappingConfig) {
-        if(Objects.isNull(mappingConfig)) {
-            return;
-        }
-        List<TargetsParameterConfig> fileTargetConfigs = filePathMapping.getTargetsParameterConfigs();
-        List<TargetsParameterConfig> mappingsTargetConfigs = mappingConfig.getTargetsParameterConfigs();
-        List<TargetsParameterConfig> combinedTargetConfigs = new ArrayList<>(mappingsTargetConfigs);
-
-        for (TargetsParameterConfig fileTargetConfig : fileTargetConfigs) {
-            if (!isTargetPresent(fileTargetConfig, combinedTargetConfigs)) {
-                combinedTargetConfigs.add(fileTargetConfig);
+    private MappingsParameterConfig combineTargets(List<MappingsParameterConfig> fileMappingConfigs, MappingsParameterConfig mappingConfig) {
+        List<TargetsParameterConfig> combinedTargetConfigs = new ArrayList<>(mappingConfig.getTargetsParameterConfigs());
+        boolean isDuplicateSource = false;
+        for (MappingsParameterConfig fileMappingConfig : fileMappingConfigs) {
+            if (!mappingConfig.getSource().equals(fileMappingConfig.getSource())) {
+                continue;
+            }
+            isDuplicateSource = true;
+            for (TargetsParameterConfig fileTargetConfig : fileMappingConfig.getTargetsParameterConfigs()) {
+                if (!isTargetPresent(fileTargetConfig, combinedTargetConfigs)) {
+                    combinedTargetConfigs.add(fileTargetConfig);
+                }
             }
         }
-        mappingConfig.setTargetsParameterConfigs(combinedTargetConfigs);
+        return isDuplicateSource ? new MappingsParameterConfig(mappingConfig.getSource(), combinedTargetConfigs) : mappingConfig;
     }
 
     private boolean isTargetPresent(TargetsParameterConfig fileTargetConfig, List<TargetsParameterConfig> combinedTargetConfigs){
@@ -23,6 +23,14 @@ public class MappingsParameterConfig {
     @NotNull
     private List<TargetsParameterConfig> targetsParameterConfigs = new ArrayList<>();
 
+    public MappingsParameterConfig() {
+    }
+
+    MappingsParameterConfig(final Object source, final List<TargetsParameterConfig> targetsParameterConfigs) {
+        this.source = source;
+        this.targetsParameterConfigs = targetsParameterConfigs;
+    }
+
     public Object getSource() {
         return source;
     }
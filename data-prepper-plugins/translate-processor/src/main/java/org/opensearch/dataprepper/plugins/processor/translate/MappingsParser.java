@@ -14,7 +14,7 @@ import java.util.regex.Pattern;
 public class MappingsParser {
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
     public MappingsParser(TargetsParameterConfig targetConfig){
         RegexParameterConfiguration regexConfig = targetConfig.getRegexParameterConfiguration();
         if (Objects.nonNull(regexConfig)) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Finds the regex mapping for a value. The patterns are combined into a single alternation of capturing
+ * groups, so a value is scanned once to learn whether any pattern matches, and which. Patterns are tried
+ * in the order they are configured and the first one which matches wins, as when matching them one at a time.
+ * <p>
+ * Patterns which cannot be combined without changing their meaning, such as those with back references,
+ * are matched one at a time.
+ */
+public class PatternLookup {
+    private static final Logger LOG = LoggerFactory.getLogger(PatternLookup.class);
+    private static final Pattern UNCOMBINABLE_CONSTRUCTS = Pattern.compile("\\\\(\\d|k<)|\\(\\?[a-zA-Z]*x");
+
+    private final List<Pattern> patterns = new ArrayList<>();
+    private final List<Object> values = new ArrayList<>();
+    private final boolean exact;
+    private final Pattern combinedPattern;
+    private final int[] groupIndexes;
+
+    public PatternLookup(final Map<Pattern, Object> compiledPatterns, final boolean exact) {
+        this.exact = exact;
+        for (final Map.Entry<Pattern, Object> patternEntry : compiledPatterns.entrySet()) {
+            patterns.add(patternEntry.getKey());
+            values.add(patternEntry.getValue());
+        }
+        groupIndexes = new int[patterns.size()];
+        combinedPattern = combinePatterns();
+    }
+
+    public Optional<Object> lookup(final String sourceValue) {
+        if (patterns.isEmpty()) {
+            return Optional.empty();
+        }
+        if (combinedPattern == null) {
+            return lookupEach(sourceValue, patterns.size());
+        }
+        final Matcher matcher = combinedPattern.matcher(sourceValue);
+        if (exact) {
+            return matcher.matches() ? Optional.of(values.get(matchedPattern(matcher))) : Optional.empty();
+        }
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        final int matchedPattern = matchedPattern(matcher);
+        // The leftmost match may come from a later pattern than one which matches further into the value.
+        final Optional<Object> earlierMatch = lookupEach(sourceValue, matchedPattern);
+        if (earlierMatch.isPresent()) {
+            return earlierMatch;
+        }
+        return matchPattern(matchedPattern, sourceValue);
+    }
+
+    boolean isCombined() {
+        return combinedPattern != null;
+    }
+
+    private Optional<Object> lookupEach(final String sourceValue, final int patternCount) {
+        for (int i = 0; i < patternCount; i++) {
+            final Optional<Object> targetValue = matchPattern(i, sourceValue);
+            if (targetValue.isPresent()) {
+                return targetValue;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Object> matchPattern(final int patternIndex, final String sourceValue) {
+        final Matcher matcher = patterns.get(patternIndex).matcher(sourceValue);
+        if (matcher.matches()) {
+            return Optional.of(values.get(patternIndex));
+        }
+        if (!exact && matcher.find()) {
+            return Optional.of(matcher.replaceAll((String) values.get(patternIndex)));
+        }
+        return Optional.empty();
+    }
+
+    private int matchedPattern(final Matcher matcher) {
+        for (int i = 0; i < groupIndexes.length; i++) {
+            if (matcher.start(groupIndexes[i]) != -1) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("The combined pattern matched without matching any of its patterns");
+    }
+
+    private Pattern combinePatterns() {
+        if (patterns.size() < 2) {
+            return null;
+        }
+        final StringBuilder combined = new StringBuilder();
+        int groupIndex = 1;
+        for (int i = 0; i < patterns.size(); i++) {
+            final Pattern pattern = patterns.get(i);
+            if (!isCombinable(pattern)) {
+                return null;
+            }
+            if (i > 0) {
+                combined.append('|');
+            }
+            combined.append('(').append(pattern.pattern()).append(')');
+            groupIndexes[i] = groupIndex;
+            groupIndex += 1 + pattern.matcher("").groupCount();
+        }
+        try {
+            return Pattern.compile(combined.toString());
+        } catch (final PatternSyntaxException e) {
+            LOG.debug("Unable to combine the regex patterns, they will be matched one at a time", e);
+            return null;
+        }
+    }
+
+    private static boolean isCombinable(final Pattern pattern) {
+        final String regex = pattern.pattern();
+        final boolean unterminatedQuote = regex.lastIndexOf("\\Q") > regex.lastIndexOf("\\E");
+        return pattern.flags() == 0 && !unterminatedQuote && !UNCOMBINABLE_CONSTRUCTS.matcher(regex).find();
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Finds the range mapping which contains a value. The ranges of a map option never overlap, so they are
+ * kept ordered by their lower bound and the only candidate for a value is the range which starts at or
+ * below it.
+ */
+public class RangeLookup {
+    private final TreeMap<Float, Map.Entry<Range<Float>, Object>> rangesByMinimum = new TreeMap<>();
+
+    public RangeLookup(final Map<Range<Float>, Object> rangeMappings) {
+        for (final Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
+            rangesByMinimum.put(rangeEntry.getKey().getMinimum(), rangeEntry);
+        }
+    }
+
+    public Optional<Object> lookup(final Float key) {
+        final Map.Entry<Float, Map.Entry<Range<Float>, Object>> candidate = rangesByMinimum.floorEntry(key);
+        if (candidate == null || !candidate.getValue().getKey().contains(key)) {
+            return Optional.empty();
+        }
+        return Optional.of(candidate.getValue().getValue());
+    }
+
+    public boolean isEmpty() {
+        return rangesByMinimum.isEmpty();
+    }
+}
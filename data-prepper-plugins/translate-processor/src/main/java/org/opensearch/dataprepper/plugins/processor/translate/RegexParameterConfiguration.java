@@ -8,7 +8,7 @@ import java.util.Map;
 
 public class RegexParameterConfiguration {
 
-    final boolean DEFAULT_EXACT = true;
+    static final boolean DEFAULT_EXACT = true;
     @NotNull
     @JsonProperty("patterns")
     private Map<String, Object> patterns;
@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The mappings read from a local file or an S3 object, shared by every translate processor in the JVM which
+ * reads the same file. The individual keys of the map options are kept in memory-mapped tables, so the
+ * mappings are only held once no matter how many pipelines and workers use them.
+ * <p>
+ * When a refresh interval is configured, the file is checked for changes while any processor uses the
+ * mappings, and a changed file replaces the mappings as a whole. Processors pick up the new mappings by
+ * checking {@link #getVersion()}.
+ */
+public class SharedFileMappings {
+    private static final Logger LOG = LoggerFactory.getLogger(SharedFileMappings.class);
+    private static final int S3_NOT_MODIFIED_STATUS_CODE = 304;
+    private static final Map<String, SharedFileMappings> SHARED_FILE_MAPPINGS = new ConcurrentHashMap<>();
+
+    private final String registryKey;
+    private final FileParameterConfig fileParameterConfig;
+    private final MappingsHandler mappingsHandler;
+    private final AtomicReference<Snapshot> currentSnapshot = new AtomicReference<>();
+    private S3Client s3Client;
+    private ScheduledExecutorService refreshExecutorService;
+    private int references;
+
+    SharedFileMappings(final String registryKey, final FileParameterConfig fileParameterConfig, final MappingsHandler mappingsHandler) {
+        this.registryKey = registryKey;
+        this.fileParameterConfig = fileParameterConfig;
+        this.mappingsHandler = mappingsHandler;
+    }
+
+    /**
+     * Gets the mappings for a file. These are the mappings processors in the JVM use for the file, or, if
+     * no processor uses it, the mappings read from the file which are not kept.
+     *
+     * @param fileParameterConfig the file option of a translate processor
+     * @return the mappings, or empty if the file could not be read
+     */
+    public static Optional<SharedFileMappings> forFile(final FileParameterConfig fileParameterConfig) {
+        return forFile(fileParameterConfig, new MappingsHandler());
+    }
+
+    static Optional<SharedFileMappings> forFile(final FileParameterConfig fileParameterConfig, final MappingsHandler mappingsHandler) {
+        final String registryKey = toRegistryKey(fileParameterConfig);
+        final SharedFileMappings sharedFileMappings = SHARED_FILE_MAPPINGS.get(registryKey);
+        if (sharedFileMappings != null) {
+            return Optional.of(sharedFileMappings);
+        }
+        final SharedFileMappings loadedFileMappings = new SharedFileMappings(registryKey, fileParameterConfig, mappingsHandler);
+        final boolean loaded = loadedFileMappings.load();
+        loadedFileMappings.closeS3Client();
+        return loaded ? Optional.of(loadedFileMappings) : Optional.empty();
+    }
+
+    /**
+     * Gets the mappings for a file and keeps them, and their refreshing, until {@link #release()} is called.
+     * The file is read if no processor in the JVM uses it yet.
+     *
+     * @param fileParameterConfig the file option of a translate processor
+     * @return the shared mappings
+     * @throws InvalidPluginConfigurationException if the file could not be read
+     */
+    public static SharedFileMappings acquire(final FileParameterConfig fileParameterConfig) {
+        return acquire(fileParameterConfig, new MappingsHandler());
+    }
+
+    static SharedFileMappings acquire(final FileParameterConfig fileParameterConfig, final MappingsHandler mappingsHandler) {
+        final String registryKey = toRegistryKey(fileParameterConfig);
+        while (true) {
+            SharedFileMappings sharedFileMappings = SHARED_FILE_MAPPINGS.get(registryKey);
+            if (sharedFileMappings == null) {
+                // The file is read outside of the registry, so reading it does not block other files.
+                final SharedFileMappings loadedFileMappings = new SharedFileMappings(registryKey, fileParameterConfig, mappingsHandler);
+                if (!loadedFileMappings.load()) {
+                    loadedFileMappings.closeS3Client();
+                    throw new InvalidPluginConfigurationException(
+                            "Unable to read the translate mappings from " + fileParameterConfig.getFileName());
+                }
+                sharedFileMappings = SHARED_FILE_MAPPINGS.putIfAbsent(registryKey, loadedFileMappings);
+                if (sharedFileMappings == null) {
+                    sharedFileMappings = loadedFileMappings;
+                } else {
+                    loadedFileMappings.closeS3Client();
+                }
+            }
+            if (sharedFileMappings.retain()) {
+                return sharedFileMappings;
+            }
+        }
+    }
+
+    public List<MappingsParameterConfig> getMappingsParameterConfigs() {
+        return currentSnapshot.get().mappingsParameterConfigs;
+    }
+
+    public long getVersion() {
+        return currentSnapshot.get().version;
+    }
+
+    /**
+     * Releases mappings from {@link #acquire(FileParameterConfig)}. Once they are no longer used they stop
+     * refreshing and close their S3 client, and the next processor to use the file reads it again.
+     */
+    public synchronized void release() {
+        if (references == 0) {
+            return;
+        }
+        references--;
+        if (references == 0) {
+            SHARED_FILE_MAPPINGS.remove(registryKey, this);
+            if (refreshExecutorService != null) {
+                refreshExecutorService.shutdownNow();
+                refreshExecutorService = null;
+            }
+            closeS3Client();
+        }
+    }
+
+    /**
+     * Reads the file again if it has changed, and replaces the mappings with those from the file.
+     */
+    void refresh() {
+        try {
+            final Snapshot previousSnapshot = currentSnapshot.get();
+            final Snapshot snapshot = readSnapshot(previousSnapshot);
+            if (snapshot != null) {
+                currentSnapshot.set(snapshot);
+                LOG.info("Reloaded the translate mappings from {}", fileParameterConfig.getFileName());
+            }
+        } catch (final Exception e) {
+            LOG.error("Unable to reload the translate mappings from {}, the previous mappings are still used",
+                    fileParameterConfig.getFileName(), e);
+        }
+    }
+
+    private synchronized boolean retain() {
+        if (SHARED_FILE_MAPPINGS.get(registryKey) != this) {
+            return false;
+        }
+        references++;
+        final Duration refreshInterval = fileParameterConfig.getRefreshInterval();
+        if (refreshExecutorService == null && refreshInterval != null) {
+            refreshExecutorService = Executors.newSingleThreadScheduledExecutor(
+                    BackgroundThreadFactory.defaultExecutorThreadFactory("translate-mappings-refresh"));
+            refreshExecutorService.scheduleWithFixedDelay(this::refresh,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        return true;
+    }
+
+    private boolean load() {
+        try {
+            currentSnapshot.set(Objects.requireNonNull(readSnapshot(null)));
+            return true;
+        } catch (final Exception e) {
+            LOG.error("Unable to read the translate mappings from {}", fileParameterConfig.getFileName(), e);
+            return false;
+        }
+    }
+
+    private void closeS3Client() {
+        if (s3Client != null) {
+            s3Client.close();
+        }
+    }
+
+    private Snapshot readSnapshot(final Snapshot previousSnapshot) throws IOException {
+        final String previousVersionTag = previousSnapshot == null ? null : previousSnapshot.versionTag;
+        final FileContents fileContents = fileParameterConfig.getAwsConfig() != null ?
+                readS3Object(previousVersionTag) : readLocalFile(previousVersionTag);
+        if (fileContents == null) {
+            return null;
+        }
+
+        final List<MappingsParameterConfig> mappingsParameterConfigs = mappingsHandler.getMappingsFromByteArray(fileContents.contents);
+        if (mappingsParameterConfigs == null) {
+            throw new IOException("Unable to parse the mappings from " + fileParameterConfig.getFileName());
+        }
+        for (final MappingsParameterConfig mappingsParameterConfig : mappingsParameterConfigs) {
+            for (final TargetsParameterConfig targetsParameterConfig : mappingsParameterConfig.getTargetsParameterConfigs()) {
+                try {
+                    targetsParameterConfig.mapIndividualMappings();
+                } catch (final IOException e) {
+                    LOG.warn("Unable to map the mappings for target {} from {}, they are kept on the heap",
+                            targetsParameterConfig.getTarget(), fileParameterConfig.getFileName(), e);
+                }
+            }
+        }
+        final long version = previousSnapshot == null ? 0 : previousSnapshot.version + 1;
+        return new Snapshot(Collections.unmodifiableList(mappingsParameterConfigs), fileContents.versionTag, version);
+    }
+
+    private FileContents readLocalFile(final String previousVersionTag) throws IOException {
+        final Path filePath = Paths.get(fileParameterConfig.getFileName());
+        final BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        final String versionTag = attributes.lastModifiedTime().toMillis() + ":" + attributes.size();
+        if (versionTag.equals(previousVersionTag)) {
+            return null;
+        }
+        return new FileContents(Files.readAllBytes(filePath), versionTag);
+    }
+
+    private FileContents readS3Object(final String previousVersionTag) {
+        if (s3Client == null) {
+            s3Client = mappingsHandler.createS3Client(fileParameterConfig.getAwsConfig());
+        }
+        final GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(fileParameterConfig.getAwsConfig().getBucket())
+                .key(fileParameterConfig.getFileName())
+                .ifNoneMatch(previousVersionTag)
+                .build();
+        try {
+            final ResponseBytes<GetObjectResponse> response = s3Client.getObjectAsBytes(getObjectRequest);
+            return new FileContents(response.asByteArrayUnsafe(), response.response().eTag());
+        } catch (final S3Exception e) {
+            if (e.statusCode() == S3_NOT_MODIFIED_STATUS_CODE) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    static String toRegistryKey(final FileParameterConfig fileParameterConfig) {
+        final S3ObjectConfig awsConfig = fileParameterConfig.getAwsConfig();
+        if (awsConfig == null) {
+            return "file:" + Paths.get(fileParameterConfig.getFileName()).toAbsolutePath().normalize();
+        }
+        return String.join(":", "s3", awsConfig.getRegion(), awsConfig.getStsRoleArn(), awsConfig.getBucket(),
+                fileParameterConfig.getFileName());
+    }
+
+    private static class Snapshot {
+        private final List<MappingsParameterConfig> mappingsParameterConfigs;
+        private final String versionTag;
+        private final long version;
+
+        private Snapshot(final List<MappingsParameterConfig> mappingsParameterConfigs, final String versionTag, final long version) {
+            this.mappingsParameterConfigs = mappingsParameterConfigs;
+            this.versionTag = versionTag;
+            this.version = version;
+        }
+    }
+
+    private static class FileContents {
+        private final byte[] contents;
+        private final String versionTag;
+
+        private FileContents(final byte[] contents, final String versionTag) {
+            this.contents = contents;
+            this.versionTag = versionTag;
+        }
+    }
+}
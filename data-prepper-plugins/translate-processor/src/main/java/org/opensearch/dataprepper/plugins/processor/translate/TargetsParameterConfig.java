@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.annotations.AlsoRequired;
 import org.opensearch.dataprepper.plugins.processor.mutateevent.TargetType;
 import org.opensearch.dataprepper.typeconverter.TypeConverter;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -24,7 +25,11 @@ public class TargetsParameterConfig {
     private final TypeConverter converter;
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
-    private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+    private RangeLookup rangeLookup = new RangeLookup(Map.of());
+    private PatternLookup patternLookup = new PatternLookup(Map.of(), RegexParameterConfiguration.DEFAULT_EXACT);
+    private ExactLookup exactLookup = key -> Optional.ofNullable(individualMappings.get(key));
+    private boolean mappingsParsed;
     @JsonProperty("target")
     @JsonPropertyDescription("The key that specifies the field in the output in which the translated value will be placed.")
     @NotNull
@@ -109,6 +114,18 @@ public class TargetsParameterConfig {
         return compiledPatterns;
     }
 
+    public ExactLookup fetchExactLookup() {
+        return exactLookup;
+    }
+
+    public RangeLookup fetchRangeLookup() {
+        return rangeLookup;
+    }
+
+    public PatternLookup fetchPatternLookup() {
+        return patternLookup;
+    }
+
     public TypeConverter getConverter() {
         return converter;
     }
@@ -154,11 +171,34 @@ public class TargetsParameterConfig {
         return true;
     }
 
-    public void parseMappings() {
+    public synchronized void parseMappings() {
+        if (mappingsParsed) {
+            return;
+        }
         MappingsParser parser = new MappingsParser(this);
         individualMappings.putAll(parser.fetchIndividualMappings());
         rangeMappings.putAll(parser.fetchRangeMappings());
         compiledPatterns.putAll(parser.fetchCompiledPatterns());
+        rangeLookup = new RangeLookup(rangeMappings);
+        final boolean exact = Objects.isNull(regexParameterConfig) || !Boolean.FALSE.equals(regexParameterConfig.getExact());
+        patternLookup = new PatternLookup(compiledPatterns, exact);
+        mappingsParsed = true;
+    }
+
+    /**
+     * Moves the individual keys of the map option into a memory-mapped table. The map option is released
+     * afterwards, so this is only used for mappings which are read from a file and are not validated again.
+     *
+     * @throws IOException if the table cannot be built, in which case the mappings stay on the heap
+     */
+    synchronized void mapIndividualMappings() throws IOException {
+        parseMappings();
+        if (individualMappings.isEmpty()) {
+            return;
+        }
+        exactLookup = MappedExactLookup.build(individualMappings);
+        individualMappings.clear();
+        map = null;
     }
 
 }
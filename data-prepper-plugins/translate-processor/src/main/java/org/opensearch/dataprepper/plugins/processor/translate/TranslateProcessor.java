@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
-import org.apache.commons.lang3.Range;
 import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -14,6 +13,8 @@ import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
@@ -25,13 +26,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 
@@ -39,32 +38,66 @@ import java.util.stream.Collectors;
 public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(TranslateProcessor.class);
     private final ExpressionEvaluator expressionEvaluator;
-    private final List<MappingsParameterConfig> mappingsConfig;
+    private final TranslateProcessorConfig translateProcessorConfig;
+    private final EventKeyFactory eventKeyFactory;
+    private final SharedFileMappings sharedFileMappings;
+    private long fileMappingsVersion;
+    private List<MappingsParameterConfig> mappingsConfig;
+    private List<SourcePaths> sourcePaths;
     private final JacksonEvent.Builder eventBuilder= JacksonEvent.builder();
     private final JsonExtractor jsonExtractor = new JsonExtractor();
 
     @DataPrepperPluginConstructor
-    public TranslateProcessor(PluginMetrics pluginMetrics, final TranslateProcessorConfig translateProcessorConfig, final ExpressionEvaluator expressionEvaluator) {
+    public TranslateProcessor(PluginMetrics pluginMetrics, final TranslateProcessorConfig translateProcessorConfig,
+                              final ExpressionEvaluator expressionEvaluator, final EventKeyFactory eventKeyFactory) {
         super(pluginMetrics);
         this.expressionEvaluator = expressionEvaluator;
-        mappingsConfig = translateProcessorConfig.getCombinedMappingsConfigs();
+        this.translateProcessorConfig = translateProcessorConfig;
+        this.eventKeyFactory = eventKeyFactory;
+        sharedFileMappings = Optional.ofNullable(translateProcessorConfig.getFileParameterConfig())
+                .map(SharedFileMappings::acquire)
+                .orElse(null);
+        if (sharedFileMappings == null) {
+            setMappingsConfig(translateProcessorConfig.getCombinedMappingsConfigs());
+        } else {
+            fileMappingsVersion = sharedFileMappings.getVersion();
+            setMappingsConfig(translateProcessorConfig.combineMappings(sharedFileMappings.getMappingsParameterConfigs()));
+        }
+    }
+
+    private void setMappingsConfig(final List<MappingsParameterConfig> mappingsConfig) {
         Optional.ofNullable(mappingsConfig)
                 .ifPresent(configs -> configs.forEach(MappingsParameterConfig::parseMappings));
+        sourcePaths = Optional.ofNullable(mappingsConfig)
+                .map(configs -> configs.stream()
+                        .map(config -> createSourcePaths(config.getSource(), eventKeyFactory))
+                        .collect(Collectors.toList()))
+                .orElse(List.of());
+        this.mappingsConfig = mappingsConfig;
+    }
+
+    private void reloadFileMappingsIfChanged() {
+        if (sharedFileMappings == null || sharedFileMappings.getVersion() == fileMappingsVersion) {
+            return;
+        }
+        fileMappingsVersion = sharedFileMappings.getVersion();
+        setMappingsConfig(translateProcessorConfig.combineMappings(sharedFileMappings.getMappingsParameterConfigs()));
     }
 
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
+        reloadFileMappingsIfChanged();
         for (final Record<Event> record : records) {
             if(Objects.isNull(mappingsConfig)){
                 continue;
             }
             final Event recordEvent = record.getData();
-            for (MappingsParameterConfig mappingConfig : mappingsConfig) {
+            for (int i = 0; i < mappingsConfig.size(); i++) {
+                final MappingsParameterConfig mappingConfig = mappingsConfig.get(i);
                 try {
                     List<TargetsParameterConfig> targetsConfig = mappingConfig.getTargetsParameterConfigs();
                     for (TargetsParameterConfig targetConfig : targetsConfig) {
-                        Object sourceObject = mappingConfig.getSource();
-                        translateSource(sourceObject, recordEvent, targetConfig);
+                        translateSource(sourcePaths.get(i), recordEvent, targetConfig);
                     }
                 } catch (Exception ex) {
                     LOG.atError()
@@ -94,41 +127,61 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         return sourceKeys;
     }
 
-    private void translateSource(Object sourceObject, Event recordEvent, TargetsParameterConfig targetConfig) {
-        List<String> sourceKeysPaths = getSourceKeys(sourceObject);
-        if(sourceKeysPaths.isEmpty()){
-            return;
+    /**
+     * Resolves the source option into the keys which are read from each event, so that an event is never
+     * converted to a Map as a whole. Sources at the root of the event are read through their own
+     * {@link EventKey}s, while nested sources only read the root field which contains them.
+     */
+    private SourcePaths createSourcePaths(final Object sourceObject, final EventKeyFactory eventKeyFactory) {
+        final List<String> sourceKeysPaths = getSourceKeys(sourceObject);
+        final List<String> sourceKeys = new ArrayList<>();
+        for (String sourceKeyPath : sourceKeysPaths) {
+            sourceKeys.add(jsonExtractor.getLeafField(sourceKeyPath));
+        }
+        if (sourceKeysPaths.isEmpty()) {
+            return new SourcePaths(sourceObject, sourceKeys, List.of(), "", null);
         }
 
-        List<String> sourceKeys = new ArrayList<>();
-        for(String sourceKeyPath: sourceKeysPaths){
-            sourceKeys.add(jsonExtractor.getLeafField(sourceKeyPath));
+        final String commonPath = jsonExtractor.getParentPath(sourceKeysPaths.get(0));
+        if (commonPath.isEmpty()) {
+            final List<EventKey> sourceEventKeys = sourceKeys.stream()
+                    .map(sourceKey -> eventKeyFactory.createEventKey(sourceKey, EventKeyFactory.EventAction.GET))
+                    .collect(Collectors.toList());
+            return new SourcePaths(sourceObject, sourceKeys, sourceEventKeys, commonPath, null);
+        }
+        final EventKey rootKey = eventKeyFactory.createEventKey(jsonExtractor.getRootField(commonPath),
+                EventKeyFactory.EventAction.GET, EventKeyFactory.EventAction.PUT);
+        return new SourcePaths(sourceObject, sourceKeys, List.of(), commonPath, rootKey);
+    }
+
+    private void translateSource(SourcePaths paths, Event recordEvent, TargetsParameterConfig targetConfig) {
+        if(paths.sourceKeys.isEmpty()){
+            return;
         }
 
-        String commonPath = jsonExtractor.getParentPath(sourceKeysPaths.get(0));
-        if(commonPath.isEmpty()) {
-            performMappings(recordEvent, sourceKeys, sourceObject, targetConfig);
+        if(paths.rootKey == null) {
+            performMappings(recordEvent, paths, targetConfig);
             return;
         }
 
-        String rootField = jsonExtractor.getRootField(commonPath);
-        if (!recordEvent.containsKey(rootField)) {
+        final Object rootObject = recordEvent.get(paths.rootKey, Object.class);
+        if (rootObject == null) {
             return;
         }
-        Map<String, Object> recordObject =  recordEvent.toMap();
-        List<Object> targetObjects = jsonExtractor.getObjectFromPath(commonPath, recordObject);
+        final String rootField = paths.rootKey.getKey();
+        List<Object> targetObjects = jsonExtractor.getObjectFromPath(paths.commonPath, Collections.singletonMap(rootField, rootObject));
         if(!targetObjects.isEmpty()) {
-            targetObjects.forEach(targetObj -> performMappings(targetObj, sourceKeys, sourceObject, targetConfig));
-            recordEvent.put(rootField,recordObject.get(rootField));
+            targetObjects.forEach(targetObj -> performMappings(targetObj, paths, targetConfig));
+            recordEvent.put(paths.rootKey, rootObject);
         }
     }
 
-    private String getSourceValue(Object recordObject, String sourceKey) {
+    private String getSourceValue(Object recordObject, SourcePaths paths, int sourceIndex) {
         Optional<Object> sourceValue;
         if (recordObject instanceof Map) {
-            sourceValue = Optional.ofNullable(((Map<?, ?>) recordObject).get(sourceKey));
+            sourceValue = Optional.ofNullable(((Map<?, ?>) recordObject).get(paths.sourceKeys.get(sourceIndex)));
         } else {
-            sourceValue = Optional.ofNullable(((Event) recordObject).get(sourceKey, String.class));
+            sourceValue = Optional.ofNullable(((Event) recordObject).get(paths.sourceEventKeys.get(sourceIndex), String.class));
         }
         return sourceValue.map(Object::toString).orElse(null);
     }
@@ -144,11 +197,11 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
                 .collect(Collectors.toList());
     }
 
-    private void performMappings(Object recordObject, List<String> sourceKeys, Object sourceObject, TargetsParameterConfig targetConfig) {
+    private void performMappings(Object recordObject, SourcePaths paths, TargetsParameterConfig targetConfig) {
         if (Objects.isNull(recordObject) ||
-            Objects.isNull(sourceObject) ||
+            Objects.isNull(paths.sourceObject) ||
             Objects.isNull(targetConfig) ||
-            sourceKeys.isEmpty()) {
+            paths.sourceKeys.isEmpty()) {
             return;
         }
         String translateWhen = targetConfig.getTranslateWhen();
@@ -156,14 +209,14 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
             return;
         }
         List<Object> targetValues = new ArrayList<>();
-        for (String sourceKey : sourceKeys) {
-            String sourceValue = getSourceValue(recordObject, sourceKey);
+        for (int i = 0; i < paths.sourceKeys.size(); i++) {
+            String sourceValue = getSourceValue(recordObject, paths, i);
             if(sourceValue!=null){
                 Optional<Object> targetValue = getTargetValueForSource(sourceValue, targetConfig);
                 targetValue.ifPresent(targetValues::add);
             }
         }
-        addTargetToRecords(sourceObject, targetValues, recordObject, targetConfig);
+        addTargetToRecords(paths.sourceObject, targetValues, recordObject, targetConfig);
     }
 
     private boolean isExpressionValid(String translateWhen, Object recordObject){
@@ -187,45 +240,19 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private Optional<Object> matchesIndividualEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<String, Object> individualMappings = targetConfig.fetchIndividualMappings();
-        if (individualMappings.containsKey(sourceValue)) {
-            return Optional.of(individualMappings.get(sourceValue));
-        }
-        return Optional.empty();
+        return targetConfig.fetchExactLookup().lookup(sourceValue);
     }
 
     private Optional<Object> matchesRangeEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        if (!NumberUtils.isParsable(sourceValue)) {
+        final RangeLookup rangeLookup = targetConfig.fetchRangeLookup();
+        if (rangeLookup.isEmpty() || !NumberUtils.isParsable(sourceValue)) {
             return Optional.empty();
         }
-        Float floatKey = Float.parseFloat(sourceValue);
-        LinkedHashMap<Range<Float>, Object> rangeMappings = targetConfig.fetchRangeMappings();
-        for (Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
-            Range<Float> range = rangeEntry.getKey();
-            if (range.contains(floatKey)) {
-                return Optional.of(rangeEntry.getValue());
-            }
-        }
-        return Optional.empty();
+        return rangeLookup.lookup(Float.parseFloat(sourceValue));
     }
 
     private Optional<Object> matchesPatternEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<Pattern, Object> compiledPatterns = targetConfig.fetchCompiledPatterns();
-        if (compiledPatterns.isEmpty()) {
-            return Optional.empty();
-        }
-        final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
-            Matcher matcher = pattern.matcher(sourceValue);
-            if (matcher.matches()) {
-                return Optional.of(compiledPatterns.get(pattern));
-            }
-            if(!exact && matcher.find()) {
-                String targetValue = (String)compiledPatterns.get(pattern);
-                return Optional.of(matcher.replaceAll(targetValue));
-            }
-        }
-        return Optional.empty();
+        return targetConfig.fetchPatternLookup().lookup(sourceValue);
     }
 
     private void addTargetToRecords(Object sourceObject, List<Object> targetValues, Object recordObject, TargetsParameterConfig targetMappings) {
@@ -254,6 +281,25 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public void shutdown() {
+        if (sharedFileMappings != null) {
+            sharedFileMappings.release();
+        }
+    }
+
+    private static class SourcePaths {
+        private final Object sourceObject;
+        private final List<String> sourceKeys;
+        private final List<EventKey> sourceEventKeys;
+        private final String commonPath;
+        private final EventKey rootKey;
 
+        private SourcePaths(final Object sourceObject, final List<String> sourceKeys, final List<EventKey> sourceEventKeys,
+                            final String commonPath, final EventKey rootKey) {
+            this.sourceObject = sourceObject;
+            this.sourceKeys = sourceKeys;
+            this.sourceEventKeys = sourceEventKeys;
+            this.commonPath = commonPath;
+            this.rootKey = rootKey;
+        }
     }
 }
@@ -53,11 +53,19 @@ public class TranslateProcessorConfig {
     @AssertTrue(message = "Please ensure that at least one of the options, either \"mappings\" or \"file_path\", is properly configured.")
     public boolean hasMappings() {
         isFileValid();
-        MappingsHandler handler = new MappingsHandler();
-        combinedMappingsConfigs = handler.getCombinedMappings(mappingsParameterConfigs, fileMappingsConfigs);
+        combinedMappingsConfigs = combineMappings(fileMappingsConfigs);
         return Objects.nonNull(combinedMappingsConfigs);
     }
 
+    /**
+     * @param fileMappingsConfigs the mappings read from the file option
+     * @return the inline mappings combined with the file mappings
+     */
+    public List<MappingsParameterConfig> combineMappings(final List<MappingsParameterConfig> fileMappingsConfigs) {
+        MappingsHandler handler = new MappingsHandler();
+        return handler.getCombinedMappings(mappingsParameterConfigs, fileMappingsConfigs);
+    }
+
     @AssertTrue(message = "\"mappings\" option should not be empty.")
     public boolean isMappingsValid() {
         return Objects.nonNull(mappingsParameterConfigs);
@@ -68,7 +76,9 @@ public class TranslateProcessorConfig {
         if (fileParameterConfig == null) {
             return true;
         }
-        fileMappingsConfigs = fileParameterConfig.getFileMappings();
+        fileMappingsConfigs = SharedFileMappings.forFile(fileParameterConfig)
+                .map(SharedFileMappings::getMappingsParameterConfigs)
+                .orElse(null);
         return Objects.nonNull(fileMappingsConfigs);
     }
 
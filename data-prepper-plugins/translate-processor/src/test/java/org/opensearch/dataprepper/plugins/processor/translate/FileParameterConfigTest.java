@@ -6,11 +6,15 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
 class FileParameterConfigTest {
@@ -54,4 +58,20 @@ class FileParameterConfigTest {
         assertEquals(Map.of("120", "success"), targetsParameterConfig.getMap());
     }
 
-}
\ No newline at end of file
+    @Test
+    void refresh_interval_is_not_configured_by_default() {
+        assertThat(fileParameterConfig.getRefreshInterval(), nullValue());
+        assertTrue(fileParameterConfig.isRefreshIntervalValid());
+    }
+
+    @Test
+    void refresh_interval_must_be_at_least_one_second() throws NoSuchFieldException, IllegalAccessException {
+        setField(FileParameterConfig.class, fileParameterConfig, "refreshInterval", Duration.ofMinutes(5));
+        assertThat(fileParameterConfig.getRefreshInterval(), is(Duration.ofMinutes(5)));
+        assertTrue(fileParameterConfig.isRefreshIntervalValid());
+
+        setField(FileParameterConfig.class, fileParameterConfig, "refreshInterval", Duration.ofMillis(500));
+        assertFalse(fileParameterConfig.isRefreshIntervalValid());
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MappedExactLookupTest {
+
+    @Test
+    void lookup_returns_the_mapped_values() throws IOException {
+        final Map<String, Object> mappings = new HashMap<>();
+        mappings.put("key1", "mappedValue1");
+        mappings.put("404", 404);
+        mappings.put("enabled", true);
+        mappings.put("ratio", 0.5);
+        mappings.put("nested", Map.of("key", List.of("a", "b")));
+        mappings.put("\u043a\u043b\u044e\u0447", "\u0437\u043d\u0430\u0447\u0435\u043d\u0438\u0435");
+        mappings.put("", "empty");
+        mappings.put("missingValue", null);
+
+        final MappedExactLookup objectUnderTest = MappedExactLookup.build(mappings);
+
+        assertThat(objectUnderTest.size(), equalTo(mappings.size()));
+        assertThat(objectUnderTest.lookup("key1"), equalTo(Optional.of("mappedValue1")));
+        assertThat(objectUnderTest.lookup("404"), equalTo(Optional.of(404)));
+        assertThat(objectUnderTest.lookup("enabled"), equalTo(Optional.of(true)));
+        assertThat(objectUnderTest.lookup("ratio"), equalTo(Optional.of(0.5)));
+        assertThat(objectUnderTest.lookup("nested"), equalTo(Optional.of(Map.of("key", List.of("a", "b")))));
+        assertThat(objectUnderTest.lookup("\u043a\u043b\u044e\u0447"), equalTo(Optional.of("\u0437\u043d\u0430\u0447\u0435\u043d\u0438\u0435")));
+        assertThat(objectUnderTest.lookup(""), equalTo(Optional.of("empty")));
+        assertThat(objectUnderTest.lookup("missingValue"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.lookup("key"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.lookup("key10"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void lookup_finds_every_key_of_a_large_table() throws IOException {
+        final Map<String, Object> mappings = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            mappings.put(UUID.randomUUID().toString(), "value" + i);
+        }
+
+        final MappedExactLookup objectUnderTest = MappedExactLookup.build(mappings);
+
+        for (final Map.Entry<String, Object> mapping : mappings.entrySet()) {
+            assertThat(objectUnderTest.lookup(mapping.getKey()), equalTo(Optional.of(mapping.getValue())));
+        }
+        assertThat(objectUnderTest.lookup(UUID.randomUUID().toString()), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void lookup_on_an_empty_table_returns_empty() throws IOException {
+        final MappedExactLookup objectUnderTest = MappedExactLookup.build(Map.of());
+
+        assertThat(objectUnderTest.size(), equalTo(0));
+        assertThat(objectUnderTest.lookup("key1"), equalTo(Optional.empty()));
+    }
+}
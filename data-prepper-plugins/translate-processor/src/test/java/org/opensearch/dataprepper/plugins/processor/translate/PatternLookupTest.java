@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class PatternLookupTest {
+
+    private static Map<Pattern, Object> compilePatterns(final String... patternsAndValues) {
+        final Map<Pattern, Object> compiledPatterns = new LinkedHashMap<>();
+        for (int i = 0; i < patternsAndValues.length; i += 2) {
+            compiledPatterns.put(Pattern.compile(patternsAndValues[i]), patternsAndValues[i + 1]);
+        }
+        return compiledPatterns;
+    }
+
+    @Test
+    void lookup_without_patterns_returns_empty() {
+        assertThat(new PatternLookup(Map.of(), true).lookup("value"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void exact_lookup_returns_the_first_pattern_which_matches_the_whole_value() {
+        final PatternLookup objectUnderTest = new PatternLookup(compilePatterns(
+                "(a)(b)c", "first",
+                "4[0-9]{2}", "clientError",
+                "40([0-9])", "notFound",
+                "((5))[0-9]{2}", "serverError"), true);
+
+        assertThat(objectUnderTest.isCombined(), equalTo(true));
+        assertThat(objectUnderTest.lookup("abc"), equalTo(Optional.of("first")));
+        assertThat(objectUnderTest.lookup("404"), equalTo(Optional.of("clientError")));
+        assertThat(objectUnderTest.lookup("503"), equalTo(Optional.of("serverError")));
+        assertThat(objectUnderTest.lookup("x404"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.lookup("abcd"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void inline_flags_only_apply_to_their_own_pattern() {
+        final PatternLookup objectUnderTest = new PatternLookup(compilePatterns(
+                "(?i)error", "error",
+                "warn", "warn"), true);
+
+        assertThat(objectUnderTest.lookup("ERROR"), equalTo(Optional.of("error")));
+        assertThat(objectUnderTest.lookup("WARN"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void non_exact_lookup_prefers_earlier_patterns_over_the_leftmost_match() {
+        final PatternLookup objectUnderTest = new PatternLookup(compilePatterns(
+                "bar", "BAR",
+                "foo", "FOO",
+                "^(1[0-9]|20)$", "teen"), false);
+
+        assertThat(objectUnderTest.isCombined(), equalTo(true));
+        assertThat(objectUnderTest.lookup("foobar"), equalTo(Optional.of("fooBAR")));
+        assertThat(objectUnderTest.lookup("foofoo"), equalTo(Optional.of("FOOFOO")));
+        assertThat(objectUnderTest.lookup("15"), equalTo(Optional.of("teen")));
+        assertThat(objectUnderTest.lookup("fo"), equalTo(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(a)\\1", "(?<word>a)\\k<word>", "(?x)a b", "\\Qa|b"})
+    void patterns_which_cannot_be_combined_are_matched_one_at_a_time(final String pattern) {
+        final PatternLookup objectUnderTest = new PatternLookup(compilePatterns(
+                "first", "first",
+                pattern, "matched"), true);
+
+        assertThat(objectUnderTest.isCombined(), equalTo(false));
+        assertThat(objectUnderTest.lookup("first"), equalTo(Optional.of("first")));
+        assertThat(objectUnderTest.lookup("other"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void patterns_with_conflicting_group_names_are_matched_one_at_a_time() {
+        final PatternLookup objectUnderTest = new PatternLookup(compilePatterns(
+                "(?<code>4[0-9]{2})", "clientError",
+                "(?<code>5[0-9]{2})", "serverError"), true);
+
+        assertThat(objectUnderTest.isCombined(), equalTo(false));
+        assertThat(objectUnderTest.lookup("404"), equalTo(Optional.of("clientError")));
+        assertThat(objectUnderTest.lookup("503"), equalTo(Optional.of("serverError")));
+    }
+}
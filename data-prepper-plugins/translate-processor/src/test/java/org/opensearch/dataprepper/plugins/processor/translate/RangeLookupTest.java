@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.apache.commons.lang3.Range;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class RangeLookupTest {
+
+    private RangeLookup createObjectUnderTest() {
+        final Map<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
+        rangeMappings.put(Range.between(100f, 199f), "informational");
+        rangeMappings.put(Range.between(1f, 10f), "small");
+        rangeMappings.put(Range.between(20.5f, 30f), "medium");
+        return new RangeLookup(rangeMappings);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, small",
+            "5.5, small",
+            "10, small",
+            "20.5, medium",
+            "30, medium",
+            "150, informational",
+            "199, informational"
+    })
+    void lookup_returns_the_value_of_the_range_containing_the_key(final Float key, final String expectedValue) {
+        assertThat(createObjectUnderTest().lookup(key), equalTo(Optional.of(expectedValue)));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0", "10.5", "20", "31", "200", "-5"})
+    void lookup_returns_empty_when_no_range_contains_the_key(final Float key) {
+        assertThat(createObjectUnderTest().lookup(key), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void isEmpty_returns_true_only_without_ranges() {
+        assertThat(new RangeLookup(Map.of()).isEmpty(), equalTo(true));
+        assertThat(createObjectUnderTest().isEmpty(), equalTo(false));
+    }
+}
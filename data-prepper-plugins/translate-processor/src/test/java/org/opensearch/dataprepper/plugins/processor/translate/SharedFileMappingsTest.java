@@ -0,0 +1,249 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+@ExtendWith(MockitoExtension.class)
+class SharedFileMappingsTest {
+    private static final String FILE_CONTENT_FORMAT = "mappings:\n" +
+                                                      "  - source: status\n" +
+                                                      "    targets:\n" +
+                                                      "      - target: result\n" +
+                                                      "        map:\n" +
+                                                      "          404: %s\n" +
+                                                      "          1-10: small\n";
+
+    @Mock
+    private MappingsHandler mappingsHandler;
+
+    @Mock
+    private S3Client s3Client;
+
+    private File testMappingsFile;
+    private FileParameterConfig fileParameterConfig;
+
+    @BeforeEach
+    void setup() throws IOException, NoSuchFieldException, IllegalAccessException {
+        testMappingsFile = File.createTempFile("test", ".yaml");
+        writeMappings("Not Found");
+        fileParameterConfig = new FileParameterConfig();
+        setField(FileParameterConfig.class, fileParameterConfig, "fileName", testMappingsFile.getAbsolutePath());
+    }
+
+    @AfterEach
+    void cleanup() {
+        testMappingsFile.delete();
+    }
+
+    @Test
+    void forFile_reads_the_mappings_and_maps_the_individual_keys() {
+        final Optional<SharedFileMappings> sharedFileMappings = SharedFileMappings.forFile(fileParameterConfig);
+
+        assertThat(sharedFileMappings.isPresent(), equalTo(true));
+
+        final TargetsParameterConfig targetsParameterConfig = getTargetsParameterConfig(sharedFileMappings.get());
+        assertThat(targetsParameterConfig.fetchExactLookup(), instanceOf(MappedExactLookup.class));
+        assertThat(targetsParameterConfig.fetchExactLookup().lookup("404"), equalTo(Optional.of("Not Found")));
+        assertThat(targetsParameterConfig.fetchRangeLookup().lookup(5f), equalTo(Optional.of("small")));
+        assertThat(targetsParameterConfig.fetchIndividualMappings().isEmpty(), equalTo(true));
+        assertThat(targetsParameterConfig.getMap(), nullValue());
+    }
+
+    @Test
+    void forFile_does_not_keep_mappings_which_no_processor_acquired() {
+        final SharedFileMappings sharedFileMappings = SharedFileMappings.forFile(fileParameterConfig).get();
+
+        assertThat(SharedFileMappings.forFile(fileParameterConfig).get(), not(sameInstance(sharedFileMappings)));
+
+        final SharedFileMappings acquiredFileMappings = SharedFileMappings.acquire(fileParameterConfig);
+        assertThat(acquiredFileMappings, not(sameInstance(sharedFileMappings)));
+        acquiredFileMappings.release();
+    }
+
+    @Test
+    void forFile_returns_the_acquired_mappings() {
+        final SharedFileMappings acquiredFileMappings = SharedFileMappings.acquire(fileParameterConfig);
+
+        assertThat(SharedFileMappings.forFile(fileParameterConfig).get(), sameInstance(acquiredFileMappings));
+        acquiredFileMappings.release();
+    }
+
+    @Test
+    void forFile_returns_empty_for_a_missing_file() throws NoSuchFieldException, IllegalAccessException {
+        setField(FileParameterConfig.class, fileParameterConfig, "fileName", "/invalid/file/" + UUID.randomUUID() + ".yaml");
+
+        assertThat(SharedFileMappings.forFile(fileParameterConfig).isPresent(), equalTo(false));
+        assertThrows(InvalidPluginConfigurationException.class, () -> SharedFileMappings.acquire(fileParameterConfig));
+    }
+
+    @Test
+    void release_of_the_last_reference_reads_the_file_again_for_the_next_processor() {
+        final SharedFileMappings first = SharedFileMappings.acquire(fileParameterConfig);
+        final SharedFileMappings second = SharedFileMappings.acquire(fileParameterConfig);
+        assertThat(second, sameInstance(first));
+
+        first.release();
+        assertThat(SharedFileMappings.forFile(fileParameterConfig).get(), sameInstance(first));
+
+        second.release();
+        final SharedFileMappings third = SharedFileMappings.acquire(fileParameterConfig);
+        assertThat(third, not(sameInstance(first)));
+        third.release();
+    }
+
+    @Test
+    void refresh_replaces_the_mappings_only_when_the_file_changes() throws IOException {
+        final SharedFileMappings objectUnderTest = SharedFileMappings.acquire(fileParameterConfig);
+        final List<MappingsParameterConfig> initialMappings = objectUnderTest.getMappingsParameterConfigs();
+
+        objectUnderTest.refresh();
+        assertThat(objectUnderTest.getVersion(), equalTo(0L));
+        assertThat(objectUnderTest.getMappingsParameterConfigs(), sameInstance(initialMappings));
+
+        writeMappings("Missing");
+        testMappingsFile.setLastModified(testMappingsFile.lastModified() + 10_000);
+        objectUnderTest.refresh();
+
+        assertThat(objectUnderTest.getVersion(), equalTo(1L));
+        assertThat(getTargetsParameterConfig(objectUnderTest).fetchExactLookup().lookup("404"), equalTo(Optional.of("Missing")));
+        objectUnderTest.release();
+    }
+
+    @Test
+    void refresh_keeps_the_previous_mappings_when_the_file_is_invalid() throws IOException {
+        final SharedFileMappings objectUnderTest = SharedFileMappings.acquire(fileParameterConfig);
+
+        Files.write(testMappingsFile.toPath(), "mappings:".getBytes(StandardCharsets.UTF_8));
+        testMappingsFile.setLastModified(testMappingsFile.lastModified() + 10_000);
+        objectUnderTest.refresh();
+
+        assertThat(objectUnderTest.getVersion(), equalTo(0L));
+        assertThat(getTargetsParameterConfig(objectUnderTest).fetchExactLookup().lookup("404"), equalTo(Optional.of("Not Found")));
+        objectUnderTest.release();
+    }
+
+    @Test
+    void refresh_of_an_s3_object_only_reads_it_again_when_its_etag_changes() throws NoSuchFieldException, IllegalAccessException {
+        final S3ObjectConfig s3ObjectConfig = new S3ObjectConfig();
+        setField(S3ObjectConfig.class, s3ObjectConfig, "bucket", "my-bucket");
+        setField(FileParameterConfig.class, fileParameterConfig, "awsConfig", s3ObjectConfig);
+        setField(FileParameterConfig.class, fileParameterConfig, "refreshInterval", Duration.ofMinutes(1));
+        when(mappingsHandler.createS3Client(s3ObjectConfig)).thenReturn(s3Client);
+        when(mappingsHandler.getMappingsFromByteArray(any())).thenAnswer(invocation ->
+                new MappingsHandler().getMappingsFromByteArray(invocation.getArgument(0)));
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(s3Object("Not Found", "etag1"))
+                .thenThrow(S3Exception.builder().statusCode(304).build())
+                .thenReturn(s3Object("Missing", "etag2"));
+
+        final SharedFileMappings objectUnderTest = new SharedFileMappings(UUID.randomUUID().toString(), fileParameterConfig, mappingsHandler);
+        objectUnderTest.refresh();
+        assertThat(objectUnderTest.getVersion(), equalTo(0L));
+        assertThat(getTargetsParameterConfig(objectUnderTest).fetchExactLookup().lookup("404"), equalTo(Optional.of("Not Found")));
+
+        objectUnderTest.refresh();
+        assertThat(objectUnderTest.getVersion(), equalTo(0L));
+
+        objectUnderTest.refresh();
+        assertThat(objectUnderTest.getVersion(), equalTo(1L));
+        assertThat(getTargetsParameterConfig(objectUnderTest).fetchExactLookup().lookup("404"), equalTo(Optional.of("Missing")));
+
+        final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(3)).getObjectAsBytes(requestArgumentCaptor.capture());
+        final List<GetObjectRequest> requests = requestArgumentCaptor.getAllValues();
+        assertThat(requests.get(0).ifNoneMatch(), nullValue());
+        assertThat(requests.get(1).ifNoneMatch(), equalTo("etag1"));
+        assertThat(requests.get(2).ifNoneMatch(), equalTo("etag1"));
+        assertThat(requests.get(2).bucket(), equalTo("my-bucket"));
+        assertThat(requests.get(2).key(), equalTo(testMappingsFile.getAbsolutePath()));
+        verify(mappingsHandler, times(1)).createS3Client(s3ObjectConfig);
+    }
+
+    @Test
+    void forFile_closes_the_s3_client_of_mappings_which_are_not_kept() throws NoSuchFieldException, IllegalAccessException {
+        final S3ObjectConfig s3ObjectConfig = configureS3Object();
+
+        assertThat(SharedFileMappings.forFile(fileParameterConfig, mappingsHandler).isPresent(), equalTo(true));
+
+        verify(mappingsHandler).createS3Client(s3ObjectConfig);
+        verify(s3Client).close();
+    }
+
+    @Test
+    void release_of_the_last_reference_closes_the_s3_client() throws NoSuchFieldException, IllegalAccessException {
+        configureS3Object();
+
+        final SharedFileMappings first = SharedFileMappings.acquire(fileParameterConfig, mappingsHandler);
+        final SharedFileMappings second = SharedFileMappings.acquire(fileParameterConfig, mappingsHandler);
+        assertThat(second, sameInstance(first));
+
+        first.release();
+        verify(s3Client, never()).close();
+
+        second.release();
+        verify(s3Client).close();
+    }
+
+    private S3ObjectConfig configureS3Object() throws NoSuchFieldException, IllegalAccessException {
+        final S3ObjectConfig s3ObjectConfig = new S3ObjectConfig();
+        setField(S3ObjectConfig.class, s3ObjectConfig, "bucket", UUID.randomUUID().toString());
+        setField(FileParameterConfig.class, fileParameterConfig, "awsConfig", s3ObjectConfig);
+        when(mappingsHandler.createS3Client(s3ObjectConfig)).thenReturn(s3Client);
+        when(mappingsHandler.getMappingsFromByteArray(any())).thenAnswer(invocation ->
+                new MappingsHandler().getMappingsFromByteArray(invocation.getArgument(0)));
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class))).thenReturn(s3Object("Not Found", "etag1"));
+        return s3ObjectConfig;
+    }
+
+    private ResponseBytes<GetObjectResponse> s3Object(final String notFoundValue, final String eTag) {
+        return ResponseBytes.fromByteArray(GetObjectResponse.builder().eTag(eTag).build(),
+                String.format(FILE_CONTENT_FORMAT, notFoundValue).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeMappings(final String notFoundValue) throws IOException {
+        Files.write(testMappingsFile.toPath(), String.format(FILE_CONTENT_FORMAT, notFoundValue).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static TargetsParameterConfig getTargetsParameterConfig(final SharedFileMappings sharedFileMappings) {
+        return sharedFileMappings.getMappingsParameterConfigs().get(0).getTargetsParameterConfigs().get(0);
+    }
+}
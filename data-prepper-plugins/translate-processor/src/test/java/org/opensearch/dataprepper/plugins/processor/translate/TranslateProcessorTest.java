@@ -7,9 +7,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.record.Record;
@@ -23,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +35,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
@@ -55,6 +62,8 @@ class TranslateProcessorTest {
     @Mock
     private MappingsParameterConfig mappingsParameterConfig;
 
+    private final EventKeyFactory eventKeyFactory = TestEventKeyFactory.getTestEventFactory();
+
     @BeforeEach
     void setup() {
         lenient()
@@ -570,6 +579,54 @@ class TranslateProcessorTest {
         assertThat(translatedRecords.get(0).getData().get("collection", ArrayList.class), is(outputJson));
     }
 
+    @Test
+    void test_sources_are_read_without_converting_the_event_to_a_map() {
+        final Map<String, Object> testJson = new HashMap<>();
+        testJson.put("sourceField", "key1");
+        testJson.put("collection", List.of(Map.of("sourceField", "key2")));
+        final Event event = spy(buildRecordWithEvent(testJson).getData());
+
+        final TargetsParameterConfig nestedTargetsConfig = new TargetsParameterConfig(
+                createMapEntries(createMapping("key2", "mappedValue2")), "targetField", null, null, null, null);
+        final MappingsParameterConfig nestedMappingsConfig = mock(MappingsParameterConfig.class);
+        when(nestedMappingsConfig.getSource()).thenReturn("collection/sourceField");
+        when(nestedMappingsConfig.getTargetsParameterConfigs()).thenReturn(List.of(nestedTargetsConfig));
+        targetsParameterConfig = new TargetsParameterConfig(createMapEntries(createMapping("key1", "mappedValue1")),
+                                                            "targetField", null, null, null, null);
+        when(mappingsParameterConfig.getTargetsParameterConfigs()).thenReturn(List.of(targetsParameterConfig));
+        when(mockConfig.getCombinedMappingsConfigs()).thenReturn(List.of(mappingsParameterConfig, nestedMappingsConfig));
+
+        final TranslateProcessor processor = createObjectUnderTest();
+        processor.doExecute(Collections.singletonList(new Record<>(event)));
+
+        verify(event, never()).toMap();
+        assertThat(event.get("targetField", String.class), is("mappedValue1"));
+        assertThat(event.get("collection", ArrayList.class),
+                is(List.of(Map.of("sourceField", "key2", "targetField", "mappedValue2"))));
+    }
+
+    @Test
+    void test_first_configured_pattern_wins_when_several_patterns_match() {
+        final Map<String, Object> patterns = new LinkedHashMap<>();
+        patterns.put("^4[0-9]{2}$", "clientError");
+        patterns.put("^40[0-9]$", "shouldNotMatch");
+        patterns.put("^5[0-9]{2}$", "serverError");
+        when(mockRegexConfig.getPatterns()).thenReturn(patterns);
+        targetsParameterConfig = new TargetsParameterConfig(null, "targetField", mockRegexConfig, null, null, null);
+        when(mappingsParameterConfig.getTargetsParameterConfigs()).thenReturn(List.of(targetsParameterConfig));
+
+        final TranslateProcessor processor = createObjectUnderTest();
+        final Record<Event> record = getEvent("404");
+        final List<Record<Event>> translatedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(record));
+
+        assertThat(translatedRecords.get(0).getData().get("targetField", String.class), is("clientError"));
+
+        final Record<Event> serverErrorRecord = getEvent("503");
+        final List<Record<Event>> translatedServerErrorRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(serverErrorRecord));
+
+        assertThat(translatedServerErrorRecords.get(0).getData().get("targetField", String.class), is("serverError"));
+    }
+
     @Test
     void test_target_type_default() {
         targetsParameterConfig = new TargetsParameterConfig(createMapEntries(createMapping("key1", "200")),
@@ -721,6 +778,28 @@ class TranslateProcessorTest {
             assertThat(translatedRecords.get(0).getData().get("fileTarget", String.class), is("mappedValue1"));
         }
 
+        @Test
+        void test_file_mappings_are_reloaded_when_the_file_changes() throws IOException {
+            final TranslateProcessor processor = new TranslateProcessor(pluginMetrics, fileTranslateConfig, expressionEvaluator, eventKeyFactory);
+            final List<Record<Event>> translatedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(getEvent("key1")));
+
+            assertThat(translatedRecords.get(0).getData().get("fileTarget", String.class), is("fileMappedValue"));
+
+            Files.write(testMappingsFile.toPath(), ("mappings:\n" +
+                                                    "  - source: sourceField\n" +
+                                                    "    targets:\n" +
+                                                    "      - target: fileTarget\n" +
+                                                    "        map:\n" +
+                                                    "          key1: reloadedValue").getBytes());
+            testMappingsFile.setLastModified(testMappingsFile.lastModified() + 10_000);
+            SharedFileMappings.forFile(fileParameterConfig).get().refresh();
+
+            final List<Record<Event>> reloadedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(getEvent("key1")));
+
+            assertThat(reloadedRecords.get(0).getData().get("fileTarget", String.class), is("reloadedValue"));
+            processor.shutdown();
+        }
+
         void parseMappings(){
             fileTranslateConfig.hasMappings();
             fileTranslateConfig.getCombinedMappingsConfigs().get(0).parseMappings();
@@ -735,7 +814,7 @@ class TranslateProcessorTest {
     }
 
     private TranslateProcessor createObjectUnderTest() {
-        return new TranslateProcessor(pluginMetrics, mockConfig, expressionEvaluator);
+        return new TranslateProcessor(pluginMetrics, mockConfig, expressionEvaluator, eventKeyFactory);
     }
 
     private Record<Event> sourceAndTargetFields(Object sourceValue, Object targetValue) {
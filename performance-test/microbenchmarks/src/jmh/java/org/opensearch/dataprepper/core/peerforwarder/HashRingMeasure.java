@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import org.opensearch.dataprepper.core.peerforwarder.discovery.StaticPeerListProvider;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures finding the peer for an identification key on a hash ring of ten peers, as done for every event by the
+ * peer forwarder.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HashRingMeasure {
+    private static final int NUMBER_OF_PEERS = 10;
+    private static final int NUMBER_OF_KEYS = 1024;
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"MD5", "MURMUR3"})
+        private String algorithm;
+
+        @Param({"128"})
+        private int virtualNodes;
+
+        private HashRing hashRing;
+        private List<List<String>> identificationKeyValues;
+        private int index;
+
+        @Setup
+        public void setUp() {
+            final List<String> peers = new ArrayList<>(NUMBER_OF_PEERS);
+            for (int i = 0; i < NUMBER_OF_PEERS; i++) {
+                peers.add("10.0.0." + (i + 1));
+            }
+            hashRing = new HashRing(new StaticPeerListProvider(peers, PluginMetrics.fromNames("peer_forwarder", "benchmark")),
+                    virtualNodes, HashRingAlgorithm.valueOf(algorithm).getHashFunction());
+
+            identificationKeyValues = new ArrayList<>(NUMBER_OF_KEYS);
+            for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+                identificationKeyValues.add(List.of(UUID.randomUUID().toString().replace("-", "")));
+            }
+        }
+
+        private List<String> nextIdentificationKeyValues() {
+            index = (index + 1) & (NUMBER_OF_KEYS - 1);
+            return identificationKeyValues.get(index);
+        }
+    }
+
+    @Benchmark
+    public Optional<String> getServerIp(final BenchmarkState benchmarkState) {
+        return benchmarkState.hashRing.getServerIp(benchmarkState.nextIdentificationKeyValues());
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.codec.CompressionOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures serializing and deserializing a batch of forwarded events with each peer forwarder codec.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PeerForwarderCodecMeasure {
+    private static final int BATCH_SIZE = 100;
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"java", "json", "smile", "smile_zstd"})
+        private String codec;
+
+        private PeerForwarderCodec peerForwarderCodec;
+        private PeerForwardingEvents peerForwardingEvents;
+        private byte[] serializedEvents;
+
+        @Setup
+        public void setUp() throws Exception {
+            final PeerForwarderCodecAppConfig peerForwarderCodecAppConfig = new PeerForwarderCodecAppConfig();
+            switch (codec) {
+                case "java":
+                    final PeerForwarderConfiguration peerForwarderConfiguration =
+                            mock(PeerForwarderConfiguration.class, withSettings().stubOnly());
+                    when(peerForwarderConfiguration.getForwardingBatchSize()).thenReturn(BATCH_SIZE);
+                    peerForwarderCodec = new JavaPeerForwarderCodec(peerForwarderCodecAppConfig.objectInputFilter(peerForwarderConfiguration));
+                    break;
+                case "json":
+                    peerForwarderCodec = new JacksonPeerForwarderCodec(peerForwarderCodecAppConfig.objectMapper());
+                    break;
+                case "smile":
+                    peerForwarderCodec = new SmilePeerForwarderCodec(CompressionOption.NONE);
+                    break;
+                case "smile_zstd":
+                    peerForwarderCodec = new SmilePeerForwarderCodec(CompressionOption.ZSTD);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown codec: " + codec);
+            }
+
+            final List<Event> events = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                events.add(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of(
+                                "traceId", "4bf92f3577b34da6a3ce929d0e0e" + String.format("%04d", i),
+                                "message", "GET /index.html HTTP/1.1",
+                                "status", 200,
+                                "latency_ms", 12.5 + i,
+                                "request", Map.of("method", "GET", "headers", Map.of("user_agent", "Mozilla/5.0"))))
+                        .build());
+            }
+            peerForwardingEvents = new PeerForwardingEvents(events, "aggregate", "benchmark");
+            serializedEvents = peerForwarderCodec.serialize(peerForwardingEvents);
+        }
+    }
+
+    @Benchmark
+    public byte[] serialize(final BenchmarkState benchmarkState) throws Exception {
+        return benchmarkState.peerForwarderCodec.serialize(benchmarkState.peerForwardingEvents);
+    }
+
+    @Benchmark
+    public PeerForwardingEvents deserialize(final BenchmarkState benchmarkState) throws Exception {
+        return benchmarkState.peerForwarderCodec.deserialize(benchmarkState.serializedEvents);
+    }
+}
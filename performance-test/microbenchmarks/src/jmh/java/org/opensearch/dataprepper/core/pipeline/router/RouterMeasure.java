@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.opensearch.dataprepper.core.parser.DataFlowComponent;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Measures routing a batch of events to sinks by conditional routes, with the route conditions evaluated by the
+ * expression evaluator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouterMeasure {
+    private static final int BATCH_SIZE = 1000;
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private AnnotationConfigApplicationContext applicationContext;
+        private Router router;
+        private List<Record> records;
+        private List<DataFlowComponent<String>> dataFlowComponents;
+        private RouterGetRecordStrategy getRecordStrategy;
+
+        @Setup
+        public void setUp() {
+            applicationContext = new AnnotationConfigApplicationContext();
+            applicationContext.scan("org.opensearch.dataprepper.expression");
+            applicationContext.refresh();
+
+            final RouterFactory routerFactory = new RouterFactory(applicationContext.getBean(ExpressionEvaluator.class));
+            router = routerFactory.createRouter(Set.of(
+                    new ConditionalRoute("success", "/status < 300"),
+                    new ConditionalRoute("client_error", "/status >= 400 and /status < 500"),
+                    new ConditionalRoute("server_error", "/status >= 500"),
+                    new ConditionalRoute("slow", "/latency_ms > 1000")));
+
+            records = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                final int status = i % 20 == 0 ? 503 : i % 10 == 0 ? 404 : 200;
+                records.add(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of("status", status, "latency_ms", i % 7 == 0 ? 1500 : 20))
+                        .build()));
+            }
+
+            dataFlowComponents = List.of(
+                    createDataFlowComponent("all", Set.of()),
+                    createDataFlowComponent("success", Set.of("success")),
+                    createDataFlowComponent("errors", Set.of("client_error", "server_error")),
+                    createDataFlowComponent("slow", Set.of("slow")));
+
+            getRecordStrategy = new RouterGetRecordStrategy() {
+                @Override
+                public Record getRecord(final Record record) {
+                    return record;
+                }
+
+                @Override
+                public Collection<Record> getAllRecords(final Collection<Record> allRecords) {
+                    return allRecords;
+                }
+            };
+        }
+
+        @TearDown
+        public void tearDown() {
+            applicationContext.close();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static DataFlowComponent<String> createDataFlowComponent(final String name, final Set<String> routes) {
+            final DataFlowComponent<String> dataFlowComponent = mock(DataFlowComponent.class, withSettings().stubOnly());
+            when(dataFlowComponent.getComponent()).thenReturn(name);
+            when(dataFlowComponent.getRoutes()).thenReturn(routes);
+            return dataFlowComponent;
+        }
+    }
+
+    @Benchmark
+    public void route(final BenchmarkState benchmarkState, final Blackhole blackhole) {
+        benchmarkState.router.route(benchmarkState.records, benchmarkState.dataFlowComponents, benchmarkState.getRecordStrategy,
+                (component, componentRecords) -> blackhole.consume(componentRecords));
+    }
+}
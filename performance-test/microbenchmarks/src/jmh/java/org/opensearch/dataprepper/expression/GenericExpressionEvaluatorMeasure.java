@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the expression evaluator over statements commonly used in routes and processor conditions, evaluated
+ * by statement string, as a compiled expression, and over a batch of events.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenericExpressionEvaluatorMeasure {
+    private static final int BATCH_SIZE = 100;
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({
+                "/status == 200",
+                "/status >= 400 and /status < 500",
+                "/request/method in {\"GET\", \"HEAD\"}",
+                "/message =~ \".*error.*\"",
+                "contains(/message, \"index\")",
+                "/request/user != null and not (/status == 503)"
+        })
+        private String statement;
+
+        private AnnotationConfigApplicationContext applicationContext;
+        private ExpressionEvaluator expressionEvaluator;
+        private CompiledExpression compiledExpression;
+        private Event event;
+        private List<Event> events;
+
+        @Setup
+        public void setUp() {
+            applicationContext = new AnnotationConfigApplicationContext();
+            applicationContext.scan("org.opensearch.dataprepper.expression");
+            applicationContext.refresh();
+            expressionEvaluator = applicationContext.getBean(ExpressionEvaluator.class);
+            compiledExpression = expressionEvaluator.compile(statement);
+
+            events = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                events.add(createEvent(i % 10 == 0 ? 404 : 200));
+            }
+            event = events.get(1);
+        }
+
+        @TearDown
+        public void tearDown() {
+            applicationContext.close();
+        }
+
+        private static Event createEvent(final int status) {
+            return JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of(
+                            "message", "GET /index.html HTTP/1.1",
+                            "status", status,
+                            "request", Map.of("method", "GET", "user", "frank")))
+                    .build();
+        }
+    }
+
+    @Benchmark
+    public Boolean evaluateConditional(final BenchmarkState benchmarkState) {
+        return benchmarkState.expressionEvaluator.evaluateConditional(benchmarkState.statement, benchmarkState.event);
+    }
+
+    @Benchmark
+    public Boolean evaluateConditional_compiled(final BenchmarkState benchmarkState) {
+        return benchmarkState.compiledExpression.evaluateConditional(benchmarkState.event);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<BitSet> evaluateConditionals_batch(final BenchmarkState benchmarkState) {
+        return benchmarkState.expressionEvaluator.evaluateConditionals(List.of(benchmarkState.compiledExpression), benchmarkState.events);
+    }
+}
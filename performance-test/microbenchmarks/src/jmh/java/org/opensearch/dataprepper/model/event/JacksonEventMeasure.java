@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing event values with pre-built {@link EventKey}s against the same keys as strings,
+ * which are parsed and validated on every call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JacksonEventMeasure {
+    private static final String NESTED_KEY = "request/headers/user_agent";
+    private static final String NEW_KEY = "response/cache/status";
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        private Event event;
+        private EventKey nestedEventKey;
+        private EventKey newEventKey;
+
+        @Setup
+        public void setUp() {
+            event = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of(
+                            "message", "GET /index.html HTTP/1.1",
+                            "status", 200,
+                            "request", Map.of(
+                                    "method", "GET",
+                                    "headers", Map.of(
+                                            "user_agent", "Mozilla/5.0",
+                                            "accept", List.of("text/html", "application/json"))),
+                            "response", Map.of("bytes", 5120)))
+                    .build();
+
+            final EventKeyFactory eventKeyFactory = TestEventKeyFactory.getTestEventFactory();
+            nestedEventKey = eventKeyFactory.createEventKey(NESTED_KEY, EventKeyFactory.EventAction.GET);
+            newEventKey = eventKeyFactory.createEventKey(NEW_KEY, EventKeyFactory.EventAction.PUT, EventKeyFactory.EventAction.DELETE);
+        }
+    }
+
+    @Benchmark
+    public String get_eventKey(final BenchmarkState benchmarkState) {
+        return benchmarkState.event.get(benchmarkState.nestedEventKey, String.class);
+    }
+
+    @Benchmark
+    public String get_string(final BenchmarkState benchmarkState) {
+        return benchmarkState.event.get(NESTED_KEY, String.class);
+    }
+
+    @Benchmark
+    public boolean containsKey_eventKey(final BenchmarkState benchmarkState) {
+        return benchmarkState.event.containsKey(benchmarkState.nestedEventKey);
+    }
+
+    @Benchmark
+    public boolean containsKey_string(final BenchmarkState benchmarkState) {
+        return benchmarkState.event.containsKey(NESTED_KEY);
+    }
+
+    /**
+     * Puts a nested value and deletes it again, so every invocation starts from the same event.
+     */
+    @Benchmark
+    public Event putAndDelete_eventKey(final BenchmarkState benchmarkState) {
+        benchmarkState.event.put(benchmarkState.newEventKey, "HIT");
+        benchmarkState.event.delete(benchmarkState.newEventKey);
+        return benchmarkState.event;
+    }
+
+    @Benchmark
+    public Event putAndDelete_string(final BenchmarkState benchmarkState) {
+        benchmarkState.event.put(NEW_KEY, "HIT");
+        benchmarkState.event.delete(NEW_KEY);
+        return benchmarkState.event;
+    }
+}
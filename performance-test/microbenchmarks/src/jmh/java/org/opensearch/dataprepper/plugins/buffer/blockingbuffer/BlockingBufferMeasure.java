@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Measures the blocking buffer with several source threads writing into it while one worker thread reads and
+ * checkpoints, as in a pipeline with a multi-threaded source.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingBufferMeasure {
+    private static final int BUFFER_CAPACITY = 12_800;
+    private static final int BATCH_SIZE = 200;
+    private static final int WRITE_BATCH_SIZE = 50;
+    private static final int TIMEOUT_MILLIS = 100;
+
+    @State(Scope.Group)
+    public static class BenchmarkState {
+        @Param({"LINKED", "RING"})
+        private String queueType;
+
+        private BlockingBuffer<Record<Event>> blockingBuffer;
+        private Record<Event> record;
+        private List<Record<Event>> records;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            blockingBuffer = new BlockingBuffer<>(BUFFER_CAPACITY, BATCH_SIZE, "benchmark", QueueType.valueOf(queueType));
+            record = new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(Map.of("message", "GET /index.html HTTP/1.1", "status", 200))
+                    .build());
+            records = new ArrayList<>(WRITE_BATCH_SIZE);
+            for (int i = 0; i < WRITE_BATCH_SIZE; i++) {
+                records.add(record);
+            }
+        }
+
+        /**
+         * Drains the buffer so that writers blocked on a full buffer at the end of an iteration are released.
+         */
+        @TearDown(Level.Iteration)
+        public void tearDown() {
+            while (!blockingBuffer.isEmpty()) {
+                final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = blockingBuffer.read(0);
+                blockingBuffer.checkpoint(readResult.getValue());
+            }
+        }
+    }
+
+    /**
+     * A write which times out on a full buffer is not an error here. It only happens when the reader has stopped
+     * at the end of an iteration.
+     */
+    @Benchmark
+    @Group("writeAndRead")
+    @GroupThreads(3)
+    public boolean write(final BenchmarkState benchmarkState) {
+        try {
+            benchmarkState.blockingBuffer.write(benchmarkState.record, TIMEOUT_MILLIS);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("writeAndRead")
+    @GroupThreads(1)
+    public int read(final BenchmarkState benchmarkState) {
+        final Map.Entry<Collection<Record<Event>>, CheckpointState> readResult = benchmarkState.blockingBuffer.read(TIMEOUT_MILLIS);
+        benchmarkState.blockingBuffer.checkpoint(readResult.getValue());
+        return readResult.getKey().size();
+    }
+
+    @Benchmark
+    @Group("writeAllAndRead")
+    @GroupThreads(3)
+    public boolean writeAll(final BenchmarkState benchmarkState) throws Exception {
+        try {
+            benchmarkState.blockingBuffer.writeAll(benchmarkState.records, TIMEOUT_MILLIS);
+            return true;
+        } catch (final TimeoutException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    @Group("writeAllAndRead")
+    @GroupThreads(1)
+    public int readAll(final BenchmarkState benchmarkState) {
+        return read(benchmarkState);
+    }
+}
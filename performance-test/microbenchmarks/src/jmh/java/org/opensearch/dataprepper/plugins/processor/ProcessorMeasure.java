@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.processor.date.DateProcessor;
+import org.opensearch.dataprepper.plugins.processor.date.DateProcessorConfig;
+import org.opensearch.dataprepper.plugins.processor.grok.GrokProcessor;
+import org.opensearch.dataprepper.plugins.processor.grok.GrokProcessorConfig;
+import org.opensearch.dataprepper.plugins.processor.keyvalue.KeyValueProcessor;
+import org.opensearch.dataprepper.plugins.processor.keyvalue.KeyValueProcessorConfig;
+import org.opensearch.dataprepper.plugins.processor.mutateevent.AddEntryProcessor;
+import org.opensearch.dataprepper.plugins.processor.mutateevent.AddEntryProcessorConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the most used processors over a batch of access log events. Processors modify events in place, so the
+ * batch is created again before each invocation and is not part of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProcessorMeasure {
+    private static final int BATCH_SIZE = 1000;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"grok", "key_value", "date", "add_entries"})
+        private String processorName;
+
+        private AnnotationConfigApplicationContext applicationContext;
+        private Processor<Record<Event>, Record<Event>> processor;
+        private List<Record<Event>> records;
+
+        @Setup(Level.Trial)
+        public void setUpProcessor() {
+            applicationContext = new AnnotationConfigApplicationContext();
+            applicationContext.scan("org.opensearch.dataprepper.expression");
+            applicationContext.refresh();
+            final ExpressionEvaluator expressionEvaluator = applicationContext.getBean(ExpressionEvaluator.class);
+            final PluginMetrics pluginMetrics = PluginMetrics.fromNames(processorName, "benchmark");
+
+            switch (processorName) {
+                case "grok":
+                    processor = new GrokProcessor(pluginMetrics, OBJECT_MAPPER.convertValue(
+                            Map.of("match", Map.of("message", List.of("%{COMMONAPACHELOG}"))),
+                            GrokProcessorConfig.class), expressionEvaluator);
+                    break;
+                case "key_value":
+                    processor = new KeyValueProcessor(pluginMetrics, OBJECT_MAPPER.convertValue(
+                            Map.of("source", "query"),
+                            KeyValueProcessorConfig.class), expressionEvaluator);
+                    break;
+                case "date":
+                    processor = new DateProcessor(pluginMetrics, OBJECT_MAPPER.convertValue(
+                            Map.of("match", List.of(Map.of("key", "timestamp", "patterns", List.of("dd/MMM/yyyy:HH:mm:ss Z")))),
+                            DateProcessorConfig.class), expressionEvaluator);
+                    break;
+                case "add_entries":
+                    processor = new AddEntryProcessor(pluginMetrics, OBJECT_MAPPER.convertValue(
+                            Map.of("entries", List.of(
+                                    Map.of("key", "environment", "value", "production"),
+                                    Map.of("key", "request_line", "format", "${verb} ${request}"))),
+                            AddEntryProcessorConfig.class), expressionEvaluator);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown processor: " + processorName);
+            }
+        }
+
+        @Setup(Level.Invocation)
+        public void setUpRecords() {
+            records = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                records.add(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of(
+                                "message", "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 " + (2326 + i),
+                                "query", "user=frank&session=" + i + "&page=home&lang=en",
+                                "timestamp", "10/Oct/2000:13:55:36 -0700",
+                                "verb", "GET",
+                                "request", "/apache_pb.gif"))
+                        .build()));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            processor.shutdown();
+            applicationContext.close();
+        }
+    }
+
+    @Benchmark
+    public Collection<Record<Event>> execute(final BenchmarkState benchmarkState) {
+        return benchmarkState.processor.execute(benchmarkState.records);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.test.performance.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compares the results of a JMH run against a baseline run and reports each benchmark which became worse by more
+ * than a relative threshold. Benchmarks without a baseline, or whose unit changed, are reported but never fail
+ * the check, so new benchmarks can be added before the baseline is updated.
+ */
+public class BenchmarkRegressionCheck {
+    private final double threshold;
+
+    BenchmarkRegressionCheck(final double threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The regression threshold must not be negative.");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Compares the results with the baseline.
+     *
+     * @param baselineResults the results to compare against
+     * @param currentResults the results of the run being checked
+     * @return a comparison for each current result, in the same order
+     */
+    List<Comparison> compare(final Collection<BenchmarkResult> baselineResults, final Collection<BenchmarkResult> currentResults) {
+        final Map<String, BenchmarkResult> baselineById = new LinkedHashMap<>();
+        for (final BenchmarkResult baselineResult : baselineResults) {
+            baselineById.put(baselineResult.getId(), baselineResult);
+        }
+
+        final List<Comparison> comparisons = new ArrayList<>(currentResults.size());
+        for (final BenchmarkResult currentResult : currentResults) {
+            final BenchmarkResult baselineResult = baselineById.get(currentResult.getId());
+            if (baselineResult == null || !baselineResult.getScoreUnit().equals(currentResult.getScoreUnit())
+                    || baselineResult.getScore() <= 0) {
+                comparisons.add(new Comparison(currentResult, null, 0));
+                continue;
+            }
+            final double relativeChange = (currentResult.getScore() - baselineResult.getScore()) / baselineResult.getScore();
+            final double worsening = currentResult.isHigherBetter() ? -relativeChange : relativeChange;
+            comparisons.add(new Comparison(currentResult, baselineResult, worsening));
+        }
+        return comparisons;
+    }
+
+    boolean isRegression(final Comparison comparison) {
+        return comparison.baselineResult != null && comparison.worsening > threshold;
+    }
+
+    /**
+     * @param comparisons the comparisons of a run
+     * @return true if at least one result was compared against a baseline
+     */
+    static boolean hasBaseline(final Collection<Comparison> comparisons) {
+        return comparisons.stream().anyMatch(comparison -> comparison.baselineResult != null);
+    }
+
+    /**
+     * Runs the check from the command line. The process exits with a non-zero status if any benchmark regressed.
+     *
+     * @param args the baseline results file, the current results file and, optionally, the threshold as a fraction
+     * @throws IOException if either results file cannot be read
+     */
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println("Usage: BenchmarkRegressionCheck <baseline.json> <results.json> [threshold]");
+            System.exit(2);
+        }
+        final Path baselinePath = Paths.get(args[0]);
+        final Path resultsPath = Paths.get(args[1]);
+        final double threshold = args.length == 3 ? Double.parseDouble(args[2]) : 0.10;
+
+        final List<BenchmarkResult> baselineResults = Files.exists(baselinePath)
+                ? BenchmarkResult.readAll(baselinePath)
+                : Collections.emptyList();
+        final BenchmarkRegressionCheck regressionCheck = new BenchmarkRegressionCheck(threshold);
+
+        final List<Comparison> comparisons = regressionCheck.compare(baselineResults, BenchmarkResult.readAll(resultsPath));
+        int regressions = 0;
+        for (final Comparison comparison : comparisons) {
+            final boolean regression = regressionCheck.isRegression(comparison);
+            if (regression) {
+                regressions++;
+            }
+            System.out.println((regression ? "REGRESSION " : "           ") + comparison);
+        }
+
+        if (!hasBaseline(comparisons)) {
+            System.err.printf(Locale.ROOT, "No benchmark has a baseline in %s, so nothing was compared. Record one with jmhUpdateBaseline.%n",
+                    baselinePath);
+        }
+        if (regressions > 0) {
+            System.err.printf(Locale.ROOT, "%d benchmark(s) regressed by more than %.1f%% against %s%n",
+                    regressions, threshold * 100, baselinePath);
+            System.exit(1);
+        }
+    }
+
+    static class Comparison {
+        private final BenchmarkResult currentResult;
+        private final BenchmarkResult baselineResult;
+        private final double worsening;
+
+        Comparison(final BenchmarkResult currentResult, final BenchmarkResult baselineResult, final double worsening) {
+            this.currentResult = currentResult;
+            this.baselineResult = baselineResult;
+            this.worsening = worsening;
+        }
+
+        /**
+         * @return the relative amount by which the result is worse than its baseline, which is negative if it improved
+         */
+        double getWorsening() {
+            return worsening;
+        }
+
+        @Override
+        public String toString() {
+            if (baselineResult == null) {
+                return String.format(Locale.ROOT, "%s: %.3f %s (no baseline)",
+                        currentResult.getId(), currentResult.getScore(), currentResult.getScoreUnit());
+            }
+            return String.format(Locale.ROOT, "%s: %.3f -> %.3f %s (%.1f%% %s)",
+                    currentResult.getId(), baselineResult.getScore(), currentResult.getScore(),
+                    currentResult.getScoreUnit(), Math.abs(worsening) * 100, worsening > 0 ? "worse" : "better");
+        }
+    }
+}
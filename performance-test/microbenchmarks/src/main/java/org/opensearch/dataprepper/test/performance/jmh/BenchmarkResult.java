@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.test.performance.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * The primary score of one benchmark, as written by JMH with the JSON result format.
+ */
+class BenchmarkResult {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String THROUGHPUT_MODE = "thrpt";
+
+    private final String benchmark;
+    private final Map<String, String> params;
+    private final String mode;
+    private final double score;
+    private final String scoreUnit;
+
+    BenchmarkResult(final String benchmark, final Map<String, String> params, final String mode,
+                    final double score, final String scoreUnit) {
+        this.benchmark = Objects.requireNonNull(benchmark);
+        this.params = new TreeMap<>(params);
+        this.mode = Objects.requireNonNull(mode);
+        this.score = score;
+        this.scoreUnit = Objects.requireNonNull(scoreUnit);
+    }
+
+    /**
+     * Reads the results of a JMH run.
+     *
+     * @param path the JSON results file
+     * @return the results in the order of the file
+     * @throws IOException if the file cannot be read or is not a JMH results file
+     */
+    static List<BenchmarkResult> readAll(final Path path) throws IOException {
+        final JsonNode root = OBJECT_MAPPER.readTree(path.toFile());
+        if (root == null || !root.isArray()) {
+            throw new IOException("Expected an array of JMH results in " + path);
+        }
+
+        final List<BenchmarkResult> results = new ArrayList<>(root.size());
+        for (final JsonNode resultNode : root) {
+            final Map<String, String> params = new TreeMap<>();
+            final JsonNode paramsNode = resultNode.path("params");
+            final Iterator<Map.Entry<String, JsonNode>> paramFields = paramsNode.fields();
+            while (paramFields.hasNext()) {
+                final Map.Entry<String, JsonNode> paramField = paramFields.next();
+                params.put(paramField.getKey(), paramField.getValue().asText());
+            }
+            final JsonNode primaryMetric = resultNode.path("primaryMetric");
+            if (!resultNode.hasNonNull("benchmark") || !resultNode.hasNonNull("mode")
+                    || !primaryMetric.hasNonNull("score") || !primaryMetric.hasNonNull("scoreUnit")) {
+                throw new IOException("Incomplete JMH result in " + path + ": " + resultNode);
+            }
+            results.add(new BenchmarkResult(resultNode.get("benchmark").asText(), params, resultNode.get("mode").asText(),
+                    primaryMetric.get("score").asDouble(), primaryMetric.get("scoreUnit").asText()));
+        }
+        return results;
+    }
+
+    /**
+     * Identifies the same benchmark across runs, including its parameters and mode.
+     *
+     * @return the identifier
+     */
+    String getId() {
+        return params.isEmpty() ? benchmark + " (" + mode + ")" : benchmark + params + " (" + mode + ")";
+    }
+
+    /**
+     * Whether a higher score is better, which is only the case for throughput. The other modes measure time.
+     *
+     * @return true for throughput results
+     */
+    boolean isHigherBetter() {
+        return THROUGHPUT_MODE.equals(mode);
+    }
+
+    double getScore() {
+        return score;
+    }
+
+    String getScoreUnit() {
+        return scoreUnit;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.test.performance.jmh;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BenchmarkRegressionCheckTest {
+    private static final String BENCHMARK = "org.opensearch.dataprepper.model.event.JacksonEventMeasure.get_eventKey";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void constructor_throws_for_negative_threshold() {
+        assertThrows(IllegalArgumentException.class, () -> new BenchmarkRegressionCheck(-0.1));
+    }
+
+    @Test
+    void throughput_drop_beyond_threshold_is_a_regression() {
+        final BenchmarkRegressionCheck objectUnderTest = new BenchmarkRegressionCheck(0.10);
+
+        final List<BenchmarkRegressionCheck.Comparison> comparisons = objectUnderTest.compare(
+                List.of(result("thrpt", 100, "ops/ms")), List.of(result("thrpt", 80, "ops/ms")));
+
+        assertThat(comparisons, hasSize(1));
+        assertThat(comparisons.get(0).getWorsening(), closeTo(0.2, 0.0001));
+        assertThat(objectUnderTest.isRegression(comparisons.get(0)), is(true));
+    }
+
+    @Test
+    void throughput_drop_within_threshold_is_not_a_regression() {
+        final BenchmarkRegressionCheck objectUnderTest = new BenchmarkRegressionCheck(0.10);
+
+        final BenchmarkRegressionCheck.Comparison comparison = objectUnderTest.compare(
+                List.of(result("thrpt", 100, "ops/ms")), List.of(result("thrpt", 95, "ops/ms"))).get(0);
+
+        assertThat(objectUnderTest.isRegression(comparison), is(false));
+    }
+
+    @Test
+    void average_time_increase_beyond_threshold_is_a_regression() {
+        final BenchmarkRegressionCheck objectUnderTest = new BenchmarkRegressionCheck(0.10);
+
+        final BenchmarkRegressionCheck.Comparison comparison = objectUnderTest.compare(
+                List.of(result("avgt", 100, "ns/op")), List.of(result("avgt", 125, "ns/op"))).get(0);
+
+        assertThat(comparison.getWorsening(), closeTo(0.25, 0.0001));
+        assertThat(objectUnderTest.isRegression(comparison), is(true));
+    }
+
+    @Test
+    void average_time_decrease_is_not_a_regression() {
+        final BenchmarkRegressionCheck objectUnderTest = new BenchmarkRegressionCheck(0.10);
+
+        final BenchmarkRegressionCheck.Comparison comparison = objectUnderTest.compare(
+                List.of(result("avgt", 100, "ns/op")), List.of(result("avgt", 50, "ns/op"))).get(0);
+
+        assertThat(comparison.getWorsening(), closeTo(-0.5, 0.0001));
+        assertThat(objectUnderTest.isRegression(comparison), is(false));
+    }
+
+    @Test
+    void results_without_a_matching_baseline_are_not_regressions() {
+        final BenchmarkRegressionCheck objectUnderTest = new BenchmarkRegressionCheck(0.10);
+
+        final List<BenchmarkRegressionCheck.Comparison> comparisons = objectUnderTest.compare(
+                List.of(result("thrpt", 100, "ops/s"),
+                        new BenchmarkResult(BENCHMARK, Map.of("codec", "smile"), "thrpt", 100, "ops/ms")),
+                List.of(result("thrpt", 1, "ops/ms"), result("avgt", 1000, "ns/op")));
+
+        assertThat(comparisons, hasSize(2));
+        assertThat(objectUnderTest.isRegression(comparisons.get(0)), is(false));
+        assertThat(objectUnderTest.isRegression(comparisons.get(1)), is(false));
+    }
+
+    @Test
+    void hasBaseline_is_false_when_no_result_has_a_baseline() {
+        final BenchmarkRegressionCheck objectUnderTest = new BenchmarkRegressionCheck(0.10);
+
+        assertThat(BenchmarkRegressionCheck.hasBaseline(objectUnderTest.compare(
+                Collections.emptyList(), List.of(result("thrpt", 100, "ops/ms")))), is(false));
+        assertThat(BenchmarkRegressionCheck.hasBaseline(objectUnderTest.compare(
+                List.of(result("thrpt", 100, "ops/ms")), List.of(result("thrpt", 100, "ops/ms"), result("avgt", 1, "ns/op")))), is(true));
+    }
+
+    @Test
+    void readAll_reads_the_primary_metric_of_each_result() throws IOException {
+        final Path resultsFile = tempDir.resolve("results.json");
+        Files.writeString(resultsFile, "[" +
+                "{\"benchmark\": \"" + BENCHMARK + "\", \"mode\": \"thrpt\", \"params\": {\"queueType\": \"RING\"}, " +
+                "\"primaryMetric\": {\"score\": 12.5, \"scoreError\": 0.5, \"scoreUnit\": \"ops/ms\"}, \"secondaryMetrics\": {}}," +
+                "{\"benchmark\": \"" + BENCHMARK + "\", \"mode\": \"avgt\", " +
+                "\"primaryMetric\": {\"score\": 3.0, \"scoreUnit\": \"ns/op\"}}" +
+                "]");
+
+        final List<BenchmarkResult> results = BenchmarkResult.readAll(resultsFile);
+
+        assertThat(results, hasSize(2));
+        assertThat(results.get(0).getId(), equalTo(BENCHMARK + "{queueType=RING} (thrpt)"));
+        assertThat(results.get(0).getScore(), equalTo(12.5));
+        assertThat(results.get(0).getScoreUnit(), equalTo("ops/ms"));
+        assertThat(results.get(0).isHigherBetter(), is(true));
+        assertThat(results.get(1).getId(), equalTo(BENCHMARK + " (avgt)"));
+        assertThat(results.get(1).isHigherBetter(), is(false));
+    }
+
+    @Test
+    void readAll_throws_for_files_which_are_not_JMH_results() throws IOException {
+        final Path resultsFile = tempDir.resolve("results.json");
+        Files.writeString(resultsFile, "[{\"benchmark\": \"" + BENCHMARK + "\"}]");
+
+        assertThrows(IOException.class, () -> BenchmarkResult.readAll(resultsFile));
+
+        Files.writeString(resultsFile, "{}");
+
+        assertThrows(IOException.class, () -> BenchmarkResult.readAll(resultsFile));
+    }
+
+    private static BenchmarkResult result(final String mode, final double score, final String scoreUnit) {
+        return new BenchmarkResult(BENCHMARK, Collections.emptyMap(), mode, score, scoreUnit);
+    }
+}